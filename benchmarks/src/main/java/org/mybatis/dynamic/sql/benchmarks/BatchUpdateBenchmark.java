@@ -0,0 +1,85 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.update.render.RecordUpdateStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares updating 1,000 records by key with an update statement built and rendered for every record, and with
+ * a batch update that is rendered once - both producing one statement provider per record, as a MyBatis batch
+ * executor needs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchUpdateBenchmark {
+    private static final int SIZE = 1000;
+
+    private List<PersonRecord> records;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        records = PersonRecord.listOf(SIZE);
+    }
+
+    @Benchmark
+    public List<UpdateStatementProvider> renderPerRecord(RenderingStrategyState state) {
+        return records.stream()
+                .map(r -> update(person)
+                        .set(person.firstName).equalTo(r.getFirstName())
+                        .set(person.lastName).equalTo(r.getLastName())
+                        .set(person.occupation).equalTo(r.getOccupation())
+                        .where(person.id, isEqualTo(r.getId()))
+                        .build()
+                        .render(state.renderingStrategy))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<RecordUpdateStatementProvider<PersonRecord>> batchUpdate(RenderingStrategyState state) {
+        return updateBatch(records)
+                .table(person)
+                .set(person.firstName).toProperty("firstName")
+                .set(person.lastName).toProperty("lastName")
+                .set(person.occupation).toProperty("occupation")
+                .where(person.id).isEqualToProperty("id")
+                .build()
+                .render(state.renderingStrategy)
+                .updateStatements();
+    }
+}
@@ -0,0 +1,284 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.address;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.company;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.person;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.mybatis.dynamic.sql.SqlBuilder;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.where.WhereApplier;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+/**
+ * Statement shapes used by the benchmarks. Models are built once per trial so that the benchmarks
+ * measure rendering only.
+ */
+public final class BenchmarkModels {
+    public static final int LARGE_WHERE_CRITERIA = 50;
+    public static final int LARGE_IN_LIST_SIZE = 1000;
+    public static final int MULTI_ROW_INSERT_SIZE = 1000;
+    public static final long SEARCH_SCREEN_PAGE_SIZE = 20;
+
+    private BenchmarkModels() {}
+
+    public static SelectModel simpleSelect() {
+        return select(person.id, person.firstName, person.lastName, person.birthDate)
+                .from(person)
+                .where(person.id, isEqualTo(3L))
+                .build();
+    }
+
+    public static SelectModel threeWayJoin() {
+        return select(person.id, person.firstName, person.lastName, address.street, address.city,
+                    company.name.as("company_name"))
+                .from(person, "p")
+                .join(address, "a").on(person.addressId, equalTo(address.id))
+                .leftJoin(company, "c").on(person.companyId, equalTo(company.id))
+                .where(person.age, isGreaterThan(21))
+                .and(address.state, isEqualTo("IN"))
+                .and(company.industry, isLike("%stone%"))
+                .orderBy(person.lastName, person.firstName.descending())
+                .limit(50)
+                .offset(100)
+                .build();
+    }
+
+    public static SelectModel union() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.occupation, isEqualTo("Developer"))
+                .union()
+                .select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.age, isLessThan(18))
+                .unionAll()
+                .select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.lastName, isLikeCaseInsensitive("flint%"))
+                .orderBy(person.id)
+                .build();
+    }
+
+    public static SelectModel largeWhere() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .applyWhere(largeWhereApplier())
+                .build();
+    }
+
+    public static SelectModel largeInList() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isIn(ids(LARGE_IN_LIST_SIZE)))
+                .build();
+    }
+
+    public static SelectModel subselect() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.addressId, isIn(
+                        select(address.id)
+                        .from(address)
+                        .where(address.state, isEqualTo("IN"))
+                        .and(address.city, isNotEqualTo("Bedrock"))))
+                .and(person.companyId, isEqualTo(
+                        select(max(company.id))
+                        .from(company)
+                        .where(company.industry, isEqualTo("Quarrying"))))
+                .build();
+    }
+
+    public static WhereModel largeWhereModel() {
+        return where().applyWhere(largeWhereApplier()).build();
+    }
+
+    /**
+     * Fifty criteria where every fifth criterion carries a two level group of sub-criteria. A few conditions
+     * are optional and will not render so that the "shouldRender" paths are exercised too.
+     *
+     * @return a where applier that can be used in any statement
+     */
+    public static WhereApplier largeWhereApplier() {
+        return d -> {
+            d.where(person.id, isGreaterThan(0L));
+            for (int i = 1; i < LARGE_WHERE_CRITERIA; i++) {
+                switch (i % 5) {
+                case 0:
+                    d.and(person.age, isBetween(i).and(i + 10),
+                            or(person.occupation, isEqualTo("occupation" + i),
+                                    and(person.employed, isTrue())),
+                            or(person.lastName, isLike("L" + i + "%")));
+                    break;
+                case 1:
+                    d.and(person.firstName, isEqualToWhenPresent("F" + i));
+                    break;
+                case 2:
+                    d.or(person.lastName, isNotEqualTo("L" + i));
+                    break;
+                case 3:
+                    d.and(person.occupation, isNotLikeWhenPresent((String) null));
+                    break;
+                default:
+                    d.and(person.addressId, isIn((long) i, i + 1L, i + 2L));
+                    break;
+                }
+            }
+        };
+    }
+
+    /**
+     * A typical search screen - every search field is optional, so the shape of the statement depends on which
+     * fields have been entered. Paging is always applied.
+     *
+     * @param firstName first name to search for, or null
+     * @param lastName last name prefix to search for, or null
+     * @param minimumAge minimum age to search for, or null
+     * @param occupations occupations to search for, may be empty
+     * @param page the page number, starting at zero
+     * @return the search statement
+     */
+    public static SelectModel searchScreen(String firstName, String lastName, Integer minimumAge,
+            List<String> occupations, long page) {
+        return select(person.id, person.firstName, person.lastName, person.birthDate, person.occupation)
+                .from(person)
+                .applyWhere(searchScreenApplier(firstName, lastName, minimumAge, occupations))
+                .orderBy(person.lastName, person.firstName)
+                .limit(SEARCH_SCREEN_PAGE_SIZE)
+                .offset(page * SEARCH_SCREEN_PAGE_SIZE)
+                .build();
+    }
+
+    public static WhereApplier searchScreenApplier(String firstName, String lastName, Integer minimumAge,
+            List<String> occupations) {
+        return d -> d.where(person.employed, isTrue())
+                .and(person.firstName, isEqualToWhenPresent(firstName))
+                .and(person.lastName, isLikeWhenPresent(lastName == null ? null : lastName + "%"))
+                .and(person.age, isGreaterThanOrEqualToWhenPresent(minimumAge))
+                .and(person.occupation, isInWhenPresent(occupations));
+    }
+
+    public static UpdateModel update() {
+        return SqlBuilder.update(person)
+                .set(person.firstName).equalTo("Barney")
+                .set(person.lastName).equalTo("Rubble")
+                .set(person.occupation).equalToWhenPresent((String) null)
+                .set(person.age).equalTo(38)
+                .set(person.birthDate).equalTo(new Date(0))
+                .where(person.id, isEqualTo(3L))
+                .and(person.employed, isTrue())
+                .build();
+    }
+
+    public static UpdateModel updateWithLargeWhere() {
+        return SqlBuilder.update(person)
+                .set(person.occupation).equalTo("Retired")
+                .applyWhere(largeWhereApplier())
+                .build();
+    }
+
+    public static DeleteModel delete() {
+        return deleteFrom(person)
+                .where(person.id, isEqualTo(3L))
+                .or(person.occupation, isNull())
+                .build();
+    }
+
+    public static DeleteModel deleteWithLargeWhere() {
+        return deleteFrom(person)
+                .applyWhere(largeWhereApplier())
+                .build();
+    }
+
+    public static InsertModel<PersonRecord> insert() {
+        return SqlBuilder.insert(PersonRecord.of(1))
+                .into(person)
+                .map(person.id).toProperty("id")
+                .map(person.firstName).toProperty("firstName")
+                .map(person.lastName).toProperty("lastName")
+                .map(person.birthDate).toProperty("birthDate")
+                .map(person.employed).toProperty("employed")
+                .map(person.occupation).toPropertyWhenPresent("occupation", () -> "Developer")
+                .map(person.age).toProperty("age")
+                .map(person.addressId).toProperty("addressId")
+                .map(person.companyId).toProperty("companyId")
+                .build();
+    }
+
+    public static GeneralInsertModel generalInsert() {
+        return insertInto(person)
+                .set(person.id).toValue(1L)
+                .set(person.firstName).toValue("Fred")
+                .set(person.lastName).toValue("Flintstone")
+                .set(person.birthDate).toValue(new Date(0))
+                .set(person.employed).toValue(true)
+                .set(person.occupation).toValueWhenPresent((String) null)
+                .set(person.age).toValue(42)
+                .set(person.addressId).toValue(1L)
+                .set(person.companyId).toValue(1L)
+                .build();
+    }
+
+    public static MultiRowInsertModel<PersonRecord> multiRowInsert() {
+        return insertMultiple(PersonRecord.listOf(MULTI_ROW_INSERT_SIZE))
+                .into(person)
+                .map(person.id).toProperty("id")
+                .map(person.firstName).toProperty("firstName")
+                .map(person.lastName).toProperty("lastName")
+                .map(person.birthDate).toProperty("birthDate")
+                .map(person.employed).toProperty("employed")
+                .map(person.occupation).toProperty("occupation")
+                .map(person.age).toProperty("age")
+                .map(person.addressId).toProperty("addressId")
+                .map(person.companyId).toProperty("companyId")
+                .build();
+    }
+
+    public static BatchInsertModel<PersonRecord> batchInsert() {
+        return insertBatch(PersonRecord.listOf(MULTI_ROW_INSERT_SIZE))
+                .into(person)
+                .map(person.id).toProperty("id")
+                .map(person.firstName).toProperty("firstName")
+                .map(person.lastName).toProperty("lastName")
+                .map(person.birthDate).toProperty("birthDate")
+                .map(person.employed).toProperty("employed")
+                .map(person.occupation).toProperty("occupation")
+                .map(person.age).toProperty("age")
+                .map(person.addressId).toProperty("addressId")
+                .map(person.companyId).toProperty("companyId")
+                .build();
+    }
+
+    public static List<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count)
+                .boxed()
+                .collect(Collectors.toCollection(() -> new ArrayList<>(count)));
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import java.sql.JDBCType;
+import java.util.Date;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+public final class BenchmarkTables {
+    public static final Person person = new Person();
+    public static final Address address = new Address();
+    public static final Company company = new Company();
+
+    private BenchmarkTables() {}
+
+    public static final class Person extends SqlTable {
+        public final SqlColumn<Long> id = column("id", JDBCType.BIGINT);
+        public final SqlColumn<String> firstName = column("first_name", JDBCType.VARCHAR);
+        public final SqlColumn<String> lastName = column("last_name", JDBCType.VARCHAR);
+        public final SqlColumn<Date> birthDate = column("birth_date", JDBCType.DATE);
+        public final SqlColumn<Boolean> employed = column("employed", JDBCType.VARCHAR,
+                "examples.simple.YesNoTypeHandler");
+        public final SqlColumn<String> occupation = column("occupation", JDBCType.VARCHAR);
+        public final SqlColumn<Integer> age = column("age", JDBCType.INTEGER);
+        public final SqlColumn<Long> addressId = column("address_id", JDBCType.BIGINT);
+        public final SqlColumn<Long> companyId = column("company_id", JDBCType.BIGINT);
+
+        public Person() {
+            super("Person");
+        }
+    }
+
+    public static final class Address extends SqlTable {
+        public final SqlColumn<Long> id = column("id", JDBCType.BIGINT);
+        public final SqlColumn<String> street = column("street", JDBCType.VARCHAR);
+        public final SqlColumn<String> city = column("city", JDBCType.VARCHAR);
+        public final SqlColumn<String> state = column("state", JDBCType.CHAR);
+
+        public Address() {
+            super("Address");
+        }
+    }
+
+    public static final class Company extends SqlTable {
+        public final SqlColumn<Long> id = column("id", JDBCType.BIGINT);
+        public final SqlColumn<String> name = column("name", JDBCType.VARCHAR);
+        public final SqlColumn<String> industry = column("industry", JDBCType.VARCHAR);
+
+        public Company() {
+            super("Company");
+        }
+    }
+}
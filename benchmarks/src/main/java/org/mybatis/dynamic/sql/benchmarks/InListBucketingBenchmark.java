@@ -0,0 +1,115 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.person;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders selects with in lists whose sizes follow a long tailed distribution - most lists are short, a few
+ * have hundreds of values - with and without bucketing. Besides the throughput, the report shows the
+ * {@code distinctStatements} secondary result: the number of different SQL strings rendered in an iteration,
+ * which is the number of entries the statements would take in a plan or statement cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InListBucketingBenchmark {
+    private static final int LISTS = 4096;
+    private static final int MAXIMUM_SIZE = 1000;
+
+    @Param({"false", "true"})
+    public boolean bucketing;
+
+    private List<List<Long>> lists;
+    private RenderingStrategy renderingStrategy;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup(RenderingStrategyState state) {
+        // sizes are log uniform between 1 and MAXIMUM_SIZE, so each order of magnitude is equally likely
+        Random random = new Random(42);
+        lists = new ArrayList<>();
+        for (int i = 0; i < LISTS; i++) {
+            int size = (int) Math.round(Math.pow(MAXIMUM_SIZE, random.nextDouble()));
+            lists.add(LongStream.range(0, size).boxed().collect(Collectors.toList()));
+        }
+
+        renderingStrategy = bucketing
+                ? state.renderingStrategy.withListValueStrategy(ListValueStrategy.bucketed())
+                : state.renderingStrategy;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounter {
+        private final Set<String> statements = new HashSet<>();
+
+        public long distinctStatements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements.clear();
+            distinctStatements = 0;
+        }
+
+        void add(String statement) {
+            if (statements.add(statement)) {
+                distinctStatements++;
+            }
+        }
+    }
+
+    @Benchmark
+    public SelectStatementProvider selectByIds(StatementCounter counter) {
+        SelectStatementProvider selectStatement = select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isIn(lists.get(next++ % LISTS)))
+                .build()
+                .render(renderingStrategy);
+        counter.add(selectStatement.getSelectStatement());
+        return selectStatement;
+    }
+}
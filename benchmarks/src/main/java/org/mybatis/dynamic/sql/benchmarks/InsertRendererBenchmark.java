@@ -0,0 +1,84 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code InsertRenderer}, {@code GeneralInsertRenderer}, {@code MultiRowInsertRenderer} and
+ * {@code BatchInsertRenderer}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertRendererBenchmark {
+
+    private InsertModel<PersonRecord> insert;
+    private GeneralInsertModel generalInsert;
+    private MultiRowInsertModel<PersonRecord> multiRowInsert;
+    private BatchInsertModel<PersonRecord> batchInsert;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        insert = BenchmarkModels.insert();
+        generalInsert = BenchmarkModels.generalInsert();
+        multiRowInsert = BenchmarkModels.multiRowInsert();
+        batchInsert = BenchmarkModels.batchInsert();
+    }
+
+    @Benchmark
+    public InsertStatementProvider<PersonRecord> insert(RenderingStrategyState state) {
+        return insert.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public GeneralInsertStatementProvider generalInsert(RenderingStrategyState state) {
+        return generalInsert.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public MultiRowInsertStatementProvider<PersonRecord> multiRowInsert(RenderingStrategyState state) {
+        return multiRowInsert.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public BatchInsert<PersonRecord> batchInsert(RenderingStrategyState state) {
+        return batchInsert.render(state.renderingStrategy);
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds an optional in condition over a large list of ids, with a value transformer and an empty callback - the
+ * way a search screen typically builds one. The condition is either built and discarded, as happens when the
+ * criterion is not used, or built and rendered with individual placeholders or one array parameter.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyListConditionBenchmark {
+    private static final int SIZE = 50_000;
+
+    private List<Long> ids;
+    private RenderingStrategy arrayStrategy;
+
+    @Setup(Level.Trial)
+    public void setup(RenderingStrategyState state) {
+        ids = LongStream.range(1_000_000, 1_000_000 + SIZE).boxed().collect(Collectors.toList());
+        arrayStrategy = state.renderingStrategy.withListValueStrategy(ListValueStrategy.array());
+    }
+
+    private IsIn<Long> condition() {
+        return isInWhenPresent(ids)
+                .then(s -> s.filter(id -> id > 0))
+                .withListEmptyCallback(() -> { });
+    }
+
+    @Benchmark
+    public IsIn<Long> buildOnly() {
+        return condition();
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRender(RenderingStrategyState state) {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, condition())
+                .build()
+                .render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider buildAndRenderAsArrayParameter() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, condition())
+                .build()
+                .render(arrayStrategy);
+    }
+}
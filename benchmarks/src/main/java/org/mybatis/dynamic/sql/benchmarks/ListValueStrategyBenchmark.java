@@ -0,0 +1,94 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.chunked.ChunkedStatements;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders a lookup by a large list of ids with each list value strategy.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListValueStrategyBenchmark {
+    private static final int CHUNK_SIZE = 1000;
+
+    @Param({"100", "20000"})
+    public int size;
+
+    private List<Long> ids;
+    private RenderingStrategy arrayStrategy;
+    private RenderingStrategy chunkedStrategy;
+
+    @Setup(Level.Trial)
+    public void setup(RenderingStrategyState state) {
+        ids = LongStream.range(0, size).boxed().collect(Collectors.toList());
+        arrayStrategy = state.renderingStrategy.withListValueStrategy(ListValueStrategy.array());
+        chunkedStrategy = state.renderingStrategy.withListValueStrategy(ListValueStrategy.chunked(CHUNK_SIZE));
+    }
+
+    @Benchmark
+    public SelectStatementProvider individual(RenderingStrategyState state) {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isIn(ids))
+                .build()
+                .render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider array() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isIn(ids))
+                .build()
+                .render(arrayStrategy);
+    }
+
+    @Benchmark
+    public List<SelectStatementProvider> chunked() {
+        return ChunkedStatements.render(select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isIn(ids))
+                .build(), chunkedStrategy);
+    }
+}
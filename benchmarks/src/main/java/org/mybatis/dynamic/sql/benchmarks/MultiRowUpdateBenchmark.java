@@ -0,0 +1,136 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.update.render.MultiRowUpdateStatementProvider;
+import org.mybatis.dynamic.sql.update.render.RecordUpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Compares updating records with multi-row updates - case expressions on the key, in statements of at most 1,000
+ * parameters - against a JDBC batch of single row updates. The render benchmarks measure the client side cost of
+ * the statements; the execute benchmarks run them against an in-memory HSQLDB database through
+ * {@link NamedParameterJdbcTemplateExtensions}. HSQLDB runs in process, so the execute benchmarks include the
+ * cost of executing the statements but no network latency.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultiRowUpdateBenchmark {
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private List<PersonRecord> records;
+    private EmbeddedDatabase database;
+    private NamedParameterJdbcTemplateExtensions template;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        records = PersonRecord.listOf(size);
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.HSQL)
+                .generateUniqueName(true)
+                .build();
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(database);
+        jdbcTemplate.getJdbcOperations().execute("create table Person (id bigint not null primary key,"
+                + " first_name varchar(30), last_name varchar(30), occupation varchar(30))");
+        template = new NamedParameterJdbcTemplateExtensions(jdbcTemplate);
+        template.insertBatch(insertBatch(records)
+                .into(person)
+                .map(person.id).toProperty("id")
+                .map(person.firstName).toProperty("firstName")
+                .map(person.lastName).toProperty("lastName")
+                .map(person.occupation).toProperty("occupation"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<MultiRowUpdateStatementProvider<PersonRecord>> renderMultiRowUpdate(RenderingStrategyState state) {
+        return updateMultiple(records)
+                .table(person)
+                .set(person.firstName).toProperty("firstName")
+                .set(person.lastName).toProperty("lastName")
+                .set(person.occupation).toProperty("occupation")
+                .where(person.id).isEqualToProperty("id")
+                .withMaxParametersPerStatement(1000)
+                .build()
+                .renderChunks(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public List<RecordUpdateStatementProvider<PersonRecord>> renderBatchUpdate(RenderingStrategyState state) {
+        return updateBatch(records)
+                .table(person)
+                .set(person.firstName).toProperty("firstName")
+                .set(person.lastName).toProperty("lastName")
+                .set(person.occupation).toProperty("occupation")
+                .where(person.id).isEqualToProperty("id")
+                .build()
+                .render(state.renderingStrategy)
+                .updateStatements();
+    }
+
+    @Benchmark
+    public int executeMultiRowUpdate() {
+        return template.updateMultiple(updateMultiple(records)
+                .table(person)
+                .set(person.firstName).toProperty("firstName")
+                .set(person.lastName).toProperty("lastName")
+                .set(person.occupation).toProperty("occupation")
+                .where(person.id).isEqualToProperty("id")
+                .withMaxParametersPerStatement(1000));
+    }
+
+    @Benchmark
+    public int[] executeBatchUpdate() {
+        return template.updateBatch(updateBatch(records)
+                .table(person)
+                .set(person.firstName).toProperty("firstName")
+                .set(person.lastName).toProperty("lastName")
+                .set(person.occupation).toProperty("occupation")
+                .where(person.id).isEqualToProperty("id"));
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class PersonRecord {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private Date birthDate;
+    private Boolean employed;
+    private String occupation;
+    private Integer age;
+    private Long addressId;
+    private Long companyId;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public Date getBirthDate() {
+        return birthDate;
+    }
+
+    public void setBirthDate(Date birthDate) {
+        this.birthDate = birthDate;
+    }
+
+    public Boolean getEmployed() {
+        return employed;
+    }
+
+    public void setEmployed(Boolean employed) {
+        this.employed = employed;
+    }
+
+    public String getOccupation() {
+        return occupation;
+    }
+
+    public void setOccupation(String occupation) {
+        this.occupation = occupation;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public Long getAddressId() {
+        return addressId;
+    }
+
+    public void setAddressId(Long addressId) {
+        this.addressId = addressId;
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    public void setCompanyId(Long companyId) {
+        this.companyId = companyId;
+    }
+
+    public static PersonRecord of(long id) {
+        PersonRecord record = new PersonRecord();
+        record.setId(id);
+        record.setFirstName("Fred" + id);
+        record.setLastName("Flintstone");
+        record.setBirthDate(new Date(0));
+        record.setEmployed(true);
+        record.setOccupation("Brontosaurus Operator");
+        record.setAge((int) (id % 90));
+        record.setAddressId(id % 100);
+        record.setCompanyId(id % 10);
+        return record;
+    }
+
+    public static List<PersonRecord> listOf(int count) {
+        List<PersonRecord> records = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            records.add(of(i));
+        }
+        return records;
+    }
+}
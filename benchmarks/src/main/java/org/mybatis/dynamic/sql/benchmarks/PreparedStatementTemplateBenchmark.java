@@ -0,0 +1,99 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.render.prepared.PreparedStatementTemplate;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building and rendering a static statement for every call with binding a
+ * {@code PreparedStatementTemplate} that was rendered once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreparedStatementTemplateBenchmark {
+
+    private PreparedStatementTemplate<SelectStatementProvider> selectTemplate;
+    private PreparedStatementTemplate<UpdateStatementProvider> updateTemplate;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setup(RenderingStrategyState state) {
+        selectTemplate = PreparedStatementTemplate.of(
+                select(person.id, person.firstName, person.lastName, person.birthDate)
+                .from(person)
+                .where(person.id, isEqualTo(param("id", Long.class)))
+                .build(),
+                state.renderingStrategy);
+        updateTemplate = PreparedStatementTemplate.of(
+                update(person)
+                .set(person.occupation).equalTo(param("occupation", String.class))
+                .where(person.id, isEqualTo(param("id", Long.class)))
+                .build(),
+                state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider simpleSelect(RenderingStrategyState state) {
+        return select(person.id, person.firstName, person.lastName, person.birthDate)
+                .from(person)
+                .where(person.id, isEqualTo(next++))
+                .build()
+                .render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider simpleSelectPrepared() {
+        return selectTemplate.bind("id", next++).build();
+    }
+
+    @Benchmark
+    public UpdateStatementProvider simpleUpdate(RenderingStrategyState state) {
+        return update(person)
+                .set(person.occupation).equalTo("Quarry Worker")
+                .where(person.id, isEqualTo(next++))
+                .build()
+                .render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public UpdateStatementProvider simpleUpdatePrepared() {
+        return updateTemplate.bind("occupation", "Quarry Worker")
+                .bind("id", next++)
+                .build();
+    }
+}
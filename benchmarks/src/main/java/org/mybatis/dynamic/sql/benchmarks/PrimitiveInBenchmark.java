@@ -0,0 +1,101 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.benchmarks.BenchmarkTables.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares an in condition over a {@code List<Long>} with an in condition over a {@code long[]}, with individual
+ * placeholders and with an array parameter. The ids are above the range of the {@code Long} cache, so every
+ * boxed value is a new object.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveInBenchmark {
+    private static final int SIZE = 1000;
+
+    private long[] ids;
+    private List<Long> boxedIds;
+    private RenderingStrategy arrayStrategy;
+
+    @Setup(Level.Trial)
+    public void setup(RenderingStrategyState state) {
+        ids = LongStream.range(1_000_000, 1_000_000 + SIZE).toArray();
+        boxedIds = LongStream.of(ids).boxed().collect(Collectors.toList());
+        arrayStrategy = state.renderingStrategy.withListValueStrategy(ListValueStrategy.array());
+    }
+
+    @Benchmark
+    public SelectStatementProvider boxedList(RenderingStrategyState state) {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isIn(boxedIds))
+                .build()
+                .render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider primitiveArray(RenderingStrategyState state) {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isIn(ids))
+                .build()
+                .render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider boxedListAsArrayParameter() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isIn(boxedIds))
+                .build()
+                .render(arrayStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider primitiveArrayAsArrayParameter() {
+        return select(person.id, person.firstName, person.lastName)
+                .from(person)
+                .where(person.id, isIn(ids))
+                .build()
+                .render(arrayStrategy);
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared JMH state that runs every benchmark once per built in rendering strategy.
+ */
+@State(Scope.Benchmark)
+public class RenderingStrategyState {
+
+    @Param({"MYBATIS3", "SPRING_NAMED_PARAMETER"})
+    public String strategy;
+
+    public RenderingStrategy renderingStrategy;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        renderingStrategy = lookup(strategy);
+    }
+
+    static RenderingStrategy lookup(String name) {
+        switch (name) {
+        case "MYBATIS3":
+            return RenderingStrategies.MYBATIS3;
+        case "SPRING_NAMED_PARAMETER":
+            return RenderingStrategies.SPRING_NAMED_PARAMETER;
+        default:
+            throw new IllegalArgumentException("Unknown rendering strategy: " + name); //$NON-NLS-1$
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code SelectRenderer} (and through it {@code QueryExpressionRenderer}, {@code JoinRenderer},
+ * {@code WhereRenderer} and the paging renderers) for the statement shapes we care about.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SelectRendererBenchmark {
+
+    private SelectModel simpleSelect;
+    private SelectModel threeWayJoin;
+    private SelectModel union;
+    private SelectModel largeWhere;
+    private SelectModel largeInList;
+    private SelectModel subselect;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        simpleSelect = BenchmarkModels.simpleSelect();
+        threeWayJoin = BenchmarkModels.threeWayJoin();
+        union = BenchmarkModels.union();
+        largeWhere = BenchmarkModels.largeWhere();
+        largeInList = BenchmarkModels.largeInList();
+        subselect = BenchmarkModels.subselect();
+    }
+
+    @Benchmark
+    public SelectStatementProvider simpleSelect(RenderingStrategyState state) {
+        return simpleSelect.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider threeWayJoin(RenderingStrategyState state) {
+        return threeWayJoin.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider union(RenderingStrategyState state) {
+        return union.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider largeWhere(RenderingStrategyState state) {
+        return largeWhere.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider largeInList(RenderingStrategyState state) {
+        return largeInList.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider subselect(RenderingStrategyState state) {
+        return subselect.render(state.renderingStrategy);
+    }
+}
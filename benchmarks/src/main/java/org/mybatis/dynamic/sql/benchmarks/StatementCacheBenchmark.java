@@ -0,0 +1,110 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.cache.StatementCache;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares rendering with and without a {@code StatementCache}. The search screen benchmarks cycle through
+ * statements built from a {@code WhereApplier} with optional conditions, so only a few statement shapes are
+ * rendered with many different parameter values.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatementCacheBenchmark {
+    private static final int SEARCHES = 64;
+
+    private final List<SelectModel> searches = new ArrayList<>();
+    private SelectModel largeWhere;
+    private DeleteModel deleteWithLargeWhere;
+    private StatementCache statementCache;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < SEARCHES; i++) {
+            searches.add(BenchmarkModels.searchScreen(
+                    i % 2 == 0 ? "Fred" + i : null,
+                    i % 3 == 0 ? "Flint" : null,
+                    i % 4 == 0 ? 20 + i : null,
+                    i % 5 == 0 ? Arrays.asList("Quarry Worker", "Developer") : Collections.emptyList(),
+                    i));
+        }
+        largeWhere = BenchmarkModels.largeWhere();
+        deleteWithLargeWhere = BenchmarkModels.deleteWithLargeWhere();
+        statementCache = StatementCache.of(100);
+    }
+
+    @Benchmark
+    public SelectStatementProvider searchScreen(RenderingStrategyState state) {
+        return nextSearch().render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider searchScreenCached(RenderingStrategyState state) {
+        return statementCache.render(nextSearch(), state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider largeWhere(RenderingStrategyState state) {
+        return largeWhere.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public SelectStatementProvider largeWhereCached(RenderingStrategyState state) {
+        return statementCache.render(largeWhere, state.renderingStrategy);
+    }
+
+    @Benchmark
+    public DeleteStatementProvider deleteWithLargeWhere(RenderingStrategyState state) {
+        return deleteWithLargeWhere.render(state.renderingStrategy);
+    }
+
+    @Benchmark
+    public DeleteStatementProvider deleteWithLargeWhereCached(RenderingStrategyState state) {
+        return statementCache.render(deleteWithLargeWhere, state.renderingStrategy);
+    }
+
+    private SelectModel nextSearch() {
+        next = (next + 1) % SEARCHES;
+        return searches.get(next);
+    }
+}
@@ -15,21 +15,34 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.util.CustomCollectors;
+
 public abstract class AbstractListValueCondition<T, S extends AbstractListValueCondition<T, S>>
         implements VisitableCondition<T> {
+    /**
+     * The values of this condition after the value stream transformer is applied. The transformer runs the first
+     * time the values are used, and its result is kept for every later use.
+     */
     protected final Collection<T> values;
     protected final UnaryOperator<Stream<T>> valueStreamTransformer;
     protected final Callback emptyCallback;
+    protected final ListValueStrategy listValueStrategy;
+    private final TransformedValues<T> transformedValues;
 
     protected AbstractListValueCondition(Collection<T> values) {
-        this(values, UnaryOperator.identity(), () -> { });
+        this(values, null, () -> { }, null);
     }
 
     protected AbstractListValueCondition(Collection<T> values, UnaryOperator<Stream<T>> valueStreamTransformer) {
@@ -38,16 +51,37 @@ public abstract class AbstractListValueCondition<T, S extends AbstractListValueC
 
     protected AbstractListValueCondition(Collection<T> values, UnaryOperator<Stream<T>> valueStreamTransformer,
             Callback emptyCallback) {
-        this.valueStreamTransformer = Objects.requireNonNull(valueStreamTransformer);
-        this.values = valueStreamTransformer.apply(Objects.requireNonNull(values).stream())
-            .collect(Collectors.toList());
+        this(values, Objects.requireNonNull(valueStreamTransformer), emptyCallback, null);
+    }
+
+    /**
+     * Creates a condition. The value stream transformer is not applied until the condition is first rendered - so
+     * a condition that never renders does no work on its values. The transformed values are then kept, so the
+     * transformer runs once however often the condition is rendered. Without a transformer the collection is not
+     * copied, and must not change until statements using the condition are rendered.
+     *
+     * @param values the values of the condition
+     * @param valueStreamTransformer the transformer applied to the value stream at render time, or null if the
+     *     values are used as they are - for example because they are the already transformed values of another
+     *     condition
+     * @param emptyCallback the callback to call if the transformed list of values is empty
+     * @param listValueStrategy the list value strategy of the condition, or null to use the strategy of the
+     *     rendering strategy
+     */
+    protected AbstractListValueCondition(Collection<T> values, UnaryOperator<Stream<T>> valueStreamTransformer,
+            Callback emptyCallback, ListValueStrategy listValueStrategy) {
+        this.valueStreamTransformer = valueStreamTransformer == null ? UnaryOperator.identity()
+                : valueStreamTransformer;
+        transformedValues = new TransformedValues<>(Objects.requireNonNull(values), valueStreamTransformer);
+        this.values = transformedValues;
         this.emptyCallback = Objects.requireNonNull(emptyCallback);
+        this.listValueStrategy = listValueStrategy;
     }
-    
+
     public final <R> Stream<R> mapValues(Function<T, R> mapper) {
         return values.stream().map(mapper);
     }
-    
+
     @Override
     public boolean shouldRender() {
         if (values.isEmpty()) {
@@ -63,7 +97,178 @@ public abstract class AbstractListValueCondition<T, S extends AbstractListValueC
         return visitor.visit(this);
     }
 
+    /**
+     * Returns the list value strategy of this condition. If empty, the strategy of the rendering strategy
+     * is used.
+     *
+     * @return the list value strategy of this condition, if any
+     */
+    public Optional<ListValueStrategy> listValueStrategy() {
+        return Optional.ofNullable(listValueStrategy);
+    }
+
+    /**
+     * Returns true if the values of this condition should be bound as a single array parameter. A condition that
+     * does not support array binding is always rendered with individual placeholders, whatever the list value
+     * strategy.
+     *
+     * @param defaultStrategy the list value strategy of the rendering strategy
+     * @return true if the condition should be rendered with {@link #renderArrayCondition(String, String)}
+     */
+    public final boolean bindsArray(ListValueStrategy defaultStrategy) {
+        return supportsArrayBinding()
+                && listValueStrategy().orElse(defaultStrategy).isArray()
+                && !transformedValues.containsBindMarker();
+    }
+
+    /**
+     * Applies the bucketing of the effective list value strategy to values of this condition that are rendered
+     * with individual placeholders.
+     *
+     * @param values the values to render - either all values of the condition, or one chunk of them
+     * @param defaultStrategy the list value strategy of the rendering strategy
+     * @return the values to render
+     * @see ListValueStrategy#withBucketing()
+     */
+    public final Stream<T> bucket(Stream<T> values, ListValueStrategy defaultStrategy) {
+        if (supportsBucketing()) {
+            return listValueStrategy().orElse(defaultStrategy).bucket(values);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the value of the array parameter for this condition when it is rendered with
+     * {@link #renderArrayCondition(String, String)}. The values are converted by the column and collected into a
+     * typed array - unless the condition holds its values in a primitive array and the column does not convert
+     * parameter values, in which case the primitive array is bound without boxing.
+     *
+     * @param column the column the values are compared to
+     * @return the array parameter
+     */
+    public final Object arrayParameter(BindableColumn<T> column) {
+        Optional<Object> primitiveValues = primitiveValues();
+        if (primitiveValues.isPresent() && column.getClass() == SqlColumn.class
+                && !((SqlColumn<T>) column).parameterTypeConverter().isPresent()) {
+            return primitiveValues.get();
+        }
+        return mapValues(column::convertParameterType).collect(CustomCollectors.toTypedArray());
+    }
+
+    /**
+     * Override this method if the condition holds its values in a primitive array - for example a
+     * {@code long[]}.
+     *
+     * @return the primitive array of values, if any
+     */
+    protected Optional<Object> primitiveValues() {
+        return Optional.empty();
+    }
+
     public abstract S withListEmptyCallback(Callback callback);
 
     public abstract String renderCondition(String columnName, Stream<String> placeholders);
+
+    /**
+     * Override this method if the condition can be rendered with all values bound as a single array parameter.
+     * Conditions that compare the column to the elements of the array in SQL should also override
+     * {@link #renderArrayCondition(String, String)}.
+     *
+     * @return true if the condition supports array binding
+     */
+    public boolean supportsArrayBinding() {
+        return false;
+    }
+
+    /**
+     * Override this method if repeating a value does not change the result of the condition - as is the case
+     * for in and not in conditions. Values of such conditions can be bucketed.
+     *
+     * @return true if the condition supports bucketing
+     */
+    public boolean supportsBucketing() {
+        return false;
+    }
+
+    /**
+     * Renders the condition with all values bound as a single array parameter. This method is only called if
+     * {@link #supportsArrayBinding()} returns true. By default the condition is rendered by
+     * {@link #renderCondition(String, Stream)} with the array placeholder as its only placeholder - which suits
+     * drivers that expand an array parameter into its elements. The in and not in conditions override this method
+     * to compare the column to the elements of the array in SQL - for example {@code id = any(?)}.
+     *
+     * @param columnName the rendered column name
+     * @param placeholder the placeholder for the array parameter
+     * @return the rendered condition
+     */
+    public String renderArrayCondition(String columnName, String placeholder) {
+        return renderCondition(columnName, Stream.of(placeholder));
+    }
+
+    /**
+     * The values of a condition after its value stream transformer is applied. The values are transformed on first
+     * use - every later use, whether another pass of the same render or another render, sees the same values.
+     */
+    private static class TransformedValues<T> extends AbstractCollection<T> {
+        private final Collection<T> source;
+        private final Optional<UnaryOperator<Stream<T>>> transformer;
+        private volatile Collection<T> values;
+        private boolean containsBindMarker;
+
+        private TransformedValues(Collection<T> source, UnaryOperator<Stream<T>> transformer) {
+            this.source = source;
+            this.transformer = Optional.ofNullable(transformer);
+        }
+
+        private Collection<T> values() {
+            Collection<T> result = values;
+            if (result == null) {
+                synchronized (this) {
+                    result = values;
+                    if (result == null) {
+                        result = transform();
+                        containsBindMarker = result.stream().anyMatch(BindMarker.class::isInstance);
+                        values = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private Collection<T> transform() {
+            // without a transformer the source is used as it is - there is nothing to transform, so nothing to copy
+            return transformer.<Collection<T>>map(t -> t.apply(source.stream()).collect(Collectors.toList()))
+                    .orElse(source);
+        }
+
+        private boolean containsBindMarker() {
+            values();
+            return containsBindMarker;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return values().iterator();
+        }
+
+        @Override
+        public int size() {
+            return values().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return values().isEmpty();
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return values().spliterator();
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return values().stream();
+        }
+    }
 }
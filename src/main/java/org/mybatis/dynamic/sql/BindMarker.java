@@ -0,0 +1,103 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A named placeholder for a parameter value that is supplied later - when a prepared statement template is bound.
+ * Bind markers are created with {@link SqlBuilder#param(String, Class)} and can be used anywhere the DSL accepts a
+ * value supplier. For example:
+ *
+ * <pre>
+ *     where(id, isEqualTo(param("id", Integer.class)))
+ *     set(description).equalTo(param("description", String.class))
+ * </pre>
+ *
+ * <p>The marker stands in for the value while the statement is rendered, so it can only be used with conditions
+ * that pass the value to the renderer unchanged. Conditions that transform their value (for example the case
+ * insensitive conditions, or conditions with a "then" transformer) can't use bind markers. Conditions that
+ * render only when a value is present will always render with a bind marker.
+ *
+ * @param <T> the type of the value that will be bound
+ *
+ * @see org.mybatis.dynamic.sql.render.prepared.PreparedStatementTemplate
+ */
+public class BindMarker<T> implements Supplier<T> {
+    private final String name;
+    private final Class<T> type;
+    private final BindableColumn<T> column;
+
+    private BindMarker(String name, Class<T> type, BindableColumn<T> column) {
+        this.name = Objects.requireNonNull(name);
+        this.type = Objects.requireNonNull(type);
+        this.column = column;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Returns this marker in place of a value. The renderer adds the marker to the statement parameters, and
+     * it is replaced with the bound value when a prepared statement template is bound.
+     *
+     * @return this marker
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        return (T) this;
+    }
+
+    /**
+     * Returns a copy of this marker that will convert bound values with the parameter type converter of the
+     * column - just as the renderer converts values that are supplied directly.
+     *
+     * @param column the column the marker is bound to
+     * @return a new marker
+     */
+    public BindMarker<T> convertedBy(BindableColumn<T> column) {
+        return new BindMarker<>(name, type, column);
+    }
+
+    /**
+     * Checks that a bound value has the type of this marker and converts it with the parameter type converter of
+     * the column if there is one.
+     *
+     * @param value the bound value. May be null.
+     * @return the parameter value for the statement
+     */
+    public Object convert(Object value) {
+        if (value != null && !type.isInstance(value)) {
+            throw new IllegalArgumentException("The value bound to \"" + name //$NON-NLS-1$
+                    + "\" must be of type " + type.getName() //$NON-NLS-1$
+                    + ", but was of type " + value.getClass().getName()); //$NON-NLS-1$
+        }
+
+        T t = type.cast(value);
+        return column == null ? t : column.convertParameterType(t);
+    }
+
+    public static <T> BindMarker<T> of(String name, Class<T> type) {
+        return new BindMarker<>(name, type, null);
+    }
+}
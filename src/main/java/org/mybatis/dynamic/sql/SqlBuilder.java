@@ -17,9 +17,16 @@ package org.mybatis.dynamic.sql;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
+import org.mybatis.dynamic.sql.delete.BatchDeleteDSL;
 import org.mybatis.dynamic.sql.delete.DeleteDSL;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.insert.BatchInsertDSL;
@@ -27,6 +34,7 @@ import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertSelectDSL;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertDSL;
 import org.mybatis.dynamic.sql.select.CountDSL;
 import org.mybatis.dynamic.sql.select.QueryExpressionDSL.FromGatherer;
 import org.mybatis.dynamic.sql.select.SelectDSL;
@@ -51,6 +59,8 @@ import org.mybatis.dynamic.sql.select.function.Upper;
 import org.mybatis.dynamic.sql.select.join.EqualTo;
 import org.mybatis.dynamic.sql.select.join.JoinCondition;
 import org.mybatis.dynamic.sql.select.join.JoinCriterion;
+import org.mybatis.dynamic.sql.update.BatchUpdateDSL;
+import org.mybatis.dynamic.sql.update.MultiRowUpdateDSL;
 import org.mybatis.dynamic.sql.update.UpdateDSL;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.Buildable;
@@ -72,6 +82,8 @@ import org.mybatis.dynamic.sql.where.condition.IsGreaterThanWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsIn;
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive;
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitiveWhenPresent;
+import org.mybatis.dynamic.sql.where.condition.IsInInt;
+import org.mybatis.dynamic.sql.where.condition.IsInLong;
 import org.mybatis.dynamic.sql.where.condition.IsInWhenPresent;
 import org.mybatis.dynamic.sql.where.condition.IsInWithSubselect;
 import org.mybatis.dynamic.sql.where.condition.IsLessThan;
@@ -129,10 +141,50 @@ public interface SqlBuilder {
         return CountDSL.countFrom(table);
     }
     
+    /**
+     * Renders as select 1 from table... fetch first 1 rows only. The statement returns one row if any row matches.
+     */
+    static CountDSL<SelectModel> selectExists(SqlTable table) {
+        return CountDSL.selectExists(table);
+    }
+
+    /**
+     * Renders as select count(*) from (select 1 from table... fetch first ? rows only) count_source. The statement
+     * returns the number of matching rows, but at most the limit.
+     */
+    static CountDSL.FromGatherer<SelectModel> countUpTo(long limit) {
+        return CountDSL.countUpTo(limit);
+    }
+    
     static DeleteDSL<DeleteModel> deleteFrom(SqlTable table) {
         return DeleteDSL.deleteFrom(table);
     }
 
+    /**
+     * Delete a batch of records. The statement is rendered once, with where mappings to record properties, and
+     * executed for every record with JDBC batch support.
+     *
+     * @param records records to delete
+     * @param <T> the type of record to delete
+     * @return the next step in the DSL
+     */
+    @SafeVarargs
+    static <T> BatchDeleteDSL.FromGatherer<T> deleteBatch(T...records) {
+        return BatchDeleteDSL.delete(records);
+    }
+
+    /**
+     * Delete a batch of records. The statement is rendered once, with where mappings to record properties, and
+     * executed for every record with JDBC batch support.
+     *
+     * @param records records to delete
+     * @param <T> the type of record to delete
+     * @return the next step in the DSL
+     */
+    static <T> BatchDeleteDSL.FromGatherer<T> deleteBatch(Collection<T> records) {
+        return BatchDeleteDSL.delete(records);
+    }
+
     static <T> InsertDSL.IntoGatherer<T> insert(T record) {
         return InsertDSL.insert(record);
     }
@@ -187,6 +239,43 @@ public interface SqlBuilder {
         return BatchInsertDSL.insert(records);
     }
 
+    /**
+     * Insert a Batch of records read lazily from an iterator. The insert statement is rendered once, and the records
+     * are read and executed in chunks, so only one chunk of records is held in memory at a time.
+     *
+     * @param records records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    static <T> StreamingBatchInsertDSL.IntoGatherer<T> insertBatch(Iterator<T> records) {
+        return insertBatch(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED));
+    }
+
+    /**
+     * Insert a Batch of records read lazily from a stream. The insert statement is rendered once, and the records
+     * are read and executed in chunks, so only one chunk of records is held in memory at a time. The stream is not
+     * closed by the library.
+     *
+     * @param records records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    static <T> StreamingBatchInsertDSL.IntoGatherer<T> insertBatch(Stream<T> records) {
+        return insertBatch(records.spliterator());
+    }
+
+    /**
+     * Insert a Batch of records read lazily from a spliterator. The insert statement is rendered once, and the
+     * records are read and executed in chunks, so only one chunk of records is held in memory at a time.
+     *
+     * @param records records to insert
+     * @param <T> the type of record to insert
+     * @return the next step in the DSL
+     */
+    static <T> StreamingBatchInsertDSL.IntoGatherer<T> insertBatch(Spliterator<T> records) {
+        return StreamingBatchInsertDSL.insert(Objects.requireNonNull(records));
+    }
+
     /**
      * Insert multiple records in a single statement. The model object is structured as a single insert statement with
      * multiple values clauses. This statement is suitable for use with a small number of records. It is not suitable
@@ -242,6 +331,56 @@ public interface SqlBuilder {
         return UpdateDSL.update(table);
     }
 
+    /**
+     * Update a batch of records. The statement is rendered once, with set and where mappings to record properties,
+     * and executed for every record with JDBC batch support.
+     *
+     * @param records records to update
+     * @param <T> the type of record to update
+     * @return the next step in the DSL
+     */
+    @SafeVarargs
+    static <T> BatchUpdateDSL.TableGatherer<T> updateBatch(T...records) {
+        return BatchUpdateDSL.update(records);
+    }
+
+    /**
+     * Update a batch of records. The statement is rendered once, with set and where mappings to record properties,
+     * and executed for every record with JDBC batch support.
+     *
+     * @param records records to update
+     * @param <T> the type of record to update
+     * @return the next step in the DSL
+     */
+    static <T> BatchUpdateDSL.TableGatherer<T> updateBatch(Collection<T> records) {
+        return BatchUpdateDSL.update(records);
+    }
+
+    /**
+     * Update many records with a single statement. Columns mapped to properties are set with case expressions on
+     * the key column, so each record gets its own values without a round trip per record.
+     *
+     * @param records records to update
+     * @param <T> the type of record to update
+     * @return the next step in the DSL
+     */
+    @SafeVarargs
+    static <T> MultiRowUpdateDSL.TableGatherer<T> updateMultiple(T...records) {
+        return MultiRowUpdateDSL.update(records);
+    }
+
+    /**
+     * Update many records with a single statement. Columns mapped to properties are set with case expressions on
+     * the key column, so each record gets its own values without a round trip per record.
+     *
+     * @param records records to update
+     * @param <T> the type of record to update
+     * @return the next step in the DSL
+     */
+    static <T> MultiRowUpdateDSL.TableGatherer<T> updateMultiple(Collection<T> records) {
+        return MultiRowUpdateDSL.update(records);
+    }
+
     static WhereDSL where() {
         return WhereDSL.where();
     }
@@ -347,6 +486,11 @@ public interface SqlBuilder {
         return StringConstant.of(constant);
     }
     
+    // bind markers for prepared statement templates
+    static <T> BindMarker<T> param(String name, Class<T> type) {
+        return BindMarker.of(name, type);
+    }
+
     // functions
     static <T extends Number> Add<T> add(BindableColumn<T> firstColumn, BasicColumn secondColumn,
             BasicColumn... subsequentColumns) {
@@ -557,6 +701,22 @@ public interface SqlBuilder {
         return IsInWithSubselect.of(selectModelBuilder);
     }
 
+    static IsInLong isIn(long[] values) {
+        return IsInLong.of(values);
+    }
+
+    static IsInLong isIn(LongStream values) {
+        return IsInLong.of(values.toArray());
+    }
+
+    static IsInInt isIn(int[] values) {
+        return IsInInt.of(values);
+    }
+
+    static IsInInt isIn(IntStream values) {
+        return IsInInt.of(values.toArray());
+    }
+
     @SafeVarargs
     static <T> IsInWhenPresent<T> isInWhenPresent(T...values) {
         return isInWhenPresent(Arrays.asList(values));
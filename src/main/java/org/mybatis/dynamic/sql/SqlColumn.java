@@ -79,6 +79,10 @@ public class SqlColumn<T> implements BindableColumn<T>, SortSpecification {
     public Object convertParameterType(T value) {
         return parameterTypeConverter == null ? value : parameterTypeConverter.convert(value);
     }
+
+    public Optional<ParameterTypeConverter<T, ?>> parameterTypeConverter() {
+        return Optional.ofNullable(parameterTypeConverter);
+    }
     
     @Override
     public SortSpecification descending() {
@@ -0,0 +1,96 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+/**
+ * DSL for delete statements that are rendered once and executed for every record of a batch. Where mappings are
+ * written in terms of record properties.
+ *
+ * @param <T> the type of record
+ */
+public class BatchDeleteDSL<T> implements Buildable<BatchDeleteModel<T>> {
+
+    private final Collection<T> records;
+    private final SqlTable table;
+    private final List<PropertyMapping> whereMappings = new ArrayList<>();
+
+    private BatchDeleteDSL(Collection<T> records, SqlTable table) {
+        this.records = records;
+        this.table = table;
+    }
+
+    public <F> WhereMappingFinisher<F> where(SqlColumn<F> column) {
+        return new WhereMappingFinisher<>(column);
+    }
+
+    public <F> WhereMappingFinisher<F> and(SqlColumn<F> column) {
+        return new WhereMappingFinisher<>(column);
+    }
+
+    @NotNull
+    @Override
+    public BatchDeleteModel<T> build() {
+        return BatchDeleteModel.withRecords(records)
+                .withTable(table)
+                .withWhereMappings(whereMappings)
+                .build();
+    }
+
+    @SafeVarargs
+    public static <T> FromGatherer<T> delete(T...records) {
+        return BatchDeleteDSL.delete(Arrays.asList(records));
+    }
+
+    public static <T> FromGatherer<T> delete(Collection<T> records) {
+        return new FromGatherer<>(records);
+    }
+
+    public static class FromGatherer<T> {
+        private final Collection<T> records;
+
+        private FromGatherer(Collection<T> records) {
+            this.records = records;
+        }
+
+        public BatchDeleteDSL<T> from(SqlTable table) {
+            return new BatchDeleteDSL<>(records, table);
+        }
+    }
+
+    public class WhereMappingFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public WhereMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public BatchDeleteDSL<T> isEqualToProperty(String property) {
+            whereMappings.add(PropertyMapping.of(column, property));
+            return BatchDeleteDSL.this;
+        }
+    }
+}
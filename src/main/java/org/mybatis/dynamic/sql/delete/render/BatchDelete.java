@@ -0,0 +1,87 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class BatchDelete<T> {
+    private final String deleteStatement;
+    private final List<T> records;
+
+    private BatchDelete(Builder<T> builder) {
+        deleteStatement = Objects.requireNonNull(builder.deleteStatement);
+        records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
+    }
+
+    /**
+     * Returns a list of delete statements - one for each record, all sharing the same SQL. This is useful for
+     * MyBatis batch support. The statements can be passed to a mapper method that accepts an
+     * {@link DeleteStatementProvider}, because their parameters are taken from the record.
+     *
+     * @return a List of delete statements
+     */
+    public List<RecordDeleteStatementProvider<T>> deleteStatements() {
+        return records.stream()
+                .map(this::toDeleteStatement)
+                .collect(Collectors.toList());
+    }
+
+    private RecordDeleteStatementProvider<T> toDeleteStatement(T record) {
+        return RecordDeleteStatementProvider.withRecord(record)
+                .withDeleteStatement(deleteStatement)
+                .build();
+    }
+
+    /**
+     * Returns the generated SQL for this batch. This is useful for Spring JDBC batch support.
+     *
+     * @return the generated DELETE statement
+     */
+    public String getDeleteStatementSQL() {
+        return deleteStatement;
+    }
+
+    public List<T> getRecords() {
+        return records;
+    }
+
+    public static <T> Builder<T> withRecords(List<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private String deleteStatement;
+        private final List<T> records = new ArrayList<>();
+
+        public Builder<T> withDeleteStatement(String deleteStatement) {
+            this.deleteStatement = deleteStatement;
+            return this;
+        }
+
+        public Builder<T> withRecords(List<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+
+        public BatchDelete<T> build() {
+            return new BatchDelete<>(this);
+        }
+    }
+}
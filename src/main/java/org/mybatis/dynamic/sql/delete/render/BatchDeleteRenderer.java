@@ -0,0 +1,78 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
+import org.mybatis.dynamic.sql.insert.render.BatchValuePhraseVisitor;
+import org.mybatis.dynamic.sql.insert.render.FieldAndValue;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+
+public class BatchDeleteRenderer<T> {
+
+    private final BatchDeleteModel<T> model;
+    private final RenderingStrategy renderingStrategy;
+
+    private BatchDeleteRenderer(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+    }
+
+    public BatchDelete<T> render() {
+        BatchValuePhraseVisitor visitor = new BatchValuePhraseVisitor(renderingStrategy, "record"); //$NON-NLS-1$
+
+        String whereClause = model.mapWhereMappings(m -> m.accept(visitor))
+                .map(this::toCondition)
+                .collect(Collectors.joining(" and ", "where ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        return BatchDelete.withRecords(model.records())
+                .withDeleteStatement("delete from" //$NON-NLS-1$
+                        + spaceBefore(model.table().tableNameAtRuntime())
+                        + spaceBefore(whereClause))
+                .build();
+    }
+
+    private String toCondition(FieldAndValue fieldAndValue) {
+        return fieldAndValue.fieldName() + " = " + fieldAndValue.valuePhrase(); //$NON-NLS-1$
+    }
+
+    public static <T> Builder<T> withBatchDeleteModel(BatchDeleteModel<T> model) {
+        return new Builder<T>().withBatchDeleteModel(model);
+    }
+
+    public static class Builder<T> {
+        private BatchDeleteModel<T> model;
+        private RenderingStrategy renderingStrategy;
+
+        public Builder<T> withBatchDeleteModel(BatchDeleteModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public BatchDeleteRenderer<T> build() {
+            return new BatchDeleteRenderer<>(this);
+        }
+    }
+}
@@ -15,23 +15,40 @@
  */
 package org.mybatis.dynamic.sql.delete.render;
 
+import java.sql.JDBCType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.render.ParameterAccumulator;
+
 public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
     private final String deleteStatement;
     private final Map<String, Object> parameters;
+    private final Object[] parameterValues;
+    private final JDBCType[] parameterTypes;
     
     private DefaultDeleteStatementProvider(Builder builder) {
         deleteStatement = Objects.requireNonNull(builder.deleteStatement);
         parameters = Objects.requireNonNull(builder.parameters);
+        parameterValues = builder.parameterValues;
+        parameterTypes = builder.parameterTypes;
     }
     
     @Override
     public Map<String, Object> getParameters() {
         return parameters;
     }
+
+    @Override
+    public Object[] getParameterValues() {
+        return parameterValues.clone();
+    }
+
+    @Override
+    public JDBCType[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
     
     @Override
     public String getDeleteStatement() {
@@ -45,6 +62,8 @@ public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
     public static class Builder {
         private String deleteStatement;
         private final Map<String, Object> parameters = new HashMap<>();
+        private Object[] parameterValues = new Object[0];
+        private JDBCType[] parameterTypes = new JDBCType[0];
         
         public Builder withDeleteStatement(String deleteStatement) {
             this.deleteStatement = deleteStatement;
@@ -55,6 +74,13 @@ public class DefaultDeleteStatementProvider implements DeleteStatementProvider {
             this.parameters.putAll(parameters);
             return this;
         }
+
+        public Builder withParameters(ParameterAccumulator parameters) {
+            this.parameters.putAll(parameters.asMap());
+            parameterValues = parameters.values();
+            parameterTypes = parameters.jdbcTypes();
+            return this;
+        }
         
         public DefaultDeleteStatementProvider build() {
             return new DefaultDeleteStatementProvider(this);
@@ -19,13 +19,11 @@ import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
-import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class DeleteRenderer {
@@ -38,21 +36,31 @@ public class DeleteRenderer {
     }
     
     public DeleteStatementProvider render() {
-        return deleteModel.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(this::renderWithWhereClause)
-                .orElseGet(this::renderWithoutWhereClause);
+        return render(RenderingContext.withRenderingStrategy(renderingStrategy)
+                .build());
     }
-    
-    private DeleteStatementProvider renderWithWhereClause(WhereClauseProvider whereClauseProvider) {
-        return DefaultDeleteStatementProvider.withDeleteStatement(calculateDeleteStatement(whereClauseProvider))
-                .withParameters(whereClauseProvider.getParameters())
+
+    /**
+     * Renders the statement with a rendering context that has already been configured - for example to render
+     * one chunk of a large list condition.
+     *
+     * @param renderingContext the rendering context for the statement
+     * @return the rendered statement
+     */
+    public DeleteStatementProvider render(RenderingContext renderingContext) {
+        String deleteStatement = deleteModel.whereModel()
+                .flatMap(wm -> renderWhereClause(wm, renderingContext))
+                .map(this::calculateDeleteStatement)
+                .orElseGet(this::calculateDeleteStatement);
+
+        return DefaultDeleteStatementProvider.withDeleteStatement(deleteStatement)
+                .withParameters(renderingContext.parameters())
                 .build();
     }
     
-    private String calculateDeleteStatement(WhereClauseProvider whereClause) {
+    private String calculateDeleteStatement(String whereClause) {
         return calculateDeleteStatement()
-                + spaceBefore(whereClause.getWhereClause());
+                + spaceBefore(whereClause);
     }
 
     private String calculateDeleteStatement() {
@@ -60,18 +68,11 @@ public class DeleteRenderer {
                 + spaceBefore(deleteModel.table().tableNameAtRuntime());
     }
     
-    private DeleteStatementProvider renderWithoutWhereClause() {
-        return DefaultDeleteStatementProvider.withDeleteStatement(calculateDeleteStatement())
-                .build();
-    }
-    
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
+    private Optional<String> renderWhereClause(WhereModel whereModel, RenderingContext renderingContext) {
         return WhereRenderer.withWhereModel(whereModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
-                .withTableAliasCalculator(TableAliasCalculator.empty())
+                .withRenderingContext(renderingContext)
                 .build()
-                .render();
+                .renderWhereClause();
     }
     
     public static Builder withDeleteModel(DeleteModel deleteModel) {
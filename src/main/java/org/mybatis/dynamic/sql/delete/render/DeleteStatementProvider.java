@@ -1,5 +1,5 @@
 /**
- *    Copyright 2016-2018 the original author or authors.
+ *    Copyright 2016-2020 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,10 +15,41 @@
  */
 package org.mybatis.dynamic.sql.delete.render;
 
+import java.sql.JDBCType;
 import java.util.Map;
 
 public interface DeleteStatementProvider {
     Map<String, Object> getParameters();
+
+    /**
+     * Returns the parameter values in the order their placeholders appear in the statement. This is intended
+     * for statements rendered with {@link org.mybatis.dynamic.sql.render.RenderingStrategies#JDBC_POSITIONAL},
+     * where each value is bound to a prepared statement by its position.
+     *
+     * <p>The parameter map can't be used instead - it is not ordered by placeholder - so the default
+     * implementation throws an exception. Providers that can be executed with positional parameters must
+     * override this method.
+     *
+     * @return the ordered parameter values
+     * @throws UnsupportedOperationException if the provider does not know the order of its parameters
+     */
+    default Object[] getParameterValues() {
+        throw new UnsupportedOperationException(
+                "This statement provider does not supply positional parameter values"); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the JDBC types of the parameters in the order their placeholders appear in the statement. An
+     * element is null if the JDBC type of the parameter is not known.
+     *
+     * <p>The default implementation returns an array of unknown types, one for each of the values returned by
+     * {@link #getParameterValues()}.
+     *
+     * @return the ordered parameter JDBC types
+     */
+    default JDBCType[] getParameterTypes() {
+        return new JDBCType[getParameterValues().length];
+    }
     
     String getDeleteStatement();
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete.render;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A delete statement of a batch delete. The placeholders of the statement refer to properties of the record, so
+ * the parameter map is empty.
+ *
+ * @param <T> the type of record
+ */
+public class RecordDeleteStatementProvider<T> implements DeleteStatementProvider {
+    private final String deleteStatement;
+    private final T record;
+
+    private RecordDeleteStatementProvider(Builder<T> builder) {
+        deleteStatement = Objects.requireNonNull(builder.deleteStatement);
+        record = Objects.requireNonNull(builder.record);
+    }
+
+    public T getRecord() {
+        return record;
+    }
+
+    @Override
+    public Map<String, Object> getParameters() {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public String getDeleteStatement() {
+        return deleteStatement;
+    }
+
+    public static <T> Builder<T> withRecord(T record) {
+        return new Builder<T>().withRecord(record);
+    }
+
+    public static class Builder<T> {
+        private String deleteStatement;
+        private T record;
+
+        public Builder<T> withDeleteStatement(String deleteStatement) {
+            this.deleteStatement = deleteStatement;
+            return this;
+        }
+
+        public Builder<T> withRecord(T record) {
+            this.record = record;
+            return this;
+        }
+
+        public RecordDeleteStatementProvider<T> build() {
+            return new RecordDeleteStatementProvider<>(this);
+        }
+    }
+}
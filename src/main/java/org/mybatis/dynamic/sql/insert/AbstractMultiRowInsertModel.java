@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -30,11 +31,13 @@ public abstract class AbstractMultiRowInsertModel<T> {
     private final SqlTable table;
     private final List<T> records;
     private final List<AbstractColumnMapping> columnMappings;
+    private final UpsertModel upsertModel;
     
     protected AbstractMultiRowInsertModel(AbstractBuilder<T, ?> builder) {
         table = Objects.requireNonNull(builder.table);
         records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
         columnMappings = Objects.requireNonNull(builder.columnMappings);
+        upsertModel = builder.upsertModel;
     }
 
     public <R> Stream<R> mapColumnMappings(Function<AbstractColumnMapping, R> mapper) {
@@ -52,11 +55,16 @@ public abstract class AbstractMultiRowInsertModel<T> {
     public int recordCount() {
         return records.size();
     }
+
+    public Optional<UpsertModel> upsertModel() {
+        return Optional.ofNullable(upsertModel);
+    }
     
     public abstract static class AbstractBuilder<T, S extends AbstractBuilder<T, S>> {
         private SqlTable table;
         private final List<T> records = new ArrayList<>();
         private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private UpsertModel upsertModel;
         
         public S withTable(SqlTable table) {
             this.table = table;
@@ -72,6 +80,11 @@ public abstract class AbstractMultiRowInsertModel<T> {
             this.columnMappings.addAll(columnMappings);
             return getThis();
         }
+
+        public S withUpsertModel(UpsertModel upsertModel) {
+            this.upsertModel = upsertModel;
+            return getThis();
+        }
         
         protected abstract S getThis();
     }
@@ -45,12 +45,27 @@ public class BatchInsertDSL<T> implements Buildable<BatchInsertModel<T>> {
         return new ColumnMappingFinisher<>(column);
     }
     
+    /**
+     * Starts an upsert clause. The upsert statement is rendered once and executed for each record.
+     *
+     * @param conflictColumns the columns that identify an existing row - usually the primary key
+     * @return the upsert DSL
+     */
+    public UpsertDSL<BatchInsertModel<T>> onConflict(SqlColumn<?>...conflictColumns) {
+        return new UpsertDSL<>(this::buildModel, Arrays.asList(conflictColumns));
+    }
+
     @NotNull
     @Override
     public BatchInsertModel<T> build() {
+        return buildModel(null);
+    }
+
+    private BatchInsertModel<T> buildModel(UpsertModel upsertModel) {
         return BatchInsertModel.withRecords(records)
                 .withTable(table)
                 .withColumnMappings(columnMappings)
+                .withUpsertModel(upsertModel)
                 .build();
     }
 
@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -45,12 +46,28 @@ public class InsertDSL<T> implements Buildable<InsertModel<T>> {
         return new ColumnMappingFinisher<>(column);
     }
     
+    /**
+     * Starts an upsert clause. When a row with the same values in the conflict columns already exists, the row is
+     * updated instead of inserted.
+     *
+     * @param conflictColumns the columns that identify an existing row - usually the primary key
+     * @return the upsert DSL
+     */
+    public UpsertDSL<InsertModel<T>> onConflict(SqlColumn<?>...conflictColumns) {
+        return new UpsertDSL<>(this::buildModel, Arrays.asList(conflictColumns));
+    }
+
     @NotNull
     @Override
     public InsertModel<T> build() {
+        return buildModel(null);
+    }
+
+    private InsertModel<T> buildModel(UpsertModel upsertModel) {
         return InsertModel.withRecord(record)
                 .withTable(table)
                 .withColumnMappings(columnMappings)
+                .withUpsertModel(upsertModel)
                 .build();
     }
     
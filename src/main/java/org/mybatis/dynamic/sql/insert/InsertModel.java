@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.insert;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -32,11 +33,13 @@ public class InsertModel<T> {
     private final SqlTable table;
     private final T record;
     private final List<AbstractColumnMapping> columnMappings;
+    private final UpsertModel upsertModel;
     
     private InsertModel(Builder<T> builder) {
         table = Objects.requireNonNull(builder.table);
         record = Objects.requireNonNull(builder.record);
         columnMappings = Objects.requireNonNull(builder.columnMappings);
+        upsertModel = builder.upsertModel;
     }
 
     public <R> Stream<R> mapColumnMappings(Function<AbstractColumnMapping, R> mapper) {
@@ -51,6 +54,10 @@ public class InsertModel<T> {
         return table;
     }
 
+    public Optional<UpsertModel> upsertModel() {
+        return Optional.ofNullable(upsertModel);
+    }
+
     @NotNull
     public InsertStatementProvider<T> render(RenderingStrategy renderingStrategy) {
         return InsertRenderer.withInsertModel(this)
@@ -67,6 +74,7 @@ public class InsertModel<T> {
         private SqlTable table;
         private T record;
         private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private UpsertModel upsertModel;
         
         public Builder<T> withTable(SqlTable table) {
             this.table = table;
@@ -82,6 +90,11 @@ public class InsertModel<T> {
             this.columnMappings.addAll(columnMappings);
             return this;
         }
+
+        public Builder<T> withUpsertModel(UpsertModel upsertModel) {
+            this.upsertModel = upsertModel;
+            return this;
+        }
         
         public InsertModel<T> build() {
             return new InsertModel<>(this);
@@ -35,6 +35,8 @@ public class MultiRowInsertDSL<T> implements Buildable<MultiRowInsertModel<T>> {
     private final Collection<T> records;
     private final SqlTable table;
     private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+    private Integer maxRowsPerStatement;
+    private Integer maxParametersPerStatement;
     
     private MultiRowInsertDSL(Collection<T> records, SqlTable table) {
         this.records = records;
@@ -45,12 +47,55 @@ public class MultiRowInsertDSL<T> implements Buildable<MultiRowInsertModel<T>> {
         return new ColumnMappingFinisher<>(column);
     }
 
+    /**
+     * Limits the number of rows in each statement when the model is rendered with
+     * {@link MultiRowInsertModel#renderChunks(org.mybatis.dynamic.sql.render.RenderingStrategy)}.
+     *
+     * @param maxRowsPerStatement the maximum number of rows in each statement
+     * @return this DSL
+     */
+    public MultiRowInsertDSL<T> withMaxRowsPerStatement(int maxRowsPerStatement) {
+        this.maxRowsPerStatement = maxRowsPerStatement;
+        return this;
+    }
+
+    /**
+     * Limits the number of bind parameters in each statement when the model is rendered with
+     * {@link MultiRowInsertModel#renderChunks(org.mybatis.dynamic.sql.render.RenderingStrategy)}. Each property
+     * mapping binds one parameter per row. Use this to stay under the bind parameter limit of a driver.
+     *
+     * @param maxParametersPerStatement the maximum number of bind parameters in each statement
+     * @return this DSL
+     */
+    public MultiRowInsertDSL<T> withMaxParametersPerStatement(int maxParametersPerStatement) {
+        this.maxParametersPerStatement = maxParametersPerStatement;
+        return this;
+    }
+
+    /**
+     * Starts an upsert clause. Each row of the statement that matches an existing row on the conflict columns
+     * updates that row. The same key must not appear twice in one statement.
+     *
+     * @param conflictColumns the columns that identify an existing row - usually the primary key
+     * @return the upsert DSL
+     */
+    public UpsertDSL<MultiRowInsertModel<T>> onConflict(SqlColumn<?>...conflictColumns) {
+        return new UpsertDSL<>(this::buildModel, Arrays.asList(conflictColumns));
+    }
+
     @NotNull
     @Override
     public MultiRowInsertModel<T> build() {
+        return buildModel(null);
+    }
+
+    private MultiRowInsertModel<T> buildModel(UpsertModel upsertModel) {
         return MultiRowInsertModel.withRecords(records)
                 .withTable(table)
                 .withColumnMappings(columnMappings)
+                .withMaxRowsPerStatement(maxRowsPerStatement)
+                .withMaxParametersPerStatement(maxParametersPerStatement)
+                .withUpsertModel(upsertModel)
                 .build();
     }
 
@@ -16,6 +16,8 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertRenderer;
@@ -23,9 +25,28 @@ import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class MultiRowInsertModel<T> extends AbstractMultiRowInsertModel<T> {
-    
+    private final Integer maxRowsPerStatement;
+    private final Integer maxParametersPerStatement;
+
     private MultiRowInsertModel(Builder<T> builder) {
         super(builder);
+        maxRowsPerStatement = validateLimit(builder.maxRowsPerStatement);
+        maxParametersPerStatement = validateLimit(builder.maxParametersPerStatement);
+    }
+
+    private static Integer validateLimit(Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Statement limits must be at least 1"); //$NON-NLS-1$
+        }
+        return limit;
+    }
+
+    public Optional<Integer> maxRowsPerStatement() {
+        return Optional.ofNullable(maxRowsPerStatement);
+    }
+
+    public Optional<Integer> maxParametersPerStatement() {
+        return Optional.ofNullable(maxParametersPerStatement);
     }
 
     @NotNull
@@ -35,12 +56,40 @@ public class MultiRowInsertModel<T> extends AbstractMultiRowInsertModel<T> {
                 .build()
                 .render();
     }
+
+    /**
+     * Renders the records in as many statements as needed to keep each statement under the row and parameter
+     * limits of this model.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the rendered statements - one for each chunk of records
+     */
+    @NotNull
+    public List<MultiRowInsertStatementProvider<T>> renderChunks(RenderingStrategy renderingStrategy) {
+        return MultiRowInsertRenderer.withMultiRowInsertModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .renderChunks();
+    }
     
     public static <T> Builder<T> withRecords(Collection<T> records) {
         return new Builder<T>().withRecords(records);
     }
     
     public static class Builder<T> extends AbstractBuilder<T, Builder<T>> {
+        private Integer maxRowsPerStatement;
+        private Integer maxParametersPerStatement;
+
+        public Builder<T> withMaxRowsPerStatement(Integer maxRowsPerStatement) {
+            this.maxRowsPerStatement = maxRowsPerStatement;
+            return this;
+        }
+
+        public Builder<T> withMaxParametersPerStatement(Integer maxParametersPerStatement) {
+            this.maxParametersPerStatement = maxParametersPerStatement;
+            return this;
+        }
+
         @Override
         protected Builder<T> getThis() {
             return this;
@@ -0,0 +1,119 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * DSL for batch inserts whose records are supplied by an iterator, stream, or spliterator rather than a
+ * collection. The records are read lazily, one chunk at a time, when the rendered
+ * {@link org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert} is executed.
+ *
+ * @param <T> the type of record to insert
+ */
+public class StreamingBatchInsertDSL<T> implements Buildable<StreamingBatchInsertModel<T>> {
+
+    private final Spliterator<T> records;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+    private int chunkSize = StreamingBatchInsertModel.DEFAULT_CHUNK_SIZE;
+
+    private StreamingBatchInsertDSL(Spliterator<T> records, SqlTable table) {
+        this.records = records;
+        this.table = table;
+    }
+
+    public <F> ColumnMappingFinisher<F> map(SqlColumn<F> column) {
+        return new ColumnMappingFinisher<>(column);
+    }
+
+    /**
+     * Sets the maximum number of records in each batch. Only one chunk of records is held in memory at a time.
+     *
+     * @param chunkSize the maximum number of records in each batch
+     * @return this DSL
+     */
+    public StreamingBatchInsertDSL<T> withChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public StreamingBatchInsertModel<T> build() {
+        return StreamingBatchInsertModel.withRecords(records)
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .withChunkSize(chunkSize)
+                .build();
+    }
+
+    public static <T> IntoGatherer<T> insert(Spliterator<T> records) {
+        return new IntoGatherer<>(records);
+    }
+
+    public static class IntoGatherer<T> {
+        private final Spliterator<T> records;
+
+        private IntoGatherer(Spliterator<T> records) {
+            this.records = records;
+        }
+
+        public StreamingBatchInsertDSL<T> into(SqlTable table) {
+            return new StreamingBatchInsertDSL<>(records, table);
+        }
+    }
+
+    public class ColumnMappingFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public ColumnMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public StreamingBatchInsertDSL<T> toProperty(String property) {
+            columnMappings.add(PropertyMapping.of(column, property));
+            return StreamingBatchInsertDSL.this;
+        }
+
+        public StreamingBatchInsertDSL<T> toNull() {
+            columnMappings.add(NullMapping.of(column));
+            return StreamingBatchInsertDSL.this;
+        }
+
+        public StreamingBatchInsertDSL<T> toConstant(String constant) {
+            columnMappings.add(ConstantMapping.of(column, constant));
+            return StreamingBatchInsertDSL.this;
+        }
+
+        public StreamingBatchInsertDSL<T> toStringConstant(String constant) {
+            columnMappings.add(StringConstantMapping.of(column, constant));
+            return StreamingBatchInsertDSL.this;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+public class StreamingBatchInsertModel<T> {
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final SqlTable table;
+    private final Spliterator<T> records;
+    private final List<AbstractColumnMapping> columnMappings;
+    private final int chunkSize;
+
+    private StreamingBatchInsertModel(Builder<T> builder) {
+        table = Objects.requireNonNull(builder.table);
+        records = Objects.requireNonNull(builder.records);
+        columnMappings = Objects.requireNonNull(builder.columnMappings);
+        chunkSize = builder.chunkSize;
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be at least 1"); //$NON-NLS-1$
+        }
+    }
+
+    public SqlTable table() {
+        return table;
+    }
+
+    public Spliterator<T> records() {
+        return records;
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Renders the insert statement once, for all records. The records are not read until the batches of the
+     * returned object are consumed.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the rendered streaming batch insert
+     */
+    @NotNull
+    public StreamingBatchInsert<T> render(RenderingStrategy renderingStrategy) {
+        String insertStatement = BatchInsertModel.withRecords(Collections.<T>emptyList())
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .build()
+                .render(renderingStrategy)
+                .getInsertStatementSQL();
+
+        return StreamingBatchInsert.withRecords(records)
+                .withInsertStatement(insertStatement)
+                .withBoundProperties(columnMappings.stream()
+                        .filter(PropertyMapping.class::isInstance)
+                        .map(PropertyMapping.class::cast)
+                        .collect(Collectors.toList()))
+                .withChunkSize(chunkSize)
+                .build();
+    }
+
+    public static <T> Builder<T> withRecords(Spliterator<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private SqlTable table;
+        private Spliterator<T> records;
+        private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<T> withRecords(Spliterator<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        public Builder<T> withColumnMappings(List<AbstractColumnMapping> columnMappings) {
+            this.columnMappings.addAll(columnMappings);
+            return this;
+        }
+
+        public Builder<T> withChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public StreamingBatchInsertModel<T> build() {
+            return new StreamingBatchInsertModel<>(this);
+        }
+    }
+}
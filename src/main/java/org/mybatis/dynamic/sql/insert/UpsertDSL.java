@@ -0,0 +1,116 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.insert.render.UpsertDialect;
+import org.mybatis.dynamic.sql.insert.render.UpsertDialects;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * Builds the upsert clause of an insert. Start the clause with <code>onConflict</code> on an insert, multi-row
+ * insert, or batch insert DSL - the upsert is rendered in the same form as the insert, so statements are
+ * executed exactly like the insert would be. For example:
+ *
+ * <pre>
+ * insertMultiple(records).into(person)
+ *     .map(id).toProperty("id")
+ *     .map(firstName).toProperty("firstName")
+ *     .onConflict(id)
+ *     .set(firstName).toInsertedValue()
+ *     .withDialect(UpsertDialects.POSTGRESQL)
+ *     .build()
+ *     .render(RenderingStrategies.MYBATIS3);
+ * </pre>
+ *
+ * <p>The dialect defaults to {@link UpsertDialects#MERGE}.
+ *
+ * @param <M> the type of the insert model
+ */
+public class UpsertDSL<M> implements Buildable<M> {
+
+    private final Function<UpsertModel, M> modelBuilder;
+    private final List<SqlColumn<?>> conflictColumns;
+    private final List<AbstractColumnMapping> updateMappings = new ArrayList<>();
+    private UpsertDialect dialect = UpsertDialects.MERGE;
+
+    UpsertDSL(Function<UpsertModel, M> modelBuilder, List<SqlColumn<?>> conflictColumns) {
+        this.modelBuilder = Objects.requireNonNull(modelBuilder);
+        this.conflictColumns = Objects.requireNonNull(conflictColumns);
+    }
+
+    public <F> UpdateMappingFinisher<F> set(SqlColumn<F> column) {
+        return new UpdateMappingFinisher<>(column);
+    }
+
+    public UpsertDSL<M> withDialect(UpsertDialect dialect) {
+        this.dialect = dialect;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public M build() {
+        return modelBuilder.apply(UpsertModel.withConflictColumns(conflictColumns)
+                .withUpdateMappings(updateMappings)
+                .withDialect(dialect)
+                .build());
+    }
+
+    public class UpdateMappingFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public UpdateMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        /**
+         * Sets the column of an existing row to the value the column would have been inserted with.
+         *
+         * @return the DSL
+         */
+        public UpsertDSL<M> toInsertedValue() {
+            updateMappings.add(ColumnToColumnMapping.of(column, column));
+            return UpsertDSL.this;
+        }
+
+        public UpsertDSL<M> toNull() {
+            updateMappings.add(NullMapping.of(column));
+            return UpsertDSL.this;
+        }
+
+        public UpsertDSL<M> toConstant(String constant) {
+            updateMappings.add(ConstantMapping.of(column, constant));
+            return UpsertDSL.this;
+        }
+
+        public UpsertDSL<M> toStringConstant(String constant) {
+            updateMappings.add(StringConstantMapping.of(column, constant));
+            return UpsertDSL.this;
+        }
+    }
+}
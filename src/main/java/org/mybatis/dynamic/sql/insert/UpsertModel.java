@@ -0,0 +1,90 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.insert.render.UpsertDialect;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+
+/**
+ * The upsert clause of an insert. When a row with the same values in the conflict columns already exists, the
+ * existing row is updated with the update mappings instead of inserting a new row. If there are no update
+ * mappings, the existing row is left unchanged.
+ *
+ * <p>An update mapping to another column ({@link org.mybatis.dynamic.sql.util.ColumnToColumnMapping}) sets the
+ * column to the value that column would have been inserted with.
+ */
+public class UpsertModel {
+    private final List<SqlColumn<?>> conflictColumns;
+    private final List<AbstractColumnMapping> updateMappings;
+    private final UpsertDialect dialect;
+
+    private UpsertModel(Builder builder) {
+        conflictColumns = Objects.requireNonNull(builder.conflictColumns);
+        updateMappings = Objects.requireNonNull(builder.updateMappings);
+        dialect = Objects.requireNonNull(builder.dialect);
+        if (conflictColumns.isEmpty()) {
+            throw new IllegalArgumentException("An upsert must have at least one conflict column"); //$NON-NLS-1$
+        }
+    }
+
+    public <R> Stream<R> mapConflictColumns(Function<SqlColumn<?>, R> mapper) {
+        return conflictColumns.stream().map(mapper);
+    }
+
+    public <R> Stream<R> mapUpdateMappings(Function<AbstractColumnMapping, R> mapper) {
+        return updateMappings.stream().map(mapper);
+    }
+
+    public UpsertDialect dialect() {
+        return dialect;
+    }
+
+    public static Builder withConflictColumns(List<SqlColumn<?>> conflictColumns) {
+        return new Builder().withConflictColumns(conflictColumns);
+    }
+
+    public static class Builder {
+        private final List<SqlColumn<?>> conflictColumns = new ArrayList<>();
+        private final List<AbstractColumnMapping> updateMappings = new ArrayList<>();
+        private UpsertDialect dialect;
+
+        public Builder withConflictColumns(List<SqlColumn<?>> conflictColumns) {
+            this.conflictColumns.addAll(conflictColumns);
+            return this;
+        }
+
+        public Builder withUpdateMappings(List<AbstractColumnMapping> updateMappings) {
+            this.updateMappings.addAll(updateMappings);
+            return this;
+        }
+
+        public Builder withDialect(UpsertDialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+
+        public UpsertModel build() {
+            return new UpsertModel(this);
+        }
+    }
+}
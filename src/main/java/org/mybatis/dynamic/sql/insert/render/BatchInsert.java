@@ -21,13 +21,17 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
 public class BatchInsert<T> {
     private final String insertStatement;
     private final List<T> records;
+    private final List<PropertyMapping> boundProperties;
     
     private BatchInsert(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
+        boundProperties = builder.boundProperties;
     }
     
     /**
@@ -44,6 +48,7 @@ public class BatchInsert<T> {
     private InsertStatementProvider<T> toInsertStatement(T record) {
         return DefaultInsertStatementProvider.withRecord(record)
                 .withInsertStatement(insertStatement)
+                .withBoundProperties(boundProperties)
                 .build();
     }
 
@@ -67,12 +72,25 @@ public class BatchInsert<T> {
     public static class Builder<T> {
         private String insertStatement;
         private final List<T> records = new ArrayList<>();
+        private List<PropertyMapping> boundProperties;
         
         public Builder<T> withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
             return this;
         }
 
+        /**
+         * Sets the property mappings whose placeholders are rendered in the statement, in rendering order. If not
+         * set, the insert statements of the batch do not supply positional parameter values.
+         *
+         * @param boundProperties the bound property mappings
+         * @return this builder
+         */
+        public Builder<T> withBoundProperties(List<PropertyMapping> boundProperties) {
+            this.boundProperties = boundProperties;
+            return this;
+        }
+
         public Builder<T> withRecords(List<T> records) {
             this.records.addAll(records);
             return this;
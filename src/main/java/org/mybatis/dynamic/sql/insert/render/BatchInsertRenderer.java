@@ -19,9 +19,11 @@ import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.UpsertModel;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class BatchInsertRenderer<T> {
@@ -42,14 +44,28 @@ public class BatchInsertRenderer<T> {
         
         return BatchInsert.withRecords(model.records())
                 .withInsertStatement(calculateInsertStatement(fieldsAndValues))
+                .withBoundProperties(RecordParameters.boundProperties(model.mapColumnMappings(Function.identity())))
                 .build();
     }
     
     private String calculateInsertStatement(List<FieldAndValue> fieldsAndValues) {
-        return "insert into" //$NON-NLS-1$
-                + spaceBefore(model.table().tableNameAtRuntime())
-                + spaceBefore(calculateColumnsPhrase(fieldsAndValues))
-                + spaceBefore(calculateValuesPhrase(fieldsAndValues));
+        return model.upsertModel()
+                .map(u -> calculateUpsertStatement(u, fieldsAndValues))
+                .orElseGet(() -> "insert into" //$NON-NLS-1$
+                        + spaceBefore(model.table().tableNameAtRuntime())
+                        + spaceBefore(calculateColumnsPhrase(fieldsAndValues))
+                        + spaceBefore(calculateValuesPhrase(fieldsAndValues)));
+    }
+
+    private String calculateUpsertStatement(UpsertModel upsertModel, List<FieldAndValue> fieldsAndValues) {
+        return UpsertRenderer.withUpsertModel(upsertModel)
+                .withTableName(model.table().tableNameAtRuntime())
+                .withColumnNames(fieldsAndValues.stream()
+                        .map(FieldAndValue::fieldName)
+                        .collect(Collectors.toList()))
+                .withValuesPhrase(calculateValuesPhrase(fieldsAndValues))
+                .build()
+                .render();
     }
     
     private String calculateColumnsPhrase(List<FieldAndValue> fieldsAndValues) {
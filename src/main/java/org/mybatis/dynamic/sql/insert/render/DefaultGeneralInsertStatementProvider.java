@@ -15,18 +15,25 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.sql.JDBCType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.render.ParameterAccumulator;
+
 public class DefaultGeneralInsertStatementProvider
         implements GeneralInsertStatementProvider, InsertSelectStatementProvider {
     private final String insertStatement;
     private final Map<String, Object> parameters = new HashMap<>();
+    private final Object[] parameterValues;
+    private final JDBCType[] parameterTypes;
 
     private DefaultGeneralInsertStatementProvider(Builder builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         parameters.putAll(builder.parameters);
+        parameterValues = builder.parameterValues;
+        parameterTypes = builder.parameterTypes;
     }
 
     @Override
@@ -34,6 +41,16 @@ public class DefaultGeneralInsertStatementProvider
         return parameters;
     }
 
+    @Override
+    public Object[] getParameterValues() {
+        return parameterValues.clone();
+    }
+
+    @Override
+    public JDBCType[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
+
     @Override
     public String getInsertStatement() {
         return insertStatement;
@@ -46,6 +63,8 @@ public class DefaultGeneralInsertStatementProvider
     public static class Builder {
         private String insertStatement;
         private final Map<String, Object> parameters = new HashMap<>();
+        private Object[] parameterValues = new Object[0];
+        private JDBCType[] parameterTypes = new JDBCType[0];
         
         public Builder withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
@@ -56,6 +75,13 @@ public class DefaultGeneralInsertStatementProvider
             this.parameters.putAll(parameters);
             return this;
         }
+
+        public Builder withParameters(ParameterAccumulator parameters) {
+            this.parameters.putAll(parameters.asMap());
+            parameterValues = parameters.values();
+            parameterTypes = parameters.jdbcTypes();
+            return this;
+        }
         
         public DefaultGeneralInsertStatementProvider build() {
             return new DefaultGeneralInsertStatementProvider(this);
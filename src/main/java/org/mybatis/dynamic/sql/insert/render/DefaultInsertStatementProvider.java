@@ -15,15 +15,22 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.sql.JDBCType;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
 public class DefaultInsertStatementProvider<T> implements InsertStatementProvider<T> {
     private final String insertStatement;
     private final T record;
+    private final List<PropertyMapping> boundProperties;
     
     private DefaultInsertStatementProvider(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         record = Objects.requireNonNull(builder.record);
+        boundProperties = builder.boundProperties;
     }
     
     @Override
@@ -36,6 +43,17 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
         return insertStatement;
     }
 
+    @Override
+    public Object[] getParameterValues() {
+        return RecordParameters.values(Collections.singletonList(record),
+                RecordParameters.requireBoundProperties(boundProperties));
+    }
+
+    @Override
+    public JDBCType[] getParameterTypes() {
+        return RecordParameters.types(1, RecordParameters.requireBoundProperties(boundProperties));
+    }
+
     public static <T> Builder<T> withRecord(T record) {
         return new Builder<T>().withRecord(record);
     }
@@ -43,6 +61,7 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
     public static class Builder<T> {
         private String insertStatement;
         private T record;
+        private List<PropertyMapping> boundProperties;
         
         public Builder<T> withInsertStatement(String insertStatement) {
             this.insertStatement = insertStatement;
@@ -53,6 +72,18 @@ public class DefaultInsertStatementProvider<T> implements InsertStatementProvide
             this.record = record;
             return this;
         }
+
+        /**
+         * Sets the property mappings whose placeholders are rendered in the statement, in rendering order. If not
+         * set, the provider does not supply positional parameter values.
+         *
+         * @param boundProperties the bound property mappings
+         * @return this builder
+         */
+        public Builder<T> withBoundProperties(List<PropertyMapping> boundProperties) {
+            this.boundProperties = boundProperties;
+            return this;
+        }
         
         public DefaultInsertStatementProvider<T> build() {
             return new DefaultInsertStatementProvider<>(this);
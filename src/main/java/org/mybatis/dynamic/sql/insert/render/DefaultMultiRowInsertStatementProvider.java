@@ -15,19 +15,24 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.sql.JDBCType;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
 public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsertStatementProvider<T> {
     
     private final List<T> records;
     private final String insertStatement;
+    private final List<PropertyMapping> boundProperties;
     
     private DefaultMultiRowInsertStatementProvider(Builder<T> builder) {
         insertStatement = Objects.requireNonNull(builder.insertStatement);
         records = Collections.unmodifiableList(builder.records);
+        boundProperties = builder.boundProperties;
     }
     
     @Override
@@ -39,10 +44,21 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
     public List<T> getRecords() {
         return records;
     }
+
+    @Override
+    public Object[] getParameterValues() {
+        return RecordParameters.values(records, RecordParameters.requireBoundProperties(boundProperties));
+    }
+
+    @Override
+    public JDBCType[] getParameterTypes() {
+        return RecordParameters.types(records.size(), RecordParameters.requireBoundProperties(boundProperties));
+    }
     
     public static class Builder<T> {
         private final List<T> records = new ArrayList<>();
         private String insertStatement;
+        private List<PropertyMapping> boundProperties;
 
         public Builder<T> withRecords(List<T> records) {
             this.records.addAll(records);
@@ -53,6 +69,18 @@ public class DefaultMultiRowInsertStatementProvider<T> implements MultiRowInsert
             this.insertStatement = insertStatement;
             return this;
         }
+
+        /**
+         * Sets the property mappings whose placeholders are rendered for each record, in rendering order. If not
+         * set, the provider does not supply positional parameter values.
+         *
+         * @param boundProperties the bound property mappings
+         * @return this builder
+         */
+        public Builder<T> withBoundProperties(List<PropertyMapping> boundProperties) {
+            this.boundProperties = boundProperties;
+            return this;
+        }
         
         public DefaultMultiRowInsertStatementProvider<T> build() {
             return new DefaultMultiRowInsertStatementProvider<>(this);
@@ -17,14 +17,13 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class GeneralInsertRenderer {
@@ -38,12 +37,14 @@ public class GeneralInsertRenderer {
     }
     
     public GeneralInsertStatementProvider render() {
-        GeneralInsertValuePhraseVisitor visitor = new GeneralInsertValuePhraseVisitor(renderingStrategy);
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .build();
+        GeneralInsertValuePhraseVisitor visitor = new GeneralInsertValuePhraseVisitor(renderingContext);
         List<Optional<FieldAndValueAndParameters>> fieldsAndValues = model.mapColumnMappings(m -> m.accept(visitor))
                 .collect(Collectors.toList());
         
         return DefaultGeneralInsertStatementProvider.withInsertStatement(calculateInsertStatement(fieldsAndValues))
-                .withParameters(calculateParameters(fieldsAndValues))
+                .withParameters(renderingContext.parameters())
                 .build();
     }
 
@@ -70,14 +71,6 @@ public class GeneralInsertRenderer {
                 .collect(Collectors.joining(", ", "values (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
     
-    private Map<String, Object> calculateParameters(List<Optional<FieldAndValueAndParameters>> fieldsAndValues) {
-        return fieldsAndValues.stream()
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(FieldAndValueAndParameters::parameters)
-                .collect(HashMap::new, HashMap::putAll, HashMap::putAll);
-    }
-
     public static Builder withInsertModel(GeneralInsertModel model) {
         return new Builder().withInsertModel(model);
     }
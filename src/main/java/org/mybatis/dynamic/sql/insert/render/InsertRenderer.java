@@ -20,9 +20,11 @@ import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.insert.InsertModel;
+import org.mybatis.dynamic.sql.insert.UpsertModel;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 
 public class InsertRenderer<T> {
@@ -43,14 +45,31 @@ public class InsertRenderer<T> {
         
         return DefaultInsertStatementProvider.withRecord(model.record())
                 .withInsertStatement(calculateInsertStatement(fieldsAndValues))
+                .withBoundProperties(RecordParameters.boundProperties(model.mapColumnMappings(Function.identity())))
                 .build();
     }
 
     private String calculateInsertStatement(List<Optional<FieldAndValue>> fieldsAndValues) {
-        return "insert into" //$NON-NLS-1$
-                + spaceBefore(model.table().tableNameAtRuntime())
-                + spaceBefore(calculateColumnsPhrase(fieldsAndValues))
-                + spaceBefore(calculateValuesPhrase(fieldsAndValues));
+        return model.upsertModel()
+                .map(u -> calculateUpsertStatement(u, fieldsAndValues))
+                .orElseGet(() -> "insert into" //$NON-NLS-1$
+                        + spaceBefore(model.table().tableNameAtRuntime())
+                        + spaceBefore(calculateColumnsPhrase(fieldsAndValues))
+                        + spaceBefore(calculateValuesPhrase(fieldsAndValues)));
+    }
+
+    private String calculateUpsertStatement(UpsertModel upsertModel,
+            List<Optional<FieldAndValue>> fieldsAndValues) {
+        return UpsertRenderer.withUpsertModel(upsertModel)
+                .withTableName(model.table().tableNameAtRuntime())
+                .withColumnNames(fieldsAndValues.stream()
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .map(FieldAndValue::fieldName)
+                        .collect(Collectors.toList()))
+                .withValuesPhrase(calculateValuesPhrase(fieldsAndValues))
+                .build()
+                .render();
     }
     
     private String calculateColumnsPhrase(List<Optional<FieldAndValue>> fieldsAndValues) {
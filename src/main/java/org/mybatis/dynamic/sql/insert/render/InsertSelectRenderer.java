@@ -24,8 +24,9 @@ import java.util.stream.Collectors;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.insert.InsertColumnListModel;
 import org.mybatis.dynamic.sql.insert.InsertSelectModel;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
 
 public class InsertSelectRenderer {
 
@@ -38,18 +39,23 @@ public class InsertSelectRenderer {
     }
     
     public InsertSelectStatementProvider render() {
-        SelectStatementProvider selectStatement = model.selectModel().render(renderingStrategy);
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .build();
+        String selectStatement = SelectRenderer.withSelectModel(model.selectModel())
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render(renderingContext);
         
         return DefaultGeneralInsertStatementProvider.withInsertStatement(calculateInsertStatement(selectStatement))
-                .withParameters(selectStatement.getParameters())
+                .withParameters(renderingContext.parameters())
                 .build();
     }
     
-    private String calculateInsertStatement(SelectStatementProvider selectStatement) {
+    private String calculateInsertStatement(String selectStatement) {
         return "insert into" //$NON-NLS-1$
                 + spaceBefore(model.table().tableNameAtRuntime())
                 + spaceBefore(calculateColumnsPhrase())
-                + spaceBefore(selectStatement.getSelectStatement());
+                + spaceBefore(selectStatement);
     }
     
     private Optional<String> calculateColumnsPhrase() {
@@ -0,0 +1,67 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Renders an upsert as a standard SQL merge statement. The inserted rows are the source of the merge - a values
+ * table named <code>source</code> - and rows match when all conflict columns are equal.
+ */
+public class MergeUpsertDialect extends UpsertDialect {
+    private static final String SOURCE_ALIAS = "source"; //$NON-NLS-1$
+
+    @Override
+    public String getInsertedValue(String columnName) {
+        return SOURCE_ALIAS + "." + columnName; //$NON-NLS-1$
+    }
+
+    @Override
+    public String getUpsertStatement(String tableName, List<String> columnNames, String valuesPhrase,
+            List<String> conflictColumnNames, List<String> setPhrases) {
+        return "merge into" //$NON-NLS-1$
+                + spaceBefore(tableName)
+                + " using (" + valuesPhrase + ") as " + SOURCE_ALIAS //$NON-NLS-1$ //$NON-NLS-2$
+                + spaceBefore(calculateColumnsPhrase(columnNames))
+                + spaceBefore(calculateOnPhrase(tableName, conflictColumnNames))
+                + calculateWhenMatchedPhrase(setPhrases)
+                + " when not matched then insert" //$NON-NLS-1$
+                + spaceBefore(calculateColumnsPhrase(columnNames))
+                + spaceBefore(calculateInsertedValuesPhrase(columnNames));
+    }
+
+    private String calculateOnPhrase(String tableName, List<String> conflictColumnNames) {
+        return conflictColumnNames.stream()
+                .map(c -> tableName + "." + c + " = " + getInsertedValue(c)) //$NON-NLS-1$ //$NON-NLS-2$
+                .collect(Collectors.joining(" and ", "on (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    private String calculateWhenMatchedPhrase(List<String> setPhrases) {
+        if (setPhrases.isEmpty()) {
+            return ""; //$NON-NLS-1$
+        }
+        return " when matched then update set " + String.join(", ", setPhrases); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private String calculateInsertedValuesPhrase(List<String> columnNames) {
+        return columnNames.stream()
+                .map(this::getInsertedValue)
+                .collect(Collectors.joining(", ", "values (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+}
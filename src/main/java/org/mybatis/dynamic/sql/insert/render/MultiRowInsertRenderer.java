@@ -17,13 +17,17 @@ package org.mybatis.dynamic.sql.insert.render;
 
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.UpsertModel;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
 
 public class MultiRowInsertRenderer<T> {
 
@@ -35,42 +39,106 @@ public class MultiRowInsertRenderer<T> {
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
     }
     
+    /**
+     * Renders all records in a single statement.
+     *
+     * @return the rendered statement
+     * @throws IllegalStateException if the records do not fit in a single statement under the limits of the model
+     */
     public MultiRowInsertStatementProvider<T> render() {
-        // the prefix is a generic format that will be resolved below with String.format(...)
-        MultiRowValuePhraseVisitor visitor =
-                new MultiRowValuePhraseVisitor(renderingStrategy, "records[%s]"); //$NON-NLS-1$
-        List<FieldAndValue> fieldsAndValues = model
-                .mapColumnMappings(m -> m.accept(visitor))
+        List<String> columnNames = calculateColumnNames();
+        MultiRowValuesTemplate template = calculateValuesTemplate();
+        if (model.recordCount() > calculateRowsPerStatement(template)) {
+            throw new IllegalStateException(
+                    "The records exceed the limits of a single statement - use renderChunks"); //$NON-NLS-1$
+        }
+
+        return toStatementProvider(columnNames, template, calculateBoundProperties(), model.records());
+    }
+
+    /**
+     * Renders the records in as many statements as needed to keep each statement under the row and parameter
+     * limits of the model. The row template is calculated once, and each statement binds its own sub list of
+     * records starting at index 0. If there are no records, the list is empty.
+     *
+     * @return the rendered statements
+     */
+    public List<MultiRowInsertStatementProvider<T>> renderChunks() {
+        List<String> columnNames = calculateColumnNames();
+        MultiRowValuesTemplate template = calculateValuesTemplate();
+        int rowsPerStatement = calculateRowsPerStatement(template);
+        List<PropertyMapping> boundProperties = calculateBoundProperties();
+        List<T> records = model.records();
+
+        List<MultiRowInsertStatementProvider<T>> statements = new ArrayList<>();
+        for (int start = 0; start < records.size(); start += rowsPerStatement) {
+            List<T> chunk = records.subList(start, Math.min(records.size(), start + rowsPerStatement));
+            statements.add(toStatementProvider(columnNames, template, boundProperties, chunk));
+        }
+        return statements;
+    }
+
+    private List<String> calculateColumnNames() {
+        return model.mapColumnMappings(AbstractColumnMapping::columnName)
                 .collect(Collectors.toList());
-        
-        return new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(model.records())
-                .withInsertStatement(calculateInsertStatement(fieldsAndValues))
-                .build();
     }
-    
-    private String calculateInsertStatement(List<FieldAndValue> fieldsAndValues) {
-        return "insert into" //$NON-NLS-1$
-                + spaceBefore(model.table().tableNameAtRuntime())
-                + spaceBefore(calculateColumnsPhrase(fieldsAndValues))
-                + spaceBefore(calculateMultiRowInsertValuesPhrase(fieldsAndValues, model.recordCount()));
+
+    private List<PropertyMapping> calculateBoundProperties() {
+        return RecordParameters.boundProperties(model.mapColumnMappings(Function.identity()));
     }
-    
-    private String calculateColumnsPhrase(List<FieldAndValue> fieldsAndValues) {
-        return fieldsAndValues.stream()
-                .map(FieldAndValue::fieldName)
-                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+    private MultiRowValuesTemplate calculateValuesTemplate() {
+        List<MultiRowValuesTemplate> values = model
+                .mapColumnMappings(m -> MultiRowValuesTemplate.of(m, renderingStrategy))
+                .collect(Collectors.toList());
+        return MultiRowValuesTemplate.join(values, ", ", "(", ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
-    
-    private String calculateMultiRowInsertValuesPhrase(List<FieldAndValue> fieldsAndValues, int rowCount) {
-        return IntStream.range(0, rowCount)
-                .mapToObj(i -> toSingleRowOfValues(fieldsAndValues, i))
-                .collect(Collectors.joining(", ", "values ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+    private int calculateRowsPerStatement(MultiRowValuesTemplate template) {
+        int rowsPerStatement = model.maxRowsPerStatement().orElse(Integer.MAX_VALUE);
+        if (template.parametersPerRow() > 0) {
+            rowsPerStatement = Math.min(rowsPerStatement, model.maxParametersPerStatement()
+                    .map(p -> p / template.parametersPerRow())
+                    .orElse(Integer.MAX_VALUE));
+        }
+
+        if (rowsPerStatement < 1) {
+            throw new IllegalStateException(
+                    "A single row needs more parameters than the maximum parameters per statement"); //$NON-NLS-1$
+        }
+        return rowsPerStatement;
     }
-    
-    private String toSingleRowOfValues(List<FieldAndValue> fieldsAndValues, int row) {
-        return fieldsAndValues.stream()
-                .map(FieldAndValue::valuePhrase)
-                .map(s -> String.format(s, row))
+
+    private MultiRowInsertStatementProvider<T> toStatementProvider(List<String> columnNames,
+            MultiRowValuesTemplate template, List<PropertyMapping> boundProperties, List<T> records) {
+        return new DefaultMultiRowInsertStatementProvider.Builder<T>().withRecords(records)
+                .withInsertStatement(calculateInsertStatement(columnNames, template, records.size()))
+                .withBoundProperties(boundProperties)
+                .build();
+    }
+
+    private String calculateInsertStatement(List<String> columnNames, MultiRowValuesTemplate template,
+            int rowCount) {
+        return model.upsertModel()
+                .map(u -> calculateUpsertStatement(u, columnNames, template.render(rowCount)))
+                .orElseGet(() -> "insert into" //$NON-NLS-1$
+                        + spaceBefore(model.table().tableNameAtRuntime())
+                        + spaceBefore(calculateColumnsPhrase(columnNames))
+                        + spaceBefore(template.render(rowCount)));
+    }
+
+    private String calculateUpsertStatement(UpsertModel upsertModel, List<String> columnNames,
+            String valuesPhrase) {
+        return UpsertRenderer.withUpsertModel(upsertModel)
+                .withTableName(model.table().tableNameAtRuntime())
+                .withColumnNames(columnNames)
+                .withValuesPhrase(valuesPhrase)
+                .build()
+                .render();
+    }
+
+    private String calculateColumnsPhrase(List<String> columnNames) {
+        return columnNames.stream()
                 .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
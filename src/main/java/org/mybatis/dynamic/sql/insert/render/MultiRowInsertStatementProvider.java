@@ -15,6 +15,7 @@
  */
 package org.mybatis.dynamic.sql.insert.render;
 
+import java.sql.JDBCType;
 import java.util.List;
 
 public interface MultiRowInsertStatementProvider<T> {
@@ -22,4 +23,34 @@ public interface MultiRowInsertStatementProvider<T> {
     String getInsertStatement();
     
     List<T> getRecords();
+
+    /**
+     * Returns the parameter values in the order their placeholders appear in the statement. This is intended
+     * for statements rendered with {@link org.mybatis.dynamic.sql.render.RenderingStrategies#JDBC_POSITIONAL},
+     * where each value is bound to a prepared statement by its position. The values are the mapped properties of
+     * each record in turn.
+     *
+     * <p>The default implementation throws an exception. Providers that can be executed with positional
+     * parameters must override this method.
+     *
+     * @return the ordered parameter values
+     * @throws UnsupportedOperationException if the provider does not know the order of its parameters
+     */
+    default Object[] getParameterValues() {
+        throw new UnsupportedOperationException(
+                "This statement provider does not supply positional parameter values"); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the JDBC types of the parameters in the order their placeholders appear in the statement. An
+     * element is null if the JDBC type of the parameter is not known.
+     *
+     * <p>The default implementation returns an array of unknown types, one for each of the values returned by
+     * {@link #getParameterValues()}.
+     *
+     * @return the ordered parameter JDBC types
+     */
+    default JDBCType[] getParameterTypes() {
+        return new JDBCType[getParameterValues().length];
+    }
 }
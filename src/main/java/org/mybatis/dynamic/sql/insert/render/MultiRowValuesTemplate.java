@@ -0,0 +1,165 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.MultiRowInsertMappingVisitor;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * A phrase of a multi-row statement that is repeated for each row, split into literal segments around the row
+ * index of each placeholder. The segments are calculated once, and each row is rendered by appending the segments
+ * and the row index - so no format string is parsed for each value.
+ *
+ * <p>Row indexes are only inserted into placeholders rendered for property mappings. Nulls and constants are
+ * literal segments, so they are rendered unchanged whatever they contain.
+ */
+public final class MultiRowValuesTemplate {
+    private static final String ROW_PREFIX = "records["; //$NON-NLS-1$
+    private static final String ROW_SUFFIX = "]"; //$NON-NLS-1$
+    private static final String MARKED_PREFIX = ROW_PREFIX + "#" + ROW_SUFFIX; //$NON-NLS-1$
+
+    private final String[] segments;
+
+    private MultiRowValuesTemplate(String[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the number of parameters bound for each row - one for each placeholder in the phrase.
+     *
+     * @return the number of parameters in each row
+     */
+    public int parametersPerRow() {
+        return segments.length - 1;
+    }
+
+    public boolean isBound() {
+        return parametersPerRow() > 0;
+    }
+
+    public void appendRow(StringBuilder sb, int row) {
+        sb.append(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            sb.append(row).append(segments[i]);
+        }
+    }
+
+    /**
+     * Returns a template that encloses this phrase, for example in a cast.
+     *
+     * @param prefix literal text before the phrase
+     * @param suffix literal text after the phrase
+     * @return the enclosed template
+     */
+    public MultiRowValuesTemplate enclose(String prefix, String suffix) {
+        return join(Collections.singletonList(this), "", prefix, suffix); //$NON-NLS-1$
+    }
+
+    String render(int rowCount) {
+        StringBuilder sb = new StringBuilder("values "); //$NON-NLS-1$
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) {
+                sb.append(", "); //$NON-NLS-1$
+            }
+            appendRow(sb, row);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the template of a single value. The placeholder of a property mapping refers to the records of the
+     * statement by index, like "records[0].property".
+     *
+     * @param mapping the column mapping of the value
+     * @param renderingStrategy the rendering strategy used unless the column has its own
+     * @return the template of the value
+     */
+    public static MultiRowValuesTemplate of(AbstractColumnMapping mapping, RenderingStrategy renderingStrategy) {
+        return mapping.accept(new TemplateVisitor(renderingStrategy));
+    }
+
+    public static MultiRowValuesTemplate join(List<MultiRowValuesTemplate> templates, String delimiter,
+            String prefix, String suffix) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder current = new StringBuilder(prefix);
+        for (int i = 0; i < templates.size(); i++) {
+            if (i > 0) {
+                current.append(delimiter);
+            }
+            String[] parts = templates.get(i).segments;
+            current.append(parts[0]);
+            for (int j = 1; j < parts.length; j++) {
+                segments.add(current.toString());
+                current = new StringBuilder(parts[j]);
+            }
+        }
+        segments.add(current.append(suffix).toString());
+        return new MultiRowValuesTemplate(segments.toArray(new String[0]));
+    }
+
+    private static MultiRowValuesTemplate literal(String phrase) {
+        return new MultiRowValuesTemplate(new String[] { phrase });
+    }
+
+    private static class TemplateVisitor extends MultiRowInsertMappingVisitor<MultiRowValuesTemplate> {
+        private final MultiRowValuePhraseVisitor phraseVisitor;
+
+        private TemplateVisitor(RenderingStrategy renderingStrategy) {
+            phraseVisitor = new MultiRowValuePhraseVisitor(Objects.requireNonNull(renderingStrategy),
+                    MARKED_PREFIX);
+        }
+
+        @Override
+        public MultiRowValuesTemplate visit(NullMapping mapping) {
+            return literal(phraseVisitor.visit(mapping).valuePhrase());
+        }
+
+        @Override
+        public MultiRowValuesTemplate visit(ConstantMapping mapping) {
+            return literal(phraseVisitor.visit(mapping).valuePhrase());
+        }
+
+        @Override
+        public MultiRowValuesTemplate visit(StringConstantMapping mapping) {
+            return literal(phraseVisitor.visit(mapping).valuePhrase());
+        }
+
+        @Override
+        public MultiRowValuesTemplate visit(PropertyMapping mapping) {
+            // the placeholder is rendered from the marked prefix and the property name only, so the first
+            // occurrence of the prefix is where the row index goes
+            String placeholder = phraseVisitor.visit(mapping).valuePhrase();
+            int marker = placeholder.indexOf(MARKED_PREFIX);
+            if (marker < 0) {
+                return literal(placeholder);
+            }
+            return new MultiRowValuesTemplate(new String[] {
+                    placeholder.substring(0, marker) + ROW_PREFIX,
+                    ROW_SUFFIX + placeholder.substring(marker + MARKED_PREFIX.length())
+            });
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
+
+import java.util.List;
+
+public class MySqlUpsertDialect extends UpsertDialect {
+
+    @Override
+    public String getInsertedValue(String columnName) {
+        return "values(" + columnName + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    public String getUpsertStatement(String tableName, List<String> columnNames, String valuesPhrase,
+            List<String> conflictColumnNames, List<String> setPhrases) {
+        return "insert into" //$NON-NLS-1$
+                + spaceBefore(tableName)
+                + spaceBefore(calculateColumnsPhrase(columnNames))
+                + spaceBefore(valuesPhrase)
+                + " on duplicate key update " //$NON-NLS-1$
+                + calculateSetPhrase(conflictColumnNames, setPhrases);
+    }
+
+    private String calculateSetPhrase(List<String> conflictColumnNames, List<String> setPhrases) {
+        if (setPhrases.isEmpty()) {
+            // MySQL has no "do nothing" action - setting a key column to itself leaves the row unchanged
+            String columnName = conflictColumnNames.get(0);
+            return columnName + " = " + columnName; //$NON-NLS-1$
+        }
+        return String.join(", ", setPhrases); //$NON-NLS-1$
+    }
+}
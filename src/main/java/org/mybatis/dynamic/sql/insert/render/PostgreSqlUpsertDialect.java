@@ -0,0 +1,47 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
+
+import java.util.List;
+
+public class PostgreSqlUpsertDialect extends UpsertDialect {
+
+    @Override
+    public String getInsertedValue(String columnName) {
+        return "excluded." + columnName; //$NON-NLS-1$
+    }
+
+    @Override
+    public String getUpsertStatement(String tableName, List<String> columnNames, String valuesPhrase,
+            List<String> conflictColumnNames, List<String> setPhrases) {
+        return "insert into" //$NON-NLS-1$
+                + spaceBefore(tableName)
+                + spaceBefore(calculateColumnsPhrase(columnNames))
+                + spaceBefore(valuesPhrase)
+                + " on conflict" //$NON-NLS-1$
+                + spaceBefore(calculateColumnsPhrase(conflictColumnNames))
+                + spaceBefore(calculateAction(setPhrases));
+    }
+
+    private String calculateAction(List<String> setPhrases) {
+        if (setPhrases.isEmpty()) {
+            return "do nothing"; //$NON-NLS-1$
+        }
+        return "do update set " + String.join(", ", setPhrases); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
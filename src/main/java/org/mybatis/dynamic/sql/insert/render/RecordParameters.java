@@ -0,0 +1,169 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.JDBCType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.PropertyWhenPresentMapping;
+
+/**
+ * Calculates the positional parameters of inserts that bind the properties of records. The parameters of a record
+ * are the values of its mapped properties, in the order their placeholders are rendered - one set of parameters for
+ * each record of a multi-row insert. Properties are read with public getters, or from a map if the record is a
+ * map. Nested properties are separated by a dot.
+ */
+final class RecordParameters {
+    private static final ClassValue<Map<String, Method>> GETTERS = new ClassValue<Map<String, Method>>() {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type) {
+            return findGetters(type);
+        }
+    };
+
+    private RecordParameters() {}
+
+    /**
+     * Returns the property mappings that render a placeholder, in rendering order.
+     *
+     * @param columnMappings the column mappings of the insert
+     * @return the mappings of the bound properties
+     */
+    static List<PropertyMapping> boundProperties(Stream<AbstractColumnMapping> columnMappings) {
+        return columnMappings.filter(PropertyMapping.class::isInstance)
+                .map(PropertyMapping.class::cast)
+                .filter(m -> !(m instanceof PropertyWhenPresentMapping)
+                        || ((PropertyWhenPresentMapping) m).shouldRender())
+                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+    }
+
+    static List<PropertyMapping> requireBoundProperties(List<PropertyMapping> boundProperties) {
+        if (boundProperties == null) {
+            throw new UnsupportedOperationException(
+                    "This statement provider does not supply positional parameter values"); //$NON-NLS-1$
+        }
+        return boundProperties;
+    }
+
+    static Object[] values(List<?> records, List<PropertyMapping> boundProperties) {
+        Object[] values = new Object[records.size() * boundProperties.size()];
+        int i = 0;
+        for (Object record : records) {
+            for (PropertyMapping mapping : boundProperties) {
+                values[i++] = readProperty(record, mapping.property());
+            }
+        }
+        return values;
+    }
+
+    static JDBCType[] types(int recordCount, List<PropertyMapping> boundProperties) {
+        JDBCType[] types = new JDBCType[recordCount * boundProperties.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = boundProperties.get(i % boundProperties.size())
+                    .mapColumn(c -> c.jdbcType().orElse(null));
+        }
+        return types;
+    }
+
+    static Object readProperty(Object record, String property) {
+        Object value = record;
+        for (String name : property.split("\\.")) { //$NON-NLS-1$
+            if (value == null) {
+                return null;
+            }
+            value = readSimpleProperty(value, name);
+        }
+        return value;
+    }
+
+    private static Object readSimpleProperty(Object object, String name) {
+        if (object instanceof Map) {
+            return ((Map<?, ?>) object).get(name);
+        }
+
+        Method getter = GETTERS.get(object.getClass()).get(name);
+        if (getter == null) {
+            throw new IllegalArgumentException("There is no getter for property \"" + name //$NON-NLS-1$
+                    + "\" in " + object.getClass().getName()); //$NON-NLS-1$
+        }
+
+        try {
+            return getter.invoke(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("The getter for property \"" + name //$NON-NLS-1$
+                    + "\" in " + object.getClass().getName() + " is not accessible", e); //$NON-NLS-1$ //$NON-NLS-2$
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static Map<String, Method> findGetters(Class<?> type) {
+        Map<String, Method> getters = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())
+                    || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+
+            String name = method.getName();
+            if (name.startsWith("get") && name.length() > 3 //$NON-NLS-1$
+                    && method.getReturnType() != void.class) {
+                addGetter(getters, name.substring(3), method);
+            } else if (name.startsWith("is") && name.length() > 2 //$NON-NLS-1$
+                    && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+                addGetter(getters, name.substring(2), method);
+            }
+        }
+        return getters;
+    }
+
+    private static void addGetter(Map<String, Method> getters, String capitalizedName, Method method) {
+        if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            // a public getter of a class that is not public - a private record class, for example
+            try {
+                method.setAccessible(true);
+            } catch (RuntimeException e) {
+                // leave the getter as it is - reading the property reports that it is not accessible
+            }
+        }
+        getters.putIfAbsent(decapitalize(capitalizedName), method);
+    }
+
+    /**
+     * Derives the property name from the name of a getter in the same way as the JavaBeans introspector - the
+     * first character is made lower case unless the first two characters are both upper case, as in "URL".
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
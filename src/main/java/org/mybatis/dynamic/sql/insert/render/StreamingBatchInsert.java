@@ -0,0 +1,173 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertModel;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+/**
+ * A batch insert whose records are read lazily from an iterator, stream, or spliterator. The insert statement is
+ * rendered once, and the records are split into batches of at most {@link #getChunkSize()} records - so only
+ * one chunk of records is held in memory at a time. The records can be consumed only once.
+ *
+ * @param <T> the type of record to insert
+ */
+public class StreamingBatchInsert<T> {
+    private final String insertStatement;
+    private final Spliterator<T> records;
+    private final int chunkSize;
+    private final List<PropertyMapping> boundProperties;
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    private StreamingBatchInsert(Builder<T> builder) {
+        insertStatement = Objects.requireNonNull(builder.insertStatement);
+        records = Objects.requireNonNull(builder.records);
+        chunkSize = builder.chunkSize;
+        boundProperties = builder.boundProperties;
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be at least 1"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Returns the generated SQL for this batch. The statement is the same for every chunk.
+     *
+     * @return the generated INSERT statement
+     */
+    public String getInsertStatementSQL() {
+        return insertStatement;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns a lazy stream of batches, each holding the next chunk of records. Each batch can be executed with
+     * the existing batch insert support - {@link BatchInsert#insertStatements()} for a MyBatis batch executor, or
+     * {@link BatchInsert#getRecords()} for Spring JDBC batch support.
+     *
+     * @return a stream of batches
+     * @throws IllegalStateException if the records have already been consumed
+     */
+    public Stream<BatchInsert<T>> batches() {
+        if (consumed.getAndSet(true)) {
+            throw new IllegalStateException(
+                    "The records of this batch insert have already been consumed"); //$NON-NLS-1$
+        }
+
+        return StreamSupport.stream(new ChunkingSpliterator<>(records, chunkSize), false)
+                .map(this::toBatchInsert);
+    }
+
+    /**
+     * Executes every batch in turn and passes the result of each batch to the result consumer. The result of a
+     * batch is typically its update counts.
+     *
+     * @param batchExecutor a function that executes one batch
+     * @param resultConsumer a consumer for the result of each batch
+     * @param <R> the type of batch result
+     */
+    public <R> void execute(Function<BatchInsert<T>, R> batchExecutor, Consumer<R> resultConsumer) {
+        batches().map(batchExecutor).forEach(resultConsumer);
+    }
+
+    private BatchInsert<T> toBatchInsert(List<T> chunk) {
+        return BatchInsert.withRecords(chunk)
+                .withInsertStatement(insertStatement)
+                .withBoundProperties(boundProperties)
+                .build();
+    }
+
+    public static <T> Builder<T> withRecords(Spliterator<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private String insertStatement;
+        private Spliterator<T> records;
+        private int chunkSize = StreamingBatchInsertModel.DEFAULT_CHUNK_SIZE;
+        private List<PropertyMapping> boundProperties;
+
+        public Builder<T> withInsertStatement(String insertStatement) {
+            this.insertStatement = insertStatement;
+            return this;
+        }
+
+        public Builder<T> withRecords(Spliterator<T> records) {
+            this.records = records;
+            return this;
+        }
+
+        /**
+         * Sets the property mappings whose placeholders are rendered in the statement, in rendering order. If not
+         * set, the insert statements of the batches do not supply positional parameter values.
+         *
+         * @param boundProperties the bound property mappings
+         * @return this builder
+         */
+        public Builder<T> withBoundProperties(List<PropertyMapping> boundProperties) {
+            this.boundProperties = boundProperties;
+            return this;
+        }
+
+        public Builder<T> withChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public StreamingBatchInsert<T> build() {
+            return new StreamingBatchInsert<>(this);
+        }
+    }
+
+    private static class ChunkingSpliterator<T> extends Spliterators.AbstractSpliterator<List<T>> {
+        private final Spliterator<T> source;
+        private final int chunkSize;
+
+        private ChunkingSpliterator(Spliterator<T> source, int chunkSize) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+            this.source = source;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super List<T>> action) {
+            List<T> chunk = new ArrayList<>();
+            while (chunk.size() < chunkSize && source.tryAdvance(chunk::add)) {
+                // keep filling the chunk
+            }
+
+            if (chunk.isEmpty()) {
+                return false;
+            }
+
+            action.accept(chunk);
+            return true;
+        }
+    }
+}
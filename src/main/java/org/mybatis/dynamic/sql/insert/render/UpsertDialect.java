@@ -0,0 +1,56 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Renders the database specific form of an upsert - an insert that updates the existing row when a row with the
+ * same key already exists. Dialects are supplied in {@link UpsertDialects}. Implement this class to support
+ * another database.
+ */
+public abstract class UpsertDialect {
+
+    /**
+     * Returns the phrase that refers to the value a column would have been inserted with - for example
+     * <code>excluded.first_name</code>. This is used when an update mapping sets a column to its inserted value.
+     *
+     * @param columnName the column name
+     * @return the phrase for the inserted value of the column
+     */
+    public abstract String getInsertedValue(String columnName);
+
+    /**
+     * Renders the upsert statement.
+     *
+     * @param tableName the table name
+     * @param columnNames the names of the inserted columns
+     * @param valuesPhrase the rendered values phrase of the insert - for example
+     *     <code>values (#{record.id}, #{record.name})</code>. The phrase holds one row or many.
+     * @param conflictColumnNames the names of the columns that identify an existing row
+     * @param setPhrases the rendered set phrases of the update - for example <code>name = excluded.name</code>.
+     *     If the list is empty, existing rows are left unchanged.
+     * @return the rendered statement
+     */
+    public abstract String getUpsertStatement(String tableName, List<String> columnNames, String valuesPhrase,
+            List<String> conflictColumnNames, List<String> setPhrases);
+
+    protected String calculateColumnsPhrase(List<String> columnNames) {
+        return columnNames.stream()
+                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+}
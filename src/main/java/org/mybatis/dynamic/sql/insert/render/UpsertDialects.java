@@ -0,0 +1,37 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+public class UpsertDialects {
+    private UpsertDialects() {}
+
+    /**
+     * Renders <code>insert ... on conflict (...) do update set ...</code> as supported by PostgreSQL and SQLite.
+     */
+    public static final UpsertDialect POSTGRESQL = new PostgreSqlUpsertDialect();
+
+    /**
+     * Renders <code>insert ... on duplicate key update ...</code> as supported by MySQL and MariaDB. MySQL
+     * detects conflicts on any unique key, so the conflict columns are not rendered.
+     */
+    public static final UpsertDialect MYSQL = new MySqlUpsertDialect();
+
+    /**
+     * Renders the standard SQL <code>merge into ... using (values ...)</code> statement as supported by DB2,
+     * SQL Server, HSQLDB, H2 and PostgreSQL 15 and later.
+     */
+    public static final UpsertDialect MERGE = new MergeUpsertDialect();
+}
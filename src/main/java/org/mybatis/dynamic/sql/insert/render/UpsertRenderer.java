@@ -0,0 +1,89 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.insert.UpsertModel;
+
+/**
+ * Renders an insert as an upsert with the dialect of an upsert model. The insert renderers calculate the columns
+ * and the values phrase as they would for a plain insert - so single row, multi-row and batch inserts are all
+ * rendered as upserts in the same way.
+ */
+public class UpsertRenderer {
+
+    private final UpsertModel model;
+    private final String tableName;
+    private final List<String> columnNames;
+    private final String valuesPhrase;
+
+    private UpsertRenderer(Builder builder) {
+        model = Objects.requireNonNull(builder.model);
+        tableName = Objects.requireNonNull(builder.tableName);
+        columnNames = Objects.requireNonNull(builder.columnNames);
+        valuesPhrase = Objects.requireNonNull(builder.valuesPhrase);
+    }
+
+    public String render() {
+        UpsertSetPhraseVisitor visitor = new UpsertSetPhraseVisitor(model.dialect());
+        List<String> setPhrases = model.mapUpdateMappings(m -> m.accept(visitor))
+                .collect(Collectors.toList());
+        List<String> conflictColumnNames = model.mapConflictColumns(SqlColumn::name)
+                .collect(Collectors.toList());
+
+        return model.dialect().getUpsertStatement(tableName, columnNames, valuesPhrase, conflictColumnNames,
+                setPhrases);
+    }
+
+    public static Builder withUpsertModel(UpsertModel model) {
+        return new Builder().withUpsertModel(model);
+    }
+
+    public static class Builder {
+        private UpsertModel model;
+        private String tableName;
+        private List<String> columnNames;
+        private String valuesPhrase;
+
+        public Builder withUpsertModel(UpsertModel model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder withTableName(String tableName) {
+            this.tableName = tableName;
+            return this;
+        }
+
+        public Builder withColumnNames(List<String> columnNames) {
+            this.columnNames = columnNames;
+            return this;
+        }
+
+        public Builder withValuesPhrase(String valuesPhrase) {
+            this.valuesPhrase = valuesPhrase;
+            return this;
+        }
+
+        public UpsertRenderer build() {
+            return new UpsertRenderer(this);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert.render;
+
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.render.TableAliasCalculator;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.SelectMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.UpdateMappingVisitor;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
+
+/**
+ * Renders the set phrases of an upsert. Upserts bind the values of the inserted record only, so mappings that
+ * bind their own parameters are not supported - rendering them throws an {@link IllegalArgumentException}.
+ */
+public class UpsertSetPhraseVisitor extends UpdateMappingVisitor<String> {
+
+    private final UpsertDialect dialect;
+
+    public UpsertSetPhraseVisitor(UpsertDialect dialect) {
+        this.dialect = Objects.requireNonNull(dialect);
+    }
+
+    @Override
+    public String visit(NullMapping mapping) {
+        return mapping.columnName() + " = null"; //$NON-NLS-1$
+    }
+
+    @Override
+    public String visit(ConstantMapping mapping) {
+        return mapping.columnName() + " = " + mapping.constant(); //$NON-NLS-1$
+    }
+
+    @Override
+    public String visit(StringConstantMapping mapping) {
+        return mapping.columnName()
+                + " = '" //$NON-NLS-1$
+                + mapping.constant()
+                + "'"; //$NON-NLS-1$
+    }
+
+    @Override
+    public <T> String visit(ValueMapping<T> mapping) {
+        throw unsupportedMapping("value", mapping); //$NON-NLS-1$
+    }
+
+    @Override
+    public <T> String visit(ValueWhenPresentMapping<T> mapping) {
+        throw unsupportedMapping("value when present", mapping); //$NON-NLS-1$
+    }
+
+    @Override
+    public String visit(SelectMapping mapping) {
+        throw unsupportedMapping("select", mapping); //$NON-NLS-1$
+    }
+
+    @Override
+    public String visit(ColumnToColumnMapping mapping) {
+        return mapping.columnName()
+                + " = " //$NON-NLS-1$
+                + dialect.getInsertedValue(mapping.rightColumn().renderWithTableAlias(TableAliasCalculator.empty()));
+    }
+
+    private IllegalArgumentException unsupportedMapping(String mappingType, AbstractColumnMapping mapping) {
+        return new IllegalArgumentException("The set phrase of an upsert can't use a " //$NON-NLS-1$
+                + mappingType
+                + " mapping - column " //$NON-NLS-1$
+                + mapping.columnName()
+                + " can only be set to a null, a constant, or the inserted value"); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+
+/**
+ * Renders every placeholder as a plain JDBC positional marker (<code>?</code>). Statements rendered with this
+ * strategy can be prepared directly, without a framework parsing the SQL to replace named parameters.
+ *
+ * <p>Parameter values must be bound in order. For select, update, delete and general insert statements, the
+ * values and their JDBC types are available in order from the statement provider - for example
+ * {@link org.mybatis.dynamic.sql.select.render.SelectStatementProvider#getParameterValues()}. For insert
+ * statements that are based on a record, the placeholders correspond to the mapped properties of the record
+ * in the order of the column list.
+ */
+public class JdbcPositionalRenderingStrategy extends RenderingStrategy {
+    private static final String PLACEHOLDER = "?"; //$NON-NLS-1$
+
+    @Override
+    public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        return PLACEHOLDER;
+    }
+
+    @Override
+    public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
+        return PLACEHOLDER;
+    }
+}
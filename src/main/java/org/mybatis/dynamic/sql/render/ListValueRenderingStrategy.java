@@ -0,0 +1,60 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.Objects;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+
+/**
+ * A rendering strategy that formats placeholders with another strategy, but binds list values with a
+ * different list value strategy.
+ */
+class ListValueRenderingStrategy extends RenderingStrategy {
+    private final RenderingStrategy delegate;
+    private final ListValueStrategy listValueStrategy;
+
+    ListValueRenderingStrategy(RenderingStrategy delegate, ListValueStrategy listValueStrategy) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.listValueStrategy = Objects.requireNonNull(listValueStrategy);
+    }
+
+    @Override
+    public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
+        return delegate.getFormattedJdbcPlaceholder(column, prefix, parameterName);
+    }
+
+    @Override
+    public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
+        return delegate.getFormattedJdbcPlaceholder(prefix, parameterName);
+    }
+
+    @Override
+    public String getMultiRowFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix,
+            String parameterName) {
+        return delegate.getMultiRowFormattedJdbcPlaceholder(column, prefix, parameterName);
+    }
+
+    @Override
+    public ListValueStrategy getListValueStrategy() {
+        return listValueStrategy;
+    }
+
+    @Override
+    public RenderingStrategy withListValueStrategy(ListValueStrategy listValueStrategy) {
+        return new ListValueRenderingStrategy(delegate, listValueStrategy);
+    }
+}
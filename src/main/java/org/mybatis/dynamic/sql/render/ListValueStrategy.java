@@ -0,0 +1,183 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Determines how the values of a list condition - for example {@code isIn} or {@code isNotIn} - are bound.
+ *
+ * <ul>
+ *   <li>{@link #individual()} renders one placeholder for every value. This is the default.</li>
+ *   <li>{@link #array()} binds all values as a single array parameter - for example
+ *     <code>id = any(?)</code> - so the SQL is the same for any number of values. The driver must accept a
+ *     Java array as a parameter value (PostgreSQL does). Conditions that do not support array binding, and
+ *     lists containing bind markers, are rendered with individual placeholders.</li>
+ *   <li>{@link #chunked(int)} renders individual placeholders, but allows
+ *     {@link org.mybatis.dynamic.sql.render.chunked.ChunkedStatements} to split a statement with a large
+ *     {@code isIn} condition into several statements with at most the chunk size of values each.</li>
+ * </ul>
+ *
+ * <p>Individual and chunked strategies can also bucket the values with {@link #withBucketing()}. Duplicate
+ * values are removed, and the list is padded to the next power of two by repeating the last value - so lists
+ * of 5 to 8 values all render as 8 placeholders. Without bucketing, every distinct list size renders a distinct
+ * statement, and each one takes a slot in the database plan cache and in every statement cache between the
+ * application and the database. With bucketing, lists of up to 1024 values render at most 11 distinct
+ * statements. Repeating a value does not change the result of an in or not in condition.
+ *
+ * <p>A strategy can be set on a condition, or on a rendering strategy with
+ * {@link RenderingStrategy#withListValueStrategy(ListValueStrategy)}. A strategy set on a condition takes
+ * precedence.
+ */
+public final class ListValueStrategy {
+    private static final ListValueStrategy INDIVIDUAL = new ListValueStrategy(false, null, false);
+    private static final ListValueStrategy ARRAY = new ListValueStrategy(true, null, false);
+
+    private final boolean array;
+    private final Integer chunkSize;
+    private final boolean bucketing;
+
+    private ListValueStrategy(boolean array, Integer chunkSize, boolean bucketing) {
+        this.array = array;
+        this.chunkSize = chunkSize;
+        this.bucketing = bucketing;
+    }
+
+    public boolean isArray() {
+        return array;
+    }
+
+    public Optional<Integer> chunkSize() {
+        return Optional.ofNullable(chunkSize);
+    }
+
+    public boolean isBucketing() {
+        return bucketing;
+    }
+
+    /**
+     * Returns a strategy like this one that also buckets list values. Bucketing has no effect on values that
+     * are bound as an array.
+     *
+     * @return the strategy
+     */
+    public ListValueStrategy withBucketing() {
+        return new ListValueStrategy(array, chunkSize, true);
+    }
+
+    /**
+     * Applies bucketing to the values of a list condition. If this strategy does not bucket values, the values
+     * are returned unchanged.
+     *
+     * @param values the values of the condition
+     * @param <T> the type of the values
+     * @return the values to render
+     */
+    public <T> Stream<T> bucket(Stream<T> values) {
+        if (!bucketing) {
+            return values;
+        }
+
+        List<T> distinctValues = values.distinct().collect(Collectors.toList());
+        int size = distinctValues.size();
+        if (size == 0) {
+            return distinctValues.stream();
+        }
+
+        T last = distinctValues.get(size - 1);
+        return Stream.concat(distinctValues.stream(), Stream.generate(() -> last).limit(bucketSize(size) - size));
+    }
+
+    /**
+     * Returns the number of placeholders rendered for a list of distinct values when bucketing.
+     *
+     * @param size the number of distinct values
+     * @return the next power of two that is not less than the size
+     */
+    public static int bucketSize(int size) {
+        if (size <= 1) {
+            return size;
+        }
+        int bucketSize = Integer.highestOneBit(size - 1) << 1;
+        return bucketSize > 0 ? bucketSize : size;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ListValueStrategy)) {
+            return false;
+        }
+        ListValueStrategy other = (ListValueStrategy) obj;
+        return array == other.array && Objects.equals(chunkSize, other.chunkSize) && bucketing == other.bucketing;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(array, chunkSize, bucketing);
+    }
+
+    @Override
+    public String toString() {
+        String name;
+        if (array) {
+            name = "array"; //$NON-NLS-1$
+        } else if (chunkSize == null) {
+            name = "individual"; //$NON-NLS-1$
+        } else {
+            name = "chunked(" + chunkSize + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return bucketing ? name + ", bucketing" : name; //$NON-NLS-1$
+    }
+
+    public static ListValueStrategy individual() {
+        return INDIVIDUAL;
+    }
+
+    public static ListValueStrategy array() {
+        return ARRAY;
+    }
+
+    /**
+     * Returns a strategy that renders one placeholder for every value, with bucketing.
+     *
+     * @return the strategy
+     */
+    public static ListValueStrategy bucketed() {
+        return INDIVIDUAL.withBucketing();
+    }
+
+    /**
+     * Returns a strategy that allows statements to be split so that each statement binds at most the
+     * specified number of values for the list condition.
+     *
+     * @param chunkSize the maximum number of values in each statement
+     * @return the strategy
+     * @throws IllegalArgumentException if the chunk size is less than 1
+     */
+    public static ListValueStrategy chunked(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be at least 1"); //$NON-NLS-1$
+        }
+        return new ListValueStrategy(false, chunkSize, false);
+    }
+}
@@ -15,38 +15,101 @@
  */
 package org.mybatis.dynamic.sql.render;
 
+import java.sql.JDBCType;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.mybatis.dynamic.sql.BindableColumn;
 
+/**
+ * Renders placeholders in the format MyBatis expects - for example <code>#{parameters.p1,jdbcType=INTEGER}</code>.
+ *
+ * <p>Placeholders are rendered for every bound value of every statement, so the parts of a placeholder that do
+ * not depend on the parameter name are calculated once and cached. The head (<code>#{parameters.</code>) is
+ * precomputed for the default prefix. The tail (<code>,jdbcType=INTEGER}</code>) depends only on the JDBC type and
+ * type handler of a column, so it is cached by those values rather than by column - columns are often created
+ * on the fly and caching by column would retain them.
+ */
 public class MyBatis3RenderingStrategy extends RenderingStrategy {
+    private static final String DEFAULT_HEAD = head(DEFAULT_PARAMETER_PREFIX);
+    private static final String[] JDBC_TYPE_TAILS = new String[JDBCType.values().length];
+    private static final String NO_JDBC_TYPE_TAIL = "}"; //$NON-NLS-1$
+
+    static {
+        for (JDBCType jdbcType : JDBCType.values()) {
+            JDBC_TYPE_TAILS[jdbcType.ordinal()] = tail(jdbcType, null);
+        }
+    }
+
+    private final ConcurrentMap<TailKey, String> typeHandlerTails = new ConcurrentHashMap<>();
+
     @Override
     public String getFormattedJdbcPlaceholder(String prefix, String parameterName) {
-        return "#{" //$NON-NLS-1$
-                + prefix
-                + "." //$NON-NLS-1$
-                + parameterName
-                + "}"; //$NON-NLS-1$
+        return calculateHead(prefix) + parameterName + NO_JDBC_TYPE_TAIL;
     }
 
     @Override
     public String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
-        return "#{" //$NON-NLS-1$
-                + prefix
-                + "." //$NON-NLS-1$
-                + parameterName
-                + renderJdbcType(column)
-                + renderTypeHandler(column)
-                + "}"; //$NON-NLS-1$
-    }
-    
-    private String renderTypeHandler(BindableColumn<?> column) {
-        return column.typeHandler()
-                .map(th -> ",typeHandler=" + th) //$NON-NLS-1$
-                .orElse(""); //$NON-NLS-1$
-    }
-    
-    private String renderJdbcType(BindableColumn<?> column) {
-        return column.jdbcType()
-                .map(jt -> ",jdbcType=" + jt.getName()) //$NON-NLS-1$
-                .orElse(""); //$NON-NLS-1$
+        return calculateHead(prefix) + parameterName + calculateTail(column);
+    }
+
+    private String calculateHead(String prefix) {
+        return DEFAULT_PARAMETER_PREFIX.equals(prefix) ? DEFAULT_HEAD : head(prefix);
+    }
+
+    private String calculateTail(BindableColumn<?> column) {
+        JDBCType jdbcType = column.jdbcType().orElse(null);
+        String typeHandler = column.typeHandler().orElse(null);
+        if (typeHandler != null) {
+            return typeHandlerTails.computeIfAbsent(new TailKey(jdbcType, typeHandler),
+                    k -> tail(k.jdbcType, k.typeHandler));
+        } else if (jdbcType != null) {
+            return JDBC_TYPE_TAILS[jdbcType.ordinal()];
+        } else {
+            return NO_JDBC_TYPE_TAIL;
+        }
+    }
+
+    private static String head(String prefix) {
+        return "#{" + prefix + "."; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private static String tail(JDBCType jdbcType, String typeHandler) {
+        StringBuilder sb = new StringBuilder();
+        if (jdbcType != null) {
+            sb.append(",jdbcType=").append(jdbcType.getName()); //$NON-NLS-1$
+        }
+        if (typeHandler != null) {
+            sb.append(",typeHandler=").append(typeHandler); //$NON-NLS-1$
+        }
+        return sb.append('}').toString();
+    }
+
+    private static class TailKey {
+        private final JDBCType jdbcType;
+        private final String typeHandler;
+
+        private TailKey(JDBCType jdbcType, String typeHandler) {
+            this.jdbcType = jdbcType;
+            this.typeHandler = typeHandler;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TailKey)) {
+                return false;
+            }
+            TailKey other = (TailKey) obj;
+            return jdbcType == other.jdbcType && typeHandler.equals(other.typeHandler);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jdbcType, typeHandler);
+        }
     }
 }
@@ -0,0 +1,145 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.sql.JDBCType;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Accumulates the parameters of a single statement as it is rendered. One accumulator is created for each
+ * statement and every renderer and visitor involved in rendering the statement - including those for
+ * sub-criteria and subselects - writes its parameters into it directly. Each parameter is stored exactly once
+ * while rendering, and the parameter map of the statement provider is built in a single pass when rendering is
+ * complete.
+ *
+ * <p>Parameters are kept in the order their placeholders are rendered, so the accumulated values can also be
+ * bound by position when the statement is rendered with {@link RenderingStrategies#JDBC_POSITIONAL}.
+ *
+ * <p>This class is not thread safe. Rendering a statement is always a single threaded process.
+ */
+public class ParameterAccumulator {
+    private final List<String> keys = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+    private final List<JDBCType> jdbcTypes = new ArrayList<>();
+
+    public void add(String key, Object value) {
+        add(key, value, null);
+    }
+
+    public void add(String key, Object value, JDBCType jdbcType) {
+        keys.add(key);
+        values.add(value);
+        jdbcTypes.add(jdbcType);
+    }
+
+    public void addAll(Map<String, ?> parameters) {
+        parameters.forEach(this::add);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    /**
+     * Returns the parameter map keys in the order their placeholders were rendered.
+     *
+     * @return a new array of parameter map keys
+     */
+    public String[] keys() {
+        return keys.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the accumulated parameter values in the order their placeholders were rendered.
+     *
+     * @return a new array of parameter values
+     */
+    public Object[] values() {
+        return values.toArray();
+    }
+
+    /**
+     * Returns the JDBC types of the accumulated parameters in the order their placeholders were rendered. An
+     * element is null if the type of the parameter is not known - for example if the column does not specify
+     * a JDBC type.
+     *
+     * @return a new array of JDBC types
+     */
+    public JDBCType[] jdbcTypes() {
+        return jdbcTypes.toArray(new JDBCType[0]);
+    }
+
+    /**
+     * Returns an unmodifiable view of the accumulated parameters. The view is intended to be copied into
+     * the parameter map of a statement provider (for example with {@link Map#putAll(Map)}, which will size
+     * the target map correctly in advance). Lookups in the view itself are linear.
+     *
+     * @return a map view of the accumulated parameters
+     */
+    public Map<String, Object> asMap() {
+        return new MapView();
+    }
+
+    private class MapView extends AbstractMap<String, Object> {
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new EntrySet();
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return keys.size();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.size();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<String, Object> entry = new AbstractMap.SimpleImmutableEntry<>(keys.get(index),
+                    values.get(index));
+            index++;
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import java.sql.JDBCType;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.BindableColumn;
+
+/**
+ * Holds the state of a single statement while it is rendered. One context is created for each statement and is
+ * passed through every renderer and visitor involved in rendering it - including those for sub-criteria and
+ * subselects. This replaces the rendering strategy, parameter sequence, table alias calculator and parameter
+ * name that were previously copied into a new builder for every criterion.
+ *
+ * <p>Rendering a statement is a single threaded process, so the parameter sequence is a plain counter. This
+ * class is not thread safe and a context must not be reused for more than one statement.
+ */
+public class RenderingContext {
+    private final RenderingContext root;
+    private final RenderingStrategy renderingStrategy;
+    private final TableAliasCalculator tableAliasCalculator;
+    private final String parameterPrefix;
+    private final ParameterAccumulator parameters;
+    private final AbstractListValueCondition<?, ?> chunkedCondition;
+    private final Collection<?> chunk;
+    // only used in the root context
+    private int sequence;
+
+    private RenderingContext(Builder builder) {
+        root = this;
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+        tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
+        parameterPrefix = builder.parameterName == null ? RenderingStrategy.DEFAULT_PARAMETER_PREFIX
+                : builder.parameterName + "." + RenderingStrategy.DEFAULT_PARAMETER_PREFIX; //$NON-NLS-1$
+        parameters = builder.parameters == null ? new ParameterAccumulator() : builder.parameters;
+        sequence = builder.sequence;
+        chunkedCondition = builder.chunkedCondition;
+        chunk = builder.chunk;
+    }
+
+    private RenderingContext(RenderingContext parent, TableAliasCalculator tableAliasCalculator) {
+        root = parent.root;
+        renderingStrategy = parent.renderingStrategy;
+        this.tableAliasCalculator = Objects.requireNonNull(tableAliasCalculator);
+        parameterPrefix = parent.parameterPrefix;
+        parameters = parent.parameters;
+        chunkedCondition = parent.chunkedCondition;
+        chunk = parent.chunk;
+    }
+
+    public RenderingStrategy renderingStrategy() {
+        return renderingStrategy;
+    }
+
+    public TableAliasCalculator tableAliasCalculator() {
+        return tableAliasCalculator;
+    }
+
+    public ParameterAccumulator parameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns the number that the next parameter map key will use. Deprecated renderer builders that accept a
+     * shared {@code AtomicInteger} sequence use this to pass the sequence on once rendering is complete.
+     *
+     * @return the next parameter number
+     */
+    public int sequence() {
+        return root.sequence;
+    }
+
+    public String nextMapKey() {
+        return RenderingStrategy.formatParameterMapKey(root.sequence++);
+    }
+
+    /**
+     * Adds a parameter to the statement and returns the placeholder that should be rendered for it. If the
+     * column specifies a rendering strategy, that strategy is used to format the placeholder.
+     *
+     * @param column the column the value is bound to
+     * @param value the parameter value
+     * @return the formatted placeholder
+     */
+    public String bindValue(BindableColumn<?> column, Object value) {
+        String mapKey = nextMapKey();
+        parameters.add(mapKey, value, column.jdbcType().orElse(null));
+        return column.renderingStrategy().orElse(renderingStrategy)
+                .getFormattedJdbcPlaceholder(column, parameterPrefix, mapKey);
+    }
+
+    /**
+     * Adds a parameter that is not associated with a column - for example a limit or offset - to the statement
+     * and returns the placeholder that should be rendered for it.
+     *
+     * @param value the parameter value
+     * @return the formatted placeholder
+     */
+    public String bindValue(Object value) {
+        String mapKey = nextMapKey();
+        parameters.add(mapKey, value);
+        return renderingStrategy.getFormattedJdbcPlaceholder(parameterPrefix, mapKey);
+    }
+
+    /**
+     * Adds all values of a list condition to the statement as a single array parameter, and returns the
+     * placeholder that should be rendered for it.
+     *
+     * @param column the column the values are compared to
+     * @param array the converted parameter values - either an object array or a primitive array
+     * @return the formatted placeholder
+     */
+    public String bindArray(BindableColumn<?> column, Object array) {
+        String mapKey = nextMapKey();
+        parameters.add(mapKey, array, JDBCType.ARRAY);
+        return column.renderingStrategy().orElse(renderingStrategy)
+                .getFormattedJdbcPlaceholder(parameterPrefix, mapKey);
+    }
+
+    /**
+     * Returns the values that should be rendered for a list condition. This is empty unless the statement is
+     * rendered as one of several chunks, and the condition is the condition that was split into chunks.
+     *
+     * @param condition the list condition being rendered
+     * @return the values of the current chunk, if the condition is split into chunks
+     */
+    public Optional<Collection<?>> chunk(AbstractListValueCondition<?, ?> condition) {
+        if (condition == chunkedCondition) {
+            return Optional.of(chunk);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a context for rendering another part of the same statement - for example a subselect - that
+     * uses different table aliases. The new context shares the parameter sequence and parameters of this
+     * context.
+     *
+     * @param tableAliasCalculator the table alias calculator for the part of the statement
+     * @return a context sharing the state of this context
+     */
+    public RenderingContext withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
+        return new RenderingContext(this, tableAliasCalculator);
+    }
+
+    public static Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
+        return new Builder().withRenderingStrategy(renderingStrategy);
+    }
+
+    public static class Builder {
+        private RenderingStrategy renderingStrategy;
+        private TableAliasCalculator tableAliasCalculator = TableAliasCalculator.empty();
+        private String parameterName;
+        private ParameterAccumulator parameters;
+        private int sequence = 1;
+        private AbstractListValueCondition<?, ?> chunkedCondition;
+        private Collection<?> chunk;
+
+        public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public Builder withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
+            this.tableAliasCalculator = tableAliasCalculator;
+            return this;
+        }
+
+        public Builder withParameterName(String parameterName) {
+            this.parameterName = parameterName;
+            return this;
+        }
+
+        /**
+         * Sets the accumulator that parameters are written to. By default, each context has its own accumulator.
+         *
+         * @param parameters the parameter accumulator
+         * @return this builder
+         */
+        public Builder withParameterAccumulator(ParameterAccumulator parameters) {
+            this.parameters = parameters;
+            return this;
+        }
+
+        /**
+         * Sets the number of the first parameter map key. The default is 1.
+         *
+         * @param sequence the number of the first parameter map key
+         * @return this builder
+         */
+        public Builder withSequence(int sequence) {
+            this.sequence = sequence;
+            return this;
+        }
+
+        /**
+         * Renders the specified values in place of the values of a list condition. This is used to render one
+         * of several statements that each contain a chunk of the values of a large condition.
+         *
+         * @param chunkedCondition the condition that is split into chunks
+         * @param chunk the values to render for the condition
+         * @return this builder
+         */
+        public Builder withChunk(AbstractListValueCondition<?, ?> chunkedCondition, Collection<?> chunk) {
+            this.chunkedCondition = Objects.requireNonNull(chunkedCondition);
+            this.chunk = Objects.requireNonNull(chunk);
+            return this;
+        }
+
+        public RenderingContext build() {
+            return new RenderingContext(this);
+        }
+    }
+}
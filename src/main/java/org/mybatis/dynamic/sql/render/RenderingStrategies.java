@@ -1,5 +1,5 @@
 /**
- *    Copyright 2016-2019 the original author or authors.
+ *    Copyright 2016-2020 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -21,4 +21,6 @@ public class RenderingStrategies {
     public static final RenderingStrategy MYBATIS3 = new MyBatis3RenderingStrategy();
     
     public static final RenderingStrategy SPRING_NAMED_PARAMETER = new SpringNamedParameterRenderingStrategy();
+
+    public static final RenderingStrategy JDBC_POSITIONAL = new JdbcPositionalRenderingStrategy();
 }
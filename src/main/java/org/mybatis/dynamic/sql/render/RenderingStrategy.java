@@ -40,8 +40,30 @@ public abstract class RenderingStrategy {
 
     public static final String DEFAULT_PARAMETER_PREFIX = "parameters"; //$NON-NLS-1$
     
+    private static final String[] PARAMETER_MAP_KEYS = new String[1024];
+
+    static {
+        for (int i = 0; i < PARAMETER_MAP_KEYS.length; i++) {
+            PARAMETER_MAP_KEYS[i] = "p" + i; //$NON-NLS-1$
+        }
+    }
+
     public static String formatParameterMapKey(AtomicInteger sequence) {
-        return "p" + sequence.getAndIncrement(); //$NON-NLS-1$
+        return formatParameterMapKey(sequence.getAndIncrement());
+    }
+
+    /**
+     * Returns the parameter map key for a sequence number - for example "p1". Keys for the first 1024 sequence
+     * numbers are precomputed, so they are shared by every statement rather than built for every parameter.
+     *
+     * @param sequence the sequence number of the parameter
+     * @return the parameter map key
+     */
+    public static String formatParameterMapKey(int sequence) {
+        if (sequence >= 0 && sequence < PARAMETER_MAP_KEYS.length) {
+            return PARAMETER_MAP_KEYS[sequence];
+        }
+        return "p" + sequence; //$NON-NLS-1$
     }
     
     public abstract String getFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName);
@@ -51,4 +73,26 @@ public abstract class RenderingStrategy {
     public String getMultiRowFormattedJdbcPlaceholder(BindableColumn<?> column, String prefix, String parameterName) {
         return getFormattedJdbcPlaceholder(column, prefix, parameterName);
     }
+
+    /**
+     * Returns the strategy for binding the values of list conditions that do not specify their own strategy.
+     *
+     * @return the list value strategy
+     */
+    public ListValueStrategy getListValueStrategy() {
+        return ListValueStrategy.individual();
+    }
+
+    /**
+     * Returns a rendering strategy that formats placeholders like this strategy, but binds the values of list
+     * conditions with the specified strategy - for example
+     * <code>RenderingStrategies.JDBC_POSITIONAL.withListValueStrategy(ListValueStrategy.array())</code>.
+     * Create the returned strategy once and reuse it.
+     *
+     * @param listValueStrategy the list value strategy
+     * @return a new rendering strategy
+     */
+    public RenderingStrategy withListValueStrategy(ListValueStrategy listValueStrategy) {
+        return new ListValueRenderingStrategy(this, listValueStrategy);
+    }
 }
@@ -0,0 +1,159 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DefaultDeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.ParameterAccumulator;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.DefaultSelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+/**
+ * An optional, size bounded cache of rendered SQL. Statements are cached by their shape - the tables, columns,
+ * conditions, list sizes and paging clauses that determine the rendered SQL - rather than by their parameter
+ * values. When a statement with a known shape is rendered, the cached SQL is reused and only the parameter values
+ * are collected from the model.
+ *
+ * <p>This is most useful for statements that are built many times with a small number of shapes - for example a
+ * search screen that applies a where clause with optional conditions such as
+ * {@link org.mybatis.dynamic.sql.SqlBuilder#isEqualToWhenPresent(Object)}.
+ *
+ * <p>Select statements (including statements built with {@link org.mybatis.dynamic.sql.select.CountDSL}) and
+ * delete statements are supported. Statements that use conditions not supplied by this library are always
+ * rendered and are counted as misses. The least recently used entry is removed when the cache is full.
+ *
+ * <p>Value suppliers of conditions are called while the shape of a statement is calculated, so they will be
+ * called again if the statement must be rendered after a miss.
+ *
+ * <p>This class is thread safe.
+ */
+public class StatementCache {
+    private final Map<List<Object>, String> statements;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private StatementCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size of a statement cache must be positive"); //$NON-NLS-1$
+        }
+        statements = new LinkedHashMap<List<Object>, String>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, String> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    public SelectStatementProvider render(SelectModel selectModel, RenderingStrategy renderingStrategy) {
+        List<Object> key = newKey(renderingStrategy);
+        ParameterAccumulator parameters = new ParameterAccumulator();
+        StatementShape shape = new StatementShape(key::add, parameters, renderingStrategy.getListValueStrategy())
+                .addSelect(selectModel);
+        String selectStatement = lookup(shape, key);
+        if (selectStatement == null) {
+            SelectStatementProvider selectStatementProvider = selectModel.render(renderingStrategy);
+            store(shape, key, selectStatementProvider.getSelectStatement());
+            return selectStatementProvider;
+        }
+
+        return DefaultSelectStatementProvider.withSelectStatement(selectStatement)
+                .withParameters(parameters)
+                .build();
+    }
+
+    public DeleteStatementProvider render(DeleteModel deleteModel, RenderingStrategy renderingStrategy) {
+        List<Object> key = newKey(renderingStrategy);
+        ParameterAccumulator parameters = new ParameterAccumulator();
+        StatementShape shape = new StatementShape(key::add, parameters, renderingStrategy.getListValueStrategy())
+                .addDelete(deleteModel);
+        String deleteStatement = lookup(shape, key);
+        if (deleteStatement == null) {
+            DeleteStatementProvider deleteStatementProvider = deleteModel.render(renderingStrategy);
+            store(shape, key, deleteStatementProvider.getDeleteStatement());
+            return deleteStatementProvider;
+        }
+
+        return DefaultDeleteStatementProvider.withDeleteStatement(deleteStatement)
+                .withParameters(parameters)
+                .build();
+    }
+
+    private List<Object> newKey(RenderingStrategy renderingStrategy) {
+        List<Object> key = new ArrayList<>();
+        key.add(Objects.requireNonNull(renderingStrategy));
+        return key;
+    }
+
+    private String lookup(StatementShape shape, List<Object> key) {
+        String statement = null;
+        if (shape.usesLibraryConditionsOnly()) {
+            synchronized (statements) {
+                statement = statements.get(key);
+            }
+        }
+
+        if (statement == null) {
+            missCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return statement;
+    }
+
+    private void store(StatementShape shape, List<Object> key, String statement) {
+        if (shape.usesLibraryConditionsOnly()) {
+            synchronized (statements) {
+                statements.put(key, statement);
+            }
+        }
+    }
+
+    public long hitCount() {
+        return hitCount.get();
+    }
+
+    public long missCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    public static StatementCache of(int maximumSize) {
+        return new StatementCache(maximumSize);
+    }
+}
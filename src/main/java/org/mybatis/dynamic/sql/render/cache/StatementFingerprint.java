@@ -0,0 +1,138 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render.cache;
+
+import java.util.function.Consumer;
+
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+/**
+ * Calculates a 64 bit structural hash of a statement model without rendering it. The fingerprint covers
+ * everything that determines the rendered SQL - tables, columns, condition classes, whether each condition
+ * renders, the size of every list condition, set phrases and paging clauses - and ignores all parameter
+ * values. Models with the same shape have the same fingerprint, so fingerprints can be used to group statements
+ * for metrics or for query plan analysis.
+ *
+ * <p>Fingerprints are stable - they depend only on names and never on object identity - so they can be
+ * compared across processes. Fingerprints do not depend on the rendering strategy - list conditions are
+ * described as if they were rendered with the default list value strategy, unless they specify their own. Like
+ * any hash, different shapes can have the same fingerprint, so a fingerprint should not be used as the only key
+ * of a cache where a collision would cause a wrong statement to be used.
+ *
+ * <p>Conditions that are not supplied by the library are identified by their class name, whether they render
+ * and the number of values they bind.
+ */
+public final class StatementFingerprint {
+    private StatementFingerprint() {}
+
+    public static long of(SelectModel selectModel) {
+        Hasher hasher = new Hasher();
+        new StatementShape(hasher, null, ListValueStrategy.individual()).addSelect(selectModel);
+        return hasher.value();
+    }
+
+    public static long of(UpdateModel updateModel) {
+        Hasher hasher = new Hasher();
+        new StatementShape(hasher, null, ListValueStrategy.individual()).addUpdate(updateModel);
+        return hasher.value();
+    }
+
+    public static long of(DeleteModel deleteModel) {
+        Hasher hasher = new Hasher();
+        new StatementShape(hasher, null, ListValueStrategy.individual()).addDelete(deleteModel);
+        return hasher.value();
+    }
+
+    public static long of(WhereModel whereModel) {
+        Hasher hasher = new Hasher();
+        new StatementShape(hasher, null, ListValueStrategy.individual()).addWhere(whereModel);
+        return hasher.value();
+    }
+
+    /**
+     * 64 bit FNV-1a over a tagged encoding of each element, finished with the MurmurHash3 finalizer so that
+     * every bit of the input affects every bit of the result.
+     */
+    private static class Hasher implements Consumer<Object> {
+        private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+        private static final long PRIME = 0x100000001b3L;
+
+        private long hash = OFFSET_BASIS;
+
+        @Override
+        public void accept(Object element) {
+            if (element == null) {
+                add('N');
+            } else if (element instanceof String) {
+                add('S');
+                add((String) element);
+            } else if (element instanceof Boolean) {
+                add((Boolean) element ? 'T' : 'F');
+            } else if (element instanceof Long) {
+                add('L');
+                add((Long) element);
+            } else if (element instanceof Class) {
+                add('C');
+                add(((Class<?>) element).getName());
+            } else if (element instanceof Enum) {
+                Enum<?> e = (Enum<?>) element;
+                add('E');
+                add(e.getDeclaringClass().getName());
+                add(e.name());
+            } else if (element instanceof RenderingStrategy) {
+                add('R');
+                add(element.getClass().getName());
+            } else {
+                add('O');
+                add(element.getClass().getName());
+                add(element.toString());
+            }
+        }
+
+        private void add(String s) {
+            add(s.length());
+            for (int i = 0; i < s.length(); i++) {
+                add(s.charAt(i));
+            }
+        }
+
+        private void add(long l) {
+            for (int i = 0; i < 64; i += 16) {
+                add((char) (l >>> i));
+            }
+        }
+
+        private void add(char c) {
+            hash ^= c;
+            hash *= PRIME;
+        }
+
+        private long value() {
+            long h = hash;
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
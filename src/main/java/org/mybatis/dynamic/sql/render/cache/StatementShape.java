@@ -0,0 +1,446 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render.cache;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.AbstractSubselectCondition;
+import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.ConditionVisitor;
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.ParameterAccumulator;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.TableAliasCalculator;
+import org.mybatis.dynamic.sql.select.Keyset;
+import org.mybatis.dynamic.sql.select.PagingModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.join.JoinCriterion;
+import org.mybatis.dynamic.sql.select.join.JoinSpecification;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.SelectMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+import org.mybatis.dynamic.sql.util.UpdateMappingVisitor;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+/**
+ * Walks a statement model once, in the same order the renderers do, and describes its shape to a consumer. The
+ * shape is everything that determines the rendered SQL - the tables and columns, the class of every condition,
+ * whether each condition renders, the size of every list condition, the set phrases, the keyset columns and
+ * whether a keyset has last values, whether a select is a row count and which paging clauses are present - but none
+ * of the parameter values. Variable length parts of the shape are always terminated, so models
+ * with different shapes can never describe the same sequence of elements.
+ *
+ * <p>If a parameter accumulator is supplied, the parameters of the statement are also collected in the order
+ * their placeholders would be rendered. Two models with the same shape render the same SQL with the same
+ * rendering strategy, so the SQL for the first can be reused for the second with the parameters of the second.
+ *
+ * <p>Conditions that are not supplied by the library are described by their class, whether they render and the
+ * number of values they bind. The rendered SQL may depend on other state in such conditions, so
+ * {@link #usesLibraryConditionsOnly()} should be checked before the shape is used as a cache key.
+ */
+class StatementShape {
+    private static final String CONDITION_PACKAGE = "org.mybatis.dynamic.sql.where.condition"; //$NON-NLS-1$
+
+    private static final PagingModel EMPTY_PAGING_MODEL = new PagingModel.Builder().build();
+
+    private final Consumer<Object> key;
+    private final ParameterAccumulator parameters;
+    private final ListValueStrategy listValueStrategy;
+    private int sequence = 1;
+    private boolean libraryConditionsOnly = true;
+
+    /**
+     * Creates a walker.
+     *
+     * @param key receives the elements of the shape
+     * @param parameters receives the parameters of the statement. May be null if the parameters are not needed.
+     * @param listValueStrategy the list value strategy of the rendering strategy
+     */
+    StatementShape(Consumer<Object> key, ParameterAccumulator parameters, ListValueStrategy listValueStrategy) {
+        this.key = Objects.requireNonNull(key);
+        this.parameters = parameters;
+        this.listValueStrategy = Objects.requireNonNull(listValueStrategy);
+    }
+
+    boolean usesLibraryConditionsOnly() {
+        return libraryConditionsOnly;
+    }
+
+    StatementShape addSelect(SelectModel selectModel) {
+        addSelectModel(selectModel);
+        return this;
+    }
+
+    StatementShape addUpdate(UpdateModel updateModel) {
+        key.accept(UpdateModel.class);
+        key.accept(updateModel.table().tableNameAtRuntime());
+        SetPhraseVisitor visitor = new SetPhraseVisitor();
+        updateModel.mapColumnMappings(Function.identity()).forEach(m -> addColumnMapping(m, visitor));
+        key.accept(Marker.END);
+        updateModel.whereModel().ifPresent(wm -> addWhereModel(wm, TableAliasCalculator.empty()));
+        return this;
+    }
+
+    StatementShape addDelete(DeleteModel deleteModel) {
+        key.accept(DeleteModel.class);
+        key.accept(deleteModel.table().tableNameAtRuntime());
+        deleteModel.whereModel().ifPresent(wm -> addWhereModel(wm, TableAliasCalculator.empty()));
+        return this;
+    }
+
+    StatementShape addWhere(WhereModel whereModel) {
+        key.accept(WhereModel.class);
+        addWhereModel(whereModel, TableAliasCalculator.empty());
+        return this;
+    }
+
+    private void addSelectModel(SelectModel selectModel) {
+        key.accept(SelectModel.class);
+        key.accept(selectModel.isRowCount());
+        selectModel.mapQueryExpressions(Function.identity()).forEach(this::addQueryExpression);
+        key.accept(Marker.END);
+        selectModel.orderByModel()
+                .ifPresent(om -> om.mapColumns(Function.identity()).forEach(this::addSortSpecification));
+        key.accept(Marker.END);
+        addPagingModel(selectModel.pagingModel().orElse(EMPTY_PAGING_MODEL));
+    }
+
+    private void addQueryExpression(QueryExpressionModel queryExpression) {
+        TableAliasCalculator tableAliasCalculator = queryExpression.tableAliasCalculator();
+        key.accept(queryExpression.connector().orElse(null));
+        key.accept(queryExpression.isDistinct());
+        queryExpression.mapColumns(Function.identity())
+                .forEach(c -> addSelectListColumn(c, tableAliasCalculator));
+        key.accept(Marker.END);
+        key.accept(queryExpression.calculateTableNameIncludingAlias(queryExpression.table()));
+        queryExpression.joinModel().ifPresent(jm -> jm.mapJoinSpecifications(Function.identity())
+                .forEach(js -> addJoinSpecification(js, queryExpression)));
+        key.accept(Marker.END);
+        queryExpression.whereModel().ifPresent(wm -> addWhereModel(wm, tableAliasCalculator));
+        key.accept(Marker.END);
+        // same order as the query expression renderer - restrictions, then the seek predicate
+        queryExpression.mapRestrictions(Function.identity()).forEach(r -> {
+            key.accept(WhereModel.class);
+            addWhereModel(r, tableAliasCalculator);
+        });
+        key.accept(Marker.END);
+        queryExpression.keyset().ifPresent(ks -> addKeyset(ks, tableAliasCalculator));
+        key.accept(Marker.END);
+        queryExpression.groupByModel().ifPresent(gbm -> gbm.mapColumns(Function.identity())
+                .forEach(c -> addColumn(c, tableAliasCalculator)));
+        key.accept(Marker.END);
+    }
+
+    private void addKeyset(Keyset keyset, TableAliasCalculator tableAliasCalculator) {
+        List<SqlColumn<?>> columns = keyset.columns();
+        key.accept(Keyset.class);
+        for (SqlColumn<?> column : columns) {
+            addColumn(column, tableAliasCalculator);
+            key.accept(column.isDescending());
+            key.accept(column.jdbcType().orElse(null));
+            key.accept(column.typeHandler().orElse(null));
+            key.accept(column.renderingStrategy().orElse(null));
+        }
+        key.accept(Marker.END);
+        key.accept(keyset.isRowValueComparison());
+        Optional<List<Object>> lastValues = keyset.lastValues();
+        key.accept(lastValues.isPresent());
+        if (parameters == null || !lastValues.isPresent()) {
+            return;
+        }
+
+        // same order as the keyset renderer
+        List<Object> values = lastValues.get();
+        if (keyset.isRowValueComparison()) {
+            for (int i = 0; i < values.size(); i++) {
+                addKeysetParameter(columns.get(i), values.get(i));
+            }
+        } else {
+            for (int term = 0; term < values.size(); term++) {
+                for (int i = 0; i <= term; i++) {
+                    addKeysetParameter(columns.get(i), values.get(i));
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void addKeysetParameter(SqlColumn column, Object value) {
+        addParameter(column.convertParameterType(value), column);
+    }
+
+    private void addSelectListColumn(BasicColumn column, TableAliasCalculator tableAliasCalculator) {
+        if (column.getClass() == SqlColumn.class) {
+            SqlColumn<?> sqlColumn = (SqlColumn<?>) column;
+            key.accept(tableAliasCalculator.aliasForColumn(sqlColumn.table()).orElse(null));
+            key.accept(sqlColumn.name());
+            key.accept(sqlColumn.alias().orElse(null));
+        } else {
+            key.accept(column.getClass());
+            key.accept(column.renderWithTableAndColumnAlias(tableAliasCalculator));
+            key.accept(null);
+        }
+    }
+
+    private void addColumn(BasicColumn column, TableAliasCalculator tableAliasCalculator) {
+        if (column.getClass() == SqlColumn.class) {
+            SqlColumn<?> sqlColumn = (SqlColumn<?>) column;
+            key.accept(tableAliasCalculator.aliasForColumn(sqlColumn.table()).orElse(null));
+            key.accept(sqlColumn.name());
+        } else {
+            key.accept(column.getClass());
+            key.accept(column.renderWithTableAlias(tableAliasCalculator));
+        }
+    }
+
+    private void addJoinSpecification(JoinSpecification joinSpecification,
+            QueryExpressionModel queryExpression) {
+        key.accept(joinSpecification.joinType());
+        key.accept(queryExpression.calculateTableNameIncludingAlias(joinSpecification.table()));
+        joinSpecification.mapJoinCriteria(Function.identity())
+                .forEach(jc -> addJoinCriterion(jc, queryExpression.tableAliasCalculator()));
+        key.accept(Marker.END);
+    }
+
+    private void addJoinCriterion(JoinCriterion joinCriterion, TableAliasCalculator tableAliasCalculator) {
+        key.accept(joinCriterion.connector());
+        addColumn(joinCriterion.leftColumn(), tableAliasCalculator);
+        key.accept(joinCriterion.operator());
+        addColumn(joinCriterion.rightColumn(), tableAliasCalculator);
+    }
+
+    private void addSortSpecification(SortSpecification sortSpecification) {
+        key.accept(sortSpecification.aliasOrName());
+        key.accept(sortSpecification.isDescending());
+    }
+
+    private void addPagingModel(PagingModel pagingModel) {
+        Long limit = pagingModel.limit().orElse(null);
+        Long offset = pagingModel.offset().orElse(null);
+        Long fetchFirstRows = pagingModel.fetchFirstRows().orElse(null);
+        key.accept(limit != null);
+        key.accept(offset != null);
+        key.accept(fetchFirstRows != null);
+        // same order as the paging renderers
+        if (limit != null) {
+            addParameter(limit, null);
+            if (offset != null) {
+                addParameter(offset, null);
+            }
+        } else {
+            if (offset != null) {
+                addParameter(offset, null);
+            }
+            if (fetchFirstRows != null) {
+                addParameter(fetchFirstRows, null);
+            }
+        }
+    }
+
+    private void addColumnMapping(AbstractColumnMapping columnMapping, SetPhraseVisitor visitor) {
+        key.accept(columnMapping.getClass());
+        key.accept(columnMapping.columnName());
+        SqlColumn<?> column = columnMapping.mapColumn(Function.identity());
+        key.accept(column.jdbcType().orElse(null));
+        key.accept(column.typeHandler().orElse(null));
+        key.accept(column.renderingStrategy().orElse(null));
+        columnMapping.accept(visitor);
+    }
+
+    private void addWhereModel(WhereModel whereModel, TableAliasCalculator tableAliasCalculator) {
+        CriterionVisitor visitor = new CriterionVisitor(tableAliasCalculator);
+        whereModel.mapCriteria(Function.identity()).forEach(visitor::addCriterion);
+    }
+
+    private void addParameter(Object value, BindableColumn<?> column) {
+        if (parameters == null) {
+            return;
+        }
+        parameters.add(RenderingStrategy.formatParameterMapKey(sequence++), value,
+                column == null ? null : column.jdbcType().orElse(null));
+    }
+
+    /**
+     * Ends every variable length part of the key so that different statements can never have equal keys.
+     */
+    private enum Marker {
+        END
+    }
+
+    private class CriterionVisitor {
+        private final TableAliasCalculator tableAliasCalculator;
+
+        private CriterionVisitor(TableAliasCalculator tableAliasCalculator) {
+            this.tableAliasCalculator = tableAliasCalculator;
+        }
+
+        private <T> void addCriterion(SqlCriterion<T> criterion) {
+            if (!criterion.condition().getClass().getName().startsWith(CONDITION_PACKAGE)) {
+                libraryConditionsOnly = false;
+            }
+
+            BindableColumn<T> column = criterion.column();
+            key.accept(criterion.connector().orElse(null));
+            addColumn(column, tableAliasCalculator);
+            key.accept(column.jdbcType().orElse(null));
+            key.accept(column.typeHandler().orElse(null));
+            key.accept(column.renderingStrategy().orElse(null));
+            key.accept(criterion.condition().getClass());
+            // the condition is rendered before the sub-criteria
+            boolean shouldRender = criterion.condition().shouldRender();
+            key.accept(shouldRender);
+            if (shouldRender) {
+                criterion.condition().accept(new ValueVisitor<>(column, tableAliasCalculator));
+            }
+            criterion.mapSubCriteria(Function.identity()).forEach(this::addCriterion);
+            key.accept(Marker.END);
+        }
+    }
+
+    private class ValueVisitor<T> implements ConditionVisitor<T, Void> {
+        private final BindableColumn<T> column;
+        private final TableAliasCalculator tableAliasCalculator;
+
+        private ValueVisitor(BindableColumn<T> column, TableAliasCalculator tableAliasCalculator) {
+            this.column = column;
+            this.tableAliasCalculator = tableAliasCalculator;
+        }
+
+        @Override
+        public Void visit(AbstractListValueCondition<T, ?> condition) {
+            boolean bindsArray = condition.bindsArray(listValueStrategy);
+            key.accept(bindsArray);
+            if (bindsArray) {
+                // the number of values does not change the SQL
+                if (parameters != null) {
+                    parameters.add(RenderingStrategy.formatParameterMapKey(sequence++),
+                            condition.arrayParameter(column), JDBCType.ARRAY);
+                }
+            } else {
+                key.accept(condition.bucket(condition.mapValues(Function.identity()), listValueStrategy)
+                        .map(this::addValue).collect(Collectors.counting()));
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractNoValueCondition<T> condition) {
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractSingleValueCondition<T> condition) {
+            addValue(condition.value());
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractTwoValueCondition<T> condition) {
+            addValue(condition.value1());
+            addValue(condition.value2());
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractSubselectCondition<T> condition) {
+            addSelectModel(condition.selectModel());
+            return null;
+        }
+
+        @Override
+        public Void visit(AbstractColumnComparisonCondition<T> condition) {
+            key.accept(condition.renderCondition("", tableAliasCalculator)); //$NON-NLS-1$
+            return null;
+        }
+
+        private T addValue(T value) {
+            if (parameters != null) {
+                addParameter(column.convertParameterType(value), column);
+            }
+            return value;
+        }
+    }
+
+    private class SetPhraseVisitor extends UpdateMappingVisitor<Void> {
+        @Override
+        public Void visit(NullMapping mapping) {
+            return null;
+        }
+
+        @Override
+        public Void visit(ConstantMapping mapping) {
+            key.accept(mapping.constant());
+            return null;
+        }
+
+        @Override
+        public Void visit(StringConstantMapping mapping) {
+            key.accept(mapping.constant());
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(ValueMapping<T> mapping) {
+            if (parameters != null) {
+                addParameter(mapping.value(), mapping.mapColumn(Function.identity()));
+            }
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(ValueWhenPresentMapping<T> mapping) {
+            Optional<Object> value = mapping.value();
+            key.accept(value.isPresent());
+            value.ifPresent(v -> addParameter(v, mapping.mapColumn(Function.identity())));
+            return null;
+        }
+
+        @Override
+        public Void visit(SelectMapping mapping) {
+            addSelectModel(mapping.selectModel());
+            return null;
+        }
+
+        @Override
+        public Void visit(ColumnToColumnMapping mapping) {
+            key.accept(mapping.rightColumn().renderWithTableAlias(TableAliasCalculator.empty()));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render.chunked;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteRenderer;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.PagingModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.aggregate.AbstractAggregate;
+import org.mybatis.dynamic.sql.select.aggregate.CountAll;
+import org.mybatis.dynamic.sql.select.render.DefaultSelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.UpdateRenderer;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.where.WhereModel;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive;
+import org.mybatis.dynamic.sql.where.condition.IsInInt;
+import org.mybatis.dynamic.sql.where.condition.IsInLong;
+
+/**
+ * Renders a statement with a large {@code isIn} condition as several statements, each binding at most a fixed
+ * number of the values. This keeps every statement under driver limits on the number of parameters - for
+ * example 32767 for PostgreSQL or 2100 for SQL Server - and under limits on the size of an in list.
+ *
+ * <p>A condition is split if its list value strategy - or the list value strategy of the rendering strategy if
+ * the condition does not specify one - is {@link ListValueStrategy#chunked(int)} and it has more values than
+ * the chunk size. Duplicate values are removed before the values are split. Only the first such condition is
+ * split, and only if splitting cannot change the combined result:
+ *
+ * <ul>
+ *   <li>the condition is at the top level of the where clause, and every top level criterion is connected
+ *     with "and"</li>
+ *   <li>every sub-criterion of the split criterion is connected with "and"</li>
+ *   <li>a select statement has a single query expression with no group by clause, no paging clauses and no
+ *     aggregate in its select list - the partial results of an aggregate like {@code count(*)} cannot be
+ *     combined by concatenating rows. Count statements built with {@code countUpTo} or
+ *     {@link SelectModel#renderCount} are not split for the same reason.</li>
+ * </ul>
+ *
+ * <p>Aggregates are recognized by type - {@link AbstractAggregate} and {@link CountAll}. A select list with a
+ * custom aggregate column should not use a chunked list value strategy.
+ *
+ * <p>Otherwise the statement is rendered as a single statement. The results of the statements should be
+ * combined by the caller - rows of select statements are concatenated, and row counts of update and delete
+ * statements are added. {@link org.mybatis.dynamic.sql.util.jdbc.JdbcExecutor} does this. Note that an order by
+ * clause orders the rows of each statement, not the concatenated rows, and that rows are only distinct within
+ * each statement.
+ */
+public final class ChunkedStatements {
+    private ChunkedStatements() {}
+
+    public static List<SelectStatementProvider> render(SelectModel selectModel,
+            RenderingStrategy renderingStrategy) {
+        SelectRenderer renderer = SelectRenderer.withSelectModel(selectModel)
+                .withRenderingStrategy(renderingStrategy)
+                .build();
+
+        return findChunkedCondition(selectModel, renderingStrategy.getListValueStrategy())
+                .map(chunked -> chunked.<SelectStatementProvider>render(renderingStrategy, renderingContext ->
+                        DefaultSelectStatementProvider.withSelectStatement(renderer.render(renderingContext))
+                                .withParameters(renderingContext.parameters())
+                                .build()))
+                .orElseGet(() -> Collections.singletonList(renderer.render()));
+    }
+
+    public static List<UpdateStatementProvider> render(UpdateModel updateModel,
+            RenderingStrategy renderingStrategy) {
+        UpdateRenderer renderer = UpdateRenderer.withUpdateModel(updateModel)
+                .withRenderingStrategy(renderingStrategy)
+                .build();
+
+        return updateModel.whereModel()
+                .flatMap(wm -> findChunkedCondition(wm, renderingStrategy.getListValueStrategy()))
+                .map(chunked -> chunked.render(renderingStrategy, renderer::render))
+                .orElseGet(() -> Collections.singletonList(renderer.render()));
+    }
+
+    public static List<DeleteStatementProvider> render(DeleteModel deleteModel,
+            RenderingStrategy renderingStrategy) {
+        DeleteRenderer renderer = DeleteRenderer.withDeleteModel(deleteModel)
+                .withRenderingStrategy(renderingStrategy)
+                .build();
+
+        return deleteModel.whereModel()
+                .flatMap(wm -> findChunkedCondition(wm, renderingStrategy.getListValueStrategy()))
+                .map(chunked -> chunked.render(renderingStrategy, renderer::render))
+                .orElseGet(() -> Collections.singletonList(renderer.render()));
+    }
+
+    private static Optional<ChunkedCondition> findChunkedCondition(SelectModel selectModel,
+            ListValueStrategy defaultStrategy) {
+        List<QueryExpressionModel> queryExpressions = selectModel.mapQueryExpressions(Function.identity())
+                .collect(Collectors.toList());
+        if (queryExpressions.size() != 1 || selectModel.isRowCount()
+                || selectModel.pagingModel().filter(ChunkedStatements::isPaged).isPresent()) {
+            return Optional.empty();
+        }
+
+        QueryExpressionModel queryExpression = queryExpressions.get(0);
+        if (queryExpression.groupByModel().isPresent()
+                || queryExpression.mapColumns(ChunkedStatements::isAggregate).anyMatch(b -> b)) {
+            return Optional.empty();
+        }
+
+        return queryExpression.whereModel().flatMap(wm -> findChunkedCondition(wm, defaultStrategy));
+    }
+
+    private static Optional<ChunkedCondition> findChunkedCondition(WhereModel whereModel,
+            ListValueStrategy defaultStrategy) {
+        List<SqlCriterion<?>> criteria = whereModel.mapCriteria(Function.identity()).collect(Collectors.toList());
+        if (!criteria.stream().allMatch(ChunkedStatements::isAndConnected)) {
+            return Optional.empty();
+        }
+
+        return criteria.stream()
+                .filter(c -> c.mapSubCriteria(ChunkedStatements::isAndConnected).allMatch(b -> b))
+                .map(c -> chunkedCondition(c, defaultStrategy))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .findFirst();
+    }
+
+    private static boolean isPaged(PagingModel pagingModel) {
+        return pagingModel.limit().isPresent() || pagingModel.offset().isPresent()
+                || pagingModel.fetchFirstRows().isPresent();
+    }
+
+    private static boolean isAggregate(BasicColumn column) {
+        return column instanceof AbstractAggregate || column instanceof CountAll;
+    }
+
+    private static boolean isAndConnected(SqlCriterion<?> criterion) {
+        return criterion.connector().map("and"::equals).orElse(true); //$NON-NLS-1$
+    }
+
+    private static Optional<ChunkedCondition> chunkedCondition(SqlCriterion<?> criterion,
+            ListValueStrategy defaultStrategy) {
+        if (!isChunkable(criterion.condition())) {
+            return Optional.empty();
+        }
+
+        AbstractListValueCondition<?, ?> condition = (AbstractListValueCondition<?, ?>) criterion.condition();
+        if (condition.bindsArray(defaultStrategy)) {
+            return Optional.empty();
+        }
+
+        return condition.listValueStrategy().orElse(defaultStrategy).chunkSize()
+                .flatMap(chunkSize -> ChunkedCondition.of(condition, chunkSize));
+    }
+
+    private static boolean isChunkable(VisitableCondition<?> condition) {
+        return condition instanceof IsIn || condition instanceof IsInCaseInsensitive
+                || condition instanceof IsInLong || condition instanceof IsInInt;
+    }
+
+    private static class ChunkedCondition {
+        private final AbstractListValueCondition<?, ?> condition;
+        private final List<List<Object>> chunks;
+
+        private ChunkedCondition(AbstractListValueCondition<?, ?> condition, List<List<Object>> chunks) {
+            this.condition = condition;
+            this.chunks = chunks;
+        }
+
+        private <R> List<R> render(RenderingStrategy renderingStrategy, Function<RenderingContext, R> renderer) {
+            return chunks.stream()
+                    .map(chunk -> RenderingContext.withRenderingStrategy(renderingStrategy)
+                            .withChunk(condition, chunk)
+                            .build())
+                    .map(renderer)
+                    .collect(Collectors.toList());
+        }
+
+        private static Optional<ChunkedCondition> of(AbstractListValueCondition<?, ?> condition, int chunkSize) {
+            List<Object> values = condition.<Object>mapValues(v -> v)
+                    .distinct()
+                    .collect(Collectors.toList());
+            if (values.size() <= chunkSize) {
+                return Optional.empty();
+            }
+
+            List<List<Object>> chunks = new ArrayList<>();
+            for (int start = 0; start < values.size(); start += chunkSize) {
+                chunks.add(values.subList(start, Math.min(start + chunkSize, values.size())));
+            }
+            return Optional.of(new ChunkedCondition(condition, chunks));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render.prepared;
+
+import java.sql.JDBCType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.mybatis.dynamic.sql.BindMarker;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DefaultDeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.DeleteRenderer;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.ParameterAccumulator;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.DefaultSelectStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.DefaultUpdateStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateRenderer;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+/**
+ * A statement that has been rendered once and can be bound many times. The statement model uses
+ * {@link BindMarker}s for the values that change from call to call:
+ *
+ * <pre>
+ *     PreparedStatementTemplate&lt;SelectStatementProvider&gt; template = PreparedStatementTemplate.of(
+ *             select(id, description)
+ *             .from(foo)
+ *             .where(id, isEqualTo(param("id", Integer.class)))
+ *             .build(),
+ *             RenderingStrategies.MYBATIS3);
+ *
+ *     SelectStatementProvider selectStatement = template.bind("id", 42).build();
+ * </pre>
+ *
+ * <p>Binding a template does not build or render the statement again. The SQL is reused and only the parameters
+ * of the statement provider are created. Values that were supplied directly in the model are reused as they are.
+ *
+ * <p>Templates are immutable and thread safe.
+ *
+ * @param <P> the type of statement provider created when the template is bound
+ */
+public class PreparedStatementTemplate<P> {
+    private final String statement;
+    private final String[] keys;
+    private final Object[] values;
+    private final JDBCType[] jdbcTypes;
+    private final Set<String> bindMarkerNames;
+    private final BiFunction<String, ParameterAccumulator, P> providerBuilder;
+
+    private PreparedStatementTemplate(String statement, ParameterAccumulator parameters,
+            BiFunction<String, ParameterAccumulator, P> providerBuilder) {
+        this.statement = Objects.requireNonNull(statement);
+        // keep the keys the statement was rendered with - the placeholders refer to them
+        keys = parameters.keys();
+        values = parameters.values();
+        jdbcTypes = parameters.jdbcTypes();
+        this.providerBuilder = Objects.requireNonNull(providerBuilder);
+
+        Set<String> names = new LinkedHashSet<>();
+        for (Object value : values) {
+            if (value instanceof BindMarker) {
+                names.add(((BindMarker<?>) value).name());
+            }
+        }
+        bindMarkerNames = Collections.unmodifiableSet(names);
+    }
+
+    public String statement() {
+        return statement;
+    }
+
+    public Set<String> bindMarkerNames() {
+        return bindMarkerNames;
+    }
+
+    public Binder bind(String name, Object value) {
+        return new Binder().bind(name, value);
+    }
+
+    /**
+     * Creates a statement provider with the supplied values. There must be a value for every bind marker in the
+     * statement, and no others.
+     *
+     * @param bindings values keyed by bind marker name. Values may be null.
+     * @return a statement provider
+     */
+    public P bind(Map<String, ?> bindings) {
+        for (String name : bindings.keySet()) {
+            if (!bindMarkerNames.contains(name)) {
+                throw new IllegalArgumentException("The statement has no bind marker named \"" //$NON-NLS-1$
+                        + name + "\""); //$NON-NLS-1$
+            }
+        }
+
+        ParameterAccumulator parameters = new ParameterAccumulator();
+        for (int i = 0; i < values.length; i++) {
+            parameters.add(keys[i], bindValue(values[i], bindings), jdbcTypes[i]);
+        }
+        return providerBuilder.apply(statement, parameters);
+    }
+
+    private Object bindValue(Object value, Map<String, ?> bindings) {
+        if (value instanceof BindMarker) {
+            BindMarker<?> bindMarker = (BindMarker<?>) value;
+            if (!bindings.containsKey(bindMarker.name())) {
+                throw new IllegalArgumentException("No value was bound to \"" //$NON-NLS-1$
+                        + bindMarker.name() + "\""); //$NON-NLS-1$
+            }
+            return bindMarker.convert(bindings.get(bindMarker.name()));
+        }
+        return value;
+    }
+
+    public static PreparedStatementTemplate<SelectStatementProvider> of(SelectModel selectModel,
+            RenderingStrategy renderingStrategy) {
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy).build();
+        String selectStatement = SelectRenderer.withSelectModel(selectModel)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render(renderingContext);
+        return new PreparedStatementTemplate<>(selectStatement, renderingContext.parameters(),
+                (s, p) -> DefaultSelectStatementProvider.withSelectStatement(s).withParameters(p).build());
+    }
+
+    public static PreparedStatementTemplate<UpdateStatementProvider> of(UpdateModel updateModel,
+            RenderingStrategy renderingStrategy) {
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy).build();
+        UpdateStatementProvider updateStatement = UpdateRenderer.withUpdateModel(updateModel)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render(renderingContext);
+        return new PreparedStatementTemplate<>(updateStatement.getUpdateStatement(), renderingContext.parameters(),
+                (s, p) -> DefaultUpdateStatementProvider.withUpdateStatement(s).withParameters(p).build());
+    }
+
+    public static PreparedStatementTemplate<DeleteStatementProvider> of(DeleteModel deleteModel,
+            RenderingStrategy renderingStrategy) {
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy).build();
+        DeleteStatementProvider deleteStatement = DeleteRenderer.withDeleteModel(deleteModel)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render(renderingContext);
+        return new PreparedStatementTemplate<>(deleteStatement.getDeleteStatement(), renderingContext.parameters(),
+                (s, p) -> DefaultDeleteStatementProvider.withDeleteStatement(s).withParameters(p).build());
+    }
+
+    /**
+     * Collects the values for one statement. A binder is not thread safe and should not be shared.
+     */
+    public class Binder {
+        private final Map<String, Object> bindings = new HashMap<>();
+
+        private Binder() {
+            super();
+        }
+
+        public Binder bind(String name, Object value) {
+            bindings.put(name, value);
+            return this;
+        }
+
+        public P build() {
+            return PreparedStatementTemplate.this.bind(bindings);
+        }
+    }
+}
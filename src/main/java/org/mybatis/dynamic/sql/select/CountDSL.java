@@ -35,6 +35,12 @@ import org.mybatis.dynamic.sql.where.WhereModel;
  * clauses, but not the other parts of a select (group by, order by, etc.) Count queries always return
  * a long. If these restrictions are not acceptable, then use the Select DSL for an unrestricted select statement.
  *
+ * <p>Bounded queries let the database stop reading early. {@link #selectExists(SqlTable)} renders
+ * <code>select 1 from table where ... fetch first 1 rows only</code>, and {@link #countUpTo(long)} renders
+ * <code>select count(*) from (select 1 from table where ... fetch first ? rows only) count_source</code>, which
+ * returns the number of matching rows, but at most the limit. The paging syntax of bounded queries can be changed
+ * with {@link #withPagingStyle(PagingStyle)}.
+ *
  * @param <R> the type of model built by this Builder. Typically SelectModel.
  *
  * @author Jeff Butler
@@ -44,11 +50,33 @@ public class CountDSL<R> extends AbstractQueryExpressionDSL<CountDSL<R>, R> impl
     private final Function<SelectModel, R> adapterFunction;
     private final CountWhereBuilder whereBuilder = new CountWhereBuilder();
     private final BasicColumn countColumn;
+    private final Long rowLimit;
+    private final boolean isRowCount;
+    private PagingStyle pagingStyle = PagingStyle.FETCH_FIRST;
     
     private CountDSL(BasicColumn countColumn, SqlTable table, Function<SelectModel, R> adapterFunction) {
+        this(countColumn, table, adapterFunction, null, false);
+    }
+
+    private CountDSL(BasicColumn countColumn, SqlTable table, Function<SelectModel, R> adapterFunction,
+            Long rowLimit, boolean isRowCount) {
         super(table);
         this.countColumn = Objects.requireNonNull(countColumn);
         this.adapterFunction = Objects.requireNonNull(adapterFunction);
+        this.rowLimit = rowLimit;
+        this.isRowCount = isRowCount;
+    }
+
+    /**
+     * Sets the syntax used to limit the rows read by a bounded query. The default is
+     * {@link PagingStyle#FETCH_FIRST}. This has no effect on unbounded count queries.
+     *
+     * @param pagingStyle the paging style of the database
+     * @return this DSL
+     */
+    public CountDSL<R> withPagingStyle(PagingStyle pagingStyle) {
+        this.pagingStyle = Objects.requireNonNull(pagingStyle);
+        return this;
     }
     
     public CountWhereBuilder where() {
@@ -80,9 +108,22 @@ public class CountDSL<R> extends AbstractQueryExpressionDSL<CountDSL<R>, R> impl
         
         buildJoinModel().ifPresent(b::withJoinModel);
         
-        return new SelectModel.Builder()
+        SelectModel.Builder builder = new SelectModel.Builder()
                 .withQueryExpression(b.build())
-                .build();
+                .isRowCount(isRowCount);
+
+        if (rowLimit != null) {
+            builder.withPagingModel(buildPagingModel(rowLimit));
+        }
+
+        return builder.build();
+    }
+
+    private PagingModel buildPagingModel(Long rows) {
+        if (pagingStyle == PagingStyle.LIMIT) {
+            return new PagingModel.Builder().withLimit(rows).build();
+        }
+        return new PagingModel.Builder().withFetchFirstRows(rows).build();
     }
     
     public static CountDSL<SelectModel> countFrom(SqlTable table) {
@@ -93,6 +134,25 @@ public class CountDSL<R> extends AbstractQueryExpressionDSL<CountDSL<R>, R> impl
         return new CountDSL<>(SqlBuilder.count(), table, adapterFunction);
     }
     
+    public static CountDSL<SelectModel> selectExists(SqlTable table) {
+        return selectExists(Function.identity(), table);
+    }
+
+    public static <R> CountDSL<R> selectExists(Function<SelectModel, R> adapterFunction, SqlTable table) {
+        return new CountDSL<>(SqlBuilder.constant("1"), table, adapterFunction, 1L, false); //$NON-NLS-1$
+    }
+
+    public static FromGatherer<SelectModel> countUpTo(long limit) {
+        return countUpTo(Function.identity(), limit);
+    }
+
+    public static <R> FromGatherer<R> countUpTo(Function<SelectModel, R> adapterFunction, long limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("The count limit must be at least 1"); //$NON-NLS-1$
+        }
+        return new FromGatherer<>(adapterFunction, SqlBuilder.constant("1"), limit); //$NON-NLS-1$
+    }
+
     public static FromGatherer<SelectModel> count(BasicColumn column) {
         return count(Function.identity(), column);
     }
@@ -117,14 +177,20 @@ public class CountDSL<R> extends AbstractQueryExpressionDSL<CountDSL<R>, R> impl
     public static class FromGatherer<R> {
         private final BasicColumn column;
         private final Function<SelectModel, R> adapterFunction;
+        private final Long rowLimit;
         
         public FromGatherer(Function<SelectModel, R> adapterFunction, BasicColumn column) {
+            this(adapterFunction, column, null);
+        }
+
+        private FromGatherer(Function<SelectModel, R> adapterFunction, BasicColumn column, Long rowLimit) {
             this.adapterFunction = adapterFunction;
             this.column = column;
+            this.rowLimit = rowLimit;
         }
         
         public CountDSL<R> from(SqlTable table) {
-            return new CountDSL<>(column, table, adapterFunction);
+            return new CountDSL<>(column, table, adapterFunction, rowLimit, rowLimit != null);
         }
     }
     
@@ -0,0 +1,214 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * Describes keyset (seek) pagination - the ordered sort columns of a query and the key of the last row already
+ * read. Instead of skipping rows with an offset, the next page is selected with a predicate that starts after
+ * the last key - for example <code>(a &gt; ?) or (a = ? and b &gt; ?)</code> - so the database can seek in an
+ * index rather than read and discard every skipped row.
+ *
+ * <p>The sort columns must identify a row uniquely - end them with the primary key - and must not be null.
+ * Keysets are immutable. Use them with <code>seek</code> in the select DSL, which also renders the matching
+ * order by. Set the page size with <code>limit</code> or <code>fetchFirst</code>:
+ *
+ * <pre>
+ * Keyset keyset = Keyset.orderBy(person.lastName, person.id);
+ *
+ * select(person.allColumns())
+ *     .from(person)
+ *     .where(person.active, isEqualTo(true))
+ *     .seek(keyset.afterLastRow(previousPage, p -&gt; new Object[] {p.getLastName(), p.getId()}))
+ *     .limit(100)
+ *     .build()
+ *     .render(RenderingStrategies.MYBATIS3);
+ * </pre>
+ */
+public class Keyset {
+    private final List<SqlColumn<?>> columns;
+    private final List<Object> lastValues;
+    private final boolean rowValueComparison;
+
+    private Keyset(List<SqlColumn<?>> columns, List<Object> lastValues, boolean rowValueComparison) {
+        this.columns = columns;
+        this.lastValues = lastValues;
+        this.rowValueComparison = rowValueComparison;
+    }
+
+    /**
+     * Returns the sort columns in order. A column sorts descending if it was specified with
+     * {@link SqlColumn#descending()}.
+     *
+     * @return the sort columns
+     */
+    public List<SqlColumn<?>> columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the key of the last row already read, or empty for the first page.
+     *
+     * @return the key of the last row - one value for each sort column
+     */
+    public Optional<List<Object>> lastValues() {
+        return Optional.ofNullable(lastValues);
+    }
+
+    /**
+     * Returns true if the seek predicate is rendered as a single row value comparison -
+     * <code>(a, b) &gt; (?, ?)</code>.
+     *
+     * @return true if the seek predicate is rendered as a row value comparison
+     */
+    public boolean isRowValueComparison() {
+        return rowValueComparison;
+    }
+
+    public <R> Stream<R> mapColumns(Function<SqlColumn<?>, R> mapper) {
+        return columns.stream().map(mapper);
+    }
+
+    /**
+     * Returns a keyset positioned after the specified key.
+     *
+     * @param lastValues the key of the last row already read - one value for each sort column
+     * @return a new keyset
+     */
+    public Keyset after(Object...lastValues) {
+        return after(Arrays.asList(lastValues));
+    }
+
+    /**
+     * Returns a keyset positioned after the specified key.
+     *
+     * @param lastValues the key of the last row already read - one value for each sort column
+     * @return a new keyset
+     */
+    public Keyset after(List<?> lastValues) {
+        if (lastValues.size() != columns.size()) {
+            throw new IllegalArgumentException(
+                    "The number of values must match the number of keyset columns"); //$NON-NLS-1$
+        }
+        if (lastValues.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Keyset values must not be null"); //$NON-NLS-1$
+        }
+        return new Keyset(columns, Collections.unmodifiableList(new ArrayList<>(lastValues)), rowValueComparison);
+    }
+
+    /**
+     * Returns a keyset positioned after the last row of a page. If the page is empty, this keyset is returned
+     * unchanged - there are no more rows to read.
+     *
+     * @param page the rows of the page just read
+     * @param keyExtractor a function that returns the key of a row - one value for each sort column
+     * @param <T> the type of row
+     * @return a keyset for the next page
+     */
+    public <T> Keyset afterLastRow(List<T> page, Function<T, Object[]> keyExtractor) {
+        if (page.isEmpty()) {
+            return this;
+        }
+        return after(keyExtractor.apply(page.get(page.size() - 1)));
+    }
+
+    /**
+     * Returns a keyset positioned after the last row of a page of rows returned as maps - as MyBatis does for a
+     * <code>selectMany</code> mapper method without a result map. The key values are read from the map entries
+     * named like the sort columns, ignoring case. If the page is empty, this keyset is returned unchanged.
+     *
+     * @param page the rows of the page just read
+     * @return a keyset for the next page
+     */
+    public Keyset afterLastRow(List<Map<String, Object>> page) {
+        return afterLastRow(page, this::extractKey);
+    }
+
+    private Object[] extractKey(Map<String, Object> row) {
+        return columns.stream()
+                .map(c -> row.entrySet().stream()
+                        .filter(e -> e.getKey().equalsIgnoreCase(c.aliasOrName()))
+                        .findFirst()
+                        .map(Map.Entry::getValue)
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "The row has no value for keyset column " + c.aliasOrName()))) //$NON-NLS-1$
+                .toArray();
+    }
+
+    /**
+     * Returns a keyset that renders the seek predicate as a single row value comparison -
+     * <code>(a, b) &gt; (?, ?)</code> - rather than as expanded comparisons. Row value comparisons are supported by
+     * PostgreSQL, MySQL, DB2, HSQLDB and H2 among others, and are easier for some optimizers to match with an
+     * index. All sort columns must sort in the same direction.
+     *
+     * @return a new keyset
+     */
+    public Keyset withRowValueComparison() {
+        if (columns.stream().map(SqlColumn::isDescending).distinct().count() > 1) {
+            throw new IllegalArgumentException(
+                    "A row value comparison requires all keyset columns to sort in the same direction"); //$NON-NLS-1$
+        }
+        return new Keyset(columns, lastValues, true);
+    }
+
+    /**
+     * Creates a keyset for the first page of a query ordered by the specified columns. Use
+     * {@link SqlColumn#descending()} for columns that sort in descending order.
+     *
+     * @param columns the sort columns - each must be a {@link SqlColumn}
+     * @return a new keyset
+     */
+    public static Keyset orderBy(SortSpecification...columns) {
+        return orderBy(Arrays.asList(columns));
+    }
+
+    /**
+     * Creates a keyset for the first page of a query ordered by the specified columns. Use
+     * {@link SqlColumn#descending()} for columns that sort in descending order.
+     *
+     * @param columns the sort columns - each must be a {@link SqlColumn}
+     * @return a new keyset
+     */
+    public static Keyset orderBy(List<SortSpecification> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("A keyset must have at least one column"); //$NON-NLS-1$
+        }
+        List<SqlColumn<?>> keysetColumns = columns.stream()
+                .map(Keyset::toSqlColumn)
+                .collect(Collectors.toList());
+        return new Keyset(Collections.unmodifiableList(keysetColumns), null, false);
+    }
+
+    private static SqlColumn<?> toSqlColumn(SortSpecification column) {
+        if (column instanceof SqlColumn) {
+            return (SqlColumn<?>) column;
+        }
+        throw new IllegalArgumentException("Keyset columns must be table columns"); //$NON-NLS-1$
+    }
+}
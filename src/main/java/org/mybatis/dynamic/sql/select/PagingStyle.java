@@ -0,0 +1,33 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+/**
+ * The syntax used to limit the number of rows read by bounded queries - existence checks and counts with an upper
+ * limit.
+ */
+public enum PagingStyle {
+    /**
+     * Renders <code>limit ?</code> as supported by MySQL, MariaDB, PostgreSQL, SQLite, H2 and HSQLDB.
+     */
+    LIMIT,
+
+    /**
+     * Renders the standard SQL <code>fetch first ? rows only</code> as supported by DB2, Oracle 12c and later,
+     * PostgreSQL, Derby, H2 and HSQLDB.
+     */
+    FETCH_FIRST
+}
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.BasicColumn;
@@ -46,6 +47,7 @@ public class QueryExpressionDSL<R> extends AbstractQueryExpressionDSL<QueryExpre
     private final List<BasicColumn> selectList;
     private final QueryExpressionWhereBuilder whereBuilder = new QueryExpressionWhereBuilder();
     private GroupByModel groupByModel;
+    private Keyset keyset;
     
     QueryExpressionDSL(FromGatherer<R> fromGatherer) {
         super(fromGatherer.table);
@@ -134,6 +136,19 @@ public class QueryExpressionDSL<R> extends AbstractQueryExpressionDSL<QueryExpre
         return selectDSL;
     }
 
+    /**
+     * Selects the page of rows following the last key of a keyset. The seek predicate of the keyset is added
+     * to the where clause, and the query is ordered by the keyset columns. Set the page size with
+     * <code>limit</code> or <code>fetchFirst</code>.
+     *
+     * @param keyset the keyset describing the sort columns and the last row already read
+     * @return the select DSL, ready for paging
+     */
+    public SelectDSL<R> seek(Keyset keyset) {
+        this.keyset = Objects.requireNonNull(keyset);
+        return orderBy(keyset.mapColumns(SortSpecification.class::cast).collect(Collectors.toList()));
+    }
+
     public UnionBuilder union() {
         return new UnionBuilder("union"); //$NON-NLS-1$
     }
@@ -151,6 +166,7 @@ public class QueryExpressionDSL<R> extends AbstractQueryExpressionDSL<QueryExpre
                 .withWhereModel(whereBuilder.buildWhereModel())
                 .withJoinModel(buildJoinModel().orElse(null))
                 .withGroupByModel(groupByModel)
+                .withKeyset(keyset)
                 .build();
     }
     
@@ -243,6 +259,10 @@ public class QueryExpressionDSL<R> extends AbstractQueryExpressionDSL<QueryExpre
         public SelectDSL<R> orderBy(SortSpecification...columns) {
             return QueryExpressionDSL.this.orderBy(columns);
         }
+
+        public SelectDSL<R> seek(Keyset keyset) {
+            return QueryExpressionDSL.this.seek(keyset);
+        }
         
         public GroupByFinisher groupBy(BasicColumn...columns) {
             return QueryExpressionDSL.this.groupBy(columns);
@@ -407,6 +427,10 @@ public class QueryExpressionDSL<R> extends AbstractQueryExpressionDSL<QueryExpre
             return QueryExpressionDSL.this.orderBy(columns);
         }
 
+        public SelectDSL<R> seek(Keyset keyset) {
+            return QueryExpressionDSL.this.seek(keyset);
+        }
+
         public SelectDSL<R>.LimitFinisher limit(long limit) {
             return QueryExpressionDSL.this.limit(limit);
         }
@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.select;
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,8 @@ public class QueryExpressionModel {
     private final TableAliasCalculator tableAliasCalculator;
     private final WhereModel whereModel;
     private final GroupByModel groupByModel;
+    private final Keyset keyset;
+    private final List<WhereModel> restrictions;
 
     private QueryExpressionModel(Builder builder) {
         connector = builder.connector;
@@ -53,6 +56,22 @@ public class QueryExpressionModel {
                 .orElseGet(() -> TableAliasCalculator.of(builder.tableAliases));
         whereModel = builder.whereModel;
         groupByModel = builder.groupByModel;
+        keyset = builder.keyset;
+        restrictions = Collections.emptyList();
+    }
+
+    private QueryExpressionModel(QueryExpressionModel source, List<BasicColumn> selectList,
+            GroupByModel groupByModel, Keyset keyset, List<WhereModel> restrictions) {
+        connector = source.connector;
+        isDistinct = source.isDistinct;
+        this.selectList = selectList;
+        table = source.table;
+        joinModel = source.joinModel;
+        tableAliasCalculator = source.tableAliasCalculator;
+        whereModel = source.whereModel;
+        this.groupByModel = groupByModel;
+        this.keyset = keyset;
+        this.restrictions = restrictions;
     }
     
     public Optional<String> connector() {
@@ -86,6 +105,71 @@ public class QueryExpressionModel {
     public Optional<GroupByModel> groupByModel() {
         return Optional.ofNullable(groupByModel);
     }
+
+    public Optional<Keyset> keyset() {
+        return Optional.ofNullable(keyset);
+    }
+
+    /**
+     * Returns a copy of this query expression that seeks with a different keyset. Keyset paged readers use this
+     * to render the next page of a query without building it again.
+     *
+     * @param keyset the keyset positioned after the last row already read
+     * @return a copy of this query expression
+     */
+    public QueryExpressionModel seek(Keyset keyset) {
+        return new QueryExpressionModel(this, selectList, groupByModel, Objects.requireNonNull(keyset),
+                restrictions);
+    }
+
+    /**
+     * Returns a copy of this query expression without its keyset. The keyset is a paging construct - a query
+     * that counts all the rows of a keyset paged query must not seek.
+     *
+     * @return a copy of this query expression
+     */
+    public QueryExpressionModel withoutKeyset() {
+        return new QueryExpressionModel(this, selectList, groupByModel, null, restrictions);
+    }
+
+    /**
+     * Maps the criteria that restrict this query expression in addition to its where model. Each is rendered
+     * as a parenthesized group and combined with the where clause using "and", so the meaning of the where
+     * clause is unchanged.
+     *
+     * @param mapper the mapping function
+     * @param <R> the type of mapped result
+     * @return the mapped restrictions, in the order they were added
+     */
+    public <R> Stream<R> mapRestrictions(Function<WhereModel, R> mapper) {
+        return restrictions.stream().map(mapper);
+    }
+
+    /**
+     * Returns a copy of this query expression that is further restricted by the specified criteria - for example
+     * to read one partition of a table.
+     *
+     * @param restriction the additional criteria
+     * @return a copy of this query expression
+     */
+    public QueryExpressionModel restrictedBy(WhereModel restriction) {
+        List<WhereModel> newRestrictions = new ArrayList<>(restrictions);
+        newRestrictions.add(Objects.requireNonNull(restriction));
+        return new QueryExpressionModel(this, selectList, groupByModel, keyset,
+                Collections.unmodifiableList(newRestrictions));
+    }
+
+    /**
+     * Returns a copy of this query expression with a different select list and without a group by clause. The
+     * table, joins and criteria are unchanged - this is used to derive queries like min/max or count queries
+     * from a select.
+     *
+     * @param selectList the new select list
+     * @return a copy of this query expression
+     */
+    public QueryExpressionModel selecting(List<BasicColumn> selectList) {
+        return new QueryExpressionModel(this, new ArrayList<>(selectList), null, keyset, restrictions);
+    }
     
     public String calculateTableNameIncludingAlias(SqlTable table) {
         return table.tableNameAtRuntime()
@@ -105,6 +189,7 @@ public class QueryExpressionModel {
         private WhereModel whereModel;
         private JoinModel joinModel;
         private GroupByModel groupByModel;
+        private Keyset keyset;
         
         public Builder withConnector(String connector) {
             this.connector = connector;
@@ -150,6 +235,11 @@ public class QueryExpressionModel {
             this.groupByModel = groupByModel;
             return this;
         }
+
+        public Builder withKeyset(Keyset keyset) {
+            this.keyset = keyset;
+            return this;
+        }
         
         public QueryExpressionModel build() {
             return new QueryExpressionModel(this);
@@ -24,6 +24,7 @@ import java.util.stream.Stream;
 
 import org.jetbrains.annotations.NotNull;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.DerivedCountRenderer;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 
@@ -31,11 +32,13 @@ public class SelectModel {
     private final List<QueryExpressionModel> queryExpressions;
     private final OrderByModel orderByModel;
     private final PagingModel pagingModel;
+    private final boolean isRowCount;
 
     private SelectModel(Builder builder) {
         queryExpressions = Objects.requireNonNull(builder.queryExpressions);
         orderByModel = builder.orderByModel;
         pagingModel = builder.pagingModel;
+        isRowCount = builder.isRowCount;
     }
     
     public <R> Stream<R> mapQueryExpressions(Function<QueryExpressionModel, R> mapper) {
@@ -50,6 +53,16 @@ public class SelectModel {
         return Optional.ofNullable(pagingModel);
     }
 
+    /**
+     * Returns true if the statement counts the rows of this select rather than returning them. The select is then
+     * rendered as a derived table - <code>select count(*) from (select ...) count_source</code>.
+     *
+     * @return true if the statement counts the rows of this select
+     */
+    public boolean isRowCount() {
+        return isRowCount;
+    }
+
     @NotNull
     public SelectStatementProvider render(RenderingStrategy renderingStrategy) {
         return SelectRenderer.withSelectModel(this)
@@ -57,6 +70,22 @@ public class SelectModel {
                 .build()
                 .render();
     }
+
+    /**
+     * Renders a statement that counts the rows this select would return without its order by clause and paging.
+     * Paginated queries use this to compute the total number of rows without repeating the where clause.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the count statement
+     * @see DerivedCountRenderer
+     */
+    @NotNull
+    public SelectStatementProvider renderCount(RenderingStrategy renderingStrategy) {
+        return DerivedCountRenderer.withSelectModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render();
+    }
     
     public static Builder withQueryExpressions(List<QueryExpressionModel> queryExpressions) {
         return new Builder().withQueryExpressions(queryExpressions);
@@ -66,6 +95,7 @@ public class SelectModel {
         private final List<QueryExpressionModel> queryExpressions = new ArrayList<>();
         private OrderByModel orderByModel;
         private PagingModel pagingModel;
+        private boolean isRowCount;
         
         public Builder withQueryExpression(QueryExpressionModel queryExpression) {
             this.queryExpressions.add(queryExpression);
@@ -86,6 +116,11 @@ public class SelectModel {
             this.pagingModel = pagingModel;
             return this;
         }
+
+        public Builder isRowCount(boolean isRowCount) {
+            this.isRowCount = isRowCount;
+            return this;
+        }
         
         public SelectModel build() {
             return new SelectModel(this);
@@ -15,24 +15,41 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
+import java.sql.JDBCType;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.render.ParameterAccumulator;
+
 public class DefaultSelectStatementProvider implements SelectStatementProvider {
     private final String selectStatement;
     private final Map<String, Object> parameters;
+    private final Object[] parameterValues;
+    private final JDBCType[] parameterTypes;
     
     private DefaultSelectStatementProvider(Builder builder) {
         selectStatement = Objects.requireNonNull(builder.selectStatement);
         parameters = Collections.unmodifiableMap(Objects.requireNonNull(builder.parameters));
+        parameterValues = builder.parameterValues;
+        parameterTypes = builder.parameterTypes;
     }
     
     @Override
     public Map<String, Object> getParameters() {
         return parameters;
     }
+
+    @Override
+    public Object[] getParameterValues() {
+        return parameterValues.clone();
+    }
+
+    @Override
+    public JDBCType[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
     
     @Override
     public String getSelectStatement() {
@@ -46,6 +63,8 @@ public class DefaultSelectStatementProvider implements SelectStatementProvider {
     public static class Builder {
         private String selectStatement;
         private final Map<String, Object> parameters = new HashMap<>();
+        private Object[] parameterValues = new Object[0];
+        private JDBCType[] parameterTypes = new JDBCType[0];
         
         public Builder withSelectStatement(String selectStatement) {
             this.selectStatement = selectStatement;
@@ -56,6 +75,13 @@ public class DefaultSelectStatementProvider implements SelectStatementProvider {
             this.parameters.putAll(parameters);
             return this;
         }
+
+        public Builder withParameters(ParameterAccumulator parameters) {
+            this.parameters.putAll(parameters.asMap());
+            parameterValues = parameters.values();
+            parameterTypes = parameters.jdbcTypes();
+            return this;
+        }
         
         public DefaultSelectStatementProvider build() {
             return new DefaultSelectStatementProvider(this);
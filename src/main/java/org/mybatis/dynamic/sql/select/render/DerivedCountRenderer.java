@@ -0,0 +1,91 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select.render;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.BasicColumn;
+import org.mybatis.dynamic.sql.SqlBuilder;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+/**
+ * Renders a statement that counts the rows a select statement would return if it were not paged. The table, joins
+ * and criteria of the select are reused; the order by clause, the paging clause and any keyset are dropped.
+ *
+ * <p>A select with a single query expression is counted directly - <code>select count(*) from foo where ...</code>.
+ * If the select is distinct, grouped or a union, the number of rows depends on the select list, so the select is
+ * counted as a derived table instead - <code>select count(*) from (select distinct ...) count_source</code>.
+ */
+public class DerivedCountRenderer {
+    private final SelectModel selectModel;
+    private final RenderingStrategy renderingStrategy;
+
+    private DerivedCountRenderer(Builder builder) {
+        selectModel = Objects.requireNonNull(builder.selectModel);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+    }
+
+    public SelectStatementProvider render() {
+        List<QueryExpressionModel> queryExpressions = selectModel
+                .mapQueryExpressions(QueryExpressionModel::withoutKeyset)
+                .collect(Collectors.toList());
+
+        if (queryExpressions.size() == 1 && canCountDirectly(queryExpressions.get(0))) {
+            List<BasicColumn> countList = Collections.singletonList(SqlBuilder.count());
+            return SelectModel.withQueryExpressions(
+                    Collections.singletonList(queryExpressions.get(0).selecting(countList)))
+                    .build()
+                    .render(renderingStrategy);
+        }
+
+        return SelectModel.withQueryExpressions(queryExpressions)
+                .isRowCount(true)
+                .build()
+                .render(renderingStrategy);
+    }
+
+    private boolean canCountDirectly(QueryExpressionModel queryExpression) {
+        return !queryExpression.isDistinct() && !queryExpression.groupByModel().isPresent();
+    }
+
+    public static Builder withSelectModel(SelectModel selectModel) {
+        return new Builder().withSelectModel(selectModel);
+    }
+
+    public static class Builder {
+        private SelectModel selectModel;
+        private RenderingStrategy renderingStrategy;
+
+        public Builder withSelectModel(SelectModel selectModel) {
+            this.selectModel = selectModel;
+            return this;
+        }
+
+        public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public DerivedCountRenderer build() {
+            return new DerivedCountRenderer(this);
+        }
+    }
+}
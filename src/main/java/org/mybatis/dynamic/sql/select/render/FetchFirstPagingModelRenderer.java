@@ -18,68 +18,90 @@ package org.mybatis.dynamic.sql.select.render;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class FetchFirstPagingModelRenderer {
-    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
     private final PagingModel pagingModel;
+    // only set by the deprecated constructor
     private final AtomicInteger sequence;
 
+    public FetchFirstPagingModelRenderer(RenderingContext renderingContext, PagingModel pagingModel) {
+        this(renderingContext, pagingModel, null);
+    }
+
+    /**
+     * Creates a renderer with a new rendering context.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param pagingModel the paging model
+     * @param sequence the parameter sequence - advanced past the paging parameters when they are rendered
+     * @deprecated use {@link #FetchFirstPagingModelRenderer(RenderingContext, PagingModel)}
+     */
+    @Deprecated
     public FetchFirstPagingModelRenderer(RenderingStrategy renderingStrategy,
             PagingModel pagingModel, AtomicInteger sequence) {
-        this.renderingStrategy = renderingStrategy;
+        this(RenderingContext.withRenderingStrategy(renderingStrategy).withSequence(sequence.get()).build(),
+                pagingModel, sequence);
+    }
+
+    private FetchFirstPagingModelRenderer(RenderingContext renderingContext, PagingModel pagingModel,
+            AtomicInteger sequence) {
+        this.renderingContext = renderingContext;
         this.pagingModel = pagingModel;
         this.sequence = sequence;
     }
 
+    /**
+     * Renders the paging clause with the parameters of the rendering context.
+     *
+     * @return the rendered paging clause and parameters, or empty if there is nothing to render
+     * @deprecated use {@link #renderPagingClause()} - the parameters are written to the rendering context
+     */
+    @Deprecated
     public Optional<FragmentAndParameters> render() {
+        return PagingModelRenderer.toFragmentAndParameters(renderPagingClause(), renderingContext, sequence);
+    }
+
+    /**
+     * Renders the paging clause. Parameters are written to the rendering context.
+     *
+     * @return the rendered paging clause, or empty if there is nothing to render
+     */
+    public Optional<String> renderPagingClause() {
         return pagingModel.offset()
                 .map(this::renderWithOffset)
                 .orElseGet(this::renderFetchFirstRowsOnly);
     }
 
-    private Optional<FragmentAndParameters> renderWithOffset(Long offset) {
+    private Optional<String> renderWithOffset(Long offset) {
         return pagingModel.fetchFirstRows()
                 .map(ffr -> renderOffsetAndFetchFirstRows(offset, ffr))
                 .orElseGet(() -> renderOffsetOnly(offset));
     }
 
-    private Optional<FragmentAndParameters> renderFetchFirstRowsOnly() {
-        return pagingModel.fetchFirstRows().flatMap(this::renderFetchFirstRowsOnly);
-    }
-
-    private Optional<FragmentAndParameters> renderFetchFirstRowsOnly(Long fetchFirstRows) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters
-                .withFragment("fetch first " + renderPlaceholder(mapKey) //$NON-NLS-1$
-                    + " rows only") //$NON-NLS-1$
-                .withParameter(mapKey, fetchFirstRows)
-                .buildOptional();
+    private Optional<String> renderFetchFirstRowsOnly() {
+        return pagingModel.fetchFirstRows().map(this::renderFetchFirstRowsOnly);
     }
 
-    private Optional<FragmentAndParameters> renderOffsetOnly(Long offset) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("offset " + renderPlaceholder(mapKey) //$NON-NLS-1$
-                + " rows") //$NON-NLS-1$
-                .withParameter(mapKey, offset)
-                .buildOptional();
+    private String renderFetchFirstRowsOnly(Long fetchFirstRows) {
+        return "fetch first " + renderingContext.bindValue(fetchFirstRows) //$NON-NLS-1$
+                + " rows only"; //$NON-NLS-1$
     }
 
-    private Optional<FragmentAndParameters> renderOffsetAndFetchFirstRows(Long offset, Long fetchFirstRows) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("offset " + renderPlaceholder(mapKey1) //$NON-NLS-1$
-                + " rows fetch first " + renderPlaceholder(mapKey2) //$NON-NLS-1$
-                + " rows only") //$NON-NLS-1$
-                .withParameter(mapKey1, offset)
-                .withParameter(mapKey2, fetchFirstRows)
-                .buildOptional();
+    private Optional<String> renderOffsetOnly(Long offset) {
+        return Optional.of("offset " + renderingContext.bindValue(offset) //$NON-NLS-1$
+                + " rows"); //$NON-NLS-1$
     }
 
-    private String renderPlaceholder(String parameterName) {
-        return renderingStrategy.getFormattedJdbcPlaceholder(RenderingStrategy.DEFAULT_PARAMETER_PREFIX,
-                parameterName);
+    private Optional<String> renderOffsetAndFetchFirstRows(Long offset, Long fetchFirstRows) {
+        String offsetPlaceholder = renderingContext.bindValue(offset);
+        String fetchFirstRowsPlaceholder = renderingContext.bindValue(fetchFirstRows);
+        return Optional.of("offset " + offsetPlaceholder //$NON-NLS-1$
+                + " rows fetch first " + fetchFirstRowsPlaceholder //$NON-NLS-1$
+                + " rows only"); //$NON-NLS-1$
     }
 }
@@ -15,11 +15,8 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
@@ -37,27 +34,42 @@ public class JoinRenderer {
     }
     
     public String render() {
-        return joinModel.mapJoinSpecifications(this::toRenderedString)
-                .collect(Collectors.joining(" ")); //$NON-NLS-1$
+        StringBuilder buffer = new StringBuilder();
+        render(buffer);
+        return buffer.toString();
     }
-    
-    private String toRenderedString(JoinSpecification joinSpecification) {
-        return spaceAfter(joinSpecification.joinType().shortType())
-                + "join" //$NON-NLS-1$
-                + spaceBefore(queryExpression.calculateTableNameIncludingAlias(joinSpecification.table()))
-                + spaceBefore(renderConditions(joinSpecification));
+
+    /**
+     * Appends the join clauses to the supplied buffer. Each join is separated from any existing content in
+     * the buffer by a space.
+     *
+     * @param buffer the buffer holding the statement being rendered
+     */
+    public void render(StringBuilder buffer) {
+        joinModel.mapJoinSpecifications(Function.identity())
+                .forEach(js -> renderJoinSpecification(buffer, js));
     }
-    
-    private String renderConditions(JoinSpecification joinSpecification) {
-        return joinSpecification.mapJoinCriteria(this::renderCriterion)
-                .collect(Collectors.joining(" ")); //$NON-NLS-1$
+
+    private void renderJoinSpecification(StringBuilder buffer, JoinSpecification joinSpecification) {
+        if (buffer.length() > 0) {
+            buffer.append(' ');
+        }
+        joinSpecification.joinType().shortType().ifPresent(st -> buffer.append(st).append(' '));
+        buffer.append("join ") //$NON-NLS-1$
+                .append(queryExpression.calculateTableNameIncludingAlias(joinSpecification.table()));
+        joinSpecification.mapJoinCriteria(Function.identity())
+                .forEach(jc -> renderCriterion(buffer, jc));
     }
-    
-    private String renderCriterion(JoinCriterion joinCriterion) {
-        return joinCriterion.connector()
-                + spaceBefore(applyTableAlias(joinCriterion.leftColumn()))
-                + spaceBefore(joinCriterion.operator())
-                + spaceBefore(applyTableAlias(joinCriterion.rightColumn()));
+
+    private void renderCriterion(StringBuilder buffer, JoinCriterion joinCriterion) {
+        buffer.append(' ')
+                .append(joinCriterion.connector())
+                .append(' ')
+                .append(applyTableAlias(joinCriterion.leftColumn()))
+                .append(' ')
+                .append(joinCriterion.operator())
+                .append(' ')
+                .append(applyTableAlias(joinCriterion.rightColumn()));
     }
     
     private String applyTableAlias(BasicColumn column) {
@@ -0,0 +1,113 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select.render;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.render.RenderingContext;
+import org.mybatis.dynamic.sql.select.Keyset;
+
+/**
+ * Renders the seek predicate of a keyset. The predicate selects the rows that sort after the last key, for
+ * example <code>(a &gt; ?) or (a = ? and b &gt; ?)</code> - or <code>(a, b) &gt; (?, ?)</code> if the keyset
+ * uses a row value comparison. Nothing is rendered for the first page.
+ */
+public class KeysetRenderer {
+    private final Keyset keyset;
+    private final RenderingContext renderingContext;
+
+    private KeysetRenderer(Builder builder) {
+        keyset = Objects.requireNonNull(builder.keyset);
+        renderingContext = Objects.requireNonNull(builder.renderingContext);
+    }
+
+    public Optional<String> render() {
+        return keyset.lastValues().map(this::render);
+    }
+
+    private String render(List<Object> lastValues) {
+        if (keyset.isRowValueComparison()) {
+            return renderRowValueComparison(lastValues);
+        }
+        return IntStream.range(0, lastValues.size())
+                .mapToObj(i -> renderSeekTerm(lastValues, i))
+                .collect(Collectors.joining(" or ")); //$NON-NLS-1$
+    }
+
+    private String renderSeekTerm(List<Object> lastValues, int lastColumn) {
+        return IntStream.rangeClosed(0, lastColumn)
+                .mapToObj(i -> renderComparison(i, lastValues.get(i), i == lastColumn))
+                .collect(Collectors.joining(" and ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    private String renderComparison(int index, Object value, boolean isSeekColumn) {
+        SqlColumn<?> column = keyset.columns().get(index);
+        String operator = isSeekColumn ? seekOperator(column) : "="; //$NON-NLS-1$
+        return columnName(column) + ' ' + operator + ' ' + bindValue(column, value);
+    }
+
+    private String renderRowValueComparison(List<Object> lastValues) {
+        List<SqlColumn<?>> columns = keyset.columns();
+        String columnNames = columns.stream()
+                .map(this::columnName)
+                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        String placeholders = IntStream.range(0, columns.size())
+                .mapToObj(i -> bindValue(columns.get(i), lastValues.get(i)))
+                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        return columnNames + ' ' + seekOperator(columns.get(0)) + ' ' + placeholders;
+    }
+
+    private String seekOperator(SqlColumn<?> column) {
+        return column.isDescending() ? "<" : ">"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private String columnName(SqlColumn<?> column) {
+        return column.renderWithTableAlias(renderingContext.tableAliasCalculator());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private String bindValue(SqlColumn column, Object value) {
+        return renderingContext.bindValue(column, column.convertParameterType(value));
+    }
+
+    public static Builder withKeyset(Keyset keyset) {
+        return new Builder().withKeyset(keyset);
+    }
+
+    public static class Builder {
+        private Keyset keyset;
+        private RenderingContext renderingContext;
+
+        public Builder withKeyset(Keyset keyset) {
+            this.keyset = keyset;
+            return this;
+        }
+
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
+        public KeysetRenderer build() {
+            return new KeysetRenderer(this);
+        }
+    }
+}
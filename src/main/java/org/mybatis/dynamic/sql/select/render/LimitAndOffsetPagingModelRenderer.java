@@ -18,48 +18,76 @@ package org.mybatis.dynamic.sql.select.render;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class LimitAndOffsetPagingModelRenderer {
-    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
     private final Long limit;
     private final PagingModel pagingModel;
+    // only set by the deprecated constructor
     private final AtomicInteger sequence;
 
+    public LimitAndOffsetPagingModelRenderer(RenderingContext renderingContext,
+            Long limit, PagingModel pagingModel) {
+        this(renderingContext, limit, pagingModel, null);
+    }
+
+    /**
+     * Creates a renderer with a new rendering context.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @param limit the limit
+     * @param pagingModel the paging model
+     * @param sequence the parameter sequence - advanced past the paging parameters when they are rendered
+     * @deprecated use {@link #LimitAndOffsetPagingModelRenderer(RenderingContext, Long, PagingModel)}
+     */
+    @Deprecated
     public LimitAndOffsetPagingModelRenderer(RenderingStrategy renderingStrategy,
             Long limit, PagingModel pagingModel, AtomicInteger sequence) {
-        this.renderingStrategy = renderingStrategy;
+        this(RenderingContext.withRenderingStrategy(renderingStrategy).withSequence(sequence.get()).build(),
+                limit, pagingModel, sequence);
+    }
+
+    private LimitAndOffsetPagingModelRenderer(RenderingContext renderingContext,
+            Long limit, PagingModel pagingModel, AtomicInteger sequence) {
+        this.renderingContext = renderingContext;
         this.limit = limit;
         this.pagingModel = pagingModel;
         this.sequence = sequence;
     }
 
+    /**
+     * Renders the paging clause with the parameters of the rendering context.
+     *
+     * @return the rendered paging clause and parameters
+     * @deprecated use {@link #renderPagingClause()} - the parameters are written to the rendering context
+     */
+    @Deprecated
     public Optional<FragmentAndParameters> render() {
-        return pagingModel.offset().map(this::renderLimitAndOffset)
-                .orElseGet(this::renderLimitOnly);
+        return PagingModelRenderer.toFragmentAndParameters(renderPagingClause(), renderingContext, sequence);
     }
 
-    private Optional<FragmentAndParameters> renderLimitOnly() {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("limit " + renderPlaceholder(mapKey)) //$NON-NLS-1$
-                .withParameter(mapKey, limit)
-                .buildOptional();
+    /**
+     * Renders the paging clause. Parameters are written to the rendering context.
+     *
+     * @return the rendered paging clause
+     */
+    public Optional<String> renderPagingClause() {
+        return pagingModel.offset().map(this::renderLimitAndOffset)
+                .orElseGet(this::renderLimitOnly);
     }
 
-    private Optional<FragmentAndParameters> renderLimitAndOffset(Long offset) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
-        return FragmentAndParameters.withFragment("limit " + renderPlaceholder(mapKey1) //$NON-NLS-1$
-                    + " offset " + renderPlaceholder(mapKey2)) //$NON-NLS-1$
-                .withParameter(mapKey1, limit)
-                .withParameter(mapKey2, offset)
-                .buildOptional();
+    private Optional<String> renderLimitOnly() {
+        return Optional.of("limit " + renderingContext.bindValue(limit)); //$NON-NLS-1$
     }
 
-    private String renderPlaceholder(String parameterName) {
-        return renderingStrategy.getFormattedJdbcPlaceholder(RenderingStrategy.DEFAULT_PARAMETER_PREFIX,
-                parameterName);
+    private Optional<String> renderLimitAndOffset(Long offset) {
+        String limitPlaceholder = renderingContext.bindValue(limit);
+        String offsetPlaceholder = renderingContext.bindValue(offset);
+        return Optional.of("limit " + limitPlaceholder //$NON-NLS-1$
+                + " offset " + offsetPlaceholder); //$NON-NLS-1$
     }
 }
@@ -19,40 +19,86 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 public class PagingModelRenderer {
-    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
     private final PagingModel pagingModel;
+    // only set by the deprecated builder methods
     private final AtomicInteger sequence;
 
     private PagingModelRenderer(Builder builder) {
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
         pagingModel = Objects.requireNonNull(builder.pagingModel);
-        sequence = Objects.requireNonNull(builder.sequence);
+        sequence = builder.sequence;
+        renderingContext = builder.renderingContext().orElseGet(builder::legacyRenderingContext);
     }
 
+    /**
+     * Renders the paging clause with the parameters of the rendering context.
+     *
+     * @return the rendered paging clause and parameters, or empty if there is nothing to render
+     * @deprecated use {@link #renderPagingClause()} - the parameters are written to the rendering context
+     */
+    @Deprecated
     public Optional<FragmentAndParameters> render() {
+        return toFragmentAndParameters(renderPagingClause(), renderingContext, sequence);
+    }
+
+    /**
+     * Renders the paging clause as part of an enclosing statement. Parameters are written to the rendering
+     * context.
+     *
+     * @return the rendered paging clause, or empty if there is nothing to render
+     */
+    public Optional<String> renderPagingClause() {
         return pagingModel.limit().map(this::limitAndOffsetRender)
                 .orElseGet(this::fetchFirstRender);
     }
 
-    private Optional<FragmentAndParameters> limitAndOffsetRender(Long limit) {
-        return new LimitAndOffsetPagingModelRenderer(renderingStrategy, limit,
-                pagingModel, sequence).render();
+    private Optional<String> limitAndOffsetRender(Long limit) {
+        return new LimitAndOffsetPagingModelRenderer(renderingContext, limit, pagingModel).renderPagingClause();
+    }
+
+    private Optional<String> fetchFirstRender() {
+        return new FetchFirstPagingModelRenderer(renderingContext, pagingModel).renderPagingClause();
     }
 
-    private Optional<FragmentAndParameters> fetchFirstRender() {
-        return new FetchFirstPagingModelRenderer(renderingStrategy, pagingModel, sequence).render();
+    /**
+     * Adapts a rendered paging clause to the return type of the deprecated render methods, and advances the
+     * sequence of the deprecated API past the rendered parameters.
+     */
+    static Optional<FragmentAndParameters> toFragmentAndParameters(Optional<String> pagingClause,
+            RenderingContext renderingContext, AtomicInteger sequence) {
+        if (sequence != null) {
+            sequence.set(renderingContext.sequence());
+        }
+        return pagingClause.map(pc -> FragmentAndParameters.withFragment(pc)
+                .withParameters(renderingContext.parameters().asMap())
+                .build());
     }
 
     public static class Builder {
+        private RenderingContext renderingContext;
         private RenderingStrategy renderingStrategy;
         private PagingModel pagingModel;
         private AtomicInteger sequence;
 
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+
+        /**
+         * Sets the rendering strategy of a new rendering context.
+         *
+         * @param renderingStrategy the rendering strategy
+         * @return this builder
+         * @deprecated use {@link #withRenderingContext(RenderingContext)}
+         */
+        @Deprecated
         public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
             this.renderingStrategy = renderingStrategy;
             return this;
@@ -63,11 +109,30 @@ public class PagingModelRenderer {
             return this;
         }
 
+        /**
+         * Sets the parameter sequence of a new rendering context. The sequence is advanced past the paging
+         * parameters when they are rendered.
+         *
+         * @param sequence the parameter sequence
+         * @return this builder
+         * @deprecated use {@link #withRenderingContext(RenderingContext)}
+         */
+        @Deprecated
         public Builder withSequence(AtomicInteger sequence) {
             this.sequence = sequence;
             return this;
         }
 
+        private Optional<RenderingContext> renderingContext() {
+            return Optional.ofNullable(renderingContext);
+        }
+
+        private RenderingContext legacyRenderingContext() {
+            return RenderingContext.withRenderingStrategy(renderingStrategy)
+                    .withSequence(Objects.requireNonNull(sequence).get())
+                    .build();
+        }
+
         public PagingModelRenderer build() {
             return new PagingModelRenderer(this);
         }
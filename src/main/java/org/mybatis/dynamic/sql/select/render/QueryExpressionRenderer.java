@@ -15,108 +15,126 @@
  */
 package org.mybatis.dynamic.sql.select.render;
 
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
-import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
-
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.BasicColumn;
-import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.GroupByModel;
+import org.mybatis.dynamic.sql.select.Keyset;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.join.JoinModel;
 import org.mybatis.dynamic.sql.util.CustomCollectors;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class QueryExpressionRenderer {
+    private static final String WHERE_PREFIX = "where "; //$NON-NLS-1$
+
     private final QueryExpressionModel queryExpression;
-    private final RenderingStrategy renderingStrategy;
+    private final RenderingContext renderingContext;
+    // only set by the deprecated builder methods
     private final AtomicInteger sequence;
     
     private QueryExpressionRenderer(Builder builder) {
         queryExpression = Objects.requireNonNull(builder.queryExpression);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = Objects.requireNonNull(builder.sequence);
+        sequence = builder.sequence;
+        renderingContext = builder.renderingContext().orElseGet(builder::legacyRenderingContext)
+                .withTableAliasCalculator(queryExpression.tableAliasCalculator());
     }
     
     public FragmentAndParameters render() {
-        return queryExpression.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(this::renderWithWhereClause)
-                .orElseGet(this::renderWithoutWhereClause);
-    }
-    
-    private FragmentAndParameters renderWithWhereClause(WhereClauseProvider whereClause) {
-        return FragmentAndParameters.withFragment(calculateQueryExpression(whereClause))
-                .withParameters(whereClause.getParameters())
-                .build();
-    }
-    
-    private FragmentAndParameters renderWithoutWhereClause() {
-        return FragmentAndParameters.withFragment(calculateQueryExpression())
+        StringBuilder buffer = new StringBuilder();
+        render(buffer);
+        if (sequence != null) {
+            sequence.set(renderingContext.sequence());
+        }
+        return FragmentAndParameters.withFragment(buffer.toString())
+                .withParameters(renderingContext.parameters().asMap())
                 .build();
     }
 
-    private String calculateQueryExpression() {
-        return calculateQueryExpressionStart()
-                + spaceBefore(queryExpression.groupByModel().map(this::renderGroupBy));
+    /**
+     * Appends the query expression to the statement buffer in a single pass. Parameters from the where clause
+     * are written to the rendering context of the statement.
+     *
+     * @param buffer the buffer holding the statement being rendered
+     */
+    void render(StringBuilder buffer) {
+        queryExpression.connector().ifPresent(c -> buffer.append(c).append(' '));
+        buffer.append("select "); //$NON-NLS-1$
+        if (queryExpression.isDistinct()) {
+            buffer.append("distinct "); //$NON-NLS-1$
+        }
+        queryExpression.mapColumns(this::applyTableAndColumnAlias)
+                .collect(CustomCollectors.appending(buffer, ", ", "", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        buffer.append(" from ") //$NON-NLS-1$
+                .append(queryExpression.calculateTableNameIncludingAlias(queryExpression.table()));
+        queryExpression.joinModel().ifPresent(jm -> renderJoin(buffer, jm));
+        renderWhereClause().ifPresent(wc -> buffer.append(' ').append(wc));
+        queryExpression.groupByModel().ifPresent(gbm -> renderGroupBy(buffer, gbm));
     }
 
-    private String calculateQueryExpression(WhereClauseProvider whereClause) {
-        return calculateQueryExpressionStart()
-                + spaceBefore(whereClause.getWhereClause())
-                + spaceBefore(queryExpression.groupByModel().map(this::renderGroupBy));
+    private String applyTableAndColumnAlias(BasicColumn selectListItem) {
+        return selectListItem.renderWithTableAndColumnAlias(queryExpression.tableAliasCalculator());
     }
-
-    private String calculateQueryExpressionStart() {
-        return spaceAfter(queryExpression.connector())
-                + "select " //$NON-NLS-1$
-                + (queryExpression.isDistinct() ? "distinct " : "") //$NON-NLS-1$ //$NON-NLS-2$
-                + calculateColumnList()
-                + " from " //$NON-NLS-1$
-                + calculateTableName(queryExpression.table())
-                + spaceBefore(queryExpression.joinModel().map(this::renderJoin));
+    
+    private void renderJoin(StringBuilder buffer, JoinModel joinModel) {
+        JoinRenderer.withJoinModel(joinModel)
+                .withQueryExpression(queryExpression)
+                .build()
+                .render(buffer);
     }
     
-    private String calculateColumnList() {
-        return queryExpression.mapColumns(this::applyTableAndColumnAlias)
-                .collect(Collectors.joining(", ")); //$NON-NLS-1$
+    /**
+     * Renders the where clause, the additional restrictions and the seek predicate of the query expression. If
+     * more than one renders, each is parenthesized and they are combined with "and".
+     *
+     * @return the rendered where clause, or empty if nothing renders
+     */
+    private Optional<String> renderWhereClause() {
+        List<String> predicates = new ArrayList<>();
+        queryExpression.whereModel().flatMap(this::renderPredicate).ifPresent(predicates::add);
+        queryExpression.mapRestrictions(this::renderPredicate).forEach(p -> p.ifPresent(predicates::add));
+        queryExpression.keyset().flatMap(this::renderSeekPredicate).ifPresent(predicates::add);
+        if (predicates.isEmpty()) {
+            return Optional.empty();
+        } else if (predicates.size() == 1) {
+            return Optional.of(WHERE_PREFIX + predicates.get(0));
+        }
+        String combinedPredicates = predicates.stream()
+                .collect(Collectors.joining(") and (", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        return Optional.of(WHERE_PREFIX + combinedPredicates);
     }
 
-    private String calculateTableName(SqlTable table) {
-        return queryExpression.calculateTableNameIncludingAlias(table);
+    private Optional<String> renderPredicate(WhereModel whereModel) {
+        return renderWhereClause(whereModel).map(wc -> wc.substring(WHERE_PREFIX.length()));
     }
-    
-    private String applyTableAndColumnAlias(BasicColumn selectListItem) {
-        return selectListItem.renderWithTableAndColumnAlias(queryExpression.tableAliasCalculator());
-    }
-    
-    private String renderJoin(JoinModel joinModel) {
-        return JoinRenderer.withJoinModel(joinModel)
-                .withQueryExpression(queryExpression)
+
+    private Optional<String> renderSeekPredicate(Keyset keyset) {
+        return KeysetRenderer.withKeyset(keyset)
+                .withRenderingContext(renderingContext)
                 .build()
                 .render();
     }
-    
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
+
+    private Optional<String> renderWhereClause(WhereModel whereModel) {
         return WhereRenderer.withWhereModel(whereModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withTableAliasCalculator(queryExpression.tableAliasCalculator())
-                .withSequence(sequence)
+                .withRenderingContext(renderingContext)
                 .build()
-                .render();
+                .renderWhereClause();
     }
 
-    private String renderGroupBy(GroupByModel groupByModel) {
-        return groupByModel.mapColumns(this::applyTableAlias)
-                .collect(CustomCollectors.joining(", ", "group by ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    private void renderGroupBy(StringBuilder buffer, GroupByModel groupByModel) {
+        buffer.append(' ');
+        groupByModel.mapColumns(this::applyTableAlias)
+                .collect(CustomCollectors.appending(buffer, ", ", "group by ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
     
     private String applyTableAlias(BasicColumn column) {
@@ -129,6 +147,7 @@ public class QueryExpressionRenderer {
     
     public static class Builder {
         private QueryExpressionModel queryExpression;
+        private RenderingContext renderingContext;
         private RenderingStrategy renderingStrategy;
         private AtomicInteger sequence;
         
@@ -137,16 +156,48 @@ public class QueryExpressionRenderer {
             return this;
         }
         
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+        
+        /**
+         * Sets the rendering strategy of a new rendering context.
+         *
+         * @param renderingStrategy the rendering strategy
+         * @return this builder
+         * @deprecated use {@link #withRenderingContext(RenderingContext)}
+         */
+        @Deprecated
         public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
             this.renderingStrategy = renderingStrategy;
             return this;
         }
         
+        /**
+         * Sets the parameter sequence of a new rendering context. The sequence is advanced past the parameters of
+         * the query expression when it is rendered.
+         *
+         * @param sequence the parameter sequence
+         * @return this builder
+         * @deprecated use {@link #withRenderingContext(RenderingContext)}
+         */
+        @Deprecated
         public Builder withSequence(AtomicInteger sequence) {
             this.sequence = sequence;
             return this;
         }
         
+        private Optional<RenderingContext> renderingContext() {
+            return Optional.ofNullable(renderingContext);
+        }
+        
+        private RenderingContext legacyRenderingContext() {
+            return RenderingContext.withRenderingStrategy(renderingStrategy)
+                    .withSequence(Objects.requireNonNull(sequence).get())
+                    .build();
+        }
+        
         public QueryExpressionRenderer build() {
             return new QueryExpressionRenderer(this);
         }
@@ -18,59 +18,81 @@ package org.mybatis.dynamic.sql.select.render;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.SortSpecification;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.select.OrderByModel;
 import org.mybatis.dynamic.sql.select.PagingModel;
 import org.mybatis.dynamic.sql.select.QueryExpressionModel;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.util.CustomCollectors;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public class SelectRenderer {
     private final SelectModel selectModel;
     private final RenderingStrategy renderingStrategy;
+    // only set by the deprecated builder method
     private final AtomicInteger sequence;
 
     private SelectRenderer(Builder builder) {
         selectModel = Objects.requireNonNull(builder.selectModel);
         renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = builder.sequence().orElseGet(() -> new AtomicInteger(1));
+        sequence = builder.sequence;
     }
 
     public SelectStatementProvider render() {
-        FragmentCollector fragmentCollector = selectModel
-                .mapQueryExpressions(this::renderQueryExpression)
-                .collect(FragmentCollector.collect());
-        renderOrderBy(fragmentCollector);
-        renderPagingModel(fragmentCollector);
-
-        String selectStatement = fragmentCollector.fragments().collect(Collectors.joining(" ")); //$NON-NLS-1$
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence == null ? 1 : sequence.get())
+                .build();
+        String selectStatement = render(renderingContext);
+        if (sequence != null) {
+            sequence.set(renderingContext.sequence());
+        }
 
         return DefaultSelectStatementProvider.withSelectStatement(selectStatement)
-                .withParameters(fragmentCollector.parameters())
+                .withParameters(renderingContext.parameters())
                 .build();
     }
 
-    private FragmentAndParameters renderQueryExpression(QueryExpressionModel queryExpressionModel) {
+    /**
+     * Renders the statement in a single pass - every clause is appended to one buffer. Parameters are
+     * written to the supplied rendering context, so this method can also be used to render a subselect as part
+     * of an enclosing statement.
+     *
+     * @param renderingContext the rendering context of the statement being rendered
+     * @return the rendered select statement
+     */
+    public String render(RenderingContext renderingContext) {
+        StringBuilder buffer = new StringBuilder();
+        selectModel.mapQueryExpressions(qem -> queryExpressionRenderer(qem, renderingContext))
+                .forEach(qer -> renderQueryExpression(buffer, qer));
+        selectModel.orderByModel().ifPresent(om -> renderOrderBy(buffer, om));
+        selectModel.pagingModel().flatMap(pm -> renderPagingModel(pm, renderingContext))
+                .ifPresent(pf -> buffer.append(' ').append(pf));
+        if (selectModel.isRowCount()) {
+            return "select count(*) from (" + buffer + ") count_source"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return buffer.toString();
+    }
+
+    private QueryExpressionRenderer queryExpressionRenderer(QueryExpressionModel queryExpressionModel,
+            RenderingContext renderingContext) {
         return QueryExpressionRenderer.withQueryExpression(queryExpressionModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .build()
-                .render();
+                .withRenderingContext(renderingContext)
+                .build();
     }
 
-    private void renderOrderBy(FragmentCollector fragmentCollector) {
-        selectModel.orderByModel().ifPresent(om -> renderOrderBy(fragmentCollector, om));
+    private void renderQueryExpression(StringBuilder buffer, QueryExpressionRenderer queryExpressionRenderer) {
+        if (buffer.length() > 0) {
+            buffer.append(' ');
+        }
+        queryExpressionRenderer.render(buffer);
     }
 
-    private void renderOrderBy(FragmentCollector fragmentCollector, OrderByModel orderByModel) {
-        String phrase = orderByModel.mapColumns(this::calculateOrderByPhrase)
-                .collect(CustomCollectors.joining(", ", "order by ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        fragmentCollector.add(FragmentAndParameters.withFragment(phrase).build());
+    private void renderOrderBy(StringBuilder buffer, OrderByModel orderByModel) {
+        buffer.append(' ');
+        orderByModel.mapColumns(this::calculateOrderByPhrase)
+                .collect(CustomCollectors.appending(buffer, ", ", "order by ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
     private String calculateOrderByPhrase(SortSpecification column) {
@@ -81,18 +103,12 @@ public class SelectRenderer {
         return phrase;
     }
 
-    private void renderPagingModel(FragmentCollector fragmentCollector) {
-        selectModel.pagingModel().flatMap(this::renderPagingModel)
-            .ifPresent(fragmentCollector::add);
-    }
-
-    private Optional<FragmentAndParameters> renderPagingModel(PagingModel pagingModel) {
+    private Optional<String> renderPagingModel(PagingModel pagingModel, RenderingContext renderingContext) {
         return new PagingModelRenderer.Builder()
                 .withPagingModel(pagingModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
+                .withRenderingContext(renderingContext)
                 .build()
-                .render();
+                .renderPagingClause();
     }
 
     public static Builder withSelectModel(SelectModel selectModel) {
@@ -114,15 +130,21 @@ public class SelectRenderer {
             return this;
         }
 
+        /**
+         * Sets the number of the first parameter map key. The sequence is advanced past the parameters of the
+         * statement when it is rendered.
+         *
+         * @param sequence the parameter sequence
+         * @return this builder
+         * @deprecated render a statement that is part of an enclosing statement with
+         *     {@link SelectRenderer#render(RenderingContext)}
+         */
+        @Deprecated
         public Builder withSequence(AtomicInteger sequence) {
             this.sequence = sequence;
             return this;
         }
 
-        private Optional<AtomicInteger> sequence() {
-            return Optional.ofNullable(sequence);
-        }
-
         public SelectRenderer build() {
             return new SelectRenderer(this);
         }
@@ -0,0 +1,134 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * DSL for update statements that are rendered once and executed for every record of a batch. Set and where
+ * mappings are written in terms of record properties.
+ *
+ * @param <T> the type of record
+ */
+public class BatchUpdateDSL<T> implements Buildable<BatchUpdateModel<T>> {
+
+    private final Collection<T> records;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+    private final List<PropertyMapping> whereMappings = new ArrayList<>();
+
+    private BatchUpdateDSL(Collection<T> records, SqlTable table) {
+        this.records = records;
+        this.table = table;
+    }
+
+    public <F> SetMappingFinisher<F> set(SqlColumn<F> column) {
+        return new SetMappingFinisher<>(column);
+    }
+
+    public <F> WhereMappingFinisher<F> where(SqlColumn<F> column) {
+        return new WhereMappingFinisher<>(column);
+    }
+
+    public <F> WhereMappingFinisher<F> and(SqlColumn<F> column) {
+        return new WhereMappingFinisher<>(column);
+    }
+
+    @NotNull
+    @Override
+    public BatchUpdateModel<T> build() {
+        return BatchUpdateModel.withRecords(records)
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .withWhereMappings(whereMappings)
+                .build();
+    }
+
+    @SafeVarargs
+    public static <T> TableGatherer<T> update(T...records) {
+        return BatchUpdateDSL.update(Arrays.asList(records));
+    }
+
+    public static <T> TableGatherer<T> update(Collection<T> records) {
+        return new TableGatherer<>(records);
+    }
+
+    public static class TableGatherer<T> {
+        private final Collection<T> records;
+
+        private TableGatherer(Collection<T> records) {
+            this.records = records;
+        }
+
+        public BatchUpdateDSL<T> table(SqlTable table) {
+            return new BatchUpdateDSL<>(records, table);
+        }
+    }
+
+    public class SetMappingFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public SetMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public BatchUpdateDSL<T> toProperty(String property) {
+            columnMappings.add(PropertyMapping.of(column, property));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toNull() {
+            columnMappings.add(NullMapping.of(column));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toConstant(String constant) {
+            columnMappings.add(ConstantMapping.of(column, constant));
+            return BatchUpdateDSL.this;
+        }
+
+        public BatchUpdateDSL<T> toStringConstant(String constant) {
+            columnMappings.add(StringConstantMapping.of(column, constant));
+            return BatchUpdateDSL.this;
+        }
+    }
+
+    public class WhereMappingFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public WhereMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public BatchUpdateDSL<T> isEqualToProperty(String property) {
+            whereMappings.add(PropertyMapping.of(column, property));
+            return BatchUpdateDSL.this;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.BatchUpdateRenderer;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+public class BatchUpdateModel<T> {
+    private final SqlTable table;
+    private final List<T> records;
+    private final List<AbstractColumnMapping> columnMappings;
+    private final List<PropertyMapping> whereMappings;
+
+    private BatchUpdateModel(Builder<T> builder) {
+        table = Objects.requireNonNull(builder.table);
+        records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
+        columnMappings = Objects.requireNonNull(builder.columnMappings);
+        whereMappings = Objects.requireNonNull(builder.whereMappings);
+        if (columnMappings.isEmpty()) {
+            throw new IllegalArgumentException("A batch update must set at least one column"); //$NON-NLS-1$
+        }
+        if (whereMappings.isEmpty()) {
+            throw new IllegalArgumentException("A batch update must have at least one where mapping"); //$NON-NLS-1$
+        }
+    }
+
+    public <R> Stream<R> mapColumnMappings(Function<AbstractColumnMapping, R> mapper) {
+        return columnMappings.stream().map(mapper);
+    }
+
+    public <R> Stream<R> mapWhereMappings(Function<PropertyMapping, R> mapper) {
+        return whereMappings.stream().map(mapper);
+    }
+
+    public List<T> records() {
+        return records;
+    }
+
+    public SqlTable table() {
+        return table;
+    }
+
+    @NotNull
+    public BatchUpdate<T> render(RenderingStrategy renderingStrategy) {
+        return BatchUpdateRenderer.withBatchUpdateModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render();
+    }
+
+    public static <T> Builder<T> withRecords(Collection<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private SqlTable table;
+        private final List<T> records = new ArrayList<>();
+        private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private final List<PropertyMapping> whereMappings = new ArrayList<>();
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<T> withRecords(Collection<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+
+        public Builder<T> withColumnMappings(List<AbstractColumnMapping> columnMappings) {
+            this.columnMappings.addAll(columnMappings);
+            return this;
+        }
+
+        public Builder<T> withWhereMappings(List<PropertyMapping> whereMappings) {
+            this.whereMappings.addAll(whereMappings);
+            return this;
+        }
+
+        public BatchUpdateModel<T> build() {
+            return new BatchUpdateModel<>(this);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.ConstantMapping;
+import org.mybatis.dynamic.sql.util.NullMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+import org.mybatis.dynamic.sql.util.StringConstantMapping;
+
+/**
+ * DSL for updating many records with a single statement. Each column mapped to a property is set with a case
+ * expression on the key column, and the statement is limited to the keys of the records - for example
+ * <code>update foo set a = case id when ? then ? when ? then ? end where id in (?, ?)</code>.
+ *
+ * @param <T> the type of record
+ */
+public class MultiRowUpdateDSL<T> implements Buildable<MultiRowUpdateModel<T>> {
+
+    private final Collection<T> records;
+    private final SqlTable table;
+    private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+    private PropertyMapping keyMapping;
+    private Integer maxRowsPerStatement;
+    private Integer maxParametersPerStatement;
+
+    private MultiRowUpdateDSL(Collection<T> records, SqlTable table) {
+        this.records = records;
+        this.table = table;
+    }
+
+    public <F> SetMappingFinisher<F> set(SqlColumn<F> column) {
+        return new SetMappingFinisher<>(column);
+    }
+
+    public <F> WhereMappingFinisher<F> where(SqlColumn<F> keyColumn) {
+        return new WhereMappingFinisher<>(keyColumn);
+    }
+
+    /**
+     * Limits the number of rows in each statement when the model is rendered with
+     * {@link MultiRowUpdateModel#renderChunks(org.mybatis.dynamic.sql.render.RenderingStrategy)}.
+     *
+     * @param maxRowsPerStatement the maximum number of rows in each statement
+     * @return this DSL
+     */
+    public MultiRowUpdateDSL<T> withMaxRowsPerStatement(int maxRowsPerStatement) {
+        this.maxRowsPerStatement = maxRowsPerStatement;
+        return this;
+    }
+
+    /**
+     * Limits the number of bind parameters in each statement when the model is rendered with
+     * {@link MultiRowUpdateModel#renderChunks(org.mybatis.dynamic.sql.render.RenderingStrategy)}. Each row binds
+     * its key once for the where clause, and its key and value once for each column mapped to a property.
+     *
+     * @param maxParametersPerStatement the maximum number of bind parameters in each statement
+     * @return this DSL
+     */
+    public MultiRowUpdateDSL<T> withMaxParametersPerStatement(int maxParametersPerStatement) {
+        this.maxParametersPerStatement = maxParametersPerStatement;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public MultiRowUpdateModel<T> build() {
+        return MultiRowUpdateModel.withRecords(records)
+                .withTable(table)
+                .withColumnMappings(columnMappings)
+                .withKeyMapping(keyMapping)
+                .withMaxRowsPerStatement(maxRowsPerStatement)
+                .withMaxParametersPerStatement(maxParametersPerStatement)
+                .build();
+    }
+
+    @SafeVarargs
+    public static <T> TableGatherer<T> update(T...records) {
+        return MultiRowUpdateDSL.update(Arrays.asList(records));
+    }
+
+    public static <T> TableGatherer<T> update(Collection<T> records) {
+        return new TableGatherer<>(records);
+    }
+
+    public static class TableGatherer<T> {
+        private final Collection<T> records;
+
+        private TableGatherer(Collection<T> records) {
+            this.records = records;
+        }
+
+        public MultiRowUpdateDSL<T> table(SqlTable table) {
+            return new MultiRowUpdateDSL<>(records, table);
+        }
+    }
+
+    public class SetMappingFinisher<F> {
+        private final SqlColumn<F> column;
+
+        public SetMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        public MultiRowUpdateDSL<T> toProperty(String property) {
+            columnMappings.add(PropertyMapping.of(column, property));
+            return MultiRowUpdateDSL.this;
+        }
+
+        public MultiRowUpdateDSL<T> toNull() {
+            columnMappings.add(NullMapping.of(column));
+            return MultiRowUpdateDSL.this;
+        }
+
+        public MultiRowUpdateDSL<T> toConstant(String constant) {
+            columnMappings.add(ConstantMapping.of(column, constant));
+            return MultiRowUpdateDSL.this;
+        }
+
+        public MultiRowUpdateDSL<T> toStringConstant(String constant) {
+            columnMappings.add(StringConstantMapping.of(column, constant));
+            return MultiRowUpdateDSL.this;
+        }
+    }
+
+    public class WhereMappingFinisher<F> {
+        private final SqlColumn<F> keyColumn;
+
+        public WhereMappingFinisher(SqlColumn<F> keyColumn) {
+            this.keyColumn = keyColumn;
+        }
+
+        public MultiRowUpdateDSL<T> isEqualToProperty(String property) {
+            keyMapping = PropertyMapping.of(keyColumn, property);
+            return MultiRowUpdateDSL.this;
+        }
+    }
+}
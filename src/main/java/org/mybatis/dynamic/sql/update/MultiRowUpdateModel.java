@@ -0,0 +1,162 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.render.MultiRowUpdateRenderer;
+import org.mybatis.dynamic.sql.update.render.MultiRowUpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+import org.mybatis.dynamic.sql.util.PropertyMapping;
+
+public class MultiRowUpdateModel<T> {
+    private final SqlTable table;
+    private final List<T> records;
+    private final List<AbstractColumnMapping> columnMappings;
+    private final PropertyMapping keyMapping;
+    private final Integer maxRowsPerStatement;
+    private final Integer maxParametersPerStatement;
+
+    private MultiRowUpdateModel(Builder<T> builder) {
+        table = Objects.requireNonNull(builder.table);
+        records = Collections.unmodifiableList(Objects.requireNonNull(builder.records));
+        columnMappings = Objects.requireNonNull(builder.columnMappings);
+        if (columnMappings.isEmpty()) {
+            throw new IllegalArgumentException("A multi-row update must set at least one column"); //$NON-NLS-1$
+        }
+        if (builder.keyMapping == null) {
+            throw new IllegalArgumentException("A multi-row update must have a where mapping"); //$NON-NLS-1$
+        }
+        keyMapping = builder.keyMapping;
+        maxRowsPerStatement = validateLimit(builder.maxRowsPerStatement);
+        maxParametersPerStatement = validateLimit(builder.maxParametersPerStatement);
+    }
+
+    private static Integer validateLimit(Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Statement limits must be at least 1"); //$NON-NLS-1$
+        }
+        return limit;
+    }
+
+    public <R> Stream<R> mapColumnMappings(Function<AbstractColumnMapping, R> mapper) {
+        return columnMappings.stream().map(mapper);
+    }
+
+    public PropertyMapping keyMapping() {
+        return keyMapping;
+    }
+
+    public List<T> records() {
+        return records;
+    }
+
+    public SqlTable table() {
+        return table;
+    }
+
+    public int recordCount() {
+        return records.size();
+    }
+
+    public Optional<Integer> maxRowsPerStatement() {
+        return Optional.ofNullable(maxRowsPerStatement);
+    }
+
+    public Optional<Integer> maxParametersPerStatement() {
+        return Optional.ofNullable(maxParametersPerStatement);
+    }
+
+    @NotNull
+    public MultiRowUpdateStatementProvider<T> render(RenderingStrategy renderingStrategy) {
+        return MultiRowUpdateRenderer.withMultiRowUpdateModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .render();
+    }
+
+    /**
+     * Renders the records in as many statements as needed to keep each statement under the row and parameter
+     * limits of this model.
+     *
+     * @param renderingStrategy the rendering strategy
+     * @return the rendered statements - one for each chunk of records
+     */
+    @NotNull
+    public List<MultiRowUpdateStatementProvider<T>> renderChunks(RenderingStrategy renderingStrategy) {
+        return MultiRowUpdateRenderer.withMultiRowUpdateModel(this)
+                .withRenderingStrategy(renderingStrategy)
+                .build()
+                .renderChunks();
+    }
+
+    public static <T> Builder<T> withRecords(Collection<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private SqlTable table;
+        private final List<T> records = new ArrayList<>();
+        private final List<AbstractColumnMapping> columnMappings = new ArrayList<>();
+        private PropertyMapping keyMapping;
+        private Integer maxRowsPerStatement;
+        private Integer maxParametersPerStatement;
+
+        public Builder<T> withTable(SqlTable table) {
+            this.table = table;
+            return this;
+        }
+
+        public Builder<T> withRecords(Collection<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+
+        public Builder<T> withColumnMappings(List<AbstractColumnMapping> columnMappings) {
+            this.columnMappings.addAll(columnMappings);
+            return this;
+        }
+
+        public Builder<T> withKeyMapping(PropertyMapping keyMapping) {
+            this.keyMapping = keyMapping;
+            return this;
+        }
+
+        public Builder<T> withMaxRowsPerStatement(Integer maxRowsPerStatement) {
+            this.maxRowsPerStatement = maxRowsPerStatement;
+            return this;
+        }
+
+        public Builder<T> withMaxParametersPerStatement(Integer maxParametersPerStatement) {
+            this.maxParametersPerStatement = maxParametersPerStatement;
+            return this;
+        }
+
+        public MultiRowUpdateModel<T> build() {
+            return new MultiRowUpdateModel<>(this);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.insert.render.BatchValuePhraseVisitor;
+import org.mybatis.dynamic.sql.insert.render.FieldAndValue;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
+
+public class BatchUpdateRenderer<T> {
+
+    private final BatchUpdateModel<T> model;
+    private final RenderingStrategy renderingStrategy;
+
+    private BatchUpdateRenderer(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+    }
+
+    public BatchUpdate<T> render() {
+        BatchValuePhraseVisitor visitor = new BatchValuePhraseVisitor(renderingStrategy, "record"); //$NON-NLS-1$
+
+        String setPhrase = model.mapColumnMappings(m -> m.accept(visitor))
+                .map(this::toAssignment)
+                .collect(Collectors.joining(", ", "set ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        String whereClause = model.mapWhereMappings(m -> m.accept(visitor))
+                .map(this::toAssignment)
+                .collect(Collectors.joining(" and ", "where ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        return BatchUpdate.withRecords(model.records())
+                .withUpdateStatement("update" //$NON-NLS-1$
+                        + spaceBefore(model.table().tableNameAtRuntime())
+                        + spaceBefore(setPhrase)
+                        + spaceBefore(whereClause))
+                .build();
+    }
+
+    private String toAssignment(FieldAndValue fieldAndValue) {
+        return fieldAndValue.fieldName() + " = " + fieldAndValue.valuePhrase(); //$NON-NLS-1$
+    }
+
+    public static <T> Builder<T> withBatchUpdateModel(BatchUpdateModel<T> model) {
+        return new Builder<T>().withBatchUpdateModel(model);
+    }
+
+    public static class Builder<T> {
+        private BatchUpdateModel<T> model;
+        private RenderingStrategy renderingStrategy;
+
+        public Builder<T> withBatchUpdateModel(BatchUpdateModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public BatchUpdateRenderer<T> build() {
+            return new BatchUpdateRenderer<>(this);
+        }
+    }
+}
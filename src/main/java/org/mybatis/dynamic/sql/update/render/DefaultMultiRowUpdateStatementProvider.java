@@ -0,0 +1,65 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultMultiRowUpdateStatementProvider<T> implements MultiRowUpdateStatementProvider<T> {
+
+    private final List<T> records;
+    private final String updateStatement;
+
+    private DefaultMultiRowUpdateStatementProvider(Builder<T> builder) {
+        updateStatement = Objects.requireNonNull(builder.updateStatement);
+        records = Collections.unmodifiableList(builder.records);
+    }
+
+    @Override
+    public String getUpdateStatement() {
+        return updateStatement;
+    }
+
+    @Override
+    public List<T> getRecords() {
+        return records;
+    }
+
+    public static <T> Builder<T> withRecords(List<T> records) {
+        return new Builder<T>().withRecords(records);
+    }
+
+    public static class Builder<T> {
+        private final List<T> records = new ArrayList<>();
+        private String updateStatement;
+
+        public Builder<T> withRecords(List<T> records) {
+            this.records.addAll(records);
+            return this;
+        }
+
+        public Builder<T> withUpdateStatement(String updateStatement) {
+            this.updateStatement = updateStatement;
+            return this;
+        }
+
+        public DefaultMultiRowUpdateStatementProvider<T> build() {
+            return new DefaultMultiRowUpdateStatementProvider<>(this);
+        }
+    }
+}
@@ -15,17 +15,24 @@
  */
 package org.mybatis.dynamic.sql.update.render;
 
+import java.sql.JDBCType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.mybatis.dynamic.sql.render.ParameterAccumulator;
+
 public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
     private final String updateStatement;
     private final Map<String, Object> parameters = new HashMap<>();
+    private final Object[] parameterValues;
+    private final JDBCType[] parameterTypes;
 
     private DefaultUpdateStatementProvider(Builder builder) {
         updateStatement = Objects.requireNonNull(builder.updateStatement);
         parameters.putAll(builder.parameters);
+        parameterValues = builder.parameterValues;
+        parameterTypes = builder.parameterTypes;
     }
 
     @Override
@@ -33,6 +40,16 @@ public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
         return parameters;
     }
 
+    @Override
+    public Object[] getParameterValues() {
+        return parameterValues.clone();
+    }
+
+    @Override
+    public JDBCType[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
+
     @Override
     public String getUpdateStatement() {
         return updateStatement;
@@ -45,6 +62,8 @@ public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
     public static class Builder {
         private String updateStatement;
         private final Map<String, Object> parameters = new HashMap<>();
+        private Object[] parameterValues = new Object[0];
+        private JDBCType[] parameterTypes = new JDBCType[0];
         
         public Builder withUpdateStatement(String updateStatement) {
             this.updateStatement = updateStatement;
@@ -55,6 +74,13 @@ public class DefaultUpdateStatementProvider implements UpdateStatementProvider {
             this.parameters.putAll(parameters);
             return this;
         }
+
+        public Builder withParameters(ParameterAccumulator parameters) {
+            this.parameters.putAll(parameters.asMap());
+            parameterValues = parameters.values();
+            parameterTypes = parameters.jdbcTypes();
+            return this;
+        }
         
         public DefaultUpdateStatementProvider build() {
             return new DefaultUpdateStatementProvider(this);
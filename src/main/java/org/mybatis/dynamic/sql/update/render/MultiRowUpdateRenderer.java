@@ -0,0 +1,194 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.insert.render.MultiRowValuesTemplate;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.update.MultiRowUpdateModel;
+import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
+
+/**
+ * Renders a multi-row update. Placeholders refer to the records of the statement by index, like the placeholders
+ * of a multi-row insert, and are calculated once as {@link MultiRowValuesTemplate}s, so each statement is rendered
+ * by appending segments and row indexes.
+ */
+public class MultiRowUpdateRenderer<T> {
+    private final MultiRowUpdateModel<T> model;
+    private final RenderingStrategy renderingStrategy;
+
+    private MultiRowUpdateRenderer(Builder<T> builder) {
+        model = Objects.requireNonNull(builder.model);
+        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
+    }
+
+    /**
+     * Renders all records in a single statement.
+     *
+     * @return the rendered statement
+     * @throws IllegalStateException if the records do not fit in a single statement under the limits of the model
+     */
+    public MultiRowUpdateStatementProvider<T> render() {
+        StatementTemplate template = calculateStatementTemplate();
+        if (model.recordCount() > calculateRowsPerStatement(template)) {
+            throw new IllegalStateException(
+                    "The records exceed the limits of a single statement - use renderChunks"); //$NON-NLS-1$
+        }
+
+        return toStatementProvider(template, model.records());
+    }
+
+    /**
+     * Renders the records in as many statements as needed to keep each statement under the row and parameter
+     * limits of the model. Each statement binds its own sub list of records starting at index 0. If there are
+     * no records, the list is empty.
+     *
+     * @return the rendered statements
+     */
+    public List<MultiRowUpdateStatementProvider<T>> renderChunks() {
+        StatementTemplate template = calculateStatementTemplate();
+        int rowsPerStatement = calculateRowsPerStatement(template);
+        List<T> records = model.records();
+
+        List<MultiRowUpdateStatementProvider<T>> statements = new ArrayList<>();
+        for (int start = 0; start < records.size(); start += rowsPerStatement) {
+            List<T> chunk = records.subList(start, Math.min(records.size(), start + rowsPerStatement));
+            statements.add(toStatementProvider(template, chunk));
+        }
+        return statements;
+    }
+
+    private StatementTemplate calculateStatementTemplate() {
+        return new StatementTemplate(model, renderingStrategy);
+    }
+
+    private int calculateRowsPerStatement(StatementTemplate template) {
+        int rowsPerStatement = model.maxRowsPerStatement().orElse(Integer.MAX_VALUE);
+        rowsPerStatement = Math.min(rowsPerStatement, model.maxParametersPerStatement()
+                .map(p -> p / template.parametersPerRow())
+                .orElse(Integer.MAX_VALUE));
+
+        if (rowsPerStatement < 1) {
+            throw new IllegalStateException(
+                    "A single row needs more parameters than the maximum parameters per statement"); //$NON-NLS-1$
+        }
+        return rowsPerStatement;
+    }
+
+    private MultiRowUpdateStatementProvider<T> toStatementProvider(StatementTemplate template, List<T> records) {
+        return DefaultMultiRowUpdateStatementProvider.withRecords(records)
+                .withUpdateStatement(template.render(model.table().tableNameAtRuntime(), records.size()))
+                .build();
+    }
+
+    public static <T> Builder<T> withMultiRowUpdateModel(MultiRowUpdateModel<T> model) {
+        return new Builder<T>().withMultiRowUpdateModel(model);
+    }
+
+    public static class Builder<T> {
+        private MultiRowUpdateModel<T> model;
+        private RenderingStrategy renderingStrategy;
+
+        public Builder<T> withMultiRowUpdateModel(MultiRowUpdateModel<T> model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
+            this.renderingStrategy = renderingStrategy;
+            return this;
+        }
+
+        public MultiRowUpdateRenderer<T> build() {
+            return new MultiRowUpdateRenderer<>(this);
+        }
+    }
+
+    private static class StatementTemplate {
+        private final String keyColumnName;
+        private final MultiRowValuesTemplate keyPhrase;
+        private final List<String> columnNames;
+        private final List<MultiRowValuesTemplate> valuePhrases;
+
+        private StatementTemplate(MultiRowUpdateModel<?> model, RenderingStrategy renderingStrategy) {
+            keyColumnName = model.keyMapping().columnName();
+            keyPhrase = MultiRowValuesTemplate.of(model.keyMapping(), renderingStrategy);
+            columnNames = model.mapColumnMappings(AbstractColumnMapping::columnName)
+                    .collect(Collectors.toList());
+            valuePhrases = model.mapColumnMappings(m -> MultiRowValuesTemplate.of(m, renderingStrategy))
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Returns the number of parameters bound for each row - the key in the where clause, and the key and
+         * the value in the case expression of each column set from a property.
+         *
+         * @return the number of parameters in each row
+         */
+        private int parametersPerRow() {
+            return 1 + 2 * (int) valuePhrases.stream().filter(MultiRowValuesTemplate::isBound).count();
+        }
+
+        private String render(String tableName, int rowCount) {
+            StringBuilder sb = new StringBuilder("update ") //$NON-NLS-1$
+                    .append(tableName)
+                    .append(" set "); //$NON-NLS-1$
+            for (int i = 0; i < columnNames.size(); i++) {
+                if (i > 0) {
+                    sb.append(", "); //$NON-NLS-1$
+                }
+                sb.append(columnNames.get(i)).append(" = "); //$NON-NLS-1$
+                appendValue(sb, columnNames.get(i), valuePhrases.get(i), rowCount);
+            }
+
+            sb.append(" where ").append(keyColumnName).append(" in ("); //$NON-NLS-1$ //$NON-NLS-2$
+            for (int row = 0; row < rowCount; row++) {
+                if (row > 0) {
+                    sb.append(", "); //$NON-NLS-1$
+                }
+                keyPhrase.appendRow(sb, row);
+            }
+            return sb.append(')').toString();
+        }
+
+        /**
+         * Appends the value of a column. A column set from a property is a case expression on the key of each row.
+         * The else branch is the column itself - it is never taken, because the where clause only matches the keys
+         * of the rows, but it gives the case expression the type of the column. Databases like HSQLDB and
+         * PostgreSQL cannot infer the type of a case expression whose branches are all parameters.
+         */
+        private void appendValue(StringBuilder sb, String columnName, MultiRowValuesTemplate valuePhrase,
+                int rowCount) {
+            if (!valuePhrase.isBound()) {
+                valuePhrase.appendRow(sb, 0);
+                return;
+            }
+
+            sb.append("case ").append(keyColumnName); //$NON-NLS-1$
+            for (int row = 0; row < rowCount; row++) {
+                sb.append(" when "); //$NON-NLS-1$
+                keyPhrase.appendRow(sb, row);
+                sb.append(" then "); //$NON-NLS-1$
+                valuePhrase.appendRow(sb, row);
+            }
+            sb.append(" else ").append(columnName).append(" end"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+}
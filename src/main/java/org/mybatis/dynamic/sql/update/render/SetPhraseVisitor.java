@@ -19,11 +19,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.AbstractColumnMapping;
 import org.mybatis.dynamic.sql.util.ColumnToColumnMapping;
 import org.mybatis.dynamic.sql.util.ConstantMapping;
@@ -37,10 +36,28 @@ import org.mybatis.dynamic.sql.util.ValueWhenPresentMapping;
 
 public class SetPhraseVisitor extends UpdateMappingVisitor<Optional<FragmentAndParameters>> {
     
+    private final RenderingContext renderingContext;
+    // only set by the deprecated constructor
     private final AtomicInteger sequence;
     private final RenderingStrategy renderingStrategy;
     
+    public SetPhraseVisitor(RenderingContext renderingContext) {
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+        sequence = null;
+        renderingStrategy = null;
+    }
+
+    /**
+     * Creates a visitor that renders each set phrase with a new rendering context, and returns the parameters of
+     * each phrase with its fragment.
+     *
+     * @param sequence the parameter sequence - advanced past the parameters of each phrase as it is rendered
+     * @param renderingStrategy the rendering strategy
+     * @deprecated use {@link #SetPhraseVisitor(RenderingContext)}
+     */
+    @Deprecated
     public SetPhraseVisitor(AtomicInteger sequence, RenderingStrategy renderingStrategy) {
+        renderingContext = null;
         this.sequence = Objects.requireNonNull(sequence);
         this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
     }
@@ -81,20 +98,18 @@ public class SetPhraseVisitor extends UpdateMappingVisitor<Optional<FragmentAndP
     
     @Override
     public Optional<FragmentAndParameters> visit(SelectMapping mapping) {
-        SelectStatementProvider selectStatement = SelectRenderer.withSelectModel(mapping.selectModel())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
+        RenderingContext phraseContext = phraseRenderingContext();
+        String selectStatement = SelectRenderer.withSelectModel(mapping.selectModel())
+                .withRenderingStrategy(phraseContext.renderingStrategy())
                 .build()
-                .render();
+                .render(phraseContext);
         
         String fragment = mapping.columnName()
                 + " = (" //$NON-NLS-1$
-                + selectStatement.getSelectStatement()
+                + selectStatement
                 + ")"; //$NON-NLS-1$
         
-        return FragmentAndParameters.withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
-                .buildOptional();
+        return buildOptional(fragment, phraseContext);
     }
 
     @Override
@@ -108,20 +123,34 @@ public class SetPhraseVisitor extends UpdateMappingVisitor<Optional<FragmentAndP
     }
 
     private <T> Optional<FragmentAndParameters> buildFragment(AbstractColumnMapping mapping, T value) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-
-        String jdbcPlaceholder = mapping.mapColumn(c -> calculateJdbcPlaceholder(c, mapKey));
+        RenderingContext phraseContext = phraseRenderingContext();
+        String jdbcPlaceholder = mapping.mapColumn(c -> phraseContext.bindValue(c, value));
         String setPhrase = mapping.columnName()
                 + " = "  //$NON-NLS-1$
                 + jdbcPlaceholder;
         
-        return FragmentAndParameters.withFragment(setPhrase)
-                .withParameter(mapKey, value)
-                .buildOptional();
+        return buildOptional(setPhrase, phraseContext);
     }
-    
-    private String calculateJdbcPlaceholder(SqlColumn<?> column, String parameterName) {
-        return column.renderingStrategy().orElse(renderingStrategy)
-                .getFormattedJdbcPlaceholder(column, RenderingStrategy.DEFAULT_PARAMETER_PREFIX, parameterName);
+
+    private RenderingContext phraseRenderingContext() {
+        if (sequence == null) {
+            return renderingContext;
+        }
+        return RenderingContext.withRenderingStrategy(renderingStrategy)
+                .withSequence(sequence.get())
+                .build();
+    }
+
+    private Optional<FragmentAndParameters> buildOptional(String fragment, RenderingContext phraseContext) {
+        if (sequence == null) {
+            // the parameters are written to the rendering context of the statement
+            return FragmentAndParameters.withFragment(fragment)
+                    .buildOptional();
+        }
+
+        sequence.set(phraseContext.sequence());
+        return FragmentAndParameters.withFragment(fragment)
+                .withParameters(phraseContext.parameters().asMap())
+                .buildOptional();
     }
 }
@@ -17,26 +17,21 @@ package org.mybatis.dynamic.sql.update.render;
 
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceBefore;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
-import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 import org.mybatis.dynamic.sql.where.WhereModel;
-import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
 import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 public class UpdateRenderer {
     private final UpdateModel updateModel;
     private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence = new AtomicInteger(1);
     
     private UpdateRenderer(Builder builder) {
         updateModel = Objects.requireNonNull(builder.updateModel);
@@ -44,31 +39,38 @@ public class UpdateRenderer {
     }
     
     public UpdateStatementProvider render() {
-        SetPhraseVisitor visitor = new SetPhraseVisitor(sequence, renderingStrategy);
+        return render(RenderingContext.withRenderingStrategy(renderingStrategy)
+                .build());
+    }
+
+    /**
+     * Renders the statement with a rendering context that has already been configured - for example to render
+     * one chunk of a large list condition.
+     *
+     * @param renderingContext the rendering context for the statement
+     * @return the rendered statement
+     */
+    public UpdateStatementProvider render(RenderingContext renderingContext) {
+        SetPhraseVisitor visitor = new SetPhraseVisitor(renderingContext);
 
         List<Optional<FragmentAndParameters>> fragmentsAndParameters =
                 updateModel.mapColumnMappings(m -> m.accept(visitor))
                 .collect(Collectors.toList());
         
-        return updateModel.whereModel()
-                .flatMap(this::renderWhereClause)
-                .map(wc -> renderWithWhereClause(fragmentsAndParameters, wc))
-                .orElseGet(() -> renderWithoutWhereClause(fragmentsAndParameters));
-    }
+        String updateStatement = updateModel.whereModel()
+                .flatMap(wm -> renderWhereClause(wm, renderingContext))
+                .map(wc -> calculateUpdateStatement(fragmentsAndParameters, wc))
+                .orElseGet(() -> calculateUpdateStatement(fragmentsAndParameters));
 
-    private UpdateStatementProvider renderWithWhereClause(List<Optional<FragmentAndParameters>> fragmentsAndParameters,
-            WhereClauseProvider whereClause) {
-        return DefaultUpdateStatementProvider
-                .withUpdateStatement(calculateUpdateStatement(fragmentsAndParameters, whereClause))
-                .withParameters(calculateParameters(fragmentsAndParameters))
-                .withParameters(whereClause.getParameters())
+        return DefaultUpdateStatementProvider.withUpdateStatement(updateStatement)
+                .withParameters(renderingContext.parameters())
                 .build();
     }
 
     private String calculateUpdateStatement(List<Optional<FragmentAndParameters>> fragmentsAndParameters,
-            WhereClauseProvider whereClause) {
+            String whereClause) {
         return calculateUpdateStatement(fragmentsAndParameters)
-                + spaceBefore(whereClause.getWhereClause());
+                + spaceBefore(whereClause);
     }
     
     private String calculateUpdateStatement(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
@@ -77,13 +79,6 @@ public class UpdateRenderer {
                 + spaceBefore(calculateSetPhrase(fragmentsAndParameters));
     }
     
-    private UpdateStatementProvider renderWithoutWhereClause(
-            List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return DefaultUpdateStatementProvider.withUpdateStatement(calculateUpdateStatement(fragmentsAndParameters))
-                .withParameters(calculateParameters(fragmentsAndParameters))
-                .build();
-    }
-
     private String calculateSetPhrase(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
         return fragmentsAndParameters.stream()
                 .filter(Optional::isPresent)
@@ -92,21 +87,11 @@ public class UpdateRenderer {
                 .collect(Collectors.joining(", ", "set ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
-    private Map<String, Object> calculateParameters(List<Optional<FragmentAndParameters>> fragmentsAndParameters) {
-        return fragmentsAndParameters.stream()
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(FragmentAndParameters::parameters)
-                .collect(HashMap::new, HashMap::putAll, HashMap::putAll);
-    }
-    
-    private Optional<WhereClauseProvider> renderWhereClause(WhereModel whereModel) {
+    private Optional<String> renderWhereClause(WhereModel whereModel, RenderingContext renderingContext) {
         return WhereRenderer.withWhereModel(whereModel)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .withTableAliasCalculator(TableAliasCalculator.empty())
+                .withRenderingContext(renderingContext)
                 .build()
-                .render();
+                .renderWhereClause();
     }
 
     public static Builder withUpdateModel(UpdateModel updateModel) {
@@ -1,5 +1,5 @@
 /**
- *    Copyright 2016-2017 the original author or authors.
+ *    Copyright 2016-2020 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,6 +15,10 @@
  */
 package org.mybatis.dynamic.sql.util;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.stream.Collector;
 
@@ -40,4 +44,54 @@ public interface CustomCollectors {
             return sj;
         }, StringJoiner::add, StringJoiner::merge, StringJoiner::toString);
     }
+
+    /**
+     * Returns a {@code Collector} that appends elements to an existing buffer rather than building a new
+     * string. Like {@link CustomCollectors#joining(CharSequence, CharSequence, CharSequence)}, nothing is
+     * appended - including the prefix and suffix - if there are no elements to collect.
+     *
+     * <p>Elements must not be empty. Every partial result shares the one buffer, so partial results cannot be
+     * combined - the collector is only suitable for sequential streams, and collecting a parallel stream fails
+     * with an {@code IllegalStateException}.
+     *
+     * @param buffer the buffer to append to
+     * @param delimiter the delimiter to be used between each element
+     * @param  prefix the sequence of characters to be appended before the first element
+     * @param  suffix the sequence of characters to be appended after the last element
+     * @return A {@code Collector} which appends CharSequence elements to the buffer, separated by the specified
+     *     delimiter, in encounter order
+     */
+    static Collector<CharSequence, StringBuilder, StringBuilder> appending(StringBuilder buffer,
+            CharSequence delimiter, CharSequence prefix, CharSequence suffix) {
+        int start = buffer.length();
+        return Collector.of(() -> buffer,
+                (sb, s) -> sb.append(sb.length() == start ? prefix : delimiter).append(s),
+                (sb1, sb2) -> {
+                    throw new IllegalStateException(
+                            "The appending collector does not support parallel streams"); //$NON-NLS-1$
+                },
+                sb -> sb.length() == start ? sb : sb.append(suffix));
+    }
+
+    /**
+     * Returns a {@code Collector} that collects elements into an array whose component type is the class of the
+     * elements - for example an {@code Integer[]} rather than an {@code Object[]}. Null elements are ignored
+     * when determining the component type. If the elements are of different classes, or are all null, the
+     * result is an {@code Object[]}.
+     *
+     * @return A {@code Collector} which collects elements into a typed array
+     */
+    static Collector<Object, List<Object>, Object[]> toTypedArray() {
+        return Collector.of(ArrayList::new, List::add, (l1, l2) -> {
+            l1.addAll(l2);
+            return l1;
+        }, elements -> {
+            Class<?> componentType = elements.stream()
+                    .filter(Objects::nonNull)
+                    .<Class<?>>map(Object::getClass)
+                    .reduce((c1, c2) -> c1 == c2 ? c1 : Object.class)
+                    .orElse(Object.class);
+            return elements.toArray((Object[]) Array.newInstance(componentType, elements.size()));
+        });
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.mybatis.dynamic.sql.util;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -27,7 +28,7 @@ public class FragmentAndParameters {
     
     private FragmentAndParameters(Builder builder) {
         fragment = Objects.requireNonNull(builder.fragment);
-        parameters = Objects.requireNonNull(builder.parameters);
+        parameters = builder.parameters == null ? Collections.emptyMap() : builder.parameters;
     }
     
     public String fragment() {
@@ -44,7 +45,8 @@ public class FragmentAndParameters {
     
     public static class Builder {
         private String fragment;
-        private final Map<String, Object> parameters = new HashMap<>();
+        // created lazily - most fragments have no parameters of their own
+        private Map<String, Object> parameters;
         
         public Builder withFragment(String fragment) {
             this.fragment = fragment;
@@ -52,14 +54,23 @@ public class FragmentAndParameters {
         }
         
         public Builder withParameter(String key, Object value) {
-            parameters.put(key, value);
+            parameters().put(key, value);
             return this;
         }
         
         public Builder withParameters(Map<String, Object> parameters) {
-            this.parameters.putAll(parameters);
+            if (!parameters.isEmpty()) {
+                parameters().putAll(parameters);
+            }
             return this;
         }
+
+        private Map<String, Object> parameters() {
+            if (parameters == null) {
+                parameters = new HashMap<>();
+            }
+            return parameters;
+        }
         
         public FragmentAndParameters build() {
             return new FragmentAndParameters(this);
@@ -0,0 +1,114 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.mybatis.dynamic.sql.select.PagingModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+
+/**
+ * One page of the rows of a paginated select, together with the total number of rows the select would return
+ * without paging.
+ *
+ * @param <T> the type of the rows
+ */
+public class Page<T> {
+    private final List<T> items;
+    private final long totalCount;
+    private final long offset;
+
+    private Page(List<T> items, long totalCount, long offset) {
+        this.items = Collections.unmodifiableList(Objects.requireNonNull(items));
+        this.totalCount = totalCount;
+        this.offset = offset;
+    }
+
+    public List<T> items() {
+        return items;
+    }
+
+    public long totalCount() {
+        return totalCount;
+    }
+
+    public long offset() {
+        return offset;
+    }
+
+    /**
+     * Returns true if rows follow this page. This is based on the offset of the page, so it is only meaningful
+     * for offset paging - keyset paged selects have no offset.
+     *
+     * @return true if rows follow this page
+     */
+    public boolean hasNext() {
+        return offset + items.size() < totalCount;
+    }
+
+    public static <T> Page<T> of(List<T> items, long totalCount, long offset) {
+        return new Page<>(items, totalCount, offset);
+    }
+
+    /**
+     * Fetches a page by running the count query on the executor while the item query runs on the calling thread.
+     * The queries run on different threads, so they must not share a connection or a MyBatis session - and they
+     * do not see the same snapshot of the data unless the database guarantees it.
+     *
+     * <p>If either query fails, its exception is thrown. A runtime exception thrown by the count query is
+     * rethrown as is, not wrapped in a {@link CompletionException}.
+     *
+     * @param selectModel the paginated select - its paging model supplies the offset of the page
+     * @param itemQuery runs the select
+     * @param countQuery runs the count query derived from the select
+     * @param executor the executor that runs the count query
+     * @param <T> the type of the rows
+     * @return the page
+     * @see SelectModel#renderCount(org.mybatis.dynamic.sql.render.RenderingStrategy)
+     */
+    public static <T> Page<T> fetch(SelectModel selectModel, Supplier<List<T>> itemQuery, LongSupplier countQuery,
+            Executor executor) {
+        long offset = selectModel.pagingModel()
+                .flatMap(PagingModel::offset)
+                .orElse(0L);
+
+        CompletableFuture<Long> totalCount = CompletableFuture.supplyAsync(countQuery::getAsLong, executor);
+        List<T> items = itemQuery.get();
+
+        try {
+            return of(items, totalCount.join(), offset);
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+}
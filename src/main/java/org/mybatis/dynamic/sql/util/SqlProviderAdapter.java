@@ -21,6 +21,7 @@ import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.MultiRowUpdateStatementProvider;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 
 /**
@@ -58,4 +59,8 @@ public class SqlProviderAdapter {
     public String update(UpdateStatementProvider updateStatement) {
         return updateStatement.getUpdateStatement();
     }
+
+    public String updateMultiple(MultiRowUpdateStatementProvider<?> updateStatement) {
+        return updateStatement.getUpdateStatement();
+    }
 }
@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.util;
 import java.util.Objects;
 import java.util.function.Supplier;
 
+import org.mybatis.dynamic.sql.BindMarker;
 import org.mybatis.dynamic.sql.SqlColumn;
 
 public class ValueMapping<T> extends AbstractColumnMapping {
@@ -33,7 +34,16 @@ public class ValueMapping<T> extends AbstractColumnMapping {
     }
     
     public Object value() {
-        return localColumn.convertParameterType(valueSupplier.get());
+        return convert(valueSupplier.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convert(T value) {
+        // a bind marker is converted when it is bound
+        if (value instanceof BindMarker) {
+            return ((BindMarker<T>) value).convertedBy(localColumn);
+        }
+        return localColumn.convertParameterType(value);
     }
 
     @Override
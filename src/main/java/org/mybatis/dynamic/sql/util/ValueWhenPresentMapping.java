@@ -19,6 +19,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.mybatis.dynamic.sql.BindMarker;
 import org.mybatis.dynamic.sql.SqlColumn;
 
 public class ValueWhenPresentMapping<T> extends AbstractColumnMapping {
@@ -37,7 +38,12 @@ public class ValueWhenPresentMapping<T> extends AbstractColumnMapping {
         return Optional.ofNullable(valueSupplier.get()).map(this::convert);
     }
     
+    @SuppressWarnings("unchecked")
     private Object convert(T value) {
+        // a bind marker is converted when it is bound
+        if (value instanceof BindMarker) {
+            return ((BindMarker<T>) value).convertedBy(localColumn);
+        }
         return localColumn.convertParameterType(value);
     }
 
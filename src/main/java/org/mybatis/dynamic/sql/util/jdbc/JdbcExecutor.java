@@ -0,0 +1,267 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+/**
+ * Executes rendered statements over a plain {@link DataSource}, without MyBatis or Spring.
+ *
+ * <p>Statements must be rendered with {@link org.mybatis.dynamic.sql.render.RenderingStrategies#JDBC_POSITIONAL}.
+ * The SQL is prepared as rendered and the parameters are bound by position from the values of the statement
+ * provider, so there is no parsing of the SQL and no parameter map lookup.
+ *
+ * <p>The methods on this class each obtain a connection from the data source for a single statement. Use
+ * {@link #openSession()} to run several statements on one connection - a session reuses prepared statements
+ * for identical SQL.
+ *
+ * <p>This class is thread safe. Sessions are not.
+ */
+public class JdbcExecutor {
+    private final DataSource dataSource;
+    private final Integer fetchSize;
+    private final Integer queryTimeout;
+    private final int statementCacheSize;
+
+    private JdbcExecutor(Builder builder) {
+        dataSource = Objects.requireNonNull(builder.dataSource);
+        fetchSize = builder.fetchSize;
+        queryTimeout = builder.queryTimeout;
+        statementCacheSize = builder.statementCacheSize;
+    }
+
+    /**
+     * Opens a session on a new connection from the data source. Closing the session closes the connection.
+     *
+     * @return a new session
+     * @throws SQLException if a connection cannot be obtained
+     */
+    public JdbcSession openSession() throws SQLException {
+        return new JdbcSession(dataSource.getConnection(), true, this);
+    }
+
+    /**
+     * Opens a session on an existing connection - for example one that takes part in a transaction managed
+     * by the caller. Closing the session closes the cached statements, but not the connection.
+     *
+     * @param connection the connection to use
+     * @return a new session
+     */
+    public JdbcSession openSession(Connection connection) {
+        return new JdbcSession(connection, false, this);
+    }
+
+    public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper)
+            throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.selectList(selectStatement, rowMapper);
+        }
+    }
+
+    /**
+     * Executes several select statements on one connection - for example the chunks rendered by
+     * {@link org.mybatis.dynamic.sql.render.chunked.ChunkedStatements} - and concatenates the rows they return.
+     *
+     * @param selectStatements the statements to execute
+     * @param rowMapper the mapper for each row
+     * @param <T> the type of the returned objects
+     * @return the mapped rows of all statements, in statement order
+     * @throws SQLException if a statement fails
+     */
+    public <T> List<T> selectList(List<SelectStatementProvider> selectStatements, RowMapper<T> rowMapper)
+            throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.selectList(selectStatements, rowMapper);
+        }
+    }
+
+    public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper)
+            throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.selectOne(selectStatement, rowMapper);
+        }
+    }
+
+    public int update(UpdateStatementProvider updateStatement) throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.update(updateStatement);
+        }
+    }
+
+    /**
+     * Executes several update statements on one connection - for example the chunks rendered by
+     * {@link org.mybatis.dynamic.sql.render.chunked.ChunkedStatements}. To execute the statements in a single
+     * transaction, use a session on a connection whose transaction is managed by the caller.
+     *
+     * @param updateStatements the statements to execute
+     * @return the total number of rows updated
+     * @throws SQLException if a statement fails
+     */
+    public int update(List<UpdateStatementProvider> updateStatements) throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.update(updateStatements);
+        }
+    }
+
+    public int delete(DeleteStatementProvider deleteStatement) throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.delete(deleteStatement);
+        }
+    }
+
+    /**
+     * Executes several delete statements on one connection - for example the chunks rendered by
+     * {@link org.mybatis.dynamic.sql.render.chunked.ChunkedStatements}. To execute the statements in a single
+     * transaction, use a session on a connection whose transaction is managed by the caller.
+     *
+     * @param deleteStatements the statements to execute
+     * @return the total number of rows deleted
+     * @throws SQLException if a statement fails
+     */
+    public int delete(List<DeleteStatementProvider> deleteStatements) throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.delete(deleteStatements);
+        }
+    }
+
+    public <T> int insert(InsertStatementProvider<T> insertStatement) throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.insert(insertStatement);
+        }
+    }
+
+    public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement) throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.insertMultiple(insertStatement);
+        }
+    }
+
+    /**
+     * Executes several multi-row insert statements on one connection - for example the chunks rendered by
+     * {@link org.mybatis.dynamic.sql.insert.MultiRowInsertModel#renderChunks}.
+     * session on a connection whose transaction is managed by the caller.
+     *
+     * @param insertStatements the statements to execute
+     * @param <T> the type of the inserted records
+     * @return the total number of rows inserted
+     * @throws SQLException if a statement fails
+     */
+    public <T> int insertMultiple(List<MultiRowInsertStatementProvider<T>> insertStatements) throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.insertMultiple(insertStatements);
+        }
+    }
+
+    public <T> int[] insertBatch(BatchInsert<T> batchInsert) throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.insertBatch(batchInsert);
+        }
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement) throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.generalInsert(insertStatement);
+        }
+    }
+
+    public int insertSelect(InsertSelectStatementProvider insertStatement) throws SQLException {
+        try (JdbcSession session = openSession()) {
+            return session.insertSelect(insertStatement);
+        }
+    }
+
+    Optional<Integer> fetchSize() {
+        return Optional.ofNullable(fetchSize);
+    }
+
+    Optional<Integer> queryTimeout() {
+        return Optional.ofNullable(queryTimeout);
+    }
+
+    int statementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public static Builder withDataSource(DataSource dataSource) {
+        return new Builder().withDataSource(dataSource);
+    }
+
+    public static class Builder {
+        private DataSource dataSource;
+        private Integer fetchSize;
+        private Integer queryTimeout;
+        private int statementCacheSize = 32;
+
+        public Builder withDataSource(DataSource dataSource) {
+            this.dataSource = dataSource;
+            return this;
+        }
+
+        /**
+         * Sets the fetch size of every prepared statement. If not set, the driver default is used.
+         *
+         * @param fetchSize the fetch size
+         * @return this builder
+         */
+        public Builder withFetchSize(Integer fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Sets the query timeout of every prepared statement. If not set, the driver default is used.
+         *
+         * @param queryTimeout the query timeout in seconds
+         * @return this builder
+         */
+        public Builder withQueryTimeout(Integer queryTimeout) {
+            this.queryTimeout = queryTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of prepared statements a session keeps open for reuse. When the limit is
+         * reached, the least recently used statement is closed. A size of zero disables statement reuse.
+         * The default is 32.
+         *
+         * @param statementCacheSize the maximum number of cached statements per session
+         * @return this builder
+         */
+        public Builder withStatementCacheSize(int statementCacheSize) {
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
+        public JdbcExecutor build() {
+            return new JdbcExecutor(this);
+        }
+    }
+}
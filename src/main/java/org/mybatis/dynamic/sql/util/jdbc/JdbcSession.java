@@ -0,0 +1,389 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.delete.render.RecordDeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.RecordUpdateStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+/**
+ * Runs statements on a single connection. Prepared statements are cached by SQL text and reused when the
+ * same SQL is executed again, so the driver parses and plans each distinct statement once per session.
+ *
+ * <p>This class is not thread safe - just like the connection it wraps.
+ */
+public class JdbcSession implements AutoCloseable {
+    private static final Map<Class<?>, JDBCType> ARRAY_ELEMENT_TYPES = new HashMap<>();
+
+    static {
+        ARRAY_ELEMENT_TYPES.put(String.class, JDBCType.VARCHAR);
+        ARRAY_ELEMENT_TYPES.put(Integer.class, JDBCType.INTEGER);
+        ARRAY_ELEMENT_TYPES.put(Long.class, JDBCType.BIGINT);
+        ARRAY_ELEMENT_TYPES.put(Short.class, JDBCType.SMALLINT);
+        ARRAY_ELEMENT_TYPES.put(Byte.class, JDBCType.TINYINT);
+        ARRAY_ELEMENT_TYPES.put(Boolean.class, JDBCType.BOOLEAN);
+        ARRAY_ELEMENT_TYPES.put(Double.class, JDBCType.DOUBLE);
+        ARRAY_ELEMENT_TYPES.put(Float.class, JDBCType.REAL);
+        ARRAY_ELEMENT_TYPES.put(BigDecimal.class, JDBCType.NUMERIC);
+        ARRAY_ELEMENT_TYPES.put(Date.class, JDBCType.DATE);
+        ARRAY_ELEMENT_TYPES.put(Time.class, JDBCType.TIME);
+        ARRAY_ELEMENT_TYPES.put(Timestamp.class, JDBCType.TIMESTAMP);
+        ARRAY_ELEMENT_TYPES.put(LocalDate.class, JDBCType.DATE);
+        ARRAY_ELEMENT_TYPES.put(LocalTime.class, JDBCType.TIME);
+        ARRAY_ELEMENT_TYPES.put(LocalDateTime.class, JDBCType.TIMESTAMP);
+    }
+
+    private final Connection connection;
+    private final boolean closeConnection;
+    private final JdbcExecutor executor;
+    // access ordered, so iteration starts with the least recently used statement
+    private final Map<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    JdbcSession(Connection connection, boolean closeConnection, JdbcExecutor executor) {
+        this.connection = Objects.requireNonNull(connection);
+        this.closeConnection = closeConnection;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public <T> List<T> selectList(SelectStatementProvider selectStatement, RowMapper<T> rowMapper)
+            throws SQLException {
+        PreparedStatement ps = prepare(selectStatement.getSelectStatement(), selectStatement.getParameterValues(),
+                selectStatement.getParameterTypes());
+        try (ResultSet rs = ps.executeQuery()) {
+            List<T> rows = new ArrayList<>();
+            while (rs.next()) {
+                rows.add(rowMapper.mapRow(rs));
+            }
+            return rows;
+        } finally {
+            release(selectStatement.getSelectStatement(), ps);
+        }
+    }
+
+    /**
+     * Executes a select statement that is expected to return at most one row.
+     *
+     * @param selectStatement the statement to execute
+     * @param rowMapper the mapper for the row
+     * @param <T> the type of the returned object
+     * @return the mapped row, or empty if the statement returned no rows
+     * @throws SQLException if the statement fails, or if it returns more than one row
+     */
+    public <T> Optional<T> selectOne(SelectStatementProvider selectStatement, RowMapper<T> rowMapper)
+            throws SQLException {
+        PreparedStatement ps = prepare(selectStatement.getSelectStatement(), selectStatement.getParameterValues(),
+                selectStatement.getParameterTypes());
+        try (ResultSet rs = ps.executeQuery()) {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+            T row = rowMapper.mapRow(rs);
+            if (rs.next()) {
+                throw new SQLException("Expected one row, but the statement returned more than one: " //$NON-NLS-1$
+                        + selectStatement.getSelectStatement());
+            }
+            return Optional.ofNullable(row);
+        } finally {
+            release(selectStatement.getSelectStatement(), ps);
+        }
+    }
+
+    /**
+     * Executes several select statements - for example the chunks rendered by
+     * {@link org.mybatis.dynamic.sql.render.chunked.ChunkedStatements} - and concatenates the rows they return.
+     *
+     * @param selectStatements the statements to execute
+     * @param rowMapper the mapper for each row
+     * @param <T> the type of the returned objects
+     * @return the mapped rows of all statements, in statement order
+     * @throws SQLException if a statement fails
+     */
+    public <T> List<T> selectList(List<SelectStatementProvider> selectStatements, RowMapper<T> rowMapper)
+            throws SQLException {
+        List<T> rows = new ArrayList<>();
+        for (SelectStatementProvider selectStatement : selectStatements) {
+            rows.addAll(selectList(selectStatement, rowMapper));
+        }
+        return rows;
+    }
+
+    public int update(UpdateStatementProvider updateStatement) throws SQLException {
+        if (updateStatement instanceof RecordUpdateStatementProvider) {
+            throw new IllegalArgumentException("The statements of a batch update bind the properties of" //$NON-NLS-1$
+                    + " a record and can't be executed with positional parameters"); //$NON-NLS-1$
+        }
+        return executeUpdate(updateStatement.getUpdateStatement(), updateStatement.getParameterValues(),
+                updateStatement.getParameterTypes());
+    }
+
+    /**
+     * Executes several update statements - for example the chunks rendered by
+     * {@link org.mybatis.dynamic.sql.render.chunked.ChunkedStatements}.
+     *
+     * @param updateStatements the statements to execute
+     * @return the total number of rows updated
+     * @throws SQLException if a statement fails
+     */
+    public int update(List<UpdateStatementProvider> updateStatements) throws SQLException {
+        int rows = 0;
+        for (UpdateStatementProvider updateStatement : updateStatements) {
+            rows += update(updateStatement);
+        }
+        return rows;
+    }
+
+    public int delete(DeleteStatementProvider deleteStatement) throws SQLException {
+        if (deleteStatement instanceof RecordDeleteStatementProvider) {
+            throw new IllegalArgumentException("The statements of a batch delete bind the properties of" //$NON-NLS-1$
+                    + " a record and can't be executed with positional parameters"); //$NON-NLS-1$
+        }
+        return executeUpdate(deleteStatement.getDeleteStatement(), deleteStatement.getParameterValues(),
+                deleteStatement.getParameterTypes());
+    }
+
+    /**
+     * Executes several delete statements - for example the chunks rendered by
+     * {@link org.mybatis.dynamic.sql.render.chunked.ChunkedStatements}.
+     *
+     * @param deleteStatements the statements to execute
+     * @return the total number of rows deleted
+     * @throws SQLException if a statement fails
+     */
+    public int delete(List<DeleteStatementProvider> deleteStatements) throws SQLException {
+        int rows = 0;
+        for (DeleteStatementProvider deleteStatement : deleteStatements) {
+            rows += delete(deleteStatement);
+        }
+        return rows;
+    }
+
+    public <T> int insert(InsertStatementProvider<T> insertStatement) throws SQLException {
+        return executeUpdate(insertStatement.getInsertStatement(), insertStatement.getParameterValues(),
+                insertStatement.getParameterTypes());
+    }
+
+    public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement) throws SQLException {
+        return executeUpdate(insertStatement.getInsertStatement(), insertStatement.getParameterValues(),
+                insertStatement.getParameterTypes());
+    }
+
+    /**
+     * Executes several multi-row insert statements - for example the chunks rendered by
+     * {@link org.mybatis.dynamic.sql.insert.MultiRowInsertModel#renderChunks}.
+     *
+     * @param insertStatements the statements to execute
+     * @param <T> the type of the inserted records
+     * @return the total number of rows inserted
+     * @throws SQLException if a statement fails
+     */
+    public <T> int insertMultiple(List<MultiRowInsertStatementProvider<T>> insertStatements) throws SQLException {
+        int rows = 0;
+        for (MultiRowInsertStatementProvider<T> insertStatement : insertStatements) {
+            rows += insertMultiple(insertStatement);
+        }
+        return rows;
+    }
+
+    /**
+     * Executes a batch insert as a single JDBC batch. The statement is prepared once, and the properties of each
+     * record are bound and added to the batch in turn.
+     *
+     * @param batchInsert the batch insert to execute
+     * @param <T> the type of the inserted records
+     * @return the update counts of the batch, as returned by the driver
+     * @throws SQLException if the batch fails
+     */
+    public <T> int[] insertBatch(BatchInsert<T> batchInsert) throws SQLException {
+        List<InsertStatementProvider<T>> insertStatements = batchInsert.insertStatements();
+        if (insertStatements.isEmpty()) {
+            return new int[0];
+        }
+
+        String sql = batchInsert.getInsertStatementSQL();
+        PreparedStatement ps = statement(sql);
+        int[] updateCounts;
+        try {
+            for (InsertStatementProvider<T> insertStatement : insertStatements) {
+                bind(ps, insertStatement.getParameterValues(), insertStatement.getParameterTypes());
+                ps.addBatch();
+            }
+            updateCounts = ps.executeBatch();
+        } catch (SQLException | RuntimeException e) {
+            // the statement may hold part of the batch, so it can't be reused
+            ps.close();
+            throw e;
+        }
+        release(sql, ps);
+        return updateCounts;
+    }
+
+    public int generalInsert(GeneralInsertStatementProvider insertStatement) throws SQLException {
+        return executeUpdate(insertStatement.getInsertStatement(), insertStatement.getParameterValues(),
+                insertStatement.getParameterTypes());
+    }
+
+    public int insertSelect(InsertSelectStatementProvider insertStatement) throws SQLException {
+        return executeUpdate(insertStatement.getInsertStatement(), insertStatement.getParameterValues(),
+                insertStatement.getParameterTypes());
+    }
+
+    /**
+     * Returns the number of prepared statements currently held open for reuse.
+     *
+     * @return the number of cached statements
+     */
+    public int cachedStatementCount() {
+        return statements.size();
+    }
+
+    private int executeUpdate(String sql, Object[] values, JDBCType[] types) throws SQLException {
+        PreparedStatement ps = prepare(sql, values, types);
+        try {
+            return ps.executeUpdate();
+        } finally {
+            release(sql, ps);
+        }
+    }
+
+    private PreparedStatement prepare(String sql, Object[] values, JDBCType[] types) throws SQLException {
+        PreparedStatement ps = statement(sql);
+        try {
+            bind(ps, values, types);
+        } catch (SQLException e) {
+            ps.close();
+            throw e;
+        }
+        return ps;
+    }
+
+    private PreparedStatement statement(String sql) throws SQLException {
+        PreparedStatement ps = statements.remove(sql);
+        if (ps == null) {
+            ps = connection.prepareStatement(sql);
+            configure(ps);
+        } else {
+            ps.clearParameters();
+        }
+        return ps;
+    }
+
+    private void configure(PreparedStatement ps) throws SQLException {
+        Optional<Integer> fetchSize = executor.fetchSize();
+        if (fetchSize.isPresent()) {
+            ps.setFetchSize(fetchSize.get());
+        }
+        Optional<Integer> queryTimeout = executor.queryTimeout();
+        if (queryTimeout.isPresent()) {
+            ps.setQueryTimeout(queryTimeout.get());
+        }
+    }
+
+    private void bind(PreparedStatement ps, Object[] values, JDBCType[] types) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            JDBCType type = types[i];
+            if (value == null) {
+                ps.setNull(i + 1, type == null ? Types.NULL : type.getVendorTypeNumber());
+            } else if (type == JDBCType.ARRAY && value.getClass().isArray()) {
+                bindArray(ps, i + 1, value);
+            } else if (type == null) {
+                ps.setObject(i + 1, value);
+            } else {
+                ps.setObject(i + 1, value, type.getVendorTypeNumber());
+            }
+        }
+    }
+
+    /**
+     * Binds the values of a list condition that is rendered with an array parameter. The SQL type of the
+     * array elements is derived from the component type of the Java array. Primitive arrays, and arrays with a
+     * component type that is not known, are passed to the driver unchanged.
+     */
+    private void bindArray(PreparedStatement ps, int index, Object array) throws SQLException {
+        JDBCType elementType = ARRAY_ELEMENT_TYPES.get(array.getClass().getComponentType());
+        if (elementType == null) {
+            ps.setObject(index, array);
+        } else {
+            ps.setArray(index, connection.createArrayOf(elementType.getName(), (Object[]) array));
+        }
+    }
+
+    /**
+     * Returns a statement to the cache once it has been executed. The statement is removed from the cache
+     * while it is in use, so a statement is never shared by two open result sets.
+     */
+    private void release(String sql, PreparedStatement ps) throws SQLException {
+        if (executor.statementCacheSize() <= 0) {
+            ps.close();
+            return;
+        }
+
+        PreparedStatement previous = statements.put(sql, ps);
+        if (previous != null) {
+            previous.close();
+        }
+
+        if (statements.size() > executor.statementCacheSize()) {
+            Iterator<PreparedStatement> iterator = statements.values().iterator();
+            PreparedStatement eldest = iterator.next();
+            iterator.remove();
+            eldest.close();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            for (PreparedStatement ps : statements.values()) {
+                ps.close();
+            }
+            statements.clear();
+        } finally {
+            if (closeConnection) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -17,10 +17,14 @@ package org.mybatis.dynamic.sql.util.mybatis3;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.BasicColumn;
 import org.mybatis.dynamic.sql.SqlBuilder;
@@ -30,9 +34,11 @@ import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.insert.GeneralInsertDSL;
 import org.mybatis.dynamic.sql.insert.InsertDSL;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertDSL;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.CountDSL;
 import org.mybatis.dynamic.sql.select.CountDSLCompleter;
@@ -40,8 +46,11 @@ import org.mybatis.dynamic.sql.select.QueryExpressionDSL;
 import org.mybatis.dynamic.sql.select.SelectDSLCompleter;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.MultiRowUpdateDSL;
 import org.mybatis.dynamic.sql.update.UpdateDSLCompleter;
+import org.mybatis.dynamic.sql.update.render.MultiRowUpdateStatementProvider;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.Page;
 
 /**
  * Utility functions for building MyBatis3 mappers.
@@ -91,6 +100,33 @@ public class MyBatis3Utils {
         return mapper.applyAsLong(countFrom(start, completer));
     }
 
+    public static SelectStatementProvider countUpTo(long limit, SqlTable table, CountDSLCompleter completer) {
+        return countFrom(SqlBuilder.countUpTo(limit).from(table), completer);
+    }
+
+    public static long countUpTo(ToLongFunction<SelectStatementProvider> mapper, long limit, SqlTable table,
+            CountDSLCompleter completer) {
+        return mapper.applyAsLong(countUpTo(limit, table, completer));
+    }
+
+    public static SelectStatementProvider selectExists(SqlTable table, CountDSLCompleter completer) {
+        return countFrom(SqlBuilder.selectExists(table), completer);
+    }
+
+    /**
+     * Returns true if any row matches. The check is rendered as a count of at most one row, so it can be executed
+     * with the count mapper method of a generated mapper - the database still stops reading at the first match.
+     *
+     * @param mapper the count mapper method
+     * @param table the table
+     * @param completer the completer of the count - it typically adds criteria
+     * @return true if any row matches
+     */
+    public static boolean exists(ToLongFunction<SelectStatementProvider> mapper, SqlTable table,
+            CountDSLCompleter completer) {
+        return countUpTo(mapper, 1, table, completer) > 0;
+    }
+
     public static DeleteStatementProvider deleteFrom(SqlTable table, DeleteDSLCompleter completer) {
         return completer.apply(SqlBuilder.deleteFrom(table))
                 .build()
@@ -133,9 +169,56 @@ public class MyBatis3Utils {
                 .render(RenderingStrategies.MYBATIS3);
     }
 
+    public static <R> List<MultiRowInsertStatementProvider<R>> insertMultipleChunks(Collection<R> records,
+            SqlTable table, UnaryOperator<MultiRowInsertDSL<R>> completer) {
+        return completer.apply(SqlBuilder.insertMultiple(records).into(table))
+                .build()
+                .renderChunks(RenderingStrategies.MYBATIS3);
+    }
+
+    /**
+     * Inserts the records with one or more multi-row insert statements, executed in sequence. The records are
+     * split into several statements only if the completer sets a row or parameter limit.
+     *
+     * @param mapper the multi-row insert mapper method
+     * @param records the records to insert
+     * @param table the table to insert into
+     * @param completer the completer that maps columns and, optionally, sets statement limits
+     * @param <R> the type of record to insert
+     * @return the total number of rows inserted
+     */
     public static <R> int insertMultiple(ToIntFunction<MultiRowInsertStatementProvider<R>> mapper,
             Collection<R> records, SqlTable table, UnaryOperator<MultiRowInsertDSL<R>> completer) {
-        return mapper.applyAsInt(insertMultiple(records, table, completer));
+        return insertMultipleChunks(records, table, completer).stream()
+                .mapToInt(mapper)
+                .sum();
+    }
+
+    public static <R> StreamingBatchInsert<R> insertBatch(Stream<R> records, SqlTable table,
+            UnaryOperator<StreamingBatchInsertDSL<R>> completer) {
+        return completer.apply(SqlBuilder.insertBatch(records).into(table))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+    }
+
+    /**
+     * Executes a streaming batch insert with a MyBatis batch executor, one chunk at a time. Each record of a chunk
+     * is passed to the insert mapper method, then the chunk is executed with the flush function - typically
+     * {@code SqlSession::flushStatements} - and its result is passed to the result consumer.
+     *
+     * @param mapper the insert mapper method
+     * @param flushStatements a function that executes the pending statements of the batch executor
+     * @param resultConsumer a consumer for the result of each chunk
+     * @param batchInsert the streaming batch insert
+     * @param <R> the type of record to insert
+     * @param <B> the type of chunk result
+     */
+    public static <R, B> void insertBatch(ToIntFunction<InsertStatementProvider<R>> mapper,
+            Supplier<B> flushStatements, Consumer<B> resultConsumer, StreamingBatchInsert<R> batchInsert) {
+        batchInsert.execute(b -> {
+            b.insertStatements().forEach(mapper::applyAsInt);
+            return flushStatements.get();
+        }, resultConsumer);
     }
 
     public static SelectStatementProvider select(BasicColumn[] selectList, SqlTable table,
@@ -180,6 +263,36 @@ public class MyBatis3Utils {
         return mapper.apply(select(start, completer));
     }
 
+    public static <R> Page<R> selectPage(Function<SelectStatementProvider, List<R>> mapper,
+            ToLongFunction<SelectStatementProvider> countMapper, BasicColumn[] selectList, SqlTable table,
+            SelectDSLCompleter completer, Executor executor) {
+        return selectPage(mapper, countMapper, SqlBuilder.select(selectList).from(table), completer, executor);
+    }
+
+    /**
+     * Selects a page of rows and counts the rows the select would return without paging. The count statement is
+     * derived from the select and passed to the count mapper method on the executor, while the select runs on the
+     * calling thread. The count mapper must be safe to call from another thread - a mapper managed by
+     * MyBatis-Spring is, a mapper obtained from a plain {@code SqlSession} is not.
+     *
+     * @param mapper the select mapper method
+     * @param countMapper the count mapper method
+     * @param start the start of the select
+     * @param completer the completer of the select - it typically adds criteria and paging
+     * @param executor the executor that runs the count query
+     * @param <R> the type of the rows
+     * @return the page
+     */
+    public static <R> Page<R> selectPage(Function<SelectStatementProvider, List<R>> mapper,
+            ToLongFunction<SelectStatementProvider> countMapper, QueryExpressionDSL<SelectModel> start,
+            SelectDSLCompleter completer, Executor executor) {
+        SelectModel selectModel = completer.apply(start).build();
+        SelectStatementProvider selectStatement = selectModel.render(RenderingStrategies.MYBATIS3);
+        SelectStatementProvider countStatement = selectModel.renderCount(RenderingStrategies.MYBATIS3);
+        return Page.fetch(selectModel, () -> mapper.apply(selectStatement),
+                () -> countMapper.applyAsLong(countStatement), executor);
+    }
+
     public static UpdateStatementProvider update(SqlTable table, UpdateDSLCompleter completer) {
         return completer.apply(SqlBuilder.update(table))
                 .build()
@@ -190,4 +303,29 @@ public class MyBatis3Utils {
             SqlTable table, UpdateDSLCompleter completer) {
         return mapper.applyAsInt(update(table, completer));
     }
+
+    public static <R> List<MultiRowUpdateStatementProvider<R>> updateMultipleChunks(Collection<R> records,
+            SqlTable table, UnaryOperator<MultiRowUpdateDSL<R>> completer) {
+        return completer.apply(SqlBuilder.updateMultiple(records).table(table))
+                .build()
+                .renderChunks(RenderingStrategies.MYBATIS3);
+    }
+
+    /**
+     * Updates the records with one or more multi-row update statements, executed in sequence. The records are
+     * split into several statements only if the completer sets a row or parameter limit.
+     *
+     * @param mapper the multi-row update mapper method
+     * @param records the records to update
+     * @param table the table to update
+     * @param completer the completer that maps columns and the key and, optionally, sets statement limits
+     * @param <R> the type of record to update
+     * @return the total number of rows updated
+     */
+    public static <R> int updateMultiple(ToIntFunction<MultiRowUpdateStatementProvider<R>> mapper,
+            Collection<R> records, SqlTable table, UnaryOperator<MultiRowUpdateDSL<R>> completer) {
+        return updateMultipleChunks(records, table, completer).stream()
+                .mapToInt(mapper)
+                .sum();
+    }
 }
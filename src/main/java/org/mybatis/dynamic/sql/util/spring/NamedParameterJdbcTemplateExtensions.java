@@ -15,26 +15,38 @@
  */
 package org.mybatis.dynamic.sql.util.spring;
 
+import java.sql.ResultSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
 import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertModel;
 import org.mybatis.dynamic.sql.insert.render.BatchInsert;
 import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
 import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
+import org.mybatis.dynamic.sql.update.MultiRowUpdateModel;
 import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.MultiRowUpdateStatementProvider;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.Page;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
@@ -59,6 +71,22 @@ public class NamedParameterJdbcTemplateExtensions {
         return template.queryForObject(countStatement.getSelectStatement(), countStatement.getParameters(), Long.class);
     }
     
+    public boolean exists(Buildable<SelectModel> selectStatement) {
+        return exists(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    /**
+     * Returns true if the select returns a row. Only the first row is read, so this is intended for statements
+     * built with {@link org.mybatis.dynamic.sql.SqlBuilder#selectExists(org.mybatis.dynamic.sql.SqlTable)}.
+     *
+     * @param selectStatement the select statement
+     * @return true if the select returns a row
+     */
+    public boolean exists(SelectStatementProvider selectStatement) {
+        return Boolean.TRUE.equals(template.query(selectStatement.getSelectStatement(),
+                selectStatement.getParameters(), ResultSet::next));
+    }
+
     public int delete(Buildable<DeleteModel> deleteStatement) {
         return delete(deleteStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
@@ -67,6 +95,15 @@ public class NamedParameterJdbcTemplateExtensions {
         return template.update(deleteStatement.getDeleteStatement(), deleteStatement.getParameters());
     }
 
+    public <T> int[] deleteBatch(Buildable<BatchDeleteModel<T>> deleteStatement) {
+        return deleteBatch(deleteStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    public <T> int[] deleteBatch(BatchDelete<T> deleteStatement) {
+        SqlParameterSource[] batch = SqlParameterSourceUtils.createBatch(deleteStatement.getRecords());
+        return template.batchUpdate(deleteStatement.getDeleteStatementSQL(), batch);
+    }
+
     public int generalInsert(Buildable<GeneralInsertModel> insertStatement) {
         return generalInsert(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
     }
@@ -111,8 +148,38 @@ public class NamedParameterJdbcTemplateExtensions {
         return template.batchUpdate(insertStatement.getInsertStatementSQL(), batch);
     }
 
+    public <T> void insertBatch(Buildable<StreamingBatchInsertModel<T>> insertStatement,
+            Consumer<int[]> chunkUpdateCounts) {
+        insertBatch(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), chunkUpdateCounts);
+    }
+
+    /**
+     * Executes a streaming batch insert one chunk at a time, so only one chunk of records is held in memory.
+     *
+     * @param insertStatement the streaming batch insert
+     * @param chunkUpdateCounts a consumer for the update counts of each chunk
+     * @param <T> the type of record to insert
+     */
+    public <T> void insertBatch(StreamingBatchInsert<T> insertStatement, Consumer<int[]> chunkUpdateCounts) {
+        insertStatement.execute(this::insertBatch, chunkUpdateCounts);
+    }
+
+    /**
+     * Inserts the records with one or more multi-row insert statements, executed in sequence. The records are
+     * split into several statements only if the model has a row or parameter limit.
+     *
+     * @param insertStatement the multi-row insert
+     * @param <T> the type of record to insert
+     * @return the total number of rows inserted
+     */
     public <T> int insertMultiple(Buildable<MultiRowInsertModel<T>> insertStatement) {
-        return insertMultiple(insertStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+        return insertMultiple(insertStatement.build().renderChunks(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    public <T> int insertMultiple(List<MultiRowInsertStatementProvider<T>> insertStatements) {
+        return insertStatements.stream()
+                .mapToInt(this::insertMultiple)
+                .sum();
     }
 
     public <T> int insertMultiple(MultiRowInsertStatementProvider<T> insertStatement) {
@@ -137,6 +204,31 @@ public class NamedParameterJdbcTemplateExtensions {
         return template.query(selectStatement.getSelectStatement(), selectStatement.getParameters(), rowMapper);
     }
 
+    public <T> Page<T> selectPage(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper,
+            Executor executor) {
+        return selectPage(selectStatement.build(), rowMapper, executor);
+    }
+
+    /**
+     * Selects a page of rows and counts the rows the select would return without paging. The count statement is
+     * derived from the select and runs on the executor while the select runs on the calling thread. The count
+     * query therefore uses its own connection and does not take part in a transaction bound to the calling
+     * thread.
+     *
+     * @param selectModel the paginated select
+     * @param rowMapper the row mapper of the select
+     * @param executor the executor that runs the count query
+     * @param <T> the type of the rows
+     * @return the page
+     */
+    public <T> Page<T> selectPage(SelectModel selectModel, RowMapper<T> rowMapper, Executor executor) {
+        SelectStatementProvider selectStatement = selectModel.render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        SelectStatementProvider countStatement =
+                selectModel.renderCount(RenderingStrategies.SPRING_NAMED_PARAMETER);
+        return Page.fetch(selectModel, () -> selectList(selectStatement, rowMapper), () -> count(countStatement),
+                executor);
+    }
+
     public <T> Optional<T> selectOne(Buildable<SelectModel> selectStatement, RowMapper<T> rowMapper) {
         return selectOne(selectStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER), rowMapper);
     }
@@ -160,4 +252,28 @@ public class NamedParameterJdbcTemplateExtensions {
     public int update(UpdateStatementProvider updateStatement) {
         return template.update(updateStatement.getUpdateStatement(), updateStatement.getParameters());
     }
+
+    public <T> int updateMultiple(Buildable<MultiRowUpdateModel<T>> updateStatement) {
+        return updateMultiple(updateStatement.build().renderChunks(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    public <T> int updateMultiple(List<MultiRowUpdateStatementProvider<T>> updateStatements) {
+        return updateStatements.stream()
+                .mapToInt(this::updateMultiple)
+                .sum();
+    }
+
+    public <T> int updateMultiple(MultiRowUpdateStatementProvider<T> updateStatement) {
+        return template.update(updateStatement.getUpdateStatement(),
+                new BeanPropertySqlParameterSource(updateStatement));
+    }
+
+    public <T> int[] updateBatch(Buildable<BatchUpdateModel<T>> updateStatement) {
+        return updateBatch(updateStatement.build().render(RenderingStrategies.SPRING_NAMED_PARAMETER));
+    }
+
+    public <T> int[] updateBatch(BatchUpdate<T> updateStatement) {
+        SqlParameterSource[] batch = SqlParameterSourceUtils.createBatch(updateStatement.getRecords());
+        return template.batchUpdate(updateStatement.getUpdateStatementSQL(), batch);
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.mybatis.dynamic.sql.util.springbatch;
 
+import org.mybatis.dynamic.sql.BindableColumn;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 
@@ -29,4 +30,18 @@ public class SpringBatchCursorReaderSelectModel {
     public SelectStatementProvider render() {
         return selectModel.render(SpringBatchUtility.SPRING_BATCH_READER_RENDERING_STRATEGY);
     }
+
+    /**
+     * Returns a partitioner that splits this select into ranges of a partition column, so a partitioned step can
+     * run one cursor reader per range.
+     *
+     * @param column the partition column - a number or date column, ideally indexed
+     * @param partitions the number of partitions to create
+     * @param <T> the Java type of the partition column
+     * @return the partitioner
+     */
+    public <T> SpringBatchRangePartitioner<T> partitionBy(BindableColumn<T> column, int partitions) {
+        return new SpringBatchRangePartitioner<>(selectModel, column, partitions,
+                sm -> sm.render(SpringBatchUtility.SPRING_BATCH_READER_RENDERING_STRATEGY));
+    }
 }
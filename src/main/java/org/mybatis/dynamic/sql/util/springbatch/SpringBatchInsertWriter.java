@@ -0,0 +1,241 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.mybatis.dynamic.sql.SqlBuilder;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.BatchInsertDSL;
+import org.mybatis.dynamic.sql.insert.BatchInsertModel;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertDSL;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.DefaultMultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.util.Buildable;
+
+/**
+ * Writes Spring Batch chunks with as few round trips to the database as possible - either as one JDBC batch per
+ * chunk, or as multi-row insert statements. Statements are rendered once for each chunk shape and reused for
+ * every later chunk of the same size, so writing a chunk only binds records.
+ *
+ * <p>{@link #write(List)} has the signature of Spring Batch's ItemWriter, so a writer can be used directly as
+ * an ItemWriter:
+ *
+ * <pre>
+ * SpringBatchInsertWriter&lt;PersonRecord&gt; insertWriter = SpringBatchInsertWriter.multiRowInsert(person,
+ *         c -&gt; c.map(firstName).toProperty("firstName")
+ *                 .map(lastName).toProperty("lastName")
+ *                 .withMaxParametersPerStatement(1000),
+ *         RenderingStrategies.MYBATIS3, mapper::insertMultiple);
+ *
+ * ItemWriter&lt;PersonRecord&gt; itemWriter = insertWriter::write;
+ * </pre>
+ *
+ * <p>The update counts reported by the database are checked against the number of records in each chunk, and a
+ * mismatch fails the chunk with an IllegalStateException. Update counts of upserts depend on the database and
+ * whether a row was inserted or updated, so they are reported but not checked. Drivers that return
+ * {@link Statement#SUCCESS_NO_INFO} for batch statements are trusted to have written one row.
+ *
+ * @param <T> the type of record written
+ */
+public abstract class SpringBatchInsertWriter<T> {
+    private final boolean verifyUpdateCounts;
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong roundTrips = new AtomicLong();
+
+    private SpringBatchInsertWriter(boolean verifyUpdateCounts) {
+        this.verifyUpdateCounts = verifyUpdateCounts;
+    }
+
+    /**
+     * Writes a chunk of records.
+     *
+     * @param items the records to write
+     * @throws IllegalStateException if the update counts do not match the number of records
+     */
+    public void write(List<? extends T> items) {
+        if (!items.isEmpty()) {
+            writeCount.addAndGet(writeChunk(Collections.unmodifiableList(items)));
+        }
+    }
+
+    /**
+     * Returns the number of rows written so far, as reported by the database.
+     *
+     * @return the number of rows written
+     */
+    public long writeCount() {
+        return writeCount.get();
+    }
+
+    /**
+     * Returns the number of statements or batches executed so far.
+     *
+     * @return the number of round trips to the database
+     */
+    public long roundTrips() {
+        return roundTrips.get();
+    }
+
+    abstract int writeChunk(List<T> records);
+
+    void verifyUpdateCount(int expected, int actual) {
+        roundTrips.incrementAndGet();
+        if (verifyUpdateCounts && expected != actual) {
+            throw new IllegalStateException(String.format(
+                    "Expected to write %d rows, but the database reported %d", expected, actual)); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Creates a writer that writes each chunk as a single JDBC batch. The insert statement is rendered once.
+     *
+     * @param table the table to insert into
+     * @param completer the completer that maps columns and, optionally, adds an upsert clause
+     * @param renderingStrategy the rendering strategy of the executor
+     * @param executor a function that executes a batch and returns its update counts - for example the
+     *     insertBatch method of a NamedParameterJdbcTemplateExtensions
+     * @param <T> the type of record written
+     * @return the writer
+     */
+    public static <T> SpringBatchInsertWriter<T> batchInsert(SqlTable table,
+            Function<BatchInsertDSL<T>, Buildable<BatchInsertModel<T>>> completer, RenderingStrategy renderingStrategy,
+            Function<BatchInsert<T>, int[]> executor) {
+        BatchInsertModel<T> model = completer.apply(SqlBuilder.insertBatch(Collections.<T>emptyList()).into(table))
+                .build();
+        return new BatchInsertWriter<>(model, renderingStrategy, executor);
+    }
+
+    /**
+     * Creates a writer that writes each chunk with multi-row insert statements. A chunk is split into several
+     * statements only if the completer sets a row or parameter limit.
+     *
+     * @param table the table to insert into
+     * @param completer the completer that maps columns and, optionally, sets statement limits or adds an upsert
+     *     clause
+     * @param renderingStrategy the rendering strategy of the executor
+     * @param executor a function that executes a multi-row insert and returns its update count - for example a
+     *     MyBatis mapper method
+     * @param <T> the type of record written
+     * @return the writer
+     */
+    public static <T> SpringBatchInsertWriter<T> multiRowInsert(SqlTable table,
+            Function<MultiRowInsertDSL<T>, Buildable<MultiRowInsertModel<T>>> completer,
+            RenderingStrategy renderingStrategy, ToIntFunction<MultiRowInsertStatementProvider<T>> executor) {
+        return new MultiRowInsertWriter<>(table, completer, renderingStrategy, executor);
+    }
+
+    private static class BatchInsertWriter<T> extends SpringBatchInsertWriter<T> {
+        private final String insertStatement;
+        private final Function<BatchInsert<T>, int[]> executor;
+
+        private BatchInsertWriter(BatchInsertModel<T> model, RenderingStrategy renderingStrategy,
+                Function<BatchInsert<T>, int[]> executor) {
+            super(!model.upsertModel().isPresent());
+            insertStatement = model.render(renderingStrategy).getInsertStatementSQL();
+            this.executor = Objects.requireNonNull(executor);
+        }
+
+        @Override
+        int writeChunk(List<T> records) {
+            int[] updateCounts = executor.apply(BatchInsert.withRecords(records)
+                    .withInsertStatement(insertStatement)
+                    .build());
+
+            int written = 0;
+            for (int updateCount : updateCounts) {
+                written += updateCount == Statement.SUCCESS_NO_INFO ? 1 : updateCount;
+            }
+            verifyUpdateCount(records.size(), written);
+            return written;
+        }
+    }
+
+    private static class MultiRowInsertWriter<T> extends SpringBatchInsertWriter<T> {
+        private final SqlTable table;
+        private final Function<MultiRowInsertDSL<T>, Buildable<MultiRowInsertModel<T>>> completer;
+        private final RenderingStrategy renderingStrategy;
+        private final ToIntFunction<MultiRowInsertStatementProvider<T>> executor;
+        private final Map<Integer, List<StatementShape>> chunkShapes = new ConcurrentHashMap<>();
+
+        private MultiRowInsertWriter(SqlTable table,
+                Function<MultiRowInsertDSL<T>, Buildable<MultiRowInsertModel<T>>> completer,
+                RenderingStrategy renderingStrategy, ToIntFunction<MultiRowInsertStatementProvider<T>> executor) {
+            // building an empty model validates the mappings and statement limits before the first chunk
+            super(!buildModel(table, completer, Collections.emptyList()).upsertModel().isPresent());
+            this.table = table;
+            this.completer = completer;
+            this.renderingStrategy = Objects.requireNonNull(renderingStrategy);
+            this.executor = Objects.requireNonNull(executor);
+        }
+
+        @Override
+        int writeChunk(List<T> records) {
+            List<StatementShape> shapes = chunkShapes.computeIfAbsent(records.size(),
+                    k -> calculateShapes(records));
+
+            int written = 0;
+            int start = 0;
+            for (StatementShape shape : shapes) {
+                List<T> statementRecords = records.subList(start, start + shape.rowCount);
+                int updateCount = executor.applyAsInt(new DefaultMultiRowInsertStatementProvider.Builder<T>()
+                        .withRecords(statementRecords)
+                        .withInsertStatement(shape.insertStatement)
+                        .build());
+                verifyUpdateCount(shape.rowCount, updateCount);
+                written += updateCount;
+                start += shape.rowCount;
+            }
+            return written;
+        }
+
+        private List<StatementShape> calculateShapes(List<T> records) {
+            List<StatementShape> shapes = new ArrayList<>();
+            for (MultiRowInsertStatementProvider<T> statement : buildModel(table, completer, records)
+                    .renderChunks(renderingStrategy)) {
+                shapes.add(new StatementShape(statement.getInsertStatement(), statement.getRecords().size()));
+            }
+            return shapes;
+        }
+
+        private static <T> MultiRowInsertModel<T> buildModel(SqlTable table,
+                Function<MultiRowInsertDSL<T>, Buildable<MultiRowInsertModel<T>>> completer, List<T> records) {
+            return completer.apply(SqlBuilder.insertMultiple(records).into(table)).build();
+        }
+    }
+
+    private static class StatementShape {
+        private final String insertStatement;
+        private final int rowCount;
+
+        private StatementShape(String insertStatement, int rowCount) {
+            this.insertStatement = insertStatement;
+            this.rowCount = rowCount;
+        }
+    }
+}
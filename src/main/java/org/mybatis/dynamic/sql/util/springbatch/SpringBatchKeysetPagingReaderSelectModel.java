@@ -0,0 +1,151 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.select.Keyset;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+public class SpringBatchKeysetPagingReaderSelectModel {
+
+    private final SelectModel selectModel;
+
+    public SpringBatchKeysetPagingReaderSelectModel(SelectModel selectModel) {
+        this.selectModel = selectModel;
+    }
+
+    /**
+     * Renders the select statement for a MyBatisPagingItemReader.
+     *
+     * @param keyExtractor a function that returns the key of an item - one value for each keyset column
+     * @param <T> the type of item read
+     * @return a statement provider that selects the page following the last item read
+     */
+    public <T> KeysetPagingDecorator<T> render(Function<T, Object[]> keyExtractor) {
+        return new KeysetPagingDecorator<>(selectModel, keyExtractor);
+    }
+
+    /**
+     * A statement provider that holds the last key read by a paging reader. The reader copies its parameter
+     * values for every page, so this provider - placed in the parameter values with
+     * {@link SpringBatchUtility#toParameterValues(SelectStatementProvider)} - is shared by all pages. Each page
+     * is rendered with a seek predicate positioned after the last item read and a
+     * <code>LIMIT #{_pagesize}</code> clause. No rows are skipped, so the reader's <code>_skiprows</code>
+     * parameter is not used.
+     *
+     * <p>Report every item read with {@link #itemRead(Object)} - for example from an ItemReadListener. To make
+     * the step restartable, save {@link #lastValues()} in the step execution context under
+     * {@link SpringBatchUtility#KEYSET_KEY} when the reader's state is saved, and call
+     * {@link #seekAfter(List)} with the saved key when the step is reopened. The reader should not save its own
+     * state, otherwise it skips rows of the first page after a restart.
+     *
+     * @param <T> the type of item read
+     */
+    public static class KeysetPagingDecorator<T> implements SelectStatementProvider {
+        private final SelectModel selectModel;
+        private final Function<T, Object[]> keyExtractor;
+        private Keyset keyset;
+        private T lastItem;
+        private SelectStatementProvider currentPage;
+
+        public KeysetPagingDecorator(SelectModel selectModel, Function<T, Object[]> keyExtractor) {
+            this.selectModel = Objects.requireNonNull(selectModel);
+            this.keyExtractor = Objects.requireNonNull(keyExtractor);
+            keyset = selectModel.mapQueryExpressions(QueryExpressionModel::keyset)
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "A keyset paging select must seek with a keyset")); //$NON-NLS-1$
+        }
+
+        /**
+         * Records an item returned by the reader. The next page starts after the key of the last item recorded.
+         *
+         * @param item the item read
+         */
+        public synchronized void itemRead(T item) {
+            lastItem = Objects.requireNonNull(item);
+            currentPage = null;
+        }
+
+        /**
+         * Positions the next page after the specified key - typically a key restored from the step execution
+         * context.
+         *
+         * @param lastValues the key of the last item already processed
+         */
+        public synchronized void seekAfter(List<?> lastValues) {
+            keyset = keyset.after(lastValues);
+            lastItem = null;
+            currentPage = null;
+        }
+
+        /**
+         * Returns the key of the last item read, or empty if no item has been read.
+         *
+         * @return the key of the last item read
+         */
+        public synchronized Optional<List<Object>> lastValues() {
+            return currentKeyset().lastValues();
+        }
+
+        @Override
+        public synchronized Map<String, Object> getParameters() {
+            return currentPage().getParameters();
+        }
+
+        @Override
+        public synchronized String getSelectStatement() {
+            return currentPage().getSelectStatement() + " LIMIT #{_pagesize}"; //$NON-NLS-1$
+        }
+
+        private Keyset currentKeyset() {
+            if (lastItem != null) {
+                keyset = keyset.after(keyExtractor.apply(lastItem));
+                lastItem = null;
+            }
+            return keyset;
+        }
+
+        private SelectStatementProvider currentPage() {
+            if (currentPage == null) {
+                currentPage = renderPage(currentKeyset());
+            }
+            return currentPage;
+        }
+
+        private SelectStatementProvider renderPage(Keyset pageKeyset) {
+            List<QueryExpressionModel> queryExpressions = selectModel
+                    .mapQueryExpressions(qe -> qe.keyset().isPresent() ? qe.seek(pageKeyset) : qe)
+                    .collect(Collectors.toList());
+
+            return SelectModel.withQueryExpressions(queryExpressions)
+                    .withOrderByModel(selectModel.orderByModel().orElse(null))
+                    .withPagingModel(selectModel.pagingModel().orElse(null))
+                    .build()
+                    .render(SpringBatchUtility.SPRING_BATCH_READER_RENDERING_STRATEGY);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.mybatis.dynamic.sql.util.springbatch;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.mybatis.dynamic.sql.BindableColumn;
 import org.mybatis.dynamic.sql.select.SelectModel;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 
@@ -30,6 +31,24 @@ public class SpringBatchPagingReaderSelectModel {
     }
 
     public SelectStatementProvider render() {
+        return render(selectModel);
+    }
+
+    /**
+     * Returns a partitioner that splits this select into ranges of a partition column, so a partitioned step can
+     * run one paging reader per range. Each partition pages with LIMIT and OFFSET within its own range.
+     *
+     * @param column the partition column - a number or date column, ideally indexed
+     * @param partitions the number of partitions to create
+     * @param <T> the Java type of the partition column
+     * @return the partitioner
+     */
+    public <T> SpringBatchRangePartitioner<T> partitionBy(BindableColumn<T> column, int partitions) {
+        return new SpringBatchRangePartitioner<>(selectModel, column, partitions,
+                SpringBatchPagingReaderSelectModel::render);
+    }
+
+    private static SelectStatementProvider render(SelectModel selectModel) {
         SelectStatementProvider selectStatement =
                 selectModel.render(SpringBatchUtility.SPRING_BATCH_READER_RENDERING_STRATEGY);
         return new LimitAndOffsetDecorator(selectStatement);
@@ -0,0 +1,286 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.BindableColumn;
+import org.mybatis.dynamic.sql.SqlBuilder;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+/**
+ * Splits a Spring Batch reader select into statements that each read one range of a partition column. The
+ * ranges do not overlap and together cover every row of the original select - the first range also reads rows
+ * where the partition column is null. Each range is added to the existing where clause with "and", so a
+ * partitioned step can read one large table with a reader per partition:
+ *
+ * <pre>
+ * SpringBatchRangePartitioner&lt;Integer&gt; partitioner = SpringBatchUtility.selectForCursor(person.allColumns())
+ *     .from(person)
+ *     .where(active, isEqualTo(true))
+ *     .build()
+ *     .partitionBy(person.id, 8);
+ *
+ * SelectStatementProvider boundsStatement = partitioner.renderBoundsStatement(RenderingStrategies.MYBATIS3);
+ * Map&lt;String, Object&gt; bounds = mapper.selectOneMap(boundsStatement);
+ * List&lt;SelectStatementProvider&gt; partitions = partitioner.partition(bounds);
+ * </pre>
+ *
+ * <p>Range boundaries can be calculated for numbers and for dates and times. For other types, supply the
+ * boundaries with {@link #partitionAt(List)}.
+ *
+ * @param <T> the Java type of the partition column
+ */
+public class SpringBatchRangePartitioner<T> {
+    public static final String MIN_VALUE = "min_value"; //$NON-NLS-1$
+    public static final String MAX_VALUE = "max_value"; //$NON-NLS-1$
+
+    private final SelectModel selectModel;
+    private final QueryExpressionModel queryExpression;
+    private final BindableColumn<T> column;
+    private final int partitions;
+    private final Function<SelectModel, SelectStatementProvider> renderer;
+
+    SpringBatchRangePartitioner(SelectModel selectModel, BindableColumn<T> column, int partitions,
+            Function<SelectModel, SelectStatementProvider> renderer) {
+        this.selectModel = Objects.requireNonNull(selectModel);
+        this.column = Objects.requireNonNull(column);
+        this.renderer = Objects.requireNonNull(renderer);
+        if (partitions < 1) {
+            throw new IllegalArgumentException("The partition count must be at least 1"); //$NON-NLS-1$
+        }
+        this.partitions = partitions;
+        List<QueryExpressionModel> queryExpressions = selectModel.mapQueryExpressions(Function.identity())
+                .collect(Collectors.toList());
+        if (queryExpressions.size() != 1) {
+            throw new IllegalArgumentException("A partitioned select must not be a union"); //$NON-NLS-1$
+        }
+        queryExpression = queryExpressions.get(0);
+    }
+
+    /**
+     * Renders a statement that selects the smallest and largest values of the partition column - in columns
+     * named {@value #MIN_VALUE} and {@value #MAX_VALUE} - from the rows of the original select. Execute it with
+     * a mapper or template of your choice and pass the row to {@link #partition(Map)}.
+     *
+     * @param renderingStrategy the rendering strategy of the mapper or template that will execute the statement
+     * @return the bounds statement
+     */
+    public SelectStatementProvider renderBoundsStatement(RenderingStrategy renderingStrategy) {
+        QueryExpressionModel boundsExpression = queryExpression.selecting(Arrays.asList(
+                SqlBuilder.min(column).as(MIN_VALUE), SqlBuilder.max(column).as(MAX_VALUE)));
+        return SelectModel.withQueryExpressions(Collections.singletonList(boundsExpression))
+                .build()
+                .render(renderingStrategy);
+    }
+
+    /**
+     * Partitions the select using the row returned by the bounds statement. Column names are matched ignoring
+     * case. If the bounds are null - the select reads no rows - a single statement is returned.
+     *
+     * @param bounds the row returned by the statement from {@link #renderBoundsStatement(RenderingStrategy)}
+     * @return the partition statements
+     */
+    @SuppressWarnings("unchecked")
+    public List<SelectStatementProvider> partition(Map<String, Object> bounds) {
+        Object lower = boundsValue(bounds, MIN_VALUE);
+        Object upper = boundsValue(bounds, MAX_VALUE);
+        if (lower == null || upper == null) {
+            return partitionAt(Collections.emptyList());
+        }
+        return partition((T) lower, (T) upper);
+    }
+
+    /**
+     * Partitions the select into ranges of equal width between the specified bounds. Rows outside the bounds are
+     * read by the first or last partition. Integral numbers and dates are not split below a width of one, so
+     * fewer statements than the partition count are returned for narrow bounds.
+     *
+     * @param lower the smallest expected value of the partition column
+     * @param upper the largest expected value of the partition column
+     * @return the partition statements
+     */
+    public List<SelectStatementProvider> partition(T lower, T upper) {
+        BigDecimal low = toNumber(lower);
+        BigDecimal high = toNumber(upper);
+        if (low.compareTo(high) > 0) {
+            throw new IllegalArgumentException(
+                    "The lower bound must not be greater than the upper bound"); //$NON-NLS-1$
+        }
+
+        BigDecimal width = high.subtract(low);
+        boolean integral = isIntegral(lower.getClass());
+        List<BigDecimal> boundaries = new ArrayList<>();
+        for (int i = 1; i < partitions; i++) {
+            BigDecimal boundary = low.add(width.multiply(BigDecimal.valueOf(i))
+                    .divide(BigDecimal.valueOf(partitions), MathContext.DECIMAL64));
+            if (integral) {
+                boundary = boundary.setScale(0, RoundingMode.FLOOR);
+            }
+            BigDecimal previous = boundaries.isEmpty() ? low : boundaries.get(boundaries.size() - 1);
+            if (boundary.compareTo(previous) > 0) {
+                boundaries.add(boundary);
+            }
+        }
+
+        return partitionAt(boundaries.stream()
+                .map(b -> fromNumber(b, lower.getClass()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Partitions the select at the specified boundaries. Boundaries must be in ascending order. One more
+     * statement than the number of boundaries is returned: the first reads values less than the first boundary
+     * and nulls, each boundary starts a new partition, and the last reads values from the last boundary up.
+     *
+     * @param boundaries the boundaries between partitions
+     * @return the partition statements
+     */
+    public List<SelectStatementProvider> partitionAt(List<T> boundaries) {
+        if (boundaries.isEmpty()) {
+            return Collections.singletonList(renderer.apply(selectModel));
+        }
+
+        return IntStream.rangeClosed(0, boundaries.size())
+                .mapToObj(i -> renderPartition(rangeCriteria(boundaries, i)))
+                .collect(Collectors.toList());
+    }
+
+    private List<SqlCriterion<?>> rangeCriteria(List<T> boundaries, int partition) {
+        List<SqlCriterion<?>> criteria = new ArrayList<>();
+        if (partition == 0) {
+            criteria.add(criterion(null, SqlBuilder.isLessThan(boundaries.get(0))));
+            criteria.add(criterion("or", SqlBuilder.isNull())); //$NON-NLS-1$
+        } else if (partition == boundaries.size()) {
+            criteria.add(criterion(null, SqlBuilder.isGreaterThanOrEqualTo(boundaries.get(partition - 1))));
+        } else {
+            criteria.add(criterion(null, SqlBuilder.isGreaterThanOrEqualTo(boundaries.get(partition - 1))));
+            criteria.add(criterion("and", SqlBuilder.isLessThan(boundaries.get(partition)))); //$NON-NLS-1$
+        }
+        return criteria;
+    }
+
+    private SqlCriterion<T> criterion(String connector, VisitableCondition<T> condition) {
+        return SqlCriterion.withColumn(column)
+                .withConnector(connector)
+                .withCondition(condition)
+                .build();
+    }
+
+    private SelectStatementProvider renderPartition(List<SqlCriterion<?>> criteria) {
+        SelectModel partitionModel = SelectModel.withQueryExpressions(
+                Collections.singletonList(queryExpression.restrictedBy(WhereModel.of(criteria))))
+                .withOrderByModel(selectModel.orderByModel().orElse(null))
+                .withPagingModel(selectModel.pagingModel().orElse(null))
+                .build();
+        return renderer.apply(partitionModel);
+    }
+
+    private static Object boundsValue(Map<String, Object> bounds, String name) {
+        return bounds.entrySet().stream()
+                .filter(e -> e.getKey().equalsIgnoreCase(name))
+                .findFirst()
+                .map(Map.Entry::getValue)
+                .orElse(null);
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type != BigDecimal.class && type != Double.class && type != Float.class;
+    }
+
+    private static BigDecimal toNumber(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            return BigDecimal.valueOf(((Number) value).doubleValue());
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        } else if (value instanceof Timestamp || value instanceof java.sql.Date || value.getClass() == Date.class) {
+            return BigDecimal.valueOf(((Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            return BigDecimal.valueOf(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalDateTime) {
+            return BigDecimal.valueOf(((LocalDateTime) value).toInstant(ZoneOffset.UTC).toEpochMilli());
+        } else if (value instanceof Instant) {
+            return BigDecimal.valueOf(((Instant) value).toEpochMilli());
+        }
+        throw new IllegalArgumentException("Partition boundaries cannot be calculated for values of type " //$NON-NLS-1$
+                + value.getClass().getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private T fromNumber(BigDecimal number, Class<?> type) {
+        Object value;
+        if (type == BigDecimal.class) {
+            value = number;
+        } else if (type == BigInteger.class) {
+            value = number.toBigInteger();
+        } else if (type == Double.class) {
+            value = number.doubleValue();
+        } else if (type == Float.class) {
+            value = number.floatValue();
+        } else if (type == Long.class) {
+            value = number.longValue();
+        } else if (type == Integer.class) {
+            value = number.intValue();
+        } else if (type == Short.class) {
+            value = number.shortValue();
+        } else if (type == Byte.class) {
+            value = number.byteValue();
+        } else if (type == Timestamp.class) {
+            value = new Timestamp(number.longValue());
+        } else if (type == java.sql.Date.class) {
+            value = new java.sql.Date(number.longValue());
+        } else if (type == Date.class) {
+            value = new Date(number.longValue());
+        } else if (type == LocalDate.class) {
+            value = LocalDate.ofEpochDay(number.longValue());
+        } else if (type == LocalDateTime.class) {
+            Instant instant = Instant.ofEpochMilli(number.longValue());
+            value = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), ZoneOffset.UTC);
+        } else {
+            value = Instant.ofEpochMilli(number.longValue());
+        }
+        return (T) value;
+    }
+}
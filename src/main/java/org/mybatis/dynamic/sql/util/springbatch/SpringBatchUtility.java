@@ -28,6 +28,11 @@ public class SpringBatchUtility {
     private SpringBatchUtility() {}
     
     public static final String PARAMETER_KEY = "mybatis3_dsql_query"; //$NON-NLS-1$
+
+    /**
+     * The key under which a keyset paging reader should save the last key read in the step execution context.
+     */
+    public static final String KEYSET_KEY = "mybatis3_dsql_keyset"; //$NON-NLS-1$
     
     public static final RenderingStrategy SPRING_BATCH_READER_RENDERING_STRATEGY =
             new SpringBatchReaderRenderingStrategy();
@@ -52,6 +57,23 @@ public class SpringBatchUtility {
         return SelectDSL.select(SpringBatchPagingReaderSelectModel::new, selectList);
     }
 
+    /**
+     * Select builder that renders in a manner appropriate for a MyBatisPagingItemReader that pages with a keyset
+     * rather than an offset. Each page starts after the key of the last item read, so the database does not read
+     * and discard the rows of earlier pages. The statement must call <code>seek</code> with a keyset whose columns
+     * identify a row uniquely.
+     *
+     * <p>The rendered SQL will contain a LIMIT clause, like {@link #selectForPaging(BasicColumn...)}.
+     *
+     * @param selectList a column list for the SELECT statement
+     * @return FromGatherer used to continue a SELECT statement
+     * @see SpringBatchKeysetPagingReaderSelectModel.KeysetPagingDecorator
+     */
+    public static QueryExpressionDSL.FromGatherer<SpringBatchKeysetPagingReaderSelectModel> selectForKeysetPaging(
+            BasicColumn...selectList) {
+        return SelectDSL.select(SpringBatchKeysetPagingReaderSelectModel::new, selectList);
+    }
+
     /**
      * Select builder that renders in a manner appropriate for the MyBatisCursorItemReader.
      * 
@@ -17,11 +17,11 @@ package org.mybatis.dynamic.sql.where;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
@@ -48,45 +48,35 @@ public class WhereModel {
      * @return rendered where clause
      */
     public WhereClauseProvider render(RenderingStrategy renderingStrategy) {
-        return WhereRenderer.withWhereModel(this)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
-                .withTableAliasCalculator(TableAliasCalculator.empty())
-                .build()
-                .render()
-                .orElse(EMPTY_WHERE_CLAUSE);
+        return render(RenderingContext.withRenderingStrategy(renderingStrategy)
+                .build());
     }
     
     public WhereClauseProvider render(RenderingStrategy renderingStrategy,
             TableAliasCalculator tableAliasCalculator) {
-        return WhereRenderer.withWhereModel(this)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
+        return render(RenderingContext.withRenderingStrategy(renderingStrategy)
                 .withTableAliasCalculator(tableAliasCalculator)
-                .build()
-                .render()
-                .orElse(EMPTY_WHERE_CLAUSE);
+                .build());
     }
     
     public WhereClauseProvider render(RenderingStrategy renderingStrategy,
             String parameterName) {
-        return WhereRenderer.withWhereModel(this)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
-                .withTableAliasCalculator(TableAliasCalculator.empty())
+        return render(RenderingContext.withRenderingStrategy(renderingStrategy)
                 .withParameterName(parameterName)
-                .build()
-                .render()
-                .orElse(EMPTY_WHERE_CLAUSE);
+                .build());
     }
     
     public WhereClauseProvider render(RenderingStrategy renderingStrategy,
             TableAliasCalculator tableAliasCalculator, String parameterName) {
-        return WhereRenderer.withWhereModel(this)
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(new AtomicInteger(1))
+        return render(RenderingContext.withRenderingStrategy(renderingStrategy)
                 .withTableAliasCalculator(tableAliasCalculator)
                 .withParameterName(parameterName)
+                .build());
+    }
+    
+    private WhereClauseProvider render(RenderingContext renderingContext) {
+        return WhereRenderer.withWhereModel(this)
+                .withRenderingContext(renderingContext)
                 .build()
                 .render()
                 .orElse(EMPTY_WHERE_CLAUSE);
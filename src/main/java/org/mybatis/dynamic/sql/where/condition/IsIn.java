@@ -18,12 +18,14 @@ package org.mybatis.dynamic.sql.where.condition;
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
 import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
 
 public class IsIn<T> extends AbstractListValueCondition<T, IsIn<T>> {
 
@@ -39,15 +41,46 @@ public class IsIn<T> extends AbstractListValueCondition<T, IsIn<T>> {
         super(values, valueStreamTransformer, emptyCallback);
     }
 
+    protected IsIn(Collection<T> values, UnaryOperator<Stream<T>> valueStreamTransformer, Callback emptyCallback,
+            ListValueStrategy listValueStrategy) {
+        super(values, valueStreamTransformer, emptyCallback, listValueStrategy);
+    }
+
     @Override
     public String renderCondition(String columnName, Stream<String> placeholders) {
         return spaceAfter(columnName)
                 + placeholders.collect(Collectors.joining(",", "in (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    @Override
+    public boolean supportsArrayBinding() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsBucketing() {
+        return true;
+    }
+
+    @Override
+    public String renderArrayCondition(String columnName, String placeholder) {
+        return spaceAfter(columnName) + "= any(" + placeholder + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
     @Override
     public IsIn<T> withListEmptyCallback(Callback callback) {
-        return new IsIn<>(values, valueStreamTransformer, callback);
+        return new IsIn<>(values, null, callback, listValueStrategy);
+    }
+
+    /**
+     * Sets the strategy for binding the values of this condition, overriding the list value strategy of the
+     * rendering strategy.
+     *
+     * @param listValueStrategy the list value strategy
+     * @return new condition with the specified strategy
+     */
+    public IsIn<T> withListValueStrategy(ListValueStrategy listValueStrategy) {
+        return new IsIn<>(values, null, emptyCallback, Objects.requireNonNull(listValueStrategy));
     }
 
     /**
@@ -61,7 +94,7 @@ public class IsIn<T> extends AbstractListValueCondition<T, IsIn<T>> {
      * @return new condition with the specified transformer
      */
     public IsIn<T> then(UnaryOperator<Stream<T>> valueStreamTransformer) {
-        return new IsIn<>(values, valueStreamTransformer, emptyCallback);
+        return new IsIn<>(values, valueStreamTransformer, emptyCallback, listValueStrategy);
     }
 
     public static <T> IsIn<T> of(Collection<T> values) {
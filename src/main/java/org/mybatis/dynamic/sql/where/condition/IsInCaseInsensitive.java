@@ -16,12 +16,14 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
 import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
 import org.mybatis.dynamic.sql.util.StringUtilities;
 
 public class IsInCaseInsensitive extends AbstractListValueCondition<String, IsInCaseInsensitive> {
@@ -39,15 +41,47 @@ public class IsInCaseInsensitive extends AbstractListValueCondition<String, IsIn
         super(values, valueStreamTransformer, emptyCallback);
     }
 
+    protected IsInCaseInsensitive(Collection<String> values, UnaryOperator<Stream<String>> valueStreamTransformer,
+            Callback emptyCallback, ListValueStrategy listValueStrategy) {
+        super(values, valueStreamTransformer, emptyCallback, listValueStrategy);
+    }
+
     @Override
     public String renderCondition(String columnName, Stream<String> placeholders) {
         return "upper(" + columnName + ") " + //$NON-NLS-1$ //$NON-NLS-2$
                 placeholders.collect(Collectors.joining(",", "in (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    @Override
+    public boolean supportsArrayBinding() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsBucketing() {
+        return true;
+    }
+
+    @Override
+    public String renderArrayCondition(String columnName, String placeholder) {
+        return "upper(" + columnName + ") = any(" + placeholder + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
     @Override
     public IsInCaseInsensitive withListEmptyCallback(Callback callback) {
-        return new IsInCaseInsensitive(values, valueStreamTransformer, callback);
+        return new IsInCaseInsensitive(values, null, callback, listValueStrategy);
+    }
+
+    /**
+     * Sets the strategy for binding the values of this condition, overriding the list value strategy of the
+     * rendering strategy.
+     *
+     * @param listValueStrategy the list value strategy
+     * @return new condition with the specified strategy
+     */
+    public IsInCaseInsensitive withListValueStrategy(ListValueStrategy listValueStrategy) {
+        return new IsInCaseInsensitive(values, null, emptyCallback,
+                Objects.requireNonNull(listValueStrategy));
     }
 
     public static IsInCaseInsensitive of(Collection<String> values) {
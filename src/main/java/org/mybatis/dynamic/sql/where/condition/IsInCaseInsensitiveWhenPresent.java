@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
 import org.mybatis.dynamic.sql.util.StringUtilities;
 
 public class IsInCaseInsensitiveWhenPresent extends IsInCaseInsensitive {
@@ -33,9 +34,15 @@ public class IsInCaseInsensitiveWhenPresent extends IsInCaseInsensitive {
         super(values, valueStreamTransformer, callback);
     }
 
+    protected IsInCaseInsensitiveWhenPresent(Collection<String> values,
+            UnaryOperator<Stream<String>> valueStreamTransformer, Callback callback,
+            ListValueStrategy listValueStrategy) {
+        super(values, valueStreamTransformer, callback, listValueStrategy);
+    }
+
     @Override
     public IsInCaseInsensitiveWhenPresent withListEmptyCallback(Callback callback) {
-        return new IsInCaseInsensitiveWhenPresent(values, valueStreamTransformer, callback);
+        return new IsInCaseInsensitiveWhenPresent(values, null, callback, listValueStrategy);
     }
 
     public static IsInCaseInsensitiveWhenPresent of(Collection<String> values) {
@@ -0,0 +1,106 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+
+/**
+ * An in condition over a {@code long[]}. The array is not copied, so it must not be changed after the condition is
+ * created. With an array list value strategy, the array is bound as the parameter without boxing any values.
+ */
+public class IsInLong extends AbstractListValueCondition<Long, IsInLong> {
+    private final long[] values;
+
+    protected IsInLong(long[] values, Callback emptyCallback, ListValueStrategy listValueStrategy) {
+        super(new LongArrayList(values), null, emptyCallback, listValueStrategy);
+        this.values = values;
+    }
+
+    @Override
+    public String renderCondition(String columnName, Stream<String> placeholders) {
+        return spaceAfter(columnName)
+                + placeholders.collect(Collectors.joining(",", "in (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    @Override
+    public boolean supportsArrayBinding() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsBucketing() {
+        return true;
+    }
+
+    @Override
+    public String renderArrayCondition(String columnName, String placeholder) {
+        return spaceAfter(columnName) + "= any(" + placeholder + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Override
+    protected Optional<Object> primitiveValues() {
+        return Optional.of(values);
+    }
+
+    @Override
+    public IsInLong withListEmptyCallback(Callback callback) {
+        return new IsInLong(values, callback, listValueStrategy);
+    }
+
+    /**
+     * Sets the strategy for binding the values of this condition, overriding the list value strategy of the
+     * rendering strategy.
+     *
+     * @param listValueStrategy the list value strategy
+     * @return new condition with the specified strategy
+     */
+    public IsInLong withListValueStrategy(ListValueStrategy listValueStrategy) {
+        return new IsInLong(values, emptyCallback, Objects.requireNonNull(listValueStrategy));
+    }
+
+    public static IsInLong of(long[] values) {
+        return new IsInLong(Objects.requireNonNull(values), () -> { }, null);
+    }
+
+    private static class LongArrayList extends AbstractList<Long> implements RandomAccess {
+        private final long[] values;
+
+        private LongArrayList(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
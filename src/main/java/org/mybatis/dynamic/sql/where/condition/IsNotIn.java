@@ -18,12 +18,14 @@ package org.mybatis.dynamic.sql.where.condition;
 import static org.mybatis.dynamic.sql.util.StringUtilities.spaceAfter;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
 import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
 
 public class IsNotIn<T> extends AbstractListValueCondition<T, IsNotIn<T>> {
 
@@ -39,6 +41,11 @@ public class IsNotIn<T> extends AbstractListValueCondition<T, IsNotIn<T>> {
         super(values, valueStreamTransformer, emptyCallback);
     }
 
+    protected IsNotIn(Collection<T> values, UnaryOperator<Stream<T>> valueStreamTransformer, Callback emptyCallback,
+            ListValueStrategy listValueStrategy) {
+        super(values, valueStreamTransformer, emptyCallback, listValueStrategy);
+    }
+
     @Override
     public String renderCondition(String columnName, Stream<String> placeholders) {
         return spaceAfter(columnName)
@@ -46,9 +53,36 @@ public class IsNotIn<T> extends AbstractListValueCondition<T, IsNotIn<T>> {
                         Collectors.joining(",", "not in (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    @Override
+    public boolean supportsArrayBinding() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsBucketing() {
+        return true;
+    }
+
+    @Override
+    public String renderArrayCondition(String columnName, String placeholder) {
+        return spaceAfter(columnName) + "<> all(" + placeholder + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
     @Override
     public IsNotIn<T> withListEmptyCallback(Callback callback) {
-        return new IsNotIn<>(values, valueStreamTransformer, callback);
+        return new IsNotIn<>(values, null, callback, listValueStrategy);
+    }
+
+    /**
+     * Sets the strategy for binding the values of this condition, overriding the list value strategy of the
+     * rendering strategy.
+     *
+     * @param listValueStrategy the list value strategy
+     * @return new condition with the specified strategy
+     */
+    public IsNotIn<T> withListValueStrategy(ListValueStrategy listValueStrategy) {
+        return new IsNotIn<>(values, null, emptyCallback,
+                Objects.requireNonNull(listValueStrategy));
     }
 
     /**
@@ -62,7 +96,7 @@ public class IsNotIn<T> extends AbstractListValueCondition<T, IsNotIn<T>> {
      * @return new condition with the specified transformer
      */
     public IsNotIn<T> then(UnaryOperator<Stream<T>> valueStreamTransformer) {
-        return new IsNotIn<>(values, valueStreamTransformer, emptyCallback);
+        return new IsNotIn<>(values, valueStreamTransformer, emptyCallback, listValueStrategy);
     }
 
     public static <T> IsNotIn<T> of(Collection<T> values) {
@@ -16,12 +16,14 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import java.util.Collection;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
 import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
 import org.mybatis.dynamic.sql.util.StringUtilities;
 
 public class IsNotInCaseInsensitive extends AbstractListValueCondition<String, IsNotInCaseInsensitive> {
@@ -39,6 +41,11 @@ public class IsNotInCaseInsensitive extends AbstractListValueCondition<String, I
         super(values, valueStreamTransformer, emptyCallback);
     }
 
+    protected IsNotInCaseInsensitive(Collection<String> values, UnaryOperator<Stream<String>> valueStreamTransformer,
+            Callback emptyCallback, ListValueStrategy listValueStrategy) {
+        super(values, valueStreamTransformer, emptyCallback, listValueStrategy);
+    }
+
     @Override
     public String renderCondition(String columnName, Stream<String> placeholders) {
         return "upper(" + columnName + ") " + //$NON-NLS-1$ //$NON-NLS-2$
@@ -46,9 +53,36 @@ public class IsNotInCaseInsensitive extends AbstractListValueCondition<String, I
                         Collectors.joining(",", "not in (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    @Override
+    public boolean supportsArrayBinding() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsBucketing() {
+        return true;
+    }
+
+    @Override
+    public String renderArrayCondition(String columnName, String placeholder) {
+        return "upper(" + columnName + ") <> all(" + placeholder + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
     @Override
     public IsNotInCaseInsensitive withListEmptyCallback(Callback callback) {
-        return new IsNotInCaseInsensitive(values, valueStreamTransformer, callback);
+        return new IsNotInCaseInsensitive(values, null, callback, listValueStrategy);
+    }
+
+    /**
+     * Sets the strategy for binding the values of this condition, overriding the list value strategy of the
+     * rendering strategy.
+     *
+     * @param listValueStrategy the list value strategy
+     * @return new condition with the specified strategy
+     */
+    public IsNotInCaseInsensitive withListValueStrategy(ListValueStrategy listValueStrategy) {
+        return new IsNotInCaseInsensitive(values, null, emptyCallback,
+                Objects.requireNonNull(listValueStrategy));
     }
 
     public static IsNotInCaseInsensitive of(Collection<String> values) {
@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
 import org.mybatis.dynamic.sql.util.StringUtilities;
 
 public class IsNotInCaseInsensitiveWhenPresent extends IsNotInCaseInsensitive {
@@ -33,9 +34,15 @@ public class IsNotInCaseInsensitiveWhenPresent extends IsNotInCaseInsensitive {
         super(values, valueStreamTransformer, callback);
     }
 
+    protected IsNotInCaseInsensitiveWhenPresent(Collection<String> values,
+            UnaryOperator<Stream<String>> valueStreamTransformer, Callback callback,
+            ListValueStrategy listValueStrategy) {
+        super(values, valueStreamTransformer, callback, listValueStrategy);
+    }
+
     @Override
     public IsNotInCaseInsensitiveWhenPresent withListEmptyCallback(Callback callback) {
-        return new IsNotInCaseInsensitiveWhenPresent(values, valueStreamTransformer, callback);
+        return new IsNotInCaseInsensitiveWhenPresent(values, null, callback, listValueStrategy);
     }
 
     public static IsNotInCaseInsensitiveWhenPresent of(Collection<String> values) {
@@ -16,12 +16,16 @@
 package org.mybatis.dynamic.sql.where.render;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.render.ParameterAccumulator;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
@@ -43,94 +47,95 @@ import org.mybatis.dynamic.sql.util.FragmentCollector;
  * <p>It is also possible that the end result will be empty if all criteria and sub-criteria are not valid for
  * rendering.
  *
+ * <p>Parameters are not part of the rendered criterion. They are written directly to the
+ * {@link ParameterAccumulator} of the statement being rendered.
+ *
+ * <p>A single renderer is created for a where clause and is reused for every criterion and sub-criterion in it.
+ * All state is held in the {@link RenderingContext} of the statement being rendered.
+ *
  * @author Jeff Butler
- * @param <T> the type of column to render. Not used during rendering.
  */
-public class CriterionRenderer<T> {
-    private final SqlCriterion<T> sqlCriterion;
-    private final AtomicInteger sequence;
-    private final RenderingStrategy renderingStrategy;
-    private final TableAliasCalculator tableAliasCalculator;
-    private final String parameterName;
+public class CriterionRenderer {
+    private final RenderingContext renderingContext;
+    // only set by the deprecated builder
+    private final SqlCriterion<?> sqlCriterion;
+    private final UnaryOperator<Optional<RenderedCriterion>> completion;
+    
+    public CriterionRenderer(RenderingContext renderingContext) {
+        this(renderingContext, null, UnaryOperator.identity());
+    }
     
-    private CriterionRenderer(Builder<T> builder) {
-        sqlCriterion = Objects.requireNonNull(builder.sqlCriterion);
-        sequence = Objects.requireNonNull(builder.sequence);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
-        parameterName = builder.parameterName;
+    private CriterionRenderer(RenderingContext renderingContext, SqlCriterion<?> sqlCriterion,
+            UnaryOperator<Optional<RenderedCriterion>> completion) {
+        this.renderingContext = Objects.requireNonNull(renderingContext);
+        this.sqlCriterion = sqlCriterion;
+        this.completion = completion;
     }
     
+    /**
+     * Renders the criterion supplied to the builder.
+     *
+     * @return the rendered criterion, or empty if nothing should render
+     * @deprecated create the renderer with a {@link RenderingContext} and use {@link #render(SqlCriterion)}
+     */
+    @Deprecated
     public Optional<RenderedCriterion> render() {
+        return completion.apply(render(Objects.requireNonNull(sqlCriterion)));
+    }
+    
+    public <T> Optional<RenderedCriterion> render(SqlCriterion<T> sqlCriterion) {
         RenderedCriterion rc;
         if (sqlCriterion.condition().shouldRender()) {
-            rc = renderWithInitialCondition(renderCondition(), renderSubCriteria());
+            rc = renderWithInitialCondition(sqlCriterion, renderCondition(sqlCriterion),
+                    renderSubCriteria(sqlCriterion));
         } else {
-            rc = renderWithoutInitialCondition(renderSubCriteria());
+            rc = renderWithoutInitialCondition(sqlCriterion, renderSubCriteria(sqlCriterion));
         }
         return Optional.ofNullable(rc);
     }
 
-    private FragmentAndParameters renderCondition() {
-        WhereConditionVisitor<T> visitor = WhereConditionVisitor.withColumn(sqlCriterion.column())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
-                .withTableAliasCalculator(tableAliasCalculator)
-                .withParameterName(parameterName)
-                .build();
+    private <T> FragmentAndParameters renderCondition(SqlCriterion<T> sqlCriterion) {
+        WhereConditionVisitor<T> visitor = new WhereConditionVisitor<>(sqlCriterion.column(), renderingContext);
         return sqlCriterion.condition().accept(visitor);
     }
 
-    private List<RenderedCriterion> renderSubCriteria() {
-        return sqlCriterion.mapSubCriteria(this::renderSubCriterion)
+    private List<RenderedCriterion> renderSubCriteria(SqlCriterion<?> sqlCriterion) {
+        return sqlCriterion.mapSubCriteria(this::render)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toList());
     }
 
-    private <S> Optional<RenderedCriterion> renderSubCriterion(SqlCriterion<S> subCriterion) {
-        return CriterionRenderer.withCriterion(subCriterion)
-                .withSequence(sequence)
-                .withRenderingStrategy(renderingStrategy)
-                .withTableAliasCalculator(tableAliasCalculator)
-                .withParameterName(parameterName)
-                .build()
-                .render();
-    }
-    
-    private RenderedCriterion renderWithoutInitialCondition(List<RenderedCriterion> subCriteria) {
+    private RenderedCriterion renderWithoutInitialCondition(SqlCriterion<?> sqlCriterion,
+            List<RenderedCriterion> subCriteria) {
         if (subCriteria.isEmpty()) {
             return null;
         }
 
-        return calculateRenderedCriterion(subCriteria);
+        return calculateRenderedCriterion(sqlCriterion, subCriteria);
     }
 
-    private RenderedCriterion renderWithInitialCondition(FragmentAndParameters initialCondition,
-            List<RenderedCriterion> subCriteria) {
+    private RenderedCriterion renderWithInitialCondition(SqlCriterion<?> sqlCriterion,
+            FragmentAndParameters initialCondition, List<RenderedCriterion> subCriteria) {
         if (subCriteria.isEmpty()) {
-            return calculateRenderedCriterion(initialCondition);
+            return fromFragmentAndParameters(sqlCriterion, initialCondition);
         }
 
-        return calculateRenderedCriterion(initialCondition, subCriteria);
+        return calculateRenderedCriterion(sqlCriterion, initialCondition, subCriteria);
     }
 
-    private RenderedCriterion calculateRenderedCriterion(FragmentAndParameters initialCondition) {
-        return fromFragmentAndParameters(initialCondition);
-    }
-
-    private RenderedCriterion calculateRenderedCriterion(List<RenderedCriterion> subCriteria) {
-        return calculateRenderedCriterion(subCriteria.get(0).fragmentAndParameters(),
+    private RenderedCriterion calculateRenderedCriterion(SqlCriterion<?> sqlCriterion,
+            List<RenderedCriterion> subCriteria) {
+        return calculateRenderedCriterion(sqlCriterion, subCriteria.get(0).fragmentAndParameters(),
                 subCriteria.subList(1, subCriteria.size()));
     }
 
-    private RenderedCriterion calculateRenderedCriterion(FragmentAndParameters initialCondition,
-            List<RenderedCriterion> subCriteria) {
+    private RenderedCriterion calculateRenderedCriterion(SqlCriterion<?> sqlCriterion,
+            FragmentAndParameters initialCondition, List<RenderedCriterion> subCriteria) {
         FragmentCollector fc = subCriteria.stream()
                 .map(RenderedCriterion::fragmentAndParametersWithConnector)
                 .collect(FragmentCollector.collect(initialCondition));
-        return fromFragmentAndParameters(FragmentAndParameters.withFragment(calculateFragment(fc))
-                .withParameters(fc.parameters())
+        return fromFragmentAndParameters(sqlCriterion, FragmentAndParameters.withFragment(calculateFragment(fc))
                 .build());
     }
 
@@ -143,7 +148,8 @@ public class CriterionRenderer<T> {
         }
     }
 
-    private RenderedCriterion fromFragmentAndParameters(FragmentAndParameters fragmentAndParameters) {
+    private RenderedCriterion fromFragmentAndParameters(SqlCriterion<?> sqlCriterion,
+            FragmentAndParameters fragmentAndParameters) {
         RenderedCriterion.Builder builder = new RenderedCriterion.Builder()
                 .withFragmentAndParameters(fragmentAndParameters);
 
@@ -152,32 +158,49 @@ public class CriterionRenderer<T> {
         return builder.build();
     }
 
+    /**
+     * Returns a builder for a renderer of a single criterion.
+     *
+     * @param sqlCriterion the criterion to render
+     * @param <T> the type of the criterion's column
+     * @return the builder
+     * @deprecated create the renderer with a {@link RenderingContext} and use {@link #render(SqlCriterion)}
+     */
+    @Deprecated
     public static <T> Builder<T> withCriterion(SqlCriterion<T> sqlCriterion) {
         return new Builder<T>().withCriterion(sqlCriterion);
     }
-    
+
+    /**
+     * Builds a renderer for a single criterion from the state that is now held by a {@link RenderingContext}.
+     *
+     * @param <T> the type of the criterion's column
+     * @deprecated create the renderer with a {@link RenderingContext} and use {@link #render(SqlCriterion)}
+     */
+    @Deprecated
     public static class Builder<T> {
         private SqlCriterion<T> sqlCriterion;
         private AtomicInteger sequence;
         private RenderingStrategy renderingStrategy;
-        private TableAliasCalculator tableAliasCalculator;
+        private TableAliasCalculator tableAliasCalculator = TableAliasCalculator.empty();
         private String parameterName;
-        
+        private ParameterAccumulator parameters;
+
         public Builder<T> withCriterion(SqlCriterion<T> sqlCriterion) {
             this.sqlCriterion = sqlCriterion;
             return this;
         }
-        
+
         public Builder<T> withSequence(AtomicInteger sequence) {
             this.sequence = sequence;
             return this;
         }
-        
+
         public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
             this.renderingStrategy = renderingStrategy;
             return this;
         }
-        
+
         public Builder<T> withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
             this.tableAliasCalculator = tableAliasCalculator;
             return this;
@@ -187,9 +210,43 @@ public class CriterionRenderer<T> {
             this.parameterName = parameterName;
             return this;
         }
-        
-        public CriterionRenderer<T> build() {
-            return new CriterionRenderer<>(this);
+
+        /**
+         * Sets the accumulator that parameters are written to. If no accumulator is set, the parameters are
+         * returned in the fragment of the rendered criterion.
+         *
+         * @param parameters the parameter accumulator
+         * @return this builder
+         */
+        public Builder<T> withParameterAccumulator(ParameterAccumulator parameters) {
+            this.parameters = parameters;
+            return this;
+        }
+
+        public CriterionRenderer build() {
+            AtomicInteger sharedSequence = sequence == null ? new AtomicInteger(1) : sequence;
+            RenderingContext renderingContext = RenderingContext.withRenderingStrategy(renderingStrategy)
+                    .withTableAliasCalculator(tableAliasCalculator)
+                    .withParameterName(parameterName)
+                    .withParameterAccumulator(parameters)
+                    .withSequence(sharedSequence.get())
+                    .build();
+            return new CriterionRenderer(renderingContext, Objects.requireNonNull(sqlCriterion), rc -> {
+                sharedSequence.set(renderingContext.sequence());
+                return parameters == null ? rc.map(c -> withParameters(c, renderingContext.parameters().asMap())) : rc;
+            });
+        }
+
+        // without an accumulator, the parameters are returned with the fragment as they were before
+        private RenderedCriterion withParameters(RenderedCriterion renderedCriterion,
+                Map<String, Object> parameters) {
+            RenderedCriterion.Builder builder = new RenderedCriterion.Builder()
+                    .withFragmentAndParameters(
+                            FragmentAndParameters.withFragment(renderedCriterion.fragmentAndParameters().fragment())
+                                    .withParameters(parameters)
+                                    .build());
+            sqlCriterion.connector().ifPresent(builder::withConnector);
+            return builder.build();
         }
     }
 }
@@ -15,8 +15,10 @@
  */
 package org.mybatis.dynamic.sql.where.render;
 
+import java.util.Collection;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractColumnComparisonCondition;
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
@@ -24,41 +26,46 @@ import org.mybatis.dynamic.sql.AbstractNoValueCondition;
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
 import org.mybatis.dynamic.sql.AbstractSubselectCondition;
 import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.BindMarker;
 import org.mybatis.dynamic.sql.BindableColumn;
 import org.mybatis.dynamic.sql.ConditionVisitor;
-import org.mybatis.dynamic.sql.render.RenderingStrategy;
-import org.mybatis.dynamic.sql.render.TableAliasCalculator;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.select.render.SelectRenderer;
-import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
 
 public class WhereConditionVisitor<T> implements ConditionVisitor<T, FragmentAndParameters> {
     
-    private final RenderingStrategy renderingStrategy;
-    private final AtomicInteger sequence;
     private final BindableColumn<T> column;
-    private final TableAliasCalculator tableAliasCalculator;
-    private final String parameterPrefix;
+    private final RenderingContext renderingContext;
     
-    private WhereConditionVisitor(Builder<T> builder) {
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        sequence = Objects.requireNonNull(builder.sequence);
-        column = Objects.requireNonNull(builder.column);
-        tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
-        parameterPrefix = Objects.requireNonNull(builder.parameterPrefix);
+    public WhereConditionVisitor(BindableColumn<T> column, RenderingContext renderingContext) {
+        this.column = Objects.requireNonNull(column);
+        this.renderingContext = Objects.requireNonNull(renderingContext);
     }
 
     @Override
     public FragmentAndParameters visit(AbstractListValueCondition<T, ?> condition) {
-        FragmentCollector fc = condition.mapValues(this::toFragmentAndParameters)
-                .collect(FragmentCollector.collect());
-        
-        return FragmentAndParameters.withFragment(condition.renderCondition(columnName(), fc.fragments()))
-                .withParameters(fc.parameters())
+        ListValueStrategy defaultStrategy = renderingContext.renderingStrategy().getListValueStrategy();
+        String fragment;
+        if (condition.bindsArray(defaultStrategy)) {
+            fragment = condition.renderArrayCondition(columnName(),
+                    renderingContext.bindArray(column, condition.arrayParameter(column)));
+        } else {
+            fragment = condition.renderCondition(columnName(),
+                    condition.bucket(values(condition), defaultStrategy).map(this::toPlaceholder));
+        }
+        return FragmentAndParameters.withFragment(fragment)
                 .build();
     }
 
+    @SuppressWarnings("unchecked")
+    private Stream<T> values(AbstractListValueCondition<T, ?> condition) {
+        return renderingContext.chunk(condition)
+                .map(chunk -> ((Collection<T>) chunk).stream())
+                .orElseGet(() -> condition.mapValues(Function.identity()));
+    }
+
     @Override
     public FragmentAndParameters visit(AbstractNoValueCondition<T> condition) {
         return FragmentAndParameters.withFragment(condition.renderCondition(columnName()))
@@ -67,112 +74,53 @@ public class WhereConditionVisitor<T> implements ConditionVisitor<T, FragmentAnd
 
     @Override
     public FragmentAndParameters visit(AbstractSingleValueCondition<T> condition) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-        String fragment = condition.renderCondition(columnName(),
-                getFormattedJdbcPlaceholder(mapKey));
-
+        String fragment = condition.renderCondition(columnName(), toPlaceholder(condition.value()));
         return FragmentAndParameters.withFragment(fragment)
-                .withParameter(mapKey, convertValue(condition.value()))
                 .build();
     }
 
     @Override
     public FragmentAndParameters visit(AbstractTwoValueCondition<T> condition) {
-        String mapKey1 = RenderingStrategy.formatParameterMapKey(sequence);
-        String mapKey2 = RenderingStrategy.formatParameterMapKey(sequence);
-        String fragment = condition.renderCondition(columnName(),
-                getFormattedJdbcPlaceholder(mapKey1),
-                getFormattedJdbcPlaceholder(mapKey2));
-                
+        String placeholder1 = toPlaceholder(condition.value1());
+        String placeholder2 = toPlaceholder(condition.value2());
+        String fragment = condition.renderCondition(columnName(), placeholder1, placeholder2);
         return FragmentAndParameters.withFragment(fragment)
-                .withParameter(mapKey1, convertValue(condition.value1()))
-                .withParameter(mapKey2, convertValue(condition.value2()))
                 .build();
     }
-    
 
     @Override
     public FragmentAndParameters visit(AbstractSubselectCondition<T> condition) {
-        SelectStatementProvider selectStatement = SelectRenderer.withSelectModel(condition.selectModel())
-                .withRenderingStrategy(renderingStrategy)
-                .withSequence(sequence)
+        String selectStatement = SelectRenderer.withSelectModel(condition.selectModel())
+                .withRenderingStrategy(renderingContext.renderingStrategy())
                 .build()
-                .render();
+                .render(renderingContext);
         
-        String fragment = condition.renderCondition(columnName(), selectStatement.getSelectStatement());
+        String fragment = condition.renderCondition(columnName(), selectStatement);
         
         return FragmentAndParameters.withFragment(fragment)
-                .withParameters(selectStatement.getParameters())
                 .build();
     }
     
     @Override
     public FragmentAndParameters visit(AbstractColumnComparisonCondition<T> condition) {
-        String fragment = condition.renderCondition(columnName(), tableAliasCalculator);
+        String fragment = condition.renderCondition(columnName(), renderingContext.tableAliasCalculator());
         return FragmentAndParameters.withFragment(fragment).build();
     }
     
-    private Object convertValue(T value) {
-        return column.convertParameterType(value);
+    private String toPlaceholder(T value) {
+        return renderingContext.bindValue(column, convertParameterType(value));
     }
 
-    private FragmentAndParameters toFragmentAndParameters(T value) {
-        String mapKey = RenderingStrategy.formatParameterMapKey(sequence);
-
-        return FragmentAndParameters.withFragment(getFormattedJdbcPlaceholder(mapKey))
-                .withParameter(mapKey, convertValue(value))
-                .build();
-    }
-    
-    private String getFormattedJdbcPlaceholder(String mapKey) {
-        return column.renderingStrategy().orElse(renderingStrategy)
-                .getFormattedJdbcPlaceholder(column, parameterPrefix, mapKey);        
+    @SuppressWarnings("unchecked")
+    private Object convertParameterType(T value) {
+        // a bind marker is converted when it is bound
+        if (value instanceof BindMarker) {
+            return ((BindMarker<T>) value).convertedBy(column);
+        }
+        return column.convertParameterType(value);
     }
     
     private String columnName() {
-        return column.renderWithTableAlias(tableAliasCalculator);
-    }
-    
-    public static <T> Builder<T> withColumn(BindableColumn<T> column) {
-        return new Builder<T>().withColumn(column);
-    }
-    
-    public static class Builder<T> {
-        private RenderingStrategy renderingStrategy;
-        private AtomicInteger sequence;
-        private BindableColumn<T> column;
-        private TableAliasCalculator tableAliasCalculator;
-        private String parameterPrefix = RenderingStrategy.DEFAULT_PARAMETER_PREFIX;
-        
-        public Builder<T> withSequence(AtomicInteger sequence) {
-            this.sequence = sequence;
-            return this;
-        }
-        
-        public Builder<T> withRenderingStrategy(RenderingStrategy renderingStrategy) {
-            this.renderingStrategy = renderingStrategy;
-            return this;
-        }
-        
-        public Builder<T> withColumn(BindableColumn<T> column) {
-            this.column = column;
-            return this;
-        }
-        
-        public Builder<T> withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
-            this.tableAliasCalculator = tableAliasCalculator;
-            return this;
-        }
-
-        public Builder<T> withParameterName(String parameterName) {
-            if (parameterName != null) {
-                parameterPrefix = parameterName + "." + RenderingStrategy.DEFAULT_PARAMETER_PREFIX; //$NON-NLS-1$
-            }
-            return this;
-        }
-        
-        public WhereConditionVisitor<T> build() {
-            return new WhereConditionVisitor<>(this);
-        }
+        return column.renderWithTableAlias(renderingContext.tableAliasCalculator());
     }
 }
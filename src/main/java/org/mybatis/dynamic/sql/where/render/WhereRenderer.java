@@ -21,7 +21,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
-import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategy;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
@@ -30,21 +30,42 @@ import org.mybatis.dynamic.sql.where.WhereModel;
 
 public class WhereRenderer {
     private final WhereModel whereModel;
+    private final RenderingContext renderingContext;
+    // only set by the deprecated builder methods
     private final AtomicInteger sequence;
-    private final RenderingStrategy renderingStrategy;
-    private final TableAliasCalculator tableAliasCalculator;
-    private final String parameterName;
     
     private WhereRenderer(Builder builder) {
         whereModel = Objects.requireNonNull(builder.whereModel);
-        sequence = Objects.requireNonNull(builder.sequence);
-        renderingStrategy = Objects.requireNonNull(builder.renderingStrategy);
-        tableAliasCalculator = Objects.requireNonNull(builder.tableAliasCalculator);
-        parameterName = builder.parameterName;
+        sequence = builder.sequence;
+        renderingContext = builder.renderingContext().orElseGet(builder::legacyRenderingContext);
     }
     
+    /**
+     * Renders the where clause with the parameters written to the rendering context.
+     *
+     * @return the rendered where clause and the parameters of the rendering context, or empty if no criteria
+     *     should render
+     */
     public Optional<WhereClauseProvider> render() {
-        List<RenderedCriterion> renderedCriteria = whereModel.mapCriteria(this::render)
+        Optional<WhereClauseProvider> whereClause = renderWhereClause()
+                .map(wc -> WhereClauseProvider.withWhereClause(wc)
+                        .withParameters(renderingContext.parameters().asMap())
+                        .build());
+        if (sequence != null) {
+            sequence.set(renderingContext.sequence());
+        }
+        return whereClause;
+    }
+    
+    /**
+     * Renders the where clause as part of an enclosing statement. Parameters are not returned, they are written
+     * to the parameters of the rendering context.
+     *
+     * @return the rendered where clause, or empty if no criteria should render
+     */
+    public Optional<String> renderWhereClause() {
+        CriterionRenderer criterionRenderer = new CriterionRenderer(renderingContext);
+        List<RenderedCriterion> renderedCriteria = whereModel.mapCriteria(criterionRenderer::render)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toList());
@@ -62,20 +83,7 @@ public class WhereRenderer {
                 .map(RenderedCriterion::fragmentAndParametersWithConnector)
                 .collect(FragmentCollector.collect(initialCriterion));
         
-        WhereClauseProvider wcp = WhereClauseProvider.withWhereClause(calculateWhereClause(fc))
-                .withParameters(fc.parameters())
-                .build();
-        return Optional.of(wcp);
-    }
-    
-    private Optional<RenderedCriterion> render(SqlCriterion<?> criterion) {
-        return CriterionRenderer.withCriterion(criterion)
-                .withSequence(sequence)
-                .withRenderingStrategy(renderingStrategy)
-                .withTableAliasCalculator(tableAliasCalculator)
-                .withParameterName(parameterName)
-                .build()
-                .render();
+        return Optional.of(calculateWhereClause(fc));
     }
     
     private String calculateWhereClause(FragmentCollector collector) {
@@ -89,8 +97,9 @@ public class WhereRenderer {
     
     public static class Builder {
         private WhereModel whereModel;
+        private RenderingContext renderingContext;
         private RenderingStrategy renderingStrategy;
-        private TableAliasCalculator tableAliasCalculator;
+        private TableAliasCalculator tableAliasCalculator = TableAliasCalculator.empty();
         private AtomicInteger sequence;
         private String parameterName;
         
@@ -99,26 +108,76 @@ public class WhereRenderer {
             return this;
         }
         
+        public Builder withRenderingContext(RenderingContext renderingContext) {
+            this.renderingContext = renderingContext;
+            return this;
+        }
+        
+        /**
+         * Sets the rendering strategy of a new rendering context.
+         *
+         * @param renderingStrategy the rendering strategy
+         * @return this builder
+         * @deprecated use {@link #withRenderingContext(RenderingContext)}
+         */
+        @Deprecated
         public Builder withRenderingStrategy(RenderingStrategy renderingStrategy) {
             this.renderingStrategy = renderingStrategy;
             return this;
         }
         
+        /**
+         * Sets the table alias calculator of a new rendering context.
+         *
+         * @param tableAliasCalculator the table alias calculator
+         * @return this builder
+         * @deprecated use {@link #withRenderingContext(RenderingContext)}
+         */
+        @Deprecated
         public Builder withTableAliasCalculator(TableAliasCalculator tableAliasCalculator) {
             this.tableAliasCalculator = tableAliasCalculator;
             return this;
         }
         
+        /**
+         * Sets the parameter sequence of a new rendering context. The sequence is advanced past the parameters of
+         * the where clause when it is rendered.
+         *
+         * @param sequence the parameter sequence
+         * @return this builder
+         * @deprecated use {@link #withRenderingContext(RenderingContext)}
+         */
+        @Deprecated
         public Builder withSequence(AtomicInteger sequence) {
             this.sequence = sequence;
             return this;
         }
-
+        
+        /**
+         * Sets the parameter name of a new rendering context.
+         *
+         * @param parameterName the parameter name
+         * @return this builder
+         * @deprecated use {@link #withRenderingContext(RenderingContext)}
+         */
+        @Deprecated
         public Builder withParameterName(String parameterName) {
             this.parameterName = parameterName;
             return this;
         }
         
+        private Optional<RenderingContext> renderingContext() {
+            return Optional.ofNullable(renderingContext);
+        }
+        
+        private RenderingContext legacyRenderingContext() {
+            return RenderingContext.withRenderingStrategy(renderingStrategy)
+                    .withTableAliasCalculator(tableAliasCalculator)
+                    .withParameterName(parameterName)
+                    .withSequence(sequence == null ? 1 : sequence.get())
+                    .build();
+        }
+        
         public WhereRenderer build() {
             return new WhereRenderer(this);
         }
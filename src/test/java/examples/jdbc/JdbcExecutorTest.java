@@ -0,0 +1,518 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.jdbc;
+
+import static examples.animal.data.AnimalDataDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.DefaultInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertSelectStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.jdbc.JdbcExecutor;
+import org.mybatis.dynamic.sql.util.jdbc.JdbcSession;
+import org.mybatis.dynamic.sql.util.jdbc.RowMapper;
+
+import examples.animal.data.AnimalData;
+
+class JdbcExecutorTest {
+
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:aname";
+    private static final String JDBC_DRIVER = "org.hsqldb.jdbcDriver";
+
+    private static final SqlTable animalDataCopy = SqlTable.of("AnimalDataCopy");
+    private static final SqlColumn<Integer> copyId = animalDataCopy.column("id");
+
+    private static final RowMapper<AnimalData> animalDataMapper = JdbcExecutorTest::mapAnimalData;
+
+    private JdbcExecutor executor;
+
+    @BeforeEach
+    void setup() throws Exception {
+        Class.forName(JDBC_DRIVER);
+        InputStream is = getClass().getResourceAsStream("/examples/animal/data/CreateAnimalData.sql");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            ScriptRunner sr = new ScriptRunner(connection);
+            sr.setLogWriter(null);
+            sr.runScript(new InputStreamReader(is));
+        }
+
+        UnpooledDataSource ds = new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        executor = JdbcExecutor.withDataSource(ds)
+                .withFetchSize(50)
+                .withQueryTimeout(10)
+                .build();
+    }
+
+    @Test
+    void testSelectList() throws SQLException {
+        SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isLessThan(5))
+                .and(animalName, isNotNull())
+                .orderBy(id)
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        List<AnimalData> animals = executor.selectList(selectStatement, animalDataMapper);
+
+        assertAll(
+                () -> assertThat(animals).hasSize(4),
+                () -> assertThat(animals.get(0).getAnimalName()).isEqualTo("Lesser short-tailed shrew"),
+                () -> assertThat(animals.get(3).getId()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    void testSelectListWithInConditionAndPaging() throws SQLException {
+        SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isIn(1, 3, 5, 7, 9))
+                .orderBy(id)
+                .limit(2)
+                .offset(1)
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        List<AnimalData> animals = executor.selectList(selectStatement, animalDataMapper);
+
+        assertThat(animals).extracting(AnimalData::getId).containsExactly(3, 5);
+    }
+
+    @Test
+    void testSelectOne() throws SQLException {
+        Optional<AnimalData> animal = executor.selectOne(selectById(1), animalDataMapper);
+        Optional<AnimalData> missing = executor.selectOne(selectById(-1), animalDataMapper);
+
+        assertAll(
+                () -> assertThat(animal).hasValueSatisfying(a ->
+                        assertThat(a.getAnimalName()).isEqualTo("Lesser short-tailed shrew")),
+                () -> assertThat(missing).isEmpty()
+        );
+    }
+
+    @Test
+    void testSelectOneWithTooManyRows() {
+        SelectStatementProvider selectStatement = select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isLessThan(5))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> executor.selectOne(selectStatement, animalDataMapper));
+    }
+
+    @Test
+    void testStatementReuse() throws SQLException {
+        try (JdbcSession session = executor.openSession()) {
+            Optional<AnimalData> animal1 = session.selectOne(selectById(1), animalDataMapper);
+            Optional<AnimalData> animal2 = session.selectOne(selectById(2), animalDataMapper);
+
+            assertAll(
+                    () -> assertThat(animal1).hasValueSatisfying(a -> assertThat(a.getId()).isEqualTo(1)),
+                    () -> assertThat(animal2).hasValueSatisfying(a -> assertThat(a.getId()).isEqualTo(2)),
+                    () -> assertThat(session.cachedStatementCount()).isEqualTo(1)
+            );
+        }
+    }
+
+    @Test
+    void testStatementCacheIsBounded() throws SQLException {
+        UnpooledDataSource ds = new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        JdbcExecutor smallCacheExecutor = JdbcExecutor.withDataSource(ds)
+                .withStatementCacheSize(1)
+                .build();
+
+        try (JdbcSession session = smallCacheExecutor.openSession()) {
+            session.selectOne(selectById(1), animalDataMapper);
+            session.selectList(select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(animalName, isEqualTo("Mouse"))
+                    .build()
+                    .render(RenderingStrategies.JDBC_POSITIONAL), animalDataMapper);
+
+            assertThat(session.cachedStatementCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testUpdateAndDelete() throws SQLException {
+        UpdateStatementProvider updateStatement = update(animalData)
+                .set(animalName).equalTo("Shrew")
+                .set(bodyWeight).equalTo(1.5)
+                .where(id, isEqualTo(1))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        DeleteStatementProvider deleteStatement = deleteFrom(animalData)
+                .where(id, isGreaterThan(60))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        try (JdbcSession session = executor.openSession()) {
+            int updates = session.update(updateStatement);
+            int deletes = session.delete(deleteStatement);
+            Optional<AnimalData> animal = session.selectOne(selectById(1), animalDataMapper);
+
+            assertAll(
+                    () -> assertThat(updates).isEqualTo(1),
+                    () -> assertThat(deletes).isEqualTo(5),
+                    () -> assertThat(animal).hasValueSatisfying(a -> {
+                        assertThat(a.getAnimalName()).isEqualTo("Shrew");
+                        assertThat(a.getBodyWeight()).isEqualTo(1.5);
+                    })
+            );
+        }
+    }
+
+    @Test
+    void testUpdateToNull() throws SQLException {
+        UpdateStatementProvider updateStatement = update(animalData)
+                .set(animalName).equalTo((String) null)
+                .where(id, isEqualTo(1))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        int rows = executor.update(updateStatement);
+        Optional<AnimalData> animal = executor.selectOne(selectById(1), animalDataMapper);
+
+        assertAll(
+                () -> assertThat(rows).isEqualTo(1),
+                () -> assertThat(animal).hasValueSatisfying(a -> assertThat(a.getAnimalName()).isNull())
+        );
+    }
+
+    @Test
+    void testGeneralInsert() throws SQLException {
+        GeneralInsertStatementProvider insertStatement = insertInto(animalData)
+                .set(id).toValue(100)
+                .set(animalName).toValue("Old Shrew")
+                .set(brainWeight).toValue(1.2)
+                .set(bodyWeight).toValue(2.2)
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        int rows = executor.generalInsert(insertStatement);
+        Optional<AnimalData> animal = executor.selectOne(selectById(100), animalDataMapper);
+
+        assertAll(
+                () -> assertThat(rows).isEqualTo(1),
+                () -> assertThat(animal).hasValueSatisfying(a ->
+                        assertThat(a.getAnimalName()).isEqualTo("Old Shrew"))
+        );
+    }
+
+    @Test
+    void testInsert() throws SQLException {
+        AnimalData record = newAnimal(100);
+        record.setAnimalName(null);
+        InsertStatementProvider<AnimalData> insertStatement = insert(record)
+                .into(animalData)
+                .map(id).toProperty("id")
+                .map(animalName).toPropertyWhenPresent("animalName", record::getAnimalName)
+                .map(bodyWeight).toProperty("bodyWeight")
+                .map(brainWeight).toConstant("1.5")
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        int rows = executor.insert(insertStatement);
+        Optional<AnimalData> animal = executor.selectOne(selectById(100), animalDataMapper);
+
+        assertAll(
+                () -> assertThat(insertStatement.getInsertStatement()).isEqualTo(
+                        "insert into AnimalData (id, body_weight, brain_weight) values (?, ?, 1.5)"),
+                () -> assertThat(rows).isEqualTo(1),
+                () -> assertThat(animal).hasValueSatisfying(a -> {
+                    assertThat(a.getAnimalName()).isNull();
+                    assertThat(a.getBodyWeight()).isEqualTo(200.0);
+                    assertThat(a.getBrainWeight()).isEqualTo(1.5);
+                })
+        );
+    }
+
+    @Test
+    void testInsertMultiple() throws SQLException {
+        List<AnimalData> records = IntStream.rangeClosed(101, 105)
+                .mapToObj(JdbcExecutorTest::newAnimal)
+                .collect(Collectors.toList());
+        List<MultiRowInsertStatementProvider<AnimalData>> insertStatements = insertMultiple(records)
+                .into(animalData)
+                .map(id).toProperty("id")
+                .map(animalName).toNull()
+                .map(bodyWeight).toProperty("bodyWeight")
+                .map(brainWeight).toProperty("brainWeight")
+                .withMaxRowsPerStatement(2)
+                .build()
+                .renderChunks(RenderingStrategies.JDBC_POSITIONAL);
+
+        int rows = executor.insertMultiple(insertStatements);
+
+        assertAll(
+                () -> assertThat(insertStatements).hasSize(3),
+                () -> assertThat(rows).isEqualTo(5),
+                () -> assertThat(executor.selectList(selectNewAnimals(), animalDataMapper))
+                        .extracting(AnimalData::getBrainWeight)
+                        .containsExactly(50.5, 51.0, 51.5, 52.0, 52.5)
+        );
+    }
+
+    @Test
+    void testInsertBatch() throws SQLException {
+        List<AnimalData> records = IntStream.rangeClosed(101, 103)
+                .mapToObj(JdbcExecutorTest::newAnimal)
+                .collect(Collectors.toList());
+        BatchInsert<AnimalData> batchInsert = insertBatch(records)
+                .into(animalData)
+                .map(id).toProperty("id")
+                .map(animalName).toProperty("animalName")
+                .map(bodyWeight).toProperty("bodyWeight")
+                .map(brainWeight).toProperty("brainWeight")
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        int[] rows = executor.insertBatch(batchInsert);
+
+        assertAll(
+                () -> assertThat(rows).containsExactly(1, 1, 1),
+                () -> assertThat(executor.selectList(selectNewAnimals(), animalDataMapper))
+                        .extracting(AnimalData::getId)
+                        .containsExactly(101, 102, 103)
+        );
+    }
+
+    @Test
+    void testStreamingBatchInsert() throws SQLException {
+        List<BatchInsert<AnimalData>> batches = insertBatch(IntStream.rangeClosed(101, 105)
+                        .mapToObj(JdbcExecutorTest::newAnimal))
+                .into(animalData)
+                .map(id).toProperty("id")
+                .map(animalName).toProperty("animalName")
+                .map(bodyWeight).toProperty("bodyWeight")
+                .map(brainWeight).toProperty("brainWeight")
+                .withChunkSize(2)
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL)
+                .batches()
+                .collect(Collectors.toList());
+
+        int rows = 0;
+        try (JdbcSession session = executor.openSession()) {
+            for (BatchInsert<AnimalData> batch : batches) {
+                rows += session.insertBatch(batch).length;
+            }
+            assertThat(session.cachedStatementCount()).isEqualTo(1);
+        }
+
+        assertThat(rows).isEqualTo(5);
+    }
+
+    @Test
+    void testInsertProviderWithoutBoundProperties() {
+        InsertStatementProvider<AnimalData> insertStatement =
+                DefaultInsertStatementProvider.withRecord(newAnimal(100))
+                .withInsertStatement("insert into AnimalData (id) values (?)")
+                .build();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> executor.insert(insertStatement))
+                .withMessage("This statement provider does not supply positional parameter values");
+    }
+
+    @Test
+    void testInsertSelect() throws SQLException {
+        InsertSelectStatementProvider insertStatement = insertInto(animalDataCopy)
+                .withColumnList(copyId, animalDataCopy.column("animal_name"),
+                        animalDataCopy.column("body_weight"), animalDataCopy.column("brain_weight"))
+                .withSelectStatement(select(id, animalName, bodyWeight, brainWeight)
+                        .from(animalData)
+                        .where(id, isLessThan(22)))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        int rows = executor.insertSelect(insertStatement);
+
+        SelectStatementProvider countStatement = countFrom(animalDataCopy)
+                .where(copyId, isLessThan(22))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+        Optional<Long> count = executor.selectOne(countStatement, rs -> rs.getLong(1));
+
+        assertAll(
+                () -> assertThat(rows).isEqualTo(21),
+                () -> assertThat(count).hasValue(21L)
+        );
+    }
+
+    @Test
+    void testCustomStatementProviders() throws SQLException {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("low", 2);
+        parameters.put("high", 4);
+
+        SelectStatementProvider selectStatement = new SelectStatementProvider() {
+            @Override
+            public Map<String, Object> getParameters() {
+                return parameters;
+            }
+
+            @Override
+            public Object[] getParameterValues() {
+                return new Object[] { 2, 4 };
+            }
+
+            @Override
+            public String getSelectStatement() {
+                return "select id, animal_name, body_weight, brain_weight from AnimalData"
+                        + " where id between ? and ? order by id";
+            }
+        };
+
+        DeleteStatementProvider deleteStatement = new DeleteStatementProvider() {
+            @Override
+            public Map<String, Object> getParameters() {
+                return Collections.emptyMap();
+            }
+
+            @Override
+            public Object[] getParameterValues() {
+                return new Object[0];
+            }
+
+            @Override
+            public String getDeleteStatement() {
+                return "delete from AnimalData where id > 60";
+            }
+        };
+
+        List<AnimalData> animals = executor.selectList(selectStatement, animalDataMapper);
+        int deletes = executor.delete(deleteStatement);
+
+        assertAll(
+                () -> assertThat(animals).extracting(AnimalData::getId).containsExactly(2, 3, 4),
+                () -> assertThat(deletes).isEqualTo(5)
+        );
+    }
+
+    @Test
+    void testStatementProvidersWithoutPositionalParameters() {
+        SelectStatementProvider selectStatement = new SelectStatementProvider() {
+            @Override
+            public Map<String, Object> getParameters() {
+                return Collections.singletonMap("id", 2);
+            }
+
+            @Override
+            public String getSelectStatement() {
+                return "select id, animal_name, body_weight, brain_weight from AnimalData where id = ?";
+            }
+        };
+
+        AnimalData record = new AnimalData();
+        record.setId(1);
+        record.setAnimalName("Fred");
+        BatchUpdate<AnimalData> batchUpdate = updateBatch(record).table(animalData)
+                .set(animalName).toProperty("animalName")
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        assertAll(
+                () -> assertThatExceptionOfType(UnsupportedOperationException.class)
+                        .isThrownBy(() -> executor.selectList(selectStatement, animalDataMapper))
+                        .withMessage("This statement provider does not supply positional parameter values"),
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> executor.update(batchUpdate.updateStatements().get(0)))
+                        .withMessage("The statements of a batch update bind the properties of a record"
+                                + " and can't be executed with positional parameters")
+        );
+    }
+
+    @Test
+    void testSessionOnExistingConnection() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            try (JdbcSession session = executor.openSession(connection)) {
+                assertThat(session.selectOne(selectById(1), animalDataMapper)).isPresent();
+            }
+            assertThat(connection.isClosed()).isFalse();
+        }
+    }
+
+    private static SelectStatementProvider selectById(int animalId) {
+        return select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isEqualTo(animalId))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+    }
+
+    private static SelectStatementProvider selectNewAnimals() {
+        return select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isGreaterThan(100))
+                .orderBy(id)
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+    }
+
+    private static AnimalData newAnimal(int animalId) {
+        AnimalData animal = new AnimalData();
+        animal.setId(animalId);
+        animal.setAnimalName("Animal " + animalId);
+        animal.setBodyWeight(animalId * 2.0);
+        animal.setBrainWeight(animalId / 2.0);
+        return animal;
+    }
+
+    private static AnimalData mapAnimalData(ResultSet rs) throws SQLException {
+        AnimalData animal = new AnimalData();
+        animal.setId(rs.getInt("id"));
+        animal.setAnimalName(rs.getString("animal_name"));
+        animal.setBodyWeight(rs.getDouble("body_weight"));
+        animal.setBrainWeight(rs.getDouble("brain_weight"));
+        return animal;
+    }
+}
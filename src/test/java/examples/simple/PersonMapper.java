@@ -108,6 +108,14 @@ public interface PersonMapper {
         return MyBatis3Utils.countDistinct(this::count, column, person, completer);
     }
 
+    default long countUpTo(long limit, CountDSLCompleter completer) {
+        return MyBatis3Utils.countUpTo(this::count, limit, person, completer);
+    }
+
+    default boolean exists(CountDSLCompleter completer) {
+        return MyBatis3Utils.exists(this::count, person, completer);
+    }
+
     default int delete(DeleteDSLCompleter completer) {
         return MyBatis3Utils.deleteFrom(this::delete, person, completer);
     }
@@ -473,6 +473,28 @@ class PersonMapperTest {
         }
     }
     
+    @Test
+    void testCountUpTo() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+            long rows = mapper.countUpTo(4, CountDSLCompleter.allRows());
+
+            assertThat(rows).isEqualTo(4L);
+        }
+    }
+
+    @Test
+    void testExists() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            PersonMapper mapper = session.getMapper(PersonMapper.class);
+
+            assertAll(
+                    () -> assertThat(mapper.exists(c -> c.where(occupation, isNull()))).isTrue(),
+                    () -> assertThat(mapper.exists(c -> c.where(id, isGreaterThan(100)))).isFalse()
+            );
+        }
+    }
+    
     @Test
     void testCountLastName() {
         try (SqlSession session = sqlSessionFactory.openSession()) {
@@ -18,23 +18,36 @@ package examples.spring;
 import static examples.spring.AddressDynamicSqlSupport.address;
 import static examples.spring.PersonDynamicSqlSupport.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.delete.BatchDeleteModel;
 import org.mybatis.dynamic.sql.delete.DeleteModel;
 import org.mybatis.dynamic.sql.insert.BatchInsertModel;
 import org.mybatis.dynamic.sql.insert.GeneralInsertModel;
 import org.mybatis.dynamic.sql.insert.InsertModel;
 import org.mybatis.dynamic.sql.insert.MultiRowInsertModel;
+import org.mybatis.dynamic.sql.insert.StreamingBatchInsertModel;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.PagingStyle;
 import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.update.BatchUpdateModel;
 import org.mybatis.dynamic.sql.update.UpdateModel;
 import org.mybatis.dynamic.sql.util.Buildable;
+import org.mybatis.dynamic.sql.util.Page;
 import org.mybatis.dynamic.sql.util.spring.NamedParameterJdbcTemplateExtensions;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -48,12 +61,16 @@ class PersonTemplateTest {
     
     @BeforeEach
     void setup() throws Exception {
+        template = createTemplate();
+    }
+
+    private static NamedParameterJdbcTemplateExtensions createTemplate() {
         EmbeddedDatabase db = new EmbeddedDatabaseBuilder()
                 .setType(EmbeddedDatabaseType.HSQL)
                 .generateUniqueName(true)
                 .addScript("classpath:/examples/simple/CreateSimpleDB.sql")
                 .build();
-        template = new NamedParameterJdbcTemplateExtensions(new NamedParameterJdbcTemplate(db));
+        return new NamedParameterJdbcTemplateExtensions(new NamedParameterJdbcTemplate(db));
     }
     
     @Test
@@ -95,6 +112,28 @@ class PersonTemplateTest {
 
     }
 
+    @Test
+    void testSelectPage() {
+        SelectModel selectModel = select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .where(id, isGreaterThan(1))
+                .orderBy(id)
+                .limit(2)
+                .offset(2)
+                .build();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Page<PersonRecord> page = template.selectPage(selectModel, personRowMapper, executor);
+
+            assertThat(page.items()).extracting(PersonRecord::getId).containsExactly(4, 5);
+            assertThat(page.totalCount()).isEqualTo(5L);
+            assertThat(page.hasNext()).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void testSelectDistinct() {
         Buildable<SelectModel> selectStatement = selectDistinct(id, firstName, lastName, birthDate, employed, occupation, addressId)
@@ -241,6 +280,22 @@ class PersonTemplateTest {
         
         assertThat(rows).isEqualTo(1);
     }
+
+    @Test
+    void testDeleteBatch() {
+        List<PersonRecord> records = IntStream.of(2, 3).mapToObj(i -> {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            return record;
+        }).collect(Collectors.toList());
+
+        Buildable<BatchDeleteModel<PersonRecord>> deleteStatement = deleteBatch(records).from(person)
+                .where(id).isEqualToProperty("id");
+
+        int[] rows = template.deleteBatch(deleteStatement);
+
+        assertThat(rows).containsExactly(1, 1);
+    }
     
     @Test
     void testInsert() {
@@ -322,6 +377,37 @@ class PersonTemplateTest {
         assertThat(rows).isEqualTo(2);
     }
 
+    @Test
+    void testInsertMultipleInChunks() {
+        List<PersonRecord> records = IntStream.range(100, 105).mapToObj(i -> {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            record.setFirstName("Joe");
+            record.setLastName(LastName.of("Jones"));
+            record.setBirthDate(new Date());
+            record.setEmployed(true);
+            record.setOccupation("Developer");
+            record.setAddressId(1);
+            return record;
+        }).collect(Collectors.toList());
+
+        Buildable<MultiRowInsertModel<PersonRecord>> insertStatement = insertMultiple(records).into(person)
+                .withMaxParametersPerStatement(14)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId");
+
+        assertThat(insertStatement.build().renderChunks(RenderingStrategies.SPRING_NAMED_PARAMETER)).hasSize(3);
+
+        int rows = template.insertMultiple(insertStatement);
+
+        assertThat(rows).isEqualTo(5);
+    }
+
     @Test
     void testInsertBatch() {
         
@@ -363,6 +449,36 @@ class PersonTemplateTest {
         assertThat(rows[1]).isEqualTo(1);
     }
 
+    @Test
+    void testInsertStreamingBatch() {
+        Stream<PersonRecord> records = IntStream.range(100, 105).mapToObj(i -> {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            record.setFirstName("Joe");
+            record.setLastName(LastName.of("Jones"));
+            record.setBirthDate(new Date());
+            record.setEmployed(true);
+            record.setOccupation("Developer");
+            record.setAddressId(1);
+            return record;
+        });
+
+        Buildable<StreamingBatchInsertModel<PersonRecord>> insertStatement = insertBatch(records).into(person)
+                .withChunkSize(2)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastNameAsString")
+                .map(birthDate).toProperty("birthDate")
+                .map(employed).toProperty("employedAsString")
+                .map(occupation).toProperty("occupation")
+                .map(addressId).toProperty("addressId");
+
+        List<int[]> chunkUpdateCounts = new ArrayList<>();
+        template.insertBatch(insertStatement, chunkUpdateCounts::add);
+
+        assertThat(chunkUpdateCounts).containsExactly(new int[] {1, 1}, new int[] {1, 1}, new int[] {1});
+    }
+
     @Test
     void testInsertSelective() {
         PersonRecord record = new PersonRecord();
@@ -387,6 +503,67 @@ class PersonTemplateTest {
         assertThat(rows).isEqualTo(1);
     }
 
+    @Test
+    void testUpdateBatch() {
+        List<PersonRecord> records = IntStream.of(1, 2).mapToObj(i -> {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            record.setOccupation("Programmer");
+            return record;
+        }).collect(Collectors.toList());
+
+        Buildable<BatchUpdateModel<PersonRecord>> updateStatement = updateBatch(records).table(person)
+                .set(occupation).toProperty("occupation")
+                .where(id).isEqualToProperty("id");
+
+        int[] rows = template.updateBatch(updateStatement);
+
+        assertThat(rows).containsExactly(1, 1);
+    }
+
+    @Test
+    void testUpdateMultipleMatchesBatchUpdate() {
+        List<PersonRecord> records = IntStream.of(1, 2, 3).mapToObj(i -> {
+            PersonRecord record = new PersonRecord();
+            record.setId(i);
+            record.setFirstName("Name " + i);
+            record.setOccupation(i == 2 ? null : "Occupation " + i);
+            return record;
+        }).collect(Collectors.toList());
+
+        int rows = template.updateMultiple(updateMultiple(records).table(person)
+                .set(firstName).toProperty("firstName")
+                .set(occupation).toProperty("occupation")
+                .where(id).isEqualToProperty("id")
+                .withMaxRowsPerStatement(2));
+
+        NamedParameterJdbcTemplateExtensions batchTemplate = createTemplate();
+        int[] batchRows = batchTemplate.updateBatch(updateBatch(records).table(person)
+                .set(firstName).toProperty("firstName")
+                .set(occupation).toProperty("occupation")
+                .where(id).isEqualToProperty("id"));
+
+        Buildable<SelectModel> selectStatement =
+                select(id, firstName, lastName, birthDate, employed, occupation, addressId)
+                .from(person)
+                .orderBy(id);
+        List<PersonRecord> updated = template.selectList(selectStatement, personRowMapper);
+        List<PersonRecord> batchUpdated = batchTemplate.selectList(selectStatement, personRowMapper);
+
+        assertAll(
+                () -> assertThat(rows).isEqualTo(3),
+                () -> assertThat(batchRows).containsExactly(1, 1, 1),
+                () -> assertThat(updated).extracting(PersonRecord::getId, PersonRecord::getFirstName,
+                        PersonRecord::getOccupation)
+                        .containsExactlyElementsOf(batchUpdated.stream()
+                                .map(r -> tuple(r.getId(), r.getFirstName(), r.getOccupation()))
+                                .collect(Collectors.toList())),
+                () -> assertThat(updated).extracting(PersonRecord::getFirstName)
+                        .startsWith("Name 1", "Name 2", "Name 3"),
+                () -> assertThat(updated.get(1).getOccupation()).isNull()
+        );
+    }
+
     @Test
     void testUpdateByPrimaryKey() {
         
@@ -606,6 +783,31 @@ class PersonTemplateTest {
         assertThat(rows).isEqualTo(6L);
     }
     
+    @Test
+    void testCountUpTo() {
+        Buildable<SelectModel> countStatement = countUpTo(4).from(person)
+                .withPagingStyle(PagingStyle.LIMIT);
+
+        long rows = template.count(countStatement);
+        assertThat(rows).isEqualTo(4L);
+    }
+
+    @Test
+    void testExists() {
+        Buildable<SelectModel> existsStatement = selectExists(person)
+                .where(occupation, isNull());
+
+        assertThat(template.exists(existsStatement)).isTrue();
+    }
+
+    @Test
+    void testNotExists() {
+        Buildable<SelectModel> existsStatement = selectExists(person)
+                .where(id, isGreaterThan(100));
+
+        assertThat(template.exists(existsStatement)).isFalse();
+    }
+    
     @Test
     void testCountLastName() {
         Buildable<SelectModel> countStatement = countColumn(lastName).from(person);
@@ -0,0 +1,190 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.springbatch.keyset;
+
+import static examples.springbatch.mapper.PersonDynamicSqlSupport.*;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.dynamic.sql.select.Keyset;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchKeysetPagingReaderSelectModel.KeysetPagingDecorator;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchUtility;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.annotation.MapperScan;
+import org.mybatis.spring.batch.MyBatisBatchItemWriter;
+import org.mybatis.spring.batch.MyBatisPagingItemReader;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.listener.ItemListenerSupport;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import examples.springbatch.common.PersonRecord;
+import examples.springbatch.mapper.PersonMapper;
+
+@EnableBatchProcessing
+@Configuration
+@ComponentScan("examples.springbatch.common")
+@MapperScan("examples.springbatch.mapper")
+public class KeysetReaderBatchConfiguration {
+    
+    @Autowired
+    private JobBuilderFactory jobBuilderFactory;
+    
+    @Autowired
+    private StepBuilderFactory stepBuilderFactory;
+    
+    @Bean
+    public DataSource dataSource() {
+        return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.HSQL)
+                .addScript("classpath:/org/springframework/batch/core/schema-drop-hsqldb.sql")
+                .addScript("classpath:/org/springframework/batch/core/schema-hsqldb.sql")
+                .addScript("classpath:/examples/springbatch/schema.sql")
+                .addScript("classpath:/examples/springbatch/data.sql")
+                .build();
+    }
+    
+    @Bean
+    public SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+        SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
+        sessionFactory.setDataSource(dataSource);
+        return sessionFactory.getObject();
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(DataSource dataSource) {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
+    @Bean
+    public KeysetPagingDecorator<PersonRecord> selectStatement() {
+        return SpringBatchUtility.selectForKeysetPaging(person.allColumns())
+                .from(person)
+                .where(forPagingTest, isEqualTo(true))
+                .seek(Keyset.orderBy(id))
+                .build()
+                .render(p -> new Object[] {p.getId()});
+    }
+
+    @Bean
+    public MyBatisPagingItemReader<PersonRecord> reader(SqlSessionFactory sqlSessionFactory,
+            KeysetPagingDecorator<PersonRecord> selectStatement) {
+        MyBatisPagingItemReader<PersonRecord> reader = new MyBatisPagingItemReader<>();
+        reader.setQueryId(PersonMapper.class.getName() + ".selectMany");
+        reader.setSqlSessionFactory(sqlSessionFactory);
+        reader.setParameterValues(SpringBatchUtility.toParameterValues(selectStatement));
+        reader.setPageSize(7);
+        // the last key is saved by the keyset tracker - the reader must not skip rows on restart
+        reader.setSaveState(false);
+        return reader;
+    }
+
+    @Bean
+    public KeysetTracker keysetTracker(KeysetPagingDecorator<PersonRecord> selectStatement) {
+        return new KeysetTracker(selectStatement);
+    }
+
+    @Bean
+    public MyBatisBatchItemWriter<PersonRecord> writer(SqlSessionFactory sqlSessionFactory,
+            Converter<PersonRecord, UpdateStatementProvider> convertor) {
+        MyBatisBatchItemWriter<PersonRecord> writer = new MyBatisBatchItemWriter<>();
+        writer.setSqlSessionFactory(sqlSessionFactory);
+        writer.setItemToParameterConverter(convertor);
+        writer.setStatementId(PersonMapper.class.getName() + ".update");
+        return writer;
+    }
+    
+    @Bean
+    public Step step1(ItemReader<PersonRecord> reader, ItemProcessor<PersonRecord, PersonRecord> processor,
+            ItemWriter<PersonRecord> writer, KeysetTracker keysetTracker) {
+        return stepBuilderFactory.get("step1")
+                .<PersonRecord, PersonRecord>chunk(7)
+                .reader(reader)
+                .processor(processor)
+                .writer(writer)
+                .listener((ItemReadListener<PersonRecord>) keysetTracker)
+                .stream(keysetTracker)
+                .build();
+    }
+
+    @Bean
+    public Job upperCaseLastName(Step step1) {
+        return jobBuilderFactory.get("upperCaseLastName")
+                .incrementer(new RunIdIncrementer())
+                .flow(step1)
+                .end()
+                .build();
+    }
+
+    /**
+     * Reports every item read to the keyset paging statement, and keeps the last key in the step execution
+     * context so a failed step restarts after the last committed chunk.
+     */
+    public static class KeysetTracker extends ItemListenerSupport<PersonRecord, PersonRecord>
+            implements ItemStream {
+        private final KeysetPagingDecorator<PersonRecord> selectStatement;
+
+        public KeysetTracker(KeysetPagingDecorator<PersonRecord> selectStatement) {
+            this.selectStatement = selectStatement;
+        }
+
+        @Override
+        public void afterRead(PersonRecord item) {
+            selectStatement.itemRead(item);
+        }
+
+        @Override
+        public void open(ExecutionContext executionContext) {
+            if (executionContext.containsKey(SpringBatchUtility.KEYSET_KEY)) {
+                selectStatement.seekAfter((List<?>) executionContext.get(SpringBatchUtility.KEYSET_KEY));
+            }
+        }
+
+        @Override
+        public void update(ExecutionContext executionContext) {
+            selectStatement.lastValues()
+                    .ifPresent(k -> executionContext.put(SpringBatchUtility.KEYSET_KEY, new ArrayList<>(k)));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
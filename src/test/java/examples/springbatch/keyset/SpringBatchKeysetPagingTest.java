@@ -0,0 +1,121 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.springbatch.keyset;
+
+import static examples.springbatch.mapper.PersonDynamicSqlSupport.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.util.List;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.SelectDSL;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.springbatch.SpringBatchUtility;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import examples.springbatch.mapper.PersonMapper;
+
+@SpringBatchTest
+@SpringJUnitConfig(classes=KeysetReaderBatchConfiguration.class)
+class SpringBatchKeysetPagingTest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Test
+    void testThatRowsAreTransformedToUpperCase() throws Exception {
+        // starting condition
+        assertThat(upperCaseRowCount()).isZero();
+
+        JobExecution execution = jobLauncherTestUtils.launchJob();
+        assertThat(execution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+        assertThat(numberOfChunks(execution)).isEqualTo(14);
+        assertThat(numberOfRowsProcessed(execution)).isEqualTo(93);
+
+        // ending condition
+        assertThat(upperCaseRowCount()).isEqualTo(93);
+
+        // the key of the last row is saved for a restart
+        StepExecution stepExecution = execution.getStepExecutions().iterator().next();
+        @SuppressWarnings("unchecked")
+        List<Object> lastKey = (List<Object>) stepExecution.getExecutionContext().get(SpringBatchUtility.KEYSET_KEY);
+        assertThat(lastKey).containsExactly((int) maxPagingTestId());
+    }
+
+    private int numberOfRowsProcessed(JobExecution jobExecution) {
+        return jobExecution.getStepExecutions().stream()
+                .map(StepExecution::getExecutionContext)
+                .mapToInt(this::getRowCount)
+                .sum();
+    }
+    
+    private int getRowCount(ExecutionContext executionContext) {
+        return executionContext.getInt("row_count", 0);
+    }
+    
+    private int numberOfChunks(JobExecution jobExecution) {
+        return jobExecution.getStepExecutions().stream()
+                .map(StepExecution::getExecutionContext)
+                .mapToInt(this::getChunkCount)
+                .sum();
+    }
+
+    private int getChunkCount(ExecutionContext executionContext) {
+        return executionContext.getInt("chunk_count", 0);
+    }
+    
+    private long upperCaseRowCount() throws Exception {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            PersonMapper personMapper = sqlSession.getMapper(PersonMapper.class);
+
+            SelectStatementProvider selectStatement = SelectDSL.select(count())
+                    .from(person)
+                    .where(lastName, isEqualTo("SMITH"))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            return personMapper.count(selectStatement);
+        }
+    }
+
+    private long maxPagingTestId() throws Exception {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+            PersonMapper personMapper = sqlSession.getMapper(PersonMapper.class);
+
+            SelectStatementProvider selectStatement = SelectDSL.select(max(id))
+                    .from(person)
+                    .where(forPagingTest, isEqualTo(true))
+                    .build()
+                    .render(RenderingStrategies.MYBATIS3);
+
+            return personMapper.count(selectStatement);
+        }
+    }
+}
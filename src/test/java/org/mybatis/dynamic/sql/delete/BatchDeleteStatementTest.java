@@ -0,0 +1,83 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.delete;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.deleteBatch;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.BatchDelete;
+import org.mybatis.dynamic.sql.delete.render.RecordDeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class BatchDeleteStatementTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<Integer> version = foo.column("version", JDBCType.INTEGER);
+
+    @Test
+    void testMyBatis3BatchDelete() {
+        BatchDelete<Integer> batchDelete = deleteBatch(Arrays.asList(1, 2, 3))
+                .from(foo)
+                .where(id).isEqualToProperty("id")
+                .and(version).isEqualToProperty("version")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "delete from foo "
+                + "where id = #{record.id,jdbcType=INTEGER} and version = #{record.version,jdbcType=INTEGER}";
+
+        List<RecordDeleteStatementProvider<Integer>> deleteStatements = batchDelete.deleteStatements();
+
+        assertAll(
+                () -> assertThat(batchDelete.getDeleteStatementSQL()).isEqualTo(expected),
+                () -> assertThat(deleteStatements).extracting(RecordDeleteStatementProvider::getRecord)
+                        .containsExactly(1, 2, 3),
+                () -> assertThat(deleteStatements).extracting(RecordDeleteStatementProvider::getDeleteStatement)
+                        .containsOnly(expected)
+        );
+    }
+
+    @Test
+    void testSpringBatchDelete() {
+        BatchDelete<Integer> batchDelete = deleteBatch(1, 2)
+                .from(foo)
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(batchDelete.getDeleteStatementSQL()).isEqualTo("delete from foo where id = :id"),
+                () -> assertThat(batchDelete.getRecords()).containsExactly(1, 2)
+        );
+    }
+
+    @Test
+    void testWhereMappingIsRequired() {
+        BatchDeleteDSL<Integer> dsl = deleteBatch(1).from(foo);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(dsl::build)
+                .withMessage("A batch delete must have at least one where mapping");
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class MultiRowInsertChunkingTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<String> status = foo.column("status", JDBCType.VARCHAR);
+
+    private static final List<Integer> records = Arrays.asList(1, 2, 3, 4, 5);
+
+    @Test
+    void testRowTemplate() {
+        MultiRowInsertStatementProvider<Integer> insertStatement = insertMultiple(1, 2)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(description).toNull()
+                .map(status).toStringConstant("100%")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(insertStatement.getInsertStatement()).isEqualTo("insert into foo (id, description, status) "
+                + "values (:records[0].id, null, '100%'), (:records[1].id, null, '100%')");
+    }
+
+    @Test
+    void testConstantsAreNotRowTemplates() {
+        List<MultiRowInsertStatementProvider<Integer>> insertStatements = insertMultiple(1, 2)
+                .into(foo)
+                .withMaxParametersPerStatement(2)
+                .map(id).toProperty("id")
+                .map(description).toConstant("'%s'")
+                .map(status).toStringConstant("100%s")
+                .build()
+                .renderChunks(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id, description, status) "
+                + "values (#{records[0].id,jdbcType=INTEGER}, '%s', '100%s'), "
+                + "(#{records[1].id,jdbcType=INTEGER}, '%s', '100%s')";
+        assertAll(
+                () -> assertThat(insertStatements).hasSize(1),
+                () -> assertThat(insertStatements.get(0).getInsertStatement()).isEqualTo(expected)
+        );
+    }
+
+    @Test
+    void testChunksByParameterLimit() {
+        List<MultiRowInsertStatementProvider<Integer>> insertStatements = insertMultiple(records)
+                .into(foo)
+                .withMaxParametersPerStatement(5)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .map(status).toConstant("'A'")
+                .build()
+                .renderChunks(RenderingStrategies.MYBATIS3);
+
+        String twoRows = "insert into foo (id, description, status) values "
+                + "(#{records[0].id,jdbcType=INTEGER}, #{records[0].description,jdbcType=VARCHAR}, 'A'), "
+                + "(#{records[1].id,jdbcType=INTEGER}, #{records[1].description,jdbcType=VARCHAR}, 'A')";
+
+        assertAll(
+                () -> assertThat(insertStatements).extracting(MultiRowInsertStatementProvider::getRecords)
+                        .containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4), Collections.singletonList(5)),
+                () -> assertThat(insertStatements.get(0).getInsertStatement()).isEqualTo(twoRows),
+                () -> assertThat(insertStatements.get(1).getInsertStatement()).isEqualTo(twoRows)
+        );
+    }
+
+    @Test
+    void testChunksByRowLimit() {
+        List<MultiRowInsertStatementProvider<Integer>> insertStatements = insertMultiple(records)
+                .into(foo)
+                .withMaxRowsPerStatement(3)
+                .withMaxParametersPerStatement(1000)
+                .map(id).toProperty("id")
+                .build()
+                .renderChunks(RenderingStrategies.MYBATIS3);
+
+        assertThat(insertStatements).extracting(MultiRowInsertStatementProvider::getRecords)
+                .containsExactly(Arrays.asList(1, 2, 3), Arrays.asList(4, 5));
+    }
+
+    @Test
+    void testNoLimitsRendersOneChunk() {
+        List<MultiRowInsertStatementProvider<Integer>> insertStatements = insertMultiple(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .renderChunks(RenderingStrategies.MYBATIS3);
+
+        assertThat(insertStatements).hasSize(1);
+    }
+
+    @Test
+    void testSingleStatementOverLimit() {
+        MultiRowInsertModel<Integer> model = insertMultiple(records)
+                .into(foo)
+                .withMaxRowsPerStatement(2)
+                .map(id).toProperty("id")
+                .build();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> model.render(RenderingStrategies.MYBATIS3));
+    }
+
+    @Test
+    void testRowLargerThanParameterLimit() {
+        MultiRowInsertModel<Integer> model = insertMultiple(records)
+                .into(foo)
+                .withMaxParametersPerStatement(1)
+                .map(id).toProperty("id")
+                .map(description).toProperty("description")
+                .build();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> model.renderChunks(RenderingStrategies.MYBATIS3));
+    }
+}
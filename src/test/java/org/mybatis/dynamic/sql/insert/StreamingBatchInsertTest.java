@@ -0,0 +1,130 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.StreamingBatchInsert;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class StreamingBatchInsertTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = foo.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testStatementIsRenderedOnce() {
+        StreamingBatchInsert<Integer> batchInsert = insertBatch(IntStream.rangeClosed(1, 7).boxed())
+                .into(foo)
+                .withChunkSize(3)
+                .map(id).toProperty("id")
+                .map(description).toNull()
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        List<BatchInsert<Integer>> batches = batchInsert.batches().collect(Collectors.toList());
+
+        assertAll(
+                () -> assertThat(batchInsert.getInsertStatementSQL())
+                        .isEqualTo("insert into foo (id, description) values (#{record.id,jdbcType=INTEGER}, null)"),
+                () -> assertThat(batches).extracting(BatchInsert::getRecords).containsExactly(
+                        Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6), Arrays.asList(7)),
+                () -> assertThat(batches).extracting(BatchInsert::getInsertStatementSQL)
+                        .containsOnly(batchInsert.getInsertStatementSQL())
+        );
+    }
+
+    @Test
+    void testRecordsAreReadOneChunkAtATime() {
+        AtomicInteger read = new AtomicInteger();
+        List<Integer> readAtExecution = new ArrayList<>();
+
+        insertBatch(Stream.iterate(1, i -> i + 1).limit(10).peek(i -> read.incrementAndGet()).iterator())
+                .into(foo)
+                .withChunkSize(4)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER)
+                .execute(b -> read.get(), readAtExecution::add);
+
+        assertThat(readAtExecution).containsExactly(4, 8, 10);
+    }
+
+    @Test
+    void testRecordsCanBeConsumedOnce() {
+        StreamingBatchInsert<Integer> batchInsert = insertBatch(Stream.of(1, 2))
+                .into(foo)
+                .map(id).toProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(batchInsert.batches().count()).isEqualTo(1);
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(batchInsert::batches);
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        StreamingBatchInsertDSL<Integer> dsl = insertBatch(Stream.of(1, 2))
+                .into(foo)
+                .withChunkSize(0)
+                .map(id).toProperty("id");
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(dsl::build)
+                .withMessage("The chunk size must be at least 1");
+    }
+
+    @Test
+    void testBuilderDefaultChunkSize() {
+        StreamingBatchInsert<Integer> batchInsert = StreamingBatchInsert.withRecords(
+                IntStream.rangeClosed(1, 2500).boxed().spliterator())
+                .withInsertStatement("insert into foo (id) values (?)")
+                .build();
+
+        assertAll(
+                () -> assertThat(batchInsert.getChunkSize()).isEqualTo(StreamingBatchInsertModel.DEFAULT_CHUNK_SIZE),
+                () -> assertThat(batchInsert.batches()).extracting(b -> b.getRecords().size())
+                        .containsExactly(1000, 1000, 500)
+        );
+    }
+
+    @Test
+    void testBuilderInvalidChunkSize() {
+        StreamingBatchInsert.Builder<Integer> builder = StreamingBatchInsert.withRecords(
+                Stream.of(1, 2).spliterator())
+                .withInsertStatement("insert into foo (id) values (?)")
+                .withChunkSize(0);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(builder::build)
+                .withMessage("The chunk size must be at least 1");
+    }
+}
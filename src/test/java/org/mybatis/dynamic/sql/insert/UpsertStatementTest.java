@@ -0,0 +1,282 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.sql.JDBCType;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.InsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.UpsertDialects;
+import org.mybatis.dynamic.sql.insert.render.UpsertRenderer;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.util.ValueMapping;
+
+class UpsertStatementTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = foo.column("occupation", JDBCType.VARCHAR);
+
+    @Test
+    void testPostgreSqlUpsert() {
+        InsertStatementProvider<TestRecord> insertStatement = insert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .set(firstName).toInsertedValue()
+                .set(occupation).toStringConstant("Y")
+                .withDialect(UpsertDialects.POSTGRESQL)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id, first_name) "
+                + "values (#{record.id,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR}) "
+                + "on conflict (id) do update set first_name = excluded.first_name, occupation = 'Y'";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testUpsertWithUnsupportedMapping() {
+        UpsertModel upsertModel = UpsertModel.withConflictColumns(Collections.singletonList(id))
+                .withUpdateMappings(Collections.singletonList(ValueMapping.of(firstName, () -> "Fred")))
+                .withDialect(UpsertDialects.POSTGRESQL)
+                .build();
+        UpsertRenderer renderer = UpsertRenderer.withUpsertModel(upsertModel)
+                .withTableName("foo")
+                .withColumnNames(Collections.singletonList("id"))
+                .withValuesPhrase("values (?)")
+                .build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(renderer::render)
+                .withMessage("The set phrase of an upsert can't use a value mapping - column first_name can only be"
+                        + " set to a null, a constant, or the inserted value");
+    }
+
+    @Test
+    void testPostgreSqlUpsertWithoutUpdates() {
+        InsertStatementProvider<TestRecord> insertStatement = insert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .onConflict(id)
+                .withDialect(UpsertDialects.POSTGRESQL)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id) values (#{record.id,jdbcType=INTEGER}) on conflict (id) do nothing";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMySqlUpsert() {
+        InsertStatementProvider<TestRecord> insertStatement = insert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .set(firstName).toInsertedValue()
+                .set(occupation).toNull()
+                .withDialect(UpsertDialects.MYSQL)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id, first_name) "
+                + "values (#{record.id,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR}) "
+                + "on duplicate key update first_name = values(first_name), occupation = null";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMySqlUpsertWithoutUpdates() {
+        InsertStatementProvider<TestRecord> insertStatement = insert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .onConflict(id)
+                .withDialect(UpsertDialects.MYSQL)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id) values (#{record.id,jdbcType=INTEGER}) "
+                + "on duplicate key update id = id";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMergeIsTheDefaultDialect() {
+        InsertStatementProvider<TestRecord> insertStatement = insert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(occupation).toConstant("'X'")
+                .onConflict(id)
+                .set(firstName).toInsertedValue()
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "merge into foo using "
+                + "(values (#{record.id,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR}, 'X')) "
+                + "as source (id, first_name, occupation) on (foo.id = source.id) "
+                + "when matched then update set first_name = source.first_name "
+                + "when not matched then insert (id, first_name, occupation) "
+                + "values (source.id, source.first_name, source.occupation)";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMergeWithoutUpdatesOnCompositeKey() {
+        InsertStatementProvider<TestRecord> insertStatement = insert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id, firstName)
+                .withDialect(UpsertDialects.MERGE)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "merge into foo using "
+                + "(values (#{record.id,jdbcType=INTEGER}, #{record.firstName,jdbcType=VARCHAR})) "
+                + "as source (id, first_name) on (foo.id = source.id and foo.first_name = source.first_name) "
+                + "when not matched then insert (id, first_name) values (source.id, source.first_name)";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testSelectiveUpsertRendersPresentColumnsOnly() {
+        TestRecord record = new TestRecord();
+        record.setId(22);
+
+        InsertStatementProvider<TestRecord> insertStatement = insert(record)
+                .into(foo)
+                .map(id).toPropertyWhenPresent("id", record::getId)
+                .map(firstName).toPropertyWhenPresent("firstName", record::getFirstName)
+                .onConflict(id)
+                .withDialect(UpsertDialects.POSTGRESQL)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id) values (#{record.id,jdbcType=INTEGER}) on conflict (id) do nothing";
+        assertThat(insertStatement.getInsertStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testMultiRowUpsert() {
+        MultiRowInsertStatementProvider<TestRecord> insertStatement = insertMultiple(new TestRecord(), new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .set(firstName).toInsertedValue()
+                .withDialect(UpsertDialects.POSTGRESQL)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "insert into foo (id, first_name) "
+                + "values (#{records[0].id,jdbcType=INTEGER}, #{records[0].firstName,jdbcType=VARCHAR}), "
+                + "(#{records[1].id,jdbcType=INTEGER}, #{records[1].firstName,jdbcType=VARCHAR}) "
+                + "on conflict (id) do update set first_name = excluded.first_name";
+        assertAll(
+                () -> assertThat(insertStatement.getInsertStatement()).isEqualTo(expected),
+                () -> assertThat(insertStatement.getRecords()).hasSize(2)
+        );
+    }
+
+    @Test
+    void testMultiRowUpsertInChunks() {
+        MultiRowInsertModel<TestRecord> model = insertMultiple(new TestRecord(), new TestRecord(), new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .withMaxRowsPerStatement(2)
+                .onConflict(id)
+                .withDialect(UpsertDialects.MERGE)
+                .build();
+
+        String expected = "merge into foo using (values (#{records[0].id,jdbcType=INTEGER})) "
+                + "as source (id) on (foo.id = source.id) "
+                + "when not matched then insert (id) values (source.id)";
+        assertAll(
+                () -> assertThat(model.renderChunks(RenderingStrategies.MYBATIS3)).hasSize(2),
+                () -> assertThat(model.renderChunks(RenderingStrategies.MYBATIS3).get(1).getInsertStatement())
+                        .isEqualTo(expected)
+        );
+    }
+
+    @Test
+    void testBatchUpsert() {
+        BatchInsert<TestRecord> batchInsert = insertBatch(new TestRecord(), new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .onConflict(id)
+                .set(firstName).toInsertedValue()
+                .withDialect(UpsertDialects.MYSQL)
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "insert into foo (id, first_name) values (:id, :firstName) "
+                + "on duplicate key update first_name = values(first_name)";
+        assertAll(
+                () -> assertThat(batchInsert.getInsertStatementSQL()).isEqualTo(expected),
+                () -> assertThat(batchInsert.insertStatements()).hasSize(2)
+                        .allMatch(s -> s.getInsertStatement().equals(expected))
+        );
+    }
+
+    @Test
+    void testUpsertWithoutConflictColumns() {
+        InsertDSL<TestRecord> dsl = insert(new TestRecord())
+                .into(foo)
+                .map(id).toProperty("id");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> dsl.onConflict().build())
+                .withMessage("An upsert must have at least one conflict column");
+    }
+
+    static class TestRecord {
+        private Integer id;
+        private String firstName;
+
+        Integer getId() {
+            return id;
+        }
+
+        void setId(Integer id) {
+            this.id = id;
+        }
+
+        String getFirstName() {
+            return firstName;
+        }
+
+        void setFirstName(String firstName) {
+            this.firstName = firstName;
+        }
+    }
+}
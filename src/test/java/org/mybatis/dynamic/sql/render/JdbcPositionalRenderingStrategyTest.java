@@ -0,0 +1,120 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.GeneralInsertStatementProvider;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class JdbcPositionalRenderingStrategyTest {
+    private static final SqlTable table = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = table.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<String> notes = table.column("notes");
+
+    @Test
+    void testSelect() {
+        SelectStatementProvider selectStatement = select(id, description)
+                .from(table)
+                .where(id, isIn(1, 2, 3))
+                .and(description, isLike("%a%"))
+                .and(notes, isBetween("a").and("b"))
+                .or(id, isEqualTo(4), and(description, isNull()))
+                .orderBy(id)
+                .limit(10)
+                .offset(20)
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        String expected = "select id, description from foo"
+                + " where id in (?,?,?) and description like ? and notes between ? and ?"
+                + " or (id = ? and description is null)"
+                + " order by id limit ? offset ?";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameterValues())
+                        .containsExactly(1, 2, 3, "%a%", "a", "b", 4, 10L, 20L),
+                () -> assertThat(selectStatement.getParameterTypes()).containsExactly(JDBCType.INTEGER,
+                        JDBCType.INTEGER, JDBCType.INTEGER, JDBCType.VARCHAR, null, null, JDBCType.INTEGER,
+                        null, null)
+        );
+    }
+
+    @Test
+    void testUpdateWithSubselect() {
+        UpdateStatementProvider updateStatement = update(table)
+                .set(description).equalTo("x")
+                .set(notes).equalTo("y")
+                .where(id, isEqualTo(5))
+                .and(id, isIn(select(id).from(table).where(description, isEqualTo("z"))))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        String expected = "update foo set description = ?, notes = ?"
+                + " where id = ? and id in (select id from foo where description = ?)";
+
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement()).isEqualTo(expected),
+                () -> assertThat(updateStatement.getParameterValues()).containsExactly("x", "y", 5, "z"),
+                () -> assertThat(updateStatement.getParameterTypes())
+                        .containsExactly(JDBCType.VARCHAR, null, JDBCType.INTEGER, JDBCType.VARCHAR)
+        );
+    }
+
+    @Test
+    void testDelete() {
+        DeleteStatementProvider deleteStatement = deleteFrom(table)
+                .where(id, isGreaterThan(3))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        assertAll(
+                () -> assertThat(deleteStatement.getDeleteStatement()).isEqualTo("delete from foo where id > ?"),
+                () -> assertThat(deleteStatement.getParameterValues()).containsExactly(3),
+                () -> assertThat(deleteStatement.getParameterTypes()).containsExactly(JDBCType.INTEGER)
+        );
+    }
+
+    @Test
+    void testGeneralInsert() {
+        GeneralInsertStatementProvider insertStatement = insertInto(table)
+                .set(id).toValue(7)
+                .set(description).toValue("seven")
+                .set(notes).toNull()
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        assertAll(
+                () -> assertThat(insertStatement.getInsertStatement())
+                        .isEqualTo("insert into foo (id, description, notes) values (?, ?, null)"),
+                () -> assertThat(insertStatement.getParameterValues()).containsExactly(7, "seven"),
+                () -> assertThat(insertStatement.getParameterTypes())
+                        .containsExactly(JDBCType.INTEGER, JDBCType.VARCHAR),
+                () -> assertThat(insertStatement.getParameters()).hasSize(2)
+        );
+    }
+}
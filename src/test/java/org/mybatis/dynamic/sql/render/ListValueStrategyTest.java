@@ -0,0 +1,238 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.Callback;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.cache.StatementCache;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class ListValueStrategyTest {
+    private static final SqlTable table = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = table.column("description", JDBCType.VARCHAR);
+
+    private static final RenderingStrategy ARRAY_STRATEGY =
+            RenderingStrategies.JDBC_POSITIONAL.withListValueStrategy(ListValueStrategy.array());
+
+    @Test
+    void testArrayOnCondition() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isIn(1, 2, 3).withListValueStrategy(ListValueStrategy.array()))
+                .and(description, isEqualTo("x"))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "select id from foo where id = any(#{parameters.p1})"
+                + " and description = #{parameters.p2,jdbcType=VARCHAR}";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameters().get("p1")).isInstanceOf(Integer[].class),
+                () -> assertThat((Integer[]) selectStatement.getParameters().get("p1")).containsExactly(1, 2, 3),
+                () -> assertThat(selectStatement.getParameterTypes()).containsExactly(JDBCType.ARRAY, JDBCType.VARCHAR)
+        );
+    }
+
+    @Test
+    void testArrayOnRenderingStrategy() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isNotIn(1, 2, 3))
+                .and(description, isInCaseInsensitive("a", "b"))
+                .and(description, isNotInCaseInsensitive("c"))
+                .build()
+                .render(ARRAY_STRATEGY);
+
+        String expected = "select id from foo where id <> all(?) and upper(description) = any(?)"
+                + " and upper(description) <> all(?)";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameterValues())
+                        .containsExactly(new Integer[] {1, 2, 3}, new String[] {"A", "B"}, new String[] {"C"})
+        );
+    }
+
+    @Test
+    void testConditionOverridesRenderingStrategy() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isIn(1, 2).withListValueStrategy(ListValueStrategy.individual()))
+                .build()
+                .render(ARRAY_STRATEGY);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo where id in (?,?)");
+    }
+
+    @Test
+    void testStrategyIsKeptByOtherModifiers() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isIn(1, null, 2).withListValueStrategy(ListValueStrategy.array())
+                        .then(s -> s.filter(v -> v != null)))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id from foo where id = any(?)"),
+                () -> assertThat(selectStatement.getParameterValues()).containsExactly((Object) new Integer[] {1, 2})
+        );
+    }
+
+    @Test
+    void testArraySqlDoesNotDependOnListSize() {
+        StatementCache cache = StatementCache.of(10);
+        List<List<Integer>> lists = Arrays.asList(Arrays.asList(1), Arrays.asList(1, 2), Arrays.asList(1, 2, 3));
+
+        for (List<Integer> values : lists) {
+            SelectStatementProvider selectStatement = cache.render(select(id).from(table).where(id, isIn(values))
+                    .build(), ARRAY_STRATEGY);
+
+            assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo where id = any(?)");
+            assertThat(selectStatement.getParameterValues()).containsExactly((Object) values.toArray(new Integer[0]));
+        }
+
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testBucketing() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isNotIn(3, 1, 3, 2, 5, 4).withListValueStrategy(ListValueStrategy.bucketed()))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id from foo where id not in (?,?,?,?,?,?,?,?)"),
+                () -> assertThat(selectStatement.getParameterValues()).containsExactly(3, 1, 2, 5, 4, 4, 4, 4)
+        );
+    }
+
+    @Test
+    void testBucketingLimitsDistinctStatements() {
+        RenderingStrategy renderingStrategy =
+                RenderingStrategies.JDBC_POSITIONAL.withListValueStrategy(ListValueStrategy.bucketed());
+        Set<String> statements = new HashSet<>();
+        List<Integer> values = new ArrayList<>();
+
+        for (int i = 0; i < 1024; i++) {
+            values.add(i);
+            statements.add(select(id).from(table).where(id, isIn(values)).build().render(renderingStrategy)
+                    .getSelectStatement());
+        }
+
+        assertThat(statements).hasSize(11);
+    }
+
+    @Test
+    void testBucketSize() {
+        assertAll(
+                () -> assertThat(ListValueStrategy.bucketSize(1)).isEqualTo(1),
+                () -> assertThat(ListValueStrategy.bucketSize(2)).isEqualTo(2),
+                () -> assertThat(ListValueStrategy.bucketSize(3)).isEqualTo(4),
+                () -> assertThat(ListValueStrategy.bucketSize(1000)).isEqualTo(1024),
+                () -> assertThat(ListValueStrategy.bucketSize(1025)).isEqualTo(2048)
+        );
+    }
+
+    @Test
+    void testInvalidChunkSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> ListValueStrategy.chunked(0))
+                .withMessage("The chunk size must be at least 1");
+    }
+
+    @Test
+    void testConditionWithoutArrayBindingUsesIndividualPlaceholders() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, new IsOneOf(Arrays.asList(1, 2), false))
+                .build()
+                .render(ARRAY_STRATEGY);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id from foo where id one of (?,?)"),
+                () -> assertThat(selectStatement.getParameterValues()).containsExactly(1, 2)
+        );
+    }
+
+    @Test
+    void testConditionWithArrayBindingRendersArrayPlaceholder() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, new IsOneOf(Arrays.asList(1, 2), true))
+                .build()
+                .render(ARRAY_STRATEGY);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id from foo where id one of (?)"),
+                () -> assertThat(selectStatement.getParameterValues()).hasSize(1),
+                () -> assertThat((Object[]) selectStatement.getParameterValues()[0]).containsExactly(1, 2)
+        );
+    }
+
+    /**
+     * A custom condition that does not override the rendering of array conditions.
+     */
+    private static class IsOneOf extends AbstractListValueCondition<Integer, IsOneOf> {
+        private final boolean supportsArrayBinding;
+
+        private IsOneOf(Collection<Integer> values, boolean supportsArrayBinding) {
+            super(values);
+            this.supportsArrayBinding = supportsArrayBinding;
+        }
+
+        @Override
+        public boolean supportsArrayBinding() {
+            return supportsArrayBinding;
+        }
+
+        @Override
+        public IsOneOf withListEmptyCallback(Callback callback) {
+            return this;
+        }
+
+        @Override
+        public String renderCondition(String columnName, Stream<String> placeholders) {
+            return columnName + placeholders.collect(Collectors.joining(",", " one of (", ")"));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+class MyBatis3RenderingStrategyTest {
+    private static final SqlTable table = SqlTable.of("foo");
+
+    @Test
+    void testPlaceholderWithoutColumn() {
+        String placeholder = RenderingStrategies.MYBATIS3
+                .getFormattedJdbcPlaceholder(RenderingStrategy.DEFAULT_PARAMETER_PREFIX, "p1");
+        assertThat(placeholder).isEqualTo("#{parameters.p1}");
+    }
+
+    @Test
+    void testPlaceholderWithJdbcType() {
+        SqlColumn<Integer> column = table.column("id", JDBCType.INTEGER);
+        String placeholder = RenderingStrategies.MYBATIS3
+                .getFormattedJdbcPlaceholder(column, RenderingStrategy.DEFAULT_PARAMETER_PREFIX, "p1");
+        assertThat(placeholder).isEqualTo("#{parameters.p1,jdbcType=INTEGER}");
+    }
+
+    @Test
+    void testPlaceholderWithTypeHandler() {
+        SqlColumn<String> column = table.column("description", JDBCType.VARCHAR, "foo.Bar");
+        SqlColumn<String> columnWithoutJdbcType = table.<String> column("description").withTypeHandler("foo.Bar");
+
+        assertThat(RenderingStrategies.MYBATIS3.getFormattedJdbcPlaceholder(column, "record", "description"))
+                .isEqualTo("#{record.description,jdbcType=VARCHAR,typeHandler=foo.Bar}");
+        assertThat(RenderingStrategies.MYBATIS3.getFormattedJdbcPlaceholder(columnWithoutJdbcType,
+                "records[2]", "description")).isEqualTo("#{records[2].description,typeHandler=foo.Bar}");
+    }
+
+    @Test
+    void testPlaceholderWithoutJdbcType() {
+        SqlColumn<String> column = table.column("description");
+        String placeholder = RenderingStrategies.MYBATIS3
+                .getFormattedJdbcPlaceholder(column, "myParam.parameters", "p3");
+        assertThat(placeholder).isEqualTo("#{myParam.parameters.p3}");
+    }
+
+    @Test
+    void testParameterMapKeys() {
+        assertThat(RenderingStrategy.formatParameterMapKey(1)).isEqualTo("p1");
+        assertThat(RenderingStrategy.formatParameterMapKey(1)).isSameAs(RenderingStrategy.formatParameterMapKey(1));
+        assertThat(RenderingStrategy.formatParameterMapKey(5000)).isEqualTo("p5000");
+    }
+}
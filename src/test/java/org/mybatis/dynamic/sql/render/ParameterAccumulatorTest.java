@@ -0,0 +1,57 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ParameterAccumulatorTest {
+
+    @Test
+    void testAccumulation() {
+        ParameterAccumulator parameters = new ParameterAccumulator();
+        parameters.add("p1", 1);
+        parameters.addAll(Collections.singletonMap("p2", "two"));
+
+        Map<String, Object> copy = new HashMap<>(parameters.asMap());
+
+        assertThat(parameters.size()).isEqualTo(2);
+        assertThat(copy).containsOnly(entry("p1", 1), entry("p2", "two"));
+    }
+
+    @Test
+    void testEmpty() {
+        ParameterAccumulator parameters = new ParameterAccumulator();
+
+        assertThat(parameters.isEmpty()).isTrue();
+        assertThat(parameters.asMap()).isEmpty();
+    }
+
+    @Test
+    void testViewIsUnmodifiable() {
+        ParameterAccumulator parameters = new ParameterAccumulator();
+        Map<String, Object> view = parameters.asMap();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> view.put("p1", 1));
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+class RenderingContextTest {
+
+    @Test
+    void testSequenceIsSharedWithChildContexts() {
+        SqlTable table = SqlTable.of("foo");
+        SqlColumn<Integer> column = table.column("id", JDBCType.INTEGER);
+
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .build();
+        RenderingContext childContext = renderingContext.withTableAliasCalculator(TableAliasCalculator.of(table, "a"));
+
+        String placeholder1 = renderingContext.bindValue(column, 3);
+        String placeholder2 = childContext.bindValue(column, 4);
+        String placeholder3 = renderingContext.bindValue(5L);
+
+        assertThat(placeholder1).isEqualTo("#{parameters.p1,jdbcType=INTEGER}");
+        assertThat(placeholder2).isEqualTo("#{parameters.p2,jdbcType=INTEGER}");
+        assertThat(placeholder3).isEqualTo("#{parameters.p3}");
+        assertThat(childContext.parameters()).isSameAs(renderingContext.parameters());
+        assertThat(renderingContext.parameters().asMap())
+                .containsExactly(entry("p1", 3), entry("p2", 4), entry("p3", 5L));
+        assertThat(column.renderWithTableAlias(childContext.tableAliasCalculator())).isEqualTo("a.id");
+    }
+
+    @Test
+    void testParameterName() {
+        SqlTable table = SqlTable.of("foo");
+        SqlColumn<Integer> column = table.column("id", JDBCType.INTEGER);
+
+        RenderingContext renderingContext =
+                RenderingContext.withRenderingStrategy(RenderingStrategies.SPRING_NAMED_PARAMETER)
+                .withParameterName("myParam")
+                .build();
+
+        assertThat(renderingContext.bindValue(column, 3)).isEqualTo(":p1");
+
+        renderingContext = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withParameterName("myParam")
+                .build();
+
+        assertThat(renderingContext.bindValue(column, 3)).isEqualTo("#{myParam.parameters.p1,jdbcType=INTEGER}");
+    }
+}
@@ -0,0 +1,391 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.Keyset;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+class StatementCacheTest {
+    private static final SqlTable table = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = table.column("description", JDBCType.VARCHAR);
+
+    private SelectModel search(Integer idValue, String descriptionValue, long offset) {
+        return select(id, description)
+                .from(table)
+                .where(id, isEqualToWhenPresent(idValue))
+                .and(description, isLikeWhenPresent(descriptionValue))
+                .orderBy(id)
+                .limit(10)
+                .offset(offset)
+                .build();
+    }
+
+    @Test
+    void testHitReusesStatementWithNewParameters() {
+        StatementCache cache = StatementCache.of(10);
+
+        SelectStatementProvider first = cache.render(search(1, "%a%", 0), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider second = cache.render(search(2, "%b%", 10), RenderingStrategies.MYBATIS3);
+
+        String expected = "select id, description from foo"
+                + " where id = #{parameters.p1,jdbcType=INTEGER} and description like #{parameters.p2,jdbcType=VARCHAR}"
+                + " order by id limit #{parameters.p3} offset #{parameters.p4}";
+
+        assertAll(
+                () -> assertThat(first.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(first.getParameters()).containsOnly(entry("p1", 1), entry("p2", "%a%"),
+                        entry("p3", 10L), entry("p4", 0L)),
+                () -> assertThat(second.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(second.getParameters()).containsOnly(entry("p1", 2), entry("p2", "%b%"),
+                        entry("p3", 10L), entry("p4", 10L)),
+                () -> assertThat(cache.missCount()).isEqualTo(1),
+                () -> assertThat(cache.hitCount()).isEqualTo(1),
+                () -> assertThat(cache.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testOptionalConditionsChangeTheShape() {
+        StatementCache cache = StatementCache.of(10);
+
+        SelectStatementProvider first = cache.render(search(1, null, 0), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider second = cache.render(search(null, "%b%", 0), RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(first.getSelectStatement()).isEqualTo("select id, description from foo"
+                        + " where id = #{parameters.p1,jdbcType=INTEGER}"
+                        + " order by id limit #{parameters.p2} offset #{parameters.p3}"),
+                () -> assertThat(second.getSelectStatement()).isEqualTo("select id, description from foo"
+                        + " where description like #{parameters.p1,jdbcType=VARCHAR}"
+                        + " order by id limit #{parameters.p2} offset #{parameters.p3}"),
+                () -> assertThat(cache.missCount()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isZero()
+        );
+    }
+
+    @Test
+    void testListSizeChangesTheShape() {
+        StatementCache cache = StatementCache.of(10);
+
+        cache.render(select(id).from(table).where(id, isIn(1, 2)).build(), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider selectStatement = cache.render(select(id).from(table).where(id, isIn(1, 2, 3)).build(),
+                RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo where id in"
+                        + " (#{parameters.p1,jdbcType=INTEGER},#{parameters.p2,jdbcType=INTEGER},"
+                        + "#{parameters.p3,jdbcType=INTEGER})"),
+                () -> assertThat(cache.missCount()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isZero()
+        );
+    }
+
+    @Test
+    void testRenderingStrategyChangesTheShape() {
+        StatementCache cache = StatementCache.of(10);
+
+        cache.render(search(1, "%a%", 0), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider selectStatement = cache.render(search(1, "%a%", 0),
+                RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo("select id, description from foo"
+                        + " where id = :p1 and description like :p2 order by id limit :p3 offset :p4"),
+                () -> assertThat(cache.missCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testCachedMatchesUncached() {
+        StatementCache cache = StatementCache.of(10);
+        List<SelectModel> models = Arrays.asList(
+                select(id, description)
+                        .from(table, "f")
+                        .where(id, isIn(select(id).from(table).where(description, isEqualTo("a"))))
+                        .or(description, isNotLike("b"), and(id, isBetween(3).and(4)))
+                        .fetchFirst(5).rowsOnly()
+                        .build(),
+                select(id, description)
+                        .from(table, "f")
+                        .where(id, isIn(select(id).from(table).where(description, isEqualTo("c"))))
+                        .or(description, isNotLike("d"), and(id, isBetween(5).and(6)))
+                        .fetchFirst(7).rowsOnly()
+                        .build());
+
+        for (SelectModel model : models) {
+            SelectStatementProvider expected = model.render(RenderingStrategies.JDBC_POSITIONAL);
+            SelectStatementProvider actual = cache.render(model, RenderingStrategies.JDBC_POSITIONAL);
+
+            assertAll(
+                    () -> assertThat(actual.getSelectStatement()).isEqualTo(expected.getSelectStatement()),
+                    () -> assertThat(actual.getParameters()).isEqualTo(expected.getParameters()),
+                    () -> assertThat(actual.getParameterValues()).isEqualTo(expected.getParameterValues()),
+                    () -> assertThat(actual.getParameterTypes()).isEqualTo(expected.getParameterTypes())
+            );
+        }
+
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testKeysetChangesTheShape() {
+        StatementCache cache = StatementCache.of(10);
+
+        SelectStatementProvider firstPage = cache.render(page(Keyset.orderBy(id)), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider secondPage = cache.render(page(Keyset.orderBy(id).after(5)),
+                RenderingStrategies.MYBATIS3);
+        SelectStatementProvider thirdPage = cache.render(page(Keyset.orderBy(id).after(15)),
+                RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(firstPage.getSelectStatement()).isEqualTo("select id, description from foo"
+                        + " order by id limit #{parameters.p1}"),
+                () -> assertThat(secondPage.getSelectStatement()).isEqualTo("select id, description from foo"
+                        + " where (id > #{parameters.p1,jdbcType=INTEGER}) order by id limit #{parameters.p2}"),
+                () -> assertThat(secondPage.getParameters()).containsOnly(entry("p1", 5), entry("p2", 10L)),
+                () -> assertThat(thirdPage.getSelectStatement()).isEqualTo(secondPage.getSelectStatement()),
+                () -> assertThat(thirdPage.getParameters()).containsOnly(entry("p1", 15), entry("p2", 10L)),
+                () -> assertThat(cache.missCount()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testKeysetMatchesUncached() {
+        StatementCache cache = StatementCache.of(10);
+        List<SelectModel> models = Arrays.asList(
+                page(Keyset.orderBy(description, id).after("a", 1)),
+                page(Keyset.orderBy(description, id).after("b", 2)),
+                page(Keyset.orderBy(description.descending(), id.descending()).after("c", 3)),
+                page(Keyset.orderBy(description, id).after("d", 4).withRowValueComparison()),
+                page(Keyset.orderBy(description, id).after("e", 5).withRowValueComparison()));
+
+        for (SelectModel model : models) {
+            SelectStatementProvider expected = model.render(RenderingStrategies.JDBC_POSITIONAL);
+            SelectStatementProvider actual = cache.render(model, RenderingStrategies.JDBC_POSITIONAL);
+
+            assertAll(
+                    () -> assertThat(actual.getSelectStatement()).isEqualTo(expected.getSelectStatement()),
+                    () -> assertThat(actual.getParameterValues()).isEqualTo(expected.getParameterValues()),
+                    () -> assertThat(actual.getParameterTypes()).isEqualTo(expected.getParameterTypes())
+            );
+        }
+
+        assertAll(
+                () -> assertThat(cache.missCount()).isEqualTo(3),
+                () -> assertThat(cache.hitCount()).isEqualTo(2)
+        );
+    }
+
+    private SelectModel page(Keyset keyset) {
+        return select(id, description)
+                .from(table)
+                .seek(keyset)
+                .limit(10)
+                .build();
+    }
+
+    @Test
+    void testRestrictionsChangeTheShape() {
+        StatementCache cache = StatementCache.of(10);
+        SelectModel selectModel = select(id, description).from(table).where(description, isLike("a%")).build();
+
+        SelectStatementProvider unrestricted = cache.render(selectModel, RenderingStrategies.MYBATIS3);
+        SelectStatementProvider firstPartition = cache.render(restricted(selectModel, criterion(null, isLessThan(10)),
+                criterion("or", isNull())), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider middlePartition = cache.render(restricted(selectModel,
+                criterion(null, isGreaterThanOrEqualTo(10)), criterion("and", isLessThan(20))),
+                RenderingStrategies.MYBATIS3);
+        SelectStatementProvider nextPartition = cache.render(restricted(selectModel,
+                criterion(null, isGreaterThanOrEqualTo(20)), criterion("and", isLessThan(30))),
+                RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(unrestricted.getSelectStatement()).isEqualTo("select id, description from foo"
+                        + " where description like #{parameters.p1,jdbcType=VARCHAR}"),
+                () -> assertThat(firstPartition.getSelectStatement()).isEqualTo("select id, description from foo"
+                        + " where (description like #{parameters.p1,jdbcType=VARCHAR})"
+                        + " and (id < #{parameters.p2,jdbcType=INTEGER} or id is null)"),
+                () -> assertThat(middlePartition.getSelectStatement()).isEqualTo("select id, description from foo"
+                        + " where (description like #{parameters.p1,jdbcType=VARCHAR})"
+                        + " and (id >= #{parameters.p2,jdbcType=INTEGER} and id < #{parameters.p3,jdbcType=INTEGER})"),
+                () -> assertThat(nextPartition.getSelectStatement()).isEqualTo(middlePartition.getSelectStatement()),
+                () -> assertThat(nextPartition.getParameters())
+                        .containsOnly(entry("p1", "a%"), entry("p2", 20), entry("p3", 30)),
+                () -> assertThat(cache.missCount()).isEqualTo(3),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    private SelectModel restricted(SelectModel selectModel, SqlCriterion<?>... criteria) {
+        WhereModel restriction = WhereModel.of(Arrays.asList(criteria));
+        return SelectModel.withQueryExpressions(selectModel.mapQueryExpressions(qe -> qe.restrictedBy(restriction))
+                .collect(Collectors.toList()))
+                .build();
+    }
+
+    private SqlCriterion<Integer> criterion(String connector, VisitableCondition<Integer> condition) {
+        return SqlCriterion.withColumn(id)
+                .withConnector(connector)
+                .withCondition(condition)
+                .build();
+    }
+
+    @Test
+    void testCount() {
+        StatementCache cache = StatementCache.of(10);
+
+        cache.render(countFrom(table).where(id, isGreaterThan(1)).build(), RenderingStrategies.MYBATIS3);
+        SelectStatementProvider selectStatement = cache.render(countFrom(table).where(id, isGreaterThan(2)).build(),
+                RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select count(*) from foo where id > #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 2)),
+                () -> assertThat(cache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testRowCountChangesTheShape() {
+        StatementCache cache = StatementCache.of(10);
+
+        SelectStatementProvider countStatement = cache.render(countUpTo(1).from(table).where(id, isEqualTo(1)).build(),
+                RenderingStrategies.MYBATIS3);
+        SelectStatementProvider existsStatement = cache.render(selectExists(table).where(id, isEqualTo(2)).build(),
+                RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(countStatement.getSelectStatement()).isEqualTo("select count(*) from"
+                        + " (select 1 from foo where id = #{parameters.p1,jdbcType=INTEGER}"
+                        + " fetch first #{parameters.p2} rows only) count_source"),
+                () -> assertThat(existsStatement.getSelectStatement()).isEqualTo("select 1 from foo"
+                        + " where id = #{parameters.p1,jdbcType=INTEGER} fetch first #{parameters.p2} rows only"),
+                () -> assertThat(existsStatement.getParameters()).containsOnly(entry("p1", 2), entry("p2", 1L)),
+                () -> assertThat(cache.missCount()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isZero()
+        );
+    }
+
+    @Test
+    void testDelete() {
+        StatementCache cache = StatementCache.of(10);
+
+        DeleteModel first = deleteFrom(table).where(id, isEqualTo(1)).or(description, isNull()).build();
+        DeleteModel second = deleteFrom(table).where(id, isEqualTo(2)).or(description, isNull()).build();
+        cache.render(first, RenderingStrategies.SPRING_NAMED_PARAMETER);
+        DeleteStatementProvider deleteStatement = cache.render(second, RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(deleteStatement.getDeleteStatement())
+                        .isEqualTo("delete from foo where id = :p1 or description is null"),
+                () -> assertThat(deleteStatement.getParameters()).containsOnly(entry("p1", 2)),
+                () -> assertThat(cache.hitCount()).isEqualTo(1),
+                () -> assertThat(cache.missCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void testCustomConditionIsNotCached() {
+        StatementCache cache = StatementCache.of(10);
+
+        SelectModel selectModel = select(id).from(table).where(id, new IsTheAnswer()).build();
+        cache.render(selectModel, RenderingStrategies.MYBATIS3);
+        SelectStatementProvider selectStatement = cache.render(selectModel, RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id from foo where id = #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 42)),
+                () -> assertThat(cache.hitCount()).isZero(),
+                () -> assertThat(cache.missCount()).isEqualTo(2),
+                () -> assertThat(cache.size()).isZero()
+        );
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsRemoved() {
+        StatementCache cache = StatementCache.of(2);
+
+        cache.render(select(id).from(table).where(id, isIn(1)).build(), RenderingStrategies.MYBATIS3);
+        cache.render(select(id).from(table).where(id, isIn(1, 2)).build(), RenderingStrategies.MYBATIS3);
+        cache.render(select(id).from(table).where(id, isIn(3)).build(), RenderingStrategies.MYBATIS3);
+        cache.render(select(id).from(table).where(id, isIn(1, 2, 3)).build(), RenderingStrategies.MYBATIS3);
+        cache.render(select(id).from(table).where(id, isIn(4)).build(), RenderingStrategies.MYBATIS3);
+        cache.render(select(id).from(table).where(id, isIn(4, 5)).build(), RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(cache.hitCount()).isEqualTo(2),
+                () -> assertThat(cache.missCount()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    void testClear() {
+        StatementCache cache = StatementCache.of(2);
+
+        cache.render(search(1, "%a%", 0), RenderingStrategies.MYBATIS3);
+        cache.clear();
+        cache.render(search(1, "%a%", 0), RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(1),
+                () -> assertThat(cache.hitCount()).isZero(),
+                () -> assertThat(cache.missCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testMaximumSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> StatementCache.of(0));
+    }
+
+    private static class IsTheAnswer extends AbstractSingleValueCondition<Integer> {
+        IsTheAnswer() {
+            super(() -> 42);
+        }
+
+        @Override
+        public String renderCondition(String columnName, String placeholder) {
+            return columnName + " = " + placeholder;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.VisitableCondition;
+import org.mybatis.dynamic.sql.select.Keyset;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+class StatementFingerprintTest {
+    private static final SqlTable table = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = table.column("description", JDBCType.VARCHAR);
+
+    @Test
+    void testFingerprintIsStable() {
+        long fingerprint = StatementFingerprint.of(select(id).from(table).where(id, isEqualTo(1)).build());
+
+        assertThat(fingerprint).isEqualTo(8142813286288813858L);
+    }
+
+    @Test
+    void testValuesAreIgnored() {
+        long first = StatementFingerprint.of(select(id).from(table).where(id, isEqualTo(1)).build());
+        long second = StatementFingerprint.of(select(id).from(table).where(id, isEqualTo(2)).build());
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void testConditionsAreIncluded() {
+        long first = StatementFingerprint.of(select(id).from(table).where(id, isEqualTo(1)).build());
+        long second = StatementFingerprint.of(select(id).from(table).where(id, isNotEqualTo(1)).build());
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void testListSizesAreIncluded() {
+        long first = StatementFingerprint.of(select(id).from(table).where(id, isIn(1, 2)).build());
+        long second = StatementFingerprint.of(select(id).from(table).where(id, isIn(3, 4)).build());
+        long third = StatementFingerprint.of(select(id).from(table).where(id, isIn(1, 2, 3)).build());
+
+        assertThat(first).isEqualTo(second).isNotEqualTo(third);
+    }
+
+    @Test
+    void testShouldRenderIsIncluded() {
+        long first = StatementFingerprint.of(select(id).from(table)
+                .where(id, isEqualToWhenPresent(1)).build());
+        long second = StatementFingerprint.of(select(id).from(table)
+                .where(id, isEqualToWhenPresent((Integer) null)).build());
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void testKeysetIsIncluded() {
+        long plain = StatementFingerprint.of(select(id).from(table).orderBy(id).build());
+        long firstPage = StatementFingerprint.of(select(id).from(table).seek(Keyset.orderBy(id)).build());
+        long nextPage = StatementFingerprint.of(select(id).from(table).seek(Keyset.orderBy(id).after(5)).build());
+        long otherPage = StatementFingerprint.of(select(id).from(table).seek(Keyset.orderBy(id).after(9)).build());
+        long descending = StatementFingerprint.of(select(id).from(table)
+                .seek(Keyset.orderBy(id.descending()).after(5)).build());
+        long rowValue = StatementFingerprint.of(select(id).from(table)
+                .seek(Keyset.orderBy(id).after(5).withRowValueComparison()).build());
+
+        assertAll(
+                () -> assertThat(nextPage).isEqualTo(otherPage),
+                () -> assertThat(nextPage).isNotEqualTo(firstPage).isNotEqualTo(plain).isNotEqualTo(descending)
+                        .isNotEqualTo(rowValue),
+                () -> assertThat(firstPage).isNotEqualTo(plain)
+        );
+    }
+
+    @Test
+    void testRestrictionsAreIncluded() {
+        SelectModel selectModel = select(id).from(table).build();
+        long plain = StatementFingerprint.of(selectModel);
+        long first = StatementFingerprint.of(restricted(selectModel, isLessThan(10)));
+        long second = StatementFingerprint.of(restricted(selectModel, isLessThan(20)));
+        long third = StatementFingerprint.of(restricted(selectModel, isGreaterThanOrEqualTo(20)));
+
+        assertThat(first).isEqualTo(second).isNotEqualTo(plain).isNotEqualTo(third);
+    }
+
+    private SelectModel restricted(SelectModel selectModel, VisitableCondition<Integer> condition) {
+        WhereModel restriction = WhereModel.of(Collections.singletonList(SqlCriterion.withColumn(id)
+                .withCondition(condition)
+                .build()));
+        return SelectModel.withQueryExpressions(selectModel.mapQueryExpressions(qe -> qe.restrictedBy(restriction))
+                .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Test
+    void testRowCountIsIncluded() {
+        long exists = StatementFingerprint.of(selectExists(table).where(id, isEqualTo(1)).build());
+        long countUpTo = StatementFingerprint.of(countUpTo(1).from(table).where(id, isEqualTo(1)).build());
+
+        assertThat(exists).isNotEqualTo(countUpTo);
+    }
+
+    @Test
+    void testWhere() {
+        long first = StatementFingerprint.of(where(id, isEqualTo(1)).and(description, isLike("a%")).build());
+        long second = StatementFingerprint.of(where(id, isEqualTo(5)).and(description, isLike("b%")).build());
+        long third = StatementFingerprint.of(where(id, isEqualTo(5)).or(description, isLike("b%")).build());
+
+        assertThat(first).isEqualTo(second).isNotEqualTo(third);
+    }
+
+    @Test
+    void testUpdate() {
+        long first = StatementFingerprint.of(update(table).set(description).equalTo("a")
+                .where(id, isEqualTo(1)).build());
+        long second = StatementFingerprint.of(update(table).set(description).equalTo("b")
+                .where(id, isEqualTo(3)).build());
+        long third = StatementFingerprint.of(update(table).set(description).equalToWhenPresent((String) null)
+                .where(id, isEqualTo(3)).build());
+
+        assertThat(first).isEqualTo(second).isNotEqualTo(third);
+    }
+
+    @Test
+    void testDelete() {
+        long first = StatementFingerprint.of(deleteFrom(table).where(id, isEqualTo(1)).build());
+        long second = StatementFingerprint.of(deleteFrom(table).where(id, isEqualTo(2)).build());
+        long third = StatementFingerprint.of(deleteFrom(table).build());
+
+        assertThat(first).isEqualTo(second).isNotEqualTo(third);
+    }
+
+    @Test
+    void testStatementTypesAreDifferent() {
+        long select = StatementFingerprint.of(select(id).from(table).where(id, isEqualTo(1)).build());
+        long delete = StatementFingerprint.of(deleteFrom(table).where(id, isEqualTo(1)).build());
+        long where = StatementFingerprint.of(where(id, isEqualTo(1)).build());
+
+        assertThat(select).isNotEqualTo(delete).isNotEqualTo(where);
+        assertThat(delete).isNotEqualTo(where);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.delete.DeleteModel;
+import org.mybatis.dynamic.sql.select.GroupByModel;
+import org.mybatis.dynamic.sql.select.Keyset;
+import org.mybatis.dynamic.sql.select.OrderByModel;
+import org.mybatis.dynamic.sql.select.PagingModel;
+import org.mybatis.dynamic.sql.select.QueryExpressionModel;
+import org.mybatis.dynamic.sql.select.SelectModel;
+import org.mybatis.dynamic.sql.select.join.JoinCriterion;
+import org.mybatis.dynamic.sql.select.join.JoinModel;
+import org.mybatis.dynamic.sql.select.join.JoinSpecification;
+import org.mybatis.dynamic.sql.update.UpdateModel;
+import org.mybatis.dynamic.sql.where.WhereModel;
+
+/**
+ * StatementShape walks the statement models by hand, so a field added to a model is not part of the shape until
+ * the walker is changed - and statements that differ only in that field would share a cached statement. These
+ * tests list the fields the shape accounts for. If one fails, add the new field to the shape (or note why it can't
+ * change the rendered SQL) and then to the expected fields.
+ */
+class StatementShapeTest {
+
+    @Test
+    void testSelectModelFieldsAreInTheShape() {
+        assertAll(
+                () -> assertThat(fieldsOf(SelectModel.class))
+                        .containsExactlyInAnyOrder("queryExpressions", "orderByModel", "pagingModel", "isRowCount"),
+                () -> assertThat(fieldsOf(QueryExpressionModel.class))
+                        .containsExactlyInAnyOrder("connector", "isDistinct", "selectList", "table", "joinModel",
+                                "tableAliasCalculator", "whereModel", "groupByModel", "keyset", "restrictions"),
+                () -> assertThat(fieldsOf(PagingModel.class))
+                        .containsExactlyInAnyOrder("limit", "offset", "fetchFirstRows"),
+                () -> assertThat(fieldsOf(Keyset.class))
+                        .containsExactlyInAnyOrder("columns", "lastValues", "rowValueComparison"),
+                () -> assertThat(fieldsOf(OrderByModel.class)).containsExactlyInAnyOrder("columns"),
+                () -> assertThat(fieldsOf(GroupByModel.class)).containsExactlyInAnyOrder("columns"),
+                () -> assertThat(fieldsOf(JoinModel.class)).containsExactlyInAnyOrder("joinSpecifications"),
+                () -> assertThat(fieldsOf(JoinSpecification.class))
+                        .containsExactlyInAnyOrder("table", "joinCriteria", "joinType"),
+                () -> assertThat(fieldsOf(JoinCriterion.class))
+                        .containsExactlyInAnyOrder("connector", "leftColumn", "joinCondition")
+        );
+    }
+
+    @Test
+    void testUpdateAndDeleteModelFieldsAreInTheShape() {
+        assertAll(
+                () -> assertThat(fieldsOf(UpdateModel.class))
+                        .containsExactlyInAnyOrder("table", "whereModel", "columnMappings"),
+                () -> assertThat(fieldsOf(DeleteModel.class)).containsExactlyInAnyOrder("table", "whereModel")
+        );
+    }
+
+    @Test
+    void testWhereModelFieldsAreInTheShape() {
+        assertAll(
+                () -> assertThat(fieldsOf(WhereModel.class)).containsExactlyInAnyOrder("criteria"),
+                () -> assertThat(fieldsOf(SqlCriterion.class))
+                        .containsExactlyInAnyOrder("column", "condition", "connector", "subCriteria"),
+                // the parameter type converter changes parameter values only - never the rendered SQL
+                () -> assertThat(fieldsOf(SqlColumn.class))
+                        .containsExactlyInAnyOrder("name", "table", "jdbcType", "isDescending", "alias",
+                                "typeHandler", "renderingStrategy", "parameterTypeConverter")
+        );
+    }
+
+    private static String[] fieldsOf(Class<?> type) {
+        return Arrays.stream(type.getDeclaredFields())
+                .filter(f -> !Modifier.isStatic(f.getModifiers()) && !f.isSynthetic())
+                .map(Field::getName)
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render.chunked;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class ChunkedStatementsTest {
+    private static final SqlTable table = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = table.column("description", JDBCType.VARCHAR);
+
+    private static final RenderingStrategy CHUNKED_STRATEGY =
+            RenderingStrategies.JDBC_POSITIONAL.withListValueStrategy(ListValueStrategy.chunked(2));
+
+    @Test
+    void testSelect() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(select(id)
+                .from(table)
+                .where(description, isEqualTo("d"))
+                .and(id, isIn(1, 2, 3, 2, 4, 5))
+                .orderBy(id)
+                .build(), CHUNKED_STRATEGY);
+
+        assertThat(selectStatements).hasSize(3);
+        assertThat(selectStatements.get(0).getSelectStatement())
+                .isEqualTo("select id from foo where description = ? and id in (?,?) order by id");
+        assertThat(selectStatements.get(0).getParameterValues()).containsExactly("d", 1, 2);
+        assertThat(selectStatements.get(1).getParameterValues()).containsExactly("d", 3, 4);
+        assertThat(selectStatements.get(2).getSelectStatement())
+                .isEqualTo("select id from foo where description = ? and id in (?) order by id");
+        assertThat(selectStatements.get(2).getParameterValues()).containsExactly("d", 5);
+    }
+
+    @Test
+    void testChunkedOnCondition() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(select(id)
+                .from(table)
+                .where(id, isIn(1, 2, 3).withListValueStrategy(ListValueStrategy.chunked(1)),
+                        and(description, isEqualTo("z")))
+                .build(), RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatements).hasSize(3);
+        assertThat(selectStatements.get(2).getSelectStatement()).isEqualTo("select id from foo"
+                + " where (id in (#{parameters.p1,jdbcType=INTEGER})"
+                + " and description = #{parameters.p2,jdbcType=VARCHAR})");
+        assertThat(selectStatements.get(2).getParameters()).containsEntry("p1", 3).containsEntry("p2", "z");
+    }
+
+    @Test
+    void testChunkedWithBucketing() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(select(id)
+                .from(table)
+                .where(id, isIn(1, 2, 3, 4, 5, 6, 7))
+                .build(), RenderingStrategies.JDBC_POSITIONAL
+                        .withListValueStrategy(ListValueStrategy.chunked(4).withBucketing()));
+
+        assertThat(selectStatements).hasSize(2);
+        assertThat(selectStatements.get(1).getSelectStatement())
+                .isEqualTo("select id from foo where id in (?,?,?,?)");
+        assertThat(selectStatements.get(1).getParameterValues()).containsExactly(5, 6, 7, 7);
+    }
+
+    @Test
+    void testSmallListIsNotChunked() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(select(id)
+                .from(table)
+                .where(id, isIn(1, 2))
+                .build(), CHUNKED_STRATEGY);
+
+        assertThat(selectStatements).hasSize(1);
+        assertThat(selectStatements.get(0).getSelectStatement()).isEqualTo("select id from foo where id in (?,?)");
+    }
+
+    @Test
+    void testCountIsNotChunked() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(countFrom(table)
+                .where(id, isIn(1, 2, 3, 4, 5))
+                .build(), CHUNKED_STRATEGY);
+
+        assertThat(selectStatements).hasSize(1);
+        assertThat(selectStatements.get(0).getSelectStatement())
+                .isEqualTo("select count(*) from foo where id in (?,?,?,?,?)");
+    }
+
+    @Test
+    void testAggregateIsNotChunked() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(select(max(id))
+                .from(table)
+                .where(id, isIn(1, 2, 3, 4, 5))
+                .build(), CHUNKED_STRATEGY);
+
+        assertThat(selectStatements).hasSize(1);
+    }
+
+    @Test
+    void testDerivedCountIsNotChunked() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(countUpTo(10)
+                .from(table)
+                .where(id, isIn(1, 2, 3, 4, 5))
+                .build(), CHUNKED_STRATEGY);
+
+        assertThat(selectStatements).hasSize(1);
+        assertThat(selectStatements.get(0).getSelectStatement()).isEqualTo("select count(*) from "
+                + "(select 1 from foo where id in (?,?,?,?,?) fetch first ? rows only) count_source");
+    }
+
+    @Test
+    void testOrIsNotChunked() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(select(id)
+                .from(table)
+                .where(description, isEqualTo("d"))
+                .or(id, isIn(1, 2, 3))
+                .build(), CHUNKED_STRATEGY);
+
+        assertThat(selectStatements).hasSize(1);
+        assertThat(selectStatements.get(0).getSelectStatement())
+                .isEqualTo("select id from foo where description = ? or id in (?,?,?)");
+    }
+
+    @Test
+    void testSubCriteriaWithOrIsNotChunked() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(select(id)
+                .from(table)
+                .where(id, isIn(1, 2, 3), or(description, isEqualTo("z")))
+                .build(), CHUNKED_STRATEGY);
+
+        assertThat(selectStatements).hasSize(1);
+    }
+
+    @Test
+    void testPagingIsNotChunked() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(select(id)
+                .from(table)
+                .where(id, isIn(1, 2, 3))
+                .limit(3)
+                .build(), CHUNKED_STRATEGY);
+
+        assertThat(selectStatements).hasSize(1);
+        assertThat(selectStatements.get(0).getSelectStatement())
+                .isEqualTo("select id from foo where id in (?,?,?) limit ?");
+    }
+
+    @Test
+    void testUpdate() {
+        List<UpdateStatementProvider> updateStatements = ChunkedStatements.render(update(table)
+                .set(description).equalTo("q")
+                .where(id, isIn(7, 8, 9))
+                .build(), CHUNKED_STRATEGY);
+
+        assertThat(updateStatements).hasSize(2);
+        assertThat(updateStatements.get(0).getUpdateStatement())
+                .isEqualTo("update foo set description = ? where id in (?,?)");
+        assertThat(updateStatements.get(0).getParameterValues()).containsExactly("q", 7, 8);
+        assertThat(updateStatements.get(1).getUpdateStatement())
+                .isEqualTo("update foo set description = ? where id in (?)");
+        assertThat(updateStatements.get(1).getParameterValues()).containsExactly("q", 9);
+    }
+
+    @Test
+    void testDelete() {
+        List<DeleteStatementProvider> deleteStatements = ChunkedStatements.render(deleteFrom(table)
+                .where(id, isIn(1, 2, 3))
+                .build(), CHUNKED_STRATEGY);
+
+        assertThat(deleteStatements).hasSize(2);
+        assertThat(deleteStatements.get(0).getDeleteStatement()).isEqualTo("delete from foo where id in (?,?)");
+        assertThat(deleteStatements.get(1).getDeleteStatement()).isEqualTo("delete from foo where id in (?)");
+        assertThat(deleteStatements.get(1).getParameterValues()).containsExactly(3);
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.render.prepared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+
+class PreparedStatementTemplateTest {
+    private static final SqlTable table = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> description = table.column("description", JDBCType.VARCHAR);
+    private static final SqlColumn<Boolean> active = table.column("active", JDBCType.VARCHAR)
+            .withParameterTypeConverter((Boolean b) -> b == null ? null : b ? "Y" : "N");
+
+    private final PreparedStatementTemplate<SelectStatementProvider> selectTemplate = PreparedStatementTemplate.of(
+            select(id, description)
+            .from(table)
+            .where(id, isBetween(param("low", Integer.class)).and(param("high", Integer.class)))
+            .and(description, isEqualTo("x"))
+            .and(active, isEqualTo(param("active", Boolean.class)))
+            .or(id, isEqualTo(param("low", Integer.class)))
+            .limit(5)
+            .build(),
+            RenderingStrategies.MYBATIS3);
+
+    @Test
+    void testSelect() {
+        SelectStatementProvider selectStatement = selectTemplate.bind("low", 1)
+                .bind("high", 9)
+                .bind("active", true)
+                .build();
+
+        String expected = "select id, description from foo"
+                + " where id between #{parameters.p1,jdbcType=INTEGER} and #{parameters.p2,jdbcType=INTEGER}"
+                + " and description = #{parameters.p3,jdbcType=VARCHAR}"
+                + " and active = #{parameters.p4,jdbcType=VARCHAR}"
+                + " or id = #{parameters.p5,jdbcType=INTEGER}"
+                + " limit #{parameters.p6}";
+
+        assertAll(
+                () -> assertThat(selectTemplate.statement()).isEqualTo(expected),
+                () -> assertThat(selectTemplate.bindMarkerNames()).containsExactly("low", "high", "active"),
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameters()).containsOnly(entry("p1", 1), entry("p2", 9),
+                        entry("p3", "x"), entry("p4", "Y"), entry("p5", 1), entry("p6", 5L))
+        );
+    }
+
+    @Test
+    void testTemplateCanBeBoundMoreThanOnce() {
+        SelectStatementProvider first = selectTemplate.bind("low", 1)
+                .bind("high", 9)
+                .bind("active", true)
+                .build();
+        SelectStatementProvider second = selectTemplate.bind("low", 2)
+                .bind("high", 8)
+                .bind("active", false)
+                .build();
+
+        assertAll(
+                () -> assertThat(first.getParameters()).containsOnly(entry("p1", 1), entry("p2", 9),
+                        entry("p3", "x"), entry("p4", "Y"), entry("p5", 1), entry("p6", 5L)),
+                () -> assertThat(second.getParameters()).containsOnly(entry("p1", 2), entry("p2", 8),
+                        entry("p3", "x"), entry("p4", "N"), entry("p5", 2), entry("p6", 5L))
+        );
+    }
+
+    @Test
+    void testUpdate() {
+        PreparedStatementTemplate<UpdateStatementProvider> template = PreparedStatementTemplate.of(
+                update(table)
+                .set(description).equalTo(param("description", String.class))
+                .set(id).equalTo(3)
+                .where(id, isEqualTo(param("id", Integer.class)))
+                .build(),
+                RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        UpdateStatementProvider updateStatement = template.bind("description", "new")
+                .bind("id", 7)
+                .build();
+
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement())
+                        .isEqualTo("update foo set description = :p1, id = :p2 where id = :p3"),
+                () -> assertThat(updateStatement.getParameters()).containsOnly(entry("p1", "new"), entry("p2", 3),
+                        entry("p3", 7))
+        );
+    }
+
+    @Test
+    void testUpdateConvertedColumn() {
+        PreparedStatementTemplate<UpdateStatementProvider> template = PreparedStatementTemplate.of(
+                update(table)
+                .set(active).equalTo(param("active", Boolean.class))
+                .set(description).equalToWhenPresent(param("description", String.class))
+                .where(id, isEqualTo(3))
+                .build(),
+                RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        UpdateStatementProvider updateStatement = template.bind("active", false)
+                .bind("description", "new")
+                .build();
+
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement())
+                        .isEqualTo("update foo set active = :p1, description = :p2 where id = :p3"),
+                () -> assertThat(updateStatement.getParameters()).containsOnly(entry("p1", "N"), entry("p2", "new"),
+                        entry("p3", 3))
+        );
+    }
+
+    @Test
+    void testDelete() {
+        PreparedStatementTemplate<DeleteStatementProvider> template = PreparedStatementTemplate.of(
+                deleteFrom(table)
+                .where(id, isEqualTo(param("id", Integer.class)))
+                .build(),
+                RenderingStrategies.JDBC_POSITIONAL);
+
+        DeleteStatementProvider deleteStatement = template.bind(Collections.singletonMap("id", null));
+
+        assertAll(
+                () -> assertThat(deleteStatement.getDeleteStatement()).isEqualTo("delete from foo where id = ?"),
+                () -> assertThat(deleteStatement.getParameterValues()).containsExactly((Object) null),
+                () -> assertThat(deleteStatement.getParameterTypes()).containsExactly(JDBCType.INTEGER)
+        );
+    }
+
+    @Test
+    void testWrongType() {
+        PreparedStatementTemplate<SelectStatementProvider>.Binder binder = selectTemplate.bind("low", "1")
+                .bind("high", 9)
+                .bind("active", true);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, binder::build);
+        assertThat(e.getMessage()).isEqualTo("The value bound to \"low\" must be of type java.lang.Integer,"
+                + " but was of type java.lang.String");
+    }
+
+    @Test
+    void testUnknownName() {
+        PreparedStatementTemplate<SelectStatementProvider>.Binder binder = selectTemplate.bind("low", 1)
+                .bind("high", 9)
+                .bind("active", true)
+                .bind("unknown", 3);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, binder::build);
+        assertThat(e.getMessage()).isEqualTo("The statement has no bind marker named \"unknown\"");
+    }
+
+    @Test
+    void testMissingValue() {
+        PreparedStatementTemplate<SelectStatementProvider>.Binder binder = selectTemplate.bind("low", 1)
+                .bind("high", 9);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, binder::build);
+        assertThat(e.getMessage()).isEqualTo("No value was bound to \"active\"");
+    }
+}
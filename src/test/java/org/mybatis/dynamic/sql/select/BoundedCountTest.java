@@ -0,0 +1,123 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils;
+
+class BoundedCountTest {
+
+    static final SqlTable foo = SqlTable.of("foo");
+    static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    static final SqlTable bar = SqlTable.of("bar");
+    static final SqlColumn<Integer> fooId = bar.column("foo_id", JDBCType.INTEGER);
+
+    @Test
+    void testSelectExists() {
+        SelectStatementProvider selectStatement = selectExists(foo)
+                .where(id, isGreaterThan(3))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select 1 from foo where id > #{parameters.p1,jdbcType=INTEGER} "
+                                + "fetch first #{parameters.p2} rows only"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p1", 3).containsEntry("p2", 1L)
+        );
+    }
+
+    @Test
+    void testSelectExistsWithLimit() {
+        SelectStatementProvider selectStatement = selectExists(foo)
+                .withPagingStyle(PagingStyle.LIMIT)
+                .where(id, isGreaterThan(3))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select 1 from foo where id > :p1 limit :p2");
+    }
+
+    @Test
+    void testCountUpTo() {
+        SelectStatementProvider selectStatement = countUpTo(1000)
+                .from(foo)
+                .where(id, isGreaterThan(3))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select count(*) from (select 1 from foo where id > "
+                                + "#{parameters.p1,jdbcType=INTEGER} fetch first #{parameters.p2} rows only) "
+                                + "count_source"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p1", 3).containsEntry("p2", 1000L)
+        );
+    }
+
+    @Test
+    void testCountUpToWithJoinAndLimit() {
+        SelectStatementProvider selectStatement = countUpTo(1000)
+                .from(foo)
+                .withPagingStyle(PagingStyle.LIMIT)
+                .join(bar, on(id, equalTo(fooId)))
+                .where(id, isGreaterThan(3))
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select count(*) from (select 1 from foo "
+                + "join bar on foo.id = bar.foo_id where foo.id > :p1 limit :p2) count_source");
+    }
+
+    @Test
+    void testCountUpToWithInvalidLimit() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> countUpTo(0))
+                .withMessage("The count limit must be at least 1");
+    }
+
+    @Test
+    void testCountFromIsUnbounded() {
+        SelectStatementProvider selectStatement = countFrom(foo)
+                .withPagingStyle(PagingStyle.LIMIT)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select count(*) from foo");
+    }
+
+    @Test
+    void testMyBatis3ExistsCountsAtMostOneRow() {
+        boolean exists = MyBatis3Utils.exists(s -> {
+            assertThat(s.getSelectStatement()).isEqualTo("select count(*) from (select 1 from foo where id = "
+                    + "#{parameters.p1,jdbcType=INTEGER} fetch first #{parameters.p2} rows only) count_source");
+            return 1L;
+        }, foo, c -> c.where(id, isEqualTo(2)));
+
+        assertThat(exists).isTrue();
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.Page;
+
+class DerivedCountTest {
+
+    static final SqlTable foo = SqlTable.of("foo");
+    static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    static final SqlColumn<String> name = foo.column("name", JDBCType.VARCHAR);
+    static final SqlTable bar = SqlTable.of("bar");
+    static final SqlColumn<Integer> fooId = bar.column("foo_id", JDBCType.INTEGER);
+
+    @Test
+    void testCountDropsSelectListOrderByAndPaging() {
+        SelectStatementProvider countStatement = select(id, name)
+                .from(foo, "f")
+                .join(bar, "b").on(id, equalTo(fooId))
+                .where(id, isGreaterThan(3))
+                .orderBy(name)
+                .limit(10)
+                .offset(20)
+                .build()
+                .renderCount(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(countStatement.getSelectStatement()).isEqualTo("select count(*) from foo f "
+                        + "join bar b on f.id = b.foo_id where f.id > #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(countStatement.getParameters()).hasSize(1).containsEntry("p1", 3)
+        );
+    }
+
+    @Test
+    void testCountDropsKeyset() {
+        SelectStatementProvider countStatement = select(id, name)
+                .from(foo)
+                .where(id, isGreaterThan(3))
+                .seek(Keyset.orderBy(id).after(7))
+                .limit(10)
+                .build()
+                .renderCount(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(countStatement.getSelectStatement())
+                        .isEqualTo("select count(*) from foo where id > #{parameters.p1,jdbcType=INTEGER}"),
+                () -> assertThat(countStatement.getParameters()).hasSize(1).containsEntry("p1", 3)
+        );
+    }
+
+    @Test
+    void testCountOfDistinctSelect() {
+        SelectStatementProvider countStatement = selectDistinct(name)
+                .from(foo)
+                .where(id, isLessThan(5))
+                .orderBy(name)
+                .fetchFirst(5).rowsOnly()
+                .build()
+                .renderCount(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(countStatement.getSelectStatement()).isEqualTo("select count(*) from "
+                        + "(select distinct name from foo where id < #{parameters.p1,jdbcType=INTEGER}) count_source"),
+                () -> assertThat(countStatement.getParameters()).hasSize(1).containsEntry("p1", 5)
+        );
+    }
+
+    @Test
+    void testCountOfGroupedSelect() {
+        SelectStatementProvider countStatement = select(name, count())
+                .from(foo)
+                .where(id, isLessThan(5))
+                .groupBy(name)
+                .build()
+                .renderCount(RenderingStrategies.MYBATIS3);
+
+        assertThat(countStatement.getSelectStatement()).isEqualTo("select count(*) from (select name, count(*) "
+                + "from foo where id < #{parameters.p1,jdbcType=INTEGER} group by name) count_source");
+    }
+
+    @Test
+    void testCountOfUnion() {
+        SelectStatementProvider countStatement = select(id)
+                .from(foo)
+                .where(id, isEqualTo(1))
+                .union()
+                .select(fooId)
+                .from(bar)
+                .where(fooId, isEqualTo(2))
+                .orderBy(id)
+                .build()
+                .renderCount(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(countStatement.getSelectStatement()).isEqualTo("select count(*) from "
+                        + "(select id from foo where id = :p1 union select foo_id from bar where foo_id = :p2) "
+                        + "count_source"),
+                () -> assertThat(countStatement.getParameters()).containsEntry("p1", 1).containsEntry("p2", 2)
+        );
+    }
+
+    @Test
+    void testFetchPage() {
+        SelectModel selectModel = select(id).from(foo).limit(3).offset(20).build();
+
+        Page<Integer> page = Page.fetch(selectModel, () -> Arrays.asList(21, 22, 23), () -> 25L, Runnable::run);
+
+        assertAll(
+                () -> assertThat(page.items()).containsExactly(21, 22, 23),
+                () -> assertThat(page.totalCount()).isEqualTo(25L),
+                () -> assertThat(page.offset()).isEqualTo(20L),
+                () -> assertThat(page.hasNext()).isTrue()
+        );
+    }
+
+    @Test
+    void testFetchLastPage() {
+        SelectModel selectModel = select(id).from(foo).build();
+        List<Integer> items = Arrays.asList(1, 2);
+
+        Page<Integer> page = Page.fetch(selectModel, () -> items, () -> 2L, Runnable::run);
+
+        assertAll(
+                () -> assertThat(page.offset()).isZero(),
+                () -> assertThat(page.hasNext()).isFalse()
+        );
+    }
+
+    @Test
+    void testFetchPageRethrowsCountFailure() {
+        SelectModel selectModel = select(id).from(foo).build();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> Page.fetch(selectModel, () -> Arrays.asList(1, 2), () -> {
+                    throw new IllegalStateException("count failed");
+                }, Runnable::run))
+                .withMessage("count failed");
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class KeysetPagingTest {
+
+    static final SqlTable foo = SqlTable.of("foo");
+    static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    static final SqlColumn<String> lastName = foo.column("last_name", JDBCType.VARCHAR);
+    static final SqlColumn<Boolean> active = foo.column("active", JDBCType.BOOLEAN);
+    static final SqlTable bar = SqlTable.of("bar");
+    static final SqlColumn<Integer> fooId = bar.column("foo_id", JDBCType.INTEGER);
+
+    @Test
+    void testFirstPage() {
+        SelectStatementProvider selectStatement = select(id, lastName)
+                .from(foo)
+                .seek(Keyset.orderBy(lastName, id))
+                .limit(10)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id, last_name from foo order by last_name, id limit #{parameters.p1}"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p1", 10L)
+        );
+    }
+
+    @Test
+    void testNextPage() {
+        SelectStatementProvider selectStatement = select(id, lastName)
+                .from(foo)
+                .seek(Keyset.orderBy(lastName, id).after("Smith", 5))
+                .limit(10)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "select id, last_name from foo "
+                + "where (last_name > #{parameters.p1,jdbcType=VARCHAR}) "
+                + "or (last_name = #{parameters.p2,jdbcType=VARCHAR} and id > #{parameters.p3,jdbcType=INTEGER}) "
+                + "order by last_name, id limit #{parameters.p4}";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p1", "Smith"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p2", "Smith"),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p3", 5),
+                () -> assertThat(selectStatement.getParameters()).containsEntry("p4", 10L)
+        );
+    }
+
+    @Test
+    void testNextPageWithWhereClauseAndDescendingColumn() {
+        SelectStatementProvider selectStatement = select(id, lastName)
+                .from(foo)
+                .where(active, isEqualTo(true))
+                .or(id, isEqualTo(3))
+                .seek(Keyset.orderBy(lastName.descending(), id).after("Smith", 5))
+                .fetchFirst(10).rowsOnly()
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "select id, last_name from foo "
+                + "where (active = :p1 or id = :p2) "
+                + "and ((last_name < :p3) or (last_name = :p4 and id > :p5)) "
+                + "order by last_name DESC, id fetch first :p6 rows only";
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testRowValueComparison() {
+        SelectStatementProvider selectStatement = select(id, lastName)
+                .from(foo)
+                .seek(Keyset.orderBy(lastName, id).withRowValueComparison().after("Smith", 5))
+                .limit(10)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "select id, last_name from foo "
+                + "where (last_name, id) > (#{parameters.p1,jdbcType=VARCHAR}, #{parameters.p2,jdbcType=INTEGER}) "
+                + "order by last_name, id limit #{parameters.p3}";
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testSeekAfterJoin() {
+        SelectStatementProvider selectStatement = select(id, lastName)
+                .from(foo, "f")
+                .join(bar, "b").on(id, equalTo(fooId))
+                .seek(Keyset.orderBy(id).after(7))
+                .limit(10)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "select f.id, f.last_name from foo f join bar b on f.id = b.foo_id "
+                + "where (f.id > #{parameters.p1,jdbcType=INTEGER}) "
+                + "order by id limit #{parameters.p2}";
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testAfterLastRow() {
+        Keyset keyset = Keyset.orderBy(lastName, id);
+        List<String[]> page = Arrays.asList(new String[] {"Jones", "1"}, new String[] {"Smith", "2"});
+
+        assertAll(
+                () -> assertThat(keyset.afterLastRow(page, r -> new Object[] {r[0], r[1]}).lastValues())
+                        .hasValue(Arrays.asList("Smith", "2")),
+                () -> assertThat(keyset.afterLastRow(Collections.<String[]>emptyList(), r -> r).lastValues())
+                        .isEmpty()
+        );
+    }
+
+    @Test
+    void testAfterLastRowFromMaps() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("LAST_NAME", "Jones");
+        row.put("ID", 9);
+
+        Keyset keyset = Keyset.orderBy(lastName, id).afterLastRow(Collections.singletonList(row));
+
+        assertThat(keyset.lastValues()).hasValue(Arrays.asList("Jones", 9));
+    }
+
+    @Test
+    void testInvalidKeysets() {
+        Keyset keyset = Keyset.orderBy(lastName, id);
+
+        assertAll(
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> keyset.after(1))
+                        .withMessage("The number of values must match the number of keyset columns"),
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> keyset.after(null, 1))
+                        .withMessage("Keyset values must not be null"),
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> Keyset.orderBy(lastName.descending(), id).withRowValueComparison())
+                        .withMessage("A row value comparison requires all keyset columns to sort in the same direction"),
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> Keyset.orderBy(Collections.emptyList()))
+                        .withMessage("A keyset must have at least one column")
+        );
+    }
+}
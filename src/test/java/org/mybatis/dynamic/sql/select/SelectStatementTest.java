@@ -24,13 +24,20 @@ import java.sql.JDBCType;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.Callback;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.FetchFirstPagingModelRenderer;
+import org.mybatis.dynamic.sql.select.render.PagingModelRenderer;
+import org.mybatis.dynamic.sql.select.render.QueryExpressionRenderer;
+import org.mybatis.dynamic.sql.select.render.SelectRenderer;
 import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 class SelectStatementTest {
     
@@ -313,4 +320,73 @@ class SelectStatementTest {
                 selectModel.render(RenderingStrategies.MYBATIS3)
         );
     }
+
+    @Test
+    void testDeprecatedSequence() {
+        AtomicInteger sequence = new AtomicInteger(5);
+
+        SelectStatementProvider selectStatement = SelectRenderer.withSelectModel(select(column1)
+                .from(table)
+                .where(column2, isEqualTo(4))
+                .build())
+                .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withSequence(sequence)
+                .build()
+                .render();
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select column1 from foo where column2 = #{parameters.p5,jdbcType=INTEGER}"),
+                () -> assertThat(selectStatement.getParameters()).containsOnlyKeys("p5"),
+                () -> assertThat(sequence).hasValue(6)
+        );
+    }
+
+    @Test
+    void testDeprecatedQueryExpressionAndPagingRenderers() {
+        AtomicInteger sequence = new AtomicInteger(3);
+        SelectModel selectModel = select(column1)
+                .from(table)
+                .where(column2, isEqualTo(4))
+                .limit(10)
+                .offset(20)
+                .build();
+
+        FragmentAndParameters queryExpression = selectModel.mapQueryExpressions(qem ->
+                QueryExpressionRenderer.withQueryExpression(qem)
+                .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withSequence(sequence)
+                .build()
+                .render())
+                .findFirst()
+                .get();
+
+        Optional<FragmentAndParameters> paging = new PagingModelRenderer.Builder()
+                .withPagingModel(selectModel.pagingModel().get())
+                .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withSequence(sequence)
+                .build()
+                .render();
+
+        Optional<FragmentAndParameters> fetchFirst = new FetchFirstPagingModelRenderer(
+                RenderingStrategies.SPRING_NAMED_PARAMETER,
+                new PagingModel.Builder().withFetchFirstRows(5L).build(),
+                sequence).render();
+
+        assertAll(
+                () -> assertThat(queryExpression.fragment())
+                        .isEqualTo("select column1 from foo where column2 = #{parameters.p3,jdbcType=INTEGER}"),
+                () -> assertThat(queryExpression.parameters()).containsOnlyKeys("p3"),
+                () -> assertThat(paging).hasValueSatisfying(fp -> assertAll(
+                        () -> assertThat(fp.fragment())
+                                .isEqualTo("limit #{parameters.p4} offset #{parameters.p5}"),
+                        () -> assertThat(fp.parameters()).containsOnlyKeys("p4", "p5")
+                )),
+                () -> assertThat(fetchFirst).hasValueSatisfying(fp -> assertAll(
+                        () -> assertThat(fp.fragment()).isEqualTo("fetch first :p6 rows only"),
+                        () -> assertThat(fp.parameters()).containsOnlyKeys("p6")
+                )),
+                () -> assertThat(sequence).hasValue(7)
+        );
+    }
 }
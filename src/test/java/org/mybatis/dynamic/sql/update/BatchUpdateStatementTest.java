@@ -0,0 +1,94 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.updateBatch;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.update.render.BatchUpdate;
+import org.mybatis.dynamic.sql.update.render.RecordUpdateStatementProvider;
+
+class BatchUpdateStatementTest {
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> status = foo.column("status", JDBCType.VARCHAR);
+    private static final SqlColumn<Integer> version = foo.column("version", JDBCType.INTEGER);
+
+    @Test
+    void testMyBatis3BatchUpdate() {
+        BatchUpdate<String> batchUpdate = updateBatch("fred", "barney")
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .set(status).toStringConstant("A")
+                .set(version).toConstant("version + 1")
+                .where(id).isEqualToProperty("id")
+                .and(version).isEqualToProperty("version")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "update foo set first_name = #{record.firstName,jdbcType=VARCHAR}, status = 'A', "
+                + "version = version + 1 "
+                + "where id = #{record.id,jdbcType=INTEGER} and version = #{record.version,jdbcType=INTEGER}";
+
+        List<RecordUpdateStatementProvider<String>> updateStatements = batchUpdate.updateStatements();
+
+        assertAll(
+                () -> assertThat(batchUpdate.getUpdateStatementSQL()).isEqualTo(expected),
+                () -> assertThat(updateStatements).extracting(RecordUpdateStatementProvider::getRecord)
+                        .containsExactly("fred", "barney"),
+                () -> assertThat(updateStatements).extracting(RecordUpdateStatementProvider::getUpdateStatement)
+                        .containsOnly(expected),
+                () -> assertThat(updateStatements.get(0).getParameters()).isEmpty()
+        );
+    }
+
+    @Test
+    void testSpringBatchUpdate() {
+        BatchUpdate<String> batchUpdate = updateBatch("fred", "barney")
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .set(status).toNull()
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        assertAll(
+                () -> assertThat(batchUpdate.getUpdateStatementSQL())
+                        .isEqualTo("update foo set first_name = :firstName, status = null where id = :id"),
+                () -> assertThat(batchUpdate.getRecords()).containsExactly("fred", "barney")
+        );
+    }
+
+    @Test
+    void testWhereMappingIsRequired() {
+        BatchUpdateDSL<String> dsl = updateBatch("fred")
+                .table(foo)
+                .set(firstName).toProperty("firstName");
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(dsl::build)
+                .withMessage("A batch update must have at least one where mapping");
+    }
+}
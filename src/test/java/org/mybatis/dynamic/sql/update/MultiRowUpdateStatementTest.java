@@ -0,0 +1,229 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.updateMultiple;
+
+import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.update.render.MultiRowUpdateStatementProvider;
+
+class MultiRowUpdateStatementTest {
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = foo.column("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = foo.column("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = foo.column("occupation", JDBCType.VARCHAR);
+
+    @Test
+    void testMultiRowUpdate() {
+        TestRecord record1 = new TestRecord();
+        TestRecord record2 = new TestRecord();
+
+        MultiRowUpdateStatementProvider<TestRecord> updateStatement = updateMultiple(record1, record2)
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .set(occupation).toStringConstant("Y")
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "update foo set first_name = case id "
+                + "when #{records[0].id,jdbcType=INTEGER} then #{records[0].firstName,jdbcType=VARCHAR} "
+                + "when #{records[1].id,jdbcType=INTEGER} then #{records[1].firstName,jdbcType=VARCHAR} "
+                + "else first_name end, "
+                + "occupation = 'Y' "
+                + "where id in (#{records[0].id,jdbcType=INTEGER}, #{records[1].id,jdbcType=INTEGER})";
+        assertAll(
+                () -> assertThat(updateStatement.getUpdateStatement()).isEqualTo(expected),
+                () -> assertThat(updateStatement.getRecords()).containsExactly(record1, record2)
+        );
+    }
+
+    @Test
+    void testMultiRowUpdateWithSpringPlaceholders() {
+        MultiRowUpdateStatementProvider<TestRecord> updateStatement =
+                updateMultiple(Arrays.asList(new TestRecord(), new TestRecord()))
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .set(occupation).toNull()
+                .where(id).isEqualToProperty("id")
+                .build()
+                .render(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "update foo set first_name = case id "
+                + "when :records[0].id then :records[0].firstName "
+                + "when :records[1].id then :records[1].firstName else first_name end, "
+                + "occupation = null "
+                + "where id in (:records[0].id, :records[1].id)";
+        assertThat(updateStatement.getUpdateStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testRenderChunksByParameterLimit() {
+        // each row binds the key in the where clause, and the key and value for both properties - 5 parameters
+        List<MultiRowUpdateStatementProvider<TestRecord>> updateStatements =
+                updateMultiple(new TestRecord(), new TestRecord(), new TestRecord())
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .set(occupation).toProperty("occupation")
+                .where(id).isEqualToProperty("id")
+                .withMaxParametersPerStatement(10)
+                .build()
+                .renderChunks(RenderingStrategies.MYBATIS3);
+
+        String expected = "update foo set "
+                + "first_name = case id when #{records[0].id,jdbcType=INTEGER} "
+                + "then #{records[0].firstName,jdbcType=VARCHAR} else first_name end, "
+                + "occupation = case id when #{records[0].id,jdbcType=INTEGER} "
+                + "then #{records[0].occupation,jdbcType=VARCHAR} else occupation end "
+                + "where id in (#{records[0].id,jdbcType=INTEGER})";
+        assertAll(
+                () -> assertThat(updateStatements).hasSize(2),
+                () -> assertThat(updateStatements.get(0).getRecords()).hasSize(2),
+                () -> assertThat(updateStatements.get(1).getRecords()).hasSize(1),
+                () -> assertThat(updateStatements.get(1).getUpdateStatement()).isEqualTo(expected)
+        );
+    }
+
+    @Test
+    void testConstantsAreNotRowTemplates() {
+        // each row binds the key in the where clause, and the key and value for the property - 3 parameters
+        List<MultiRowUpdateStatementProvider<TestRecord>> updateStatements =
+                updateMultiple(new TestRecord(), new TestRecord())
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .set(occupation).toStringConstant("100%s")
+                .where(id).isEqualToProperty("id")
+                .withMaxParametersPerStatement(6)
+                .build()
+                .renderChunks(RenderingStrategies.SPRING_NAMED_PARAMETER);
+
+        String expected = "update foo set first_name = case id "
+                + "when :records[0].id then :records[0].firstName "
+                + "when :records[1].id then :records[1].firstName else first_name end, "
+                + "occupation = '100%s' "
+                + "where id in (:records[0].id, :records[1].id)";
+        assertAll(
+                () -> assertThat(updateStatements).hasSize(1),
+                () -> assertThat(updateStatements.get(0).getUpdateStatement()).isEqualTo(expected)
+        );
+    }
+
+    @Test
+    void testRenderChunksByRowLimit() {
+        List<MultiRowUpdateStatementProvider<TestRecord>> updateStatements =
+                updateMultiple(new TestRecord(), new TestRecord(), new TestRecord())
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .where(id).isEqualToProperty("id")
+                .withMaxRowsPerStatement(1)
+                .build()
+                .renderChunks(RenderingStrategies.MYBATIS3);
+
+        assertThat(updateStatements).hasSize(3);
+    }
+
+    @Test
+    void testRenderOverLimits() {
+        MultiRowUpdateModel<TestRecord> model = updateMultiple(new TestRecord(), new TestRecord())
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .where(id).isEqualToProperty("id")
+                .withMaxRowsPerStatement(1)
+                .build();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> model.render(RenderingStrategies.MYBATIS3))
+                .withMessage("The records exceed the limits of a single statement - use renderChunks");
+    }
+
+    @Test
+    void testRowOverParameterLimit() {
+        MultiRowUpdateModel<TestRecord> model = updateMultiple(new TestRecord())
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .where(id).isEqualToProperty("id")
+                .withMaxParametersPerStatement(2)
+                .build();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> model.renderChunks(RenderingStrategies.MYBATIS3))
+                .withMessage("A single row needs more parameters than the maximum parameters per statement");
+    }
+
+    @Test
+    void testNoRecordsRendersNoChunks() {
+        List<MultiRowUpdateStatementProvider<TestRecord>> updateStatements =
+                updateMultiple(Arrays.<TestRecord>asList())
+                .table(foo)
+                .set(firstName).toProperty("firstName")
+                .where(id).isEqualToProperty("id")
+                .build()
+                .renderChunks(RenderingStrategies.MYBATIS3);
+
+        assertThat(updateStatements).isEmpty();
+    }
+
+    @Test
+    void testMissingWhereMapping() {
+        MultiRowUpdateDSL<TestRecord> dsl = updateMultiple(new TestRecord())
+                .table(foo)
+                .set(firstName).toProperty("firstName");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(dsl::build)
+                .withMessage("A multi-row update must have a where mapping");
+    }
+
+    @Test
+    void testMissingSetMapping() {
+        MultiRowUpdateDSL<TestRecord> dsl = updateMultiple(new TestRecord())
+                .table(foo)
+                .where(id).isEqualToProperty("id");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(dsl::build)
+                .withMessage("A multi-row update must set at least one column");
+    }
+
+    static class TestRecord {
+        private Integer id;
+        private String firstName;
+        private String occupation;
+
+        Integer getId() {
+            return id;
+        }
+
+        String getFirstName() {
+            return firstName;
+        }
+
+        String getOccupation() {
+            return occupation;
+        }
+    }
+}
@@ -16,16 +16,23 @@
 package org.mybatis.dynamic.sql.update;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
 import java.sql.JDBCType;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.update.render.SetPhraseVisitor;
 import org.mybatis.dynamic.sql.update.render.UpdateStatementProvider;
+import org.mybatis.dynamic.sql.util.FragmentAndParameters;
 
 class UpdateStatementTest {
     private static final SqlTable foo = SqlTable.of("foo");
@@ -217,5 +224,29 @@ class UpdateStatementTest {
                 () -> assertThat(updateStatement.getParameters()).containsEntry("p3", 3)
         );
     }
-}
 
+    @Test
+    void testDeprecatedSetPhraseVisitor() {
+        AtomicInteger sequence = new AtomicInteger(4);
+        SetPhraseVisitor visitor = new SetPhraseVisitor(sequence, RenderingStrategies.MYBATIS3);
+
+        List<FragmentAndParameters> setPhrases = update(foo)
+                .set(firstName).equalTo("fred")
+                .set(occupation).equalToNull()
+                .set(lastName).equalTo("flintstone")
+                .build()
+                .mapColumnMappings(m -> m.accept(visitor))
+                .map(Optional::get)
+                .collect(Collectors.toList());
+
+        assertAll(
+                () -> assertThat(setPhrases).extracting(FragmentAndParameters::fragment).containsExactly(
+                        "firstName = #{parameters.p4,jdbcType=VARCHAR}", "occupation = null",
+                        "lastName = #{parameters.p5,jdbcType=VARCHAR}"),
+                () -> assertThat(setPhrases.get(0).parameters()).containsOnly(entry("p4", "fred")),
+                () -> assertThat(setPhrases.get(1).parameters()).isEmpty(),
+                () -> assertThat(setPhrases.get(2).parameters()).containsOnly(entry("p5", "flintstone")),
+                () -> assertThat(sequence).hasValue(6)
+        );
+    }
+}
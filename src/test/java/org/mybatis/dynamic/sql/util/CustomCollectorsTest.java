@@ -0,0 +1,79 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class CustomCollectorsTest {
+
+    @Test
+    void testJoiningEmpty() {
+        String s = Stream.<String>empty()
+                .collect(CustomCollectors.joining(", ", "(", ")"));
+
+        assertThat(s).isEmpty();
+    }
+
+    @Test
+    void testAppending() {
+        StringBuilder buffer = new StringBuilder("select");
+
+        Stream.of("a", "b", "c").collect(CustomCollectors.appending(buffer, ", ", " ", " from foo"));
+
+        assertThat(buffer).hasToString("select a, b, c from foo");
+    }
+
+    @Test
+    void testAppendingEmpty() {
+        StringBuilder buffer = new StringBuilder("select");
+
+        Stream.<String>empty().collect(CustomCollectors.appending(buffer, ", ", " ", " from foo"));
+
+        assertThat(buffer).hasToString("select");
+    }
+
+    @Test
+    void testAppendingCannotCombine() {
+        StringBuilder buffer = new StringBuilder("select");
+        BinaryOperator<StringBuilder> combiner =
+                CustomCollectors.appending(buffer, ", ", " ", " from foo").combiner();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> combiner.apply(buffer, new StringBuilder("a")))
+                .withMessage("The appending collector does not support parallel streams");
+    }
+
+    @Test
+    void testToTypedArray() {
+        Object[] array = Stream.of(1, null, 3).collect(CustomCollectors.toTypedArray());
+
+        assertThat(array).isInstanceOf(Integer[].class).containsExactly(1, null, 3);
+    }
+
+    @Test
+    void testToTypedArrayMixedTypes() {
+        Object[] array = Stream.of(1, "a").collect(CustomCollectors.toTypedArray());
+
+        assertThat(array.getClass()).isEqualTo(Object[].class);
+        assertThat(array).containsExactly(1, "a");
+    }
+}
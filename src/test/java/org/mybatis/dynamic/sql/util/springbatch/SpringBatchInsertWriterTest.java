@@ -0,0 +1,187 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.JDBCType;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.render.BatchInsert;
+import org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider;
+import org.mybatis.dynamic.sql.insert.render.UpsertDialects;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+
+class SpringBatchInsertWriterTest {
+
+    static final SqlTable person = SqlTable.of("person");
+    static final SqlColumn<Integer> id = person.column("id", JDBCType.INTEGER);
+    static final SqlColumn<String> firstName = person.column("first_name", JDBCType.VARCHAR);
+
+    @Test
+    void testMultiRowInsertRendersOncePerChunkShape() {
+        List<MultiRowInsertStatementProvider<TestRecord>> statements = new ArrayList<>();
+        SpringBatchInsertWriter<TestRecord> writer = SpringBatchInsertWriter.multiRowInsert(person,
+                c -> c.map(id).toProperty("id")
+                        .map(firstName).toProperty("firstName")
+                        .withMaxRowsPerStatement(3),
+                RenderingStrategies.MYBATIS3,
+                s -> {
+                    statements.add(s);
+                    return s.getRecords().size();
+                });
+
+        List<TestRecord> chunk = records(4);
+        writer.write(chunk);
+        writer.write(chunk);
+        writer.write(records(1));
+
+        String threeRows = "insert into person (id, first_name) "
+                + "values (#{records[0].id,jdbcType=INTEGER}, #{records[0].firstName,jdbcType=VARCHAR}), "
+                + "(#{records[1].id,jdbcType=INTEGER}, #{records[1].firstName,jdbcType=VARCHAR}), "
+                + "(#{records[2].id,jdbcType=INTEGER}, #{records[2].firstName,jdbcType=VARCHAR})";
+        String oneRow = "insert into person (id, first_name) "
+                + "values (#{records[0].id,jdbcType=INTEGER}, #{records[0].firstName,jdbcType=VARCHAR})";
+
+        assertAll(
+                () -> assertThat(statements).hasSize(5),
+                () -> assertThat(statements.get(0).getInsertStatement()).isEqualTo(threeRows),
+                () -> assertThat(statements.get(0).getRecords()).containsExactlyElementsOf(chunk.subList(0, 3)),
+                () -> assertThat(statements.get(1).getInsertStatement()).isEqualTo(oneRow),
+                () -> assertThat(statements.get(1).getRecords()).containsExactly(chunk.get(3)),
+                () -> assertThat(statements.get(2).getInsertStatement())
+                        .isSameAs(statements.get(0).getInsertStatement()),
+                () -> assertThat(statements.get(4).getInsertStatement()).isEqualTo(oneRow),
+                () -> assertThat(writer.writeCount()).isEqualTo(9),
+                () -> assertThat(writer.roundTrips()).isEqualTo(5)
+        );
+    }
+
+    @Test
+    void testBatchInsert() {
+        List<BatchInsert<TestRecord>> batches = new ArrayList<>();
+        SpringBatchInsertWriter<TestRecord> writer = SpringBatchInsertWriter.batchInsert(person,
+                c -> c.map(id).toProperty("id")
+                        .map(firstName).toProperty("firstName"),
+                RenderingStrategies.SPRING_NAMED_PARAMETER,
+                b -> {
+                    batches.add(b);
+                    return new int[] {1, Statement.SUCCESS_NO_INFO, 1};
+                });
+
+        writer.write(records(3));
+        writer.write(records(3));
+
+        assertAll(
+                () -> assertThat(batches).hasSize(2),
+                () -> assertThat(batches.get(0).getInsertStatementSQL())
+                        .isEqualTo("insert into person (id, first_name) values (:id, :firstName)"),
+                () -> assertThat(batches.get(1).getInsertStatementSQL())
+                        .isSameAs(batches.get(0).getInsertStatementSQL()),
+                () -> assertThat(batches.get(0).getRecords()).hasSize(3),
+                () -> assertThat(writer.writeCount()).isEqualTo(6),
+                () -> assertThat(writer.roundTrips()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    void testEmptyChunkIsNotWritten() {
+        SpringBatchInsertWriter<TestRecord> writer = SpringBatchInsertWriter.batchInsert(person,
+                c -> c.map(id).toProperty("id"),
+                RenderingStrategies.SPRING_NAMED_PARAMETER,
+                b -> {
+                    throw new AssertionError("the executor should not be called");
+                });
+
+        writer.write(new ArrayList<>());
+
+        assertThat(writer.roundTrips()).isZero();
+    }
+
+    @Test
+    void testUpdateCountMismatch() {
+        SpringBatchInsertWriter<TestRecord> multiRowWriter = SpringBatchInsertWriter.multiRowInsert(person,
+                c -> c.map(id).toProperty("id"), RenderingStrategies.MYBATIS3, s -> 1);
+        SpringBatchInsertWriter<TestRecord> batchWriter = SpringBatchInsertWriter.batchInsert(person,
+                c -> c.map(id).toProperty("id"), RenderingStrategies.MYBATIS3, b -> new int[] {1, 0});
+
+        assertAll(
+                () -> assertThatExceptionOfType(IllegalStateException.class)
+                        .isThrownBy(() -> multiRowWriter.write(records(4)))
+                        .withMessage("Expected to write 4 rows, but the database reported 1"),
+                () -> assertThatExceptionOfType(IllegalStateException.class)
+                        .isThrownBy(() -> batchWriter.write(records(2)))
+                        .withMessage("Expected to write 2 rows, but the database reported 1")
+        );
+    }
+
+    @Test
+    void testUpsertUpdateCountsAreNotVerified() {
+        SpringBatchInsertWriter<TestRecord> writer = SpringBatchInsertWriter.multiRowInsert(person,
+                c -> c.map(id).toProperty("id")
+                        .map(firstName).toProperty("firstName")
+                        .onConflict(id)
+                        .set(firstName).toInsertedValue()
+                        .withDialect(UpsertDialects.MYSQL),
+                RenderingStrategies.MYBATIS3, s -> 7);
+
+        writer.write(records(4));
+
+        assertThat(writer.writeCount()).isEqualTo(7);
+    }
+
+    @Test
+    void testInvalidLimitsFailEarly() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> SpringBatchInsertWriter.multiRowInsert(person,
+                        c -> c.map(id).toProperty("id").withMaxRowsPerStatement(0),
+                        RenderingStrategies.MYBATIS3, s -> 1))
+                .withMessage("Statement limits must be at least 1");
+    }
+
+    private static List<TestRecord> records(int count) {
+        List<TestRecord> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(new TestRecord(i, "name" + i));
+        }
+        return records;
+    }
+
+    static class TestRecord {
+        private final Integer id;
+        private final String firstName;
+
+        TestRecord(Integer id, String firstName) {
+            this.id = id;
+            this.firstName = firstName;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+    }
+}
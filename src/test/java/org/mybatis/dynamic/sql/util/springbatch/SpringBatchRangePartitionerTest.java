@@ -0,0 +1,185 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util.springbatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class SpringBatchRangePartitionerTest {
+
+    static final SqlTable person = SqlTable.of("person");
+    static final SqlColumn<Integer> id = person.column("id", JDBCType.INTEGER);
+    static final SqlColumn<LocalDate> birthDate = person.column("birth_date", JDBCType.DATE);
+    static final SqlColumn<Boolean> active = person.column("active", JDBCType.BOOLEAN);
+
+    @Test
+    void testBoundsStatement() {
+        SelectStatementProvider boundsStatement = SpringBatchUtility.selectForCursor(id)
+                .from(person)
+                .where(active, isEqualTo(true))
+                .orderBy(id)
+                .build()
+                .partitionBy(id, 4)
+                .renderBoundsStatement(RenderingStrategies.MYBATIS3);
+
+        String expected = "select min(id) as min_value, max(id) as max_value from person "
+                + "where active = #{parameters.p1,jdbcType=BOOLEAN}";
+
+        assertThat(boundsStatement.getSelectStatement()).isEqualTo(expected);
+    }
+
+    @Test
+    void testCursorPartitions() {
+        List<SelectStatementProvider> partitions = SpringBatchUtility.selectForCursor(id)
+                .from(person)
+                .where(active, isEqualTo(true))
+                .or(id, isEqualTo(1))
+                .orderBy(id)
+                .build()
+                .partitionBy(id, 3)
+                .partition(0, 90);
+
+        String where = "where (active = #{mybatis3_dsql_query.parameters.p1,jdbcType=BOOLEAN} "
+                + "or id = #{mybatis3_dsql_query.parameters.p2,jdbcType=INTEGER}) ";
+
+        assertAll(
+                () -> assertThat(partitions).hasSize(3),
+                () -> assertThat(partitions.get(0).getSelectStatement()).isEqualTo("select id from person " + where
+                        + "and (id < #{mybatis3_dsql_query.parameters.p3,jdbcType=INTEGER} or id is null) order by id"),
+                () -> assertThat(partitions.get(0).getParameters()).containsEntry("p3", 30),
+                () -> assertThat(partitions.get(1).getSelectStatement()).isEqualTo("select id from person " + where
+                        + "and (id >= #{mybatis3_dsql_query.parameters.p3,jdbcType=INTEGER} "
+                        + "and id < #{mybatis3_dsql_query.parameters.p4,jdbcType=INTEGER}) order by id"),
+                () -> assertThat(partitions.get(1).getParameters()).containsEntry("p3", 30),
+                () -> assertThat(partitions.get(1).getParameters()).containsEntry("p4", 60),
+                () -> assertThat(partitions.get(2).getSelectStatement()).isEqualTo("select id from person " + where
+                        + "and (id >= #{mybatis3_dsql_query.parameters.p3,jdbcType=INTEGER}) order by id"),
+                () -> assertThat(partitions.get(2).getParameters()).containsEntry("p3", 60)
+        );
+    }
+
+    @Test
+    void testPagingPartitionsWithDates() {
+        List<SelectStatementProvider> partitions = SpringBatchUtility.selectForPaging(id)
+                .from(person)
+                .build()
+                .partitionBy(birthDate, 3)
+                .partition(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31));
+
+        assertAll(
+                () -> assertThat(partitions).hasSize(3),
+                () -> assertThat(partitions.get(0).getSelectStatement()).isEqualTo("select id from person "
+                        + "where birth_date < #{mybatis3_dsql_query.parameters.p1,jdbcType=DATE} "
+                        + "or birth_date is null LIMIT #{_pagesize} OFFSET #{_skiprows}"),
+                () -> assertThat(partitions.get(0).getParameters()).containsEntry("p1", LocalDate.of(2020, 5, 1)),
+                () -> assertThat(partitions.get(2).getParameters()).containsEntry("p1", LocalDate.of(2020, 8, 31))
+        );
+    }
+
+    @Test
+    void testPartitionsFromBoundsRow() {
+        SpringBatchRangePartitioner<Integer> partitioner = SpringBatchUtility.selectForCursor(id)
+                .from(person)
+                .build()
+                .partitionBy(id, 4);
+
+        Map<String, Object> bounds = new HashMap<>();
+        bounds.put("MIN_VALUE", 5);
+        bounds.put("MAX_VALUE", 7);
+
+        List<SelectStatementProvider> partitions = partitioner.partition(bounds);
+
+        assertAll(
+                () -> assertThat(partitions).hasSize(2),
+                () -> assertThat(partitions.get(0).getParameters()).containsEntry("p1", 6),
+                () -> assertThat(partitions.get(1).getParameters()).containsEntry("p1", 6)
+        );
+    }
+
+    @Test
+    void testEmptyBoundsRow() {
+        Map<String, Object> bounds = new HashMap<>();
+        bounds.put("min_value", null);
+        bounds.put("max_value", null);
+
+        List<SelectStatementProvider> partitions = SpringBatchUtility.selectForCursor(id)
+                .from(person)
+                .build()
+                .partitionBy(id, 4)
+                .partition(bounds);
+
+        assertAll(
+                () -> assertThat(partitions).hasSize(1),
+                () -> assertThat(partitions.get(0).getSelectStatement()).isEqualTo("select id from person")
+        );
+    }
+
+    @Test
+    void testSuppliedBoundaries() {
+        List<SelectStatementProvider> partitions = SpringBatchUtility.selectForCursor(id)
+                .from(person)
+                .build()
+                .partitionBy(id, 4)
+                .partitionAt(Arrays.asList(10, 20));
+
+        assertAll(
+                () -> assertThat(partitions).hasSize(3),
+                () -> assertThat(partitions.get(1).getSelectStatement()).isEqualTo("select id from person "
+                        + "where id >= #{mybatis3_dsql_query.parameters.p1,jdbcType=INTEGER} "
+                        + "and id < #{mybatis3_dsql_query.parameters.p2,jdbcType=INTEGER}")
+        );
+    }
+
+    @Test
+    void testInvalidPartitioning() {
+        SpringBatchCursorReaderSelectModel selectModel = SpringBatchUtility.selectForCursor(id)
+                .from(person)
+                .build();
+
+        assertAll(
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> selectModel.partitionBy(id, 0))
+                        .withMessage("The partition count must be at least 1"),
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> selectModel.partitionBy(id, 2).partition(5, 1))
+                        .withMessage("The lower bound must not be greater than the upper bound"),
+                () -> assertThatExceptionOfType(IllegalArgumentException.class)
+                        .isThrownBy(() -> SpringBatchUtility.selectForCursor(id)
+                                .from(person)
+                                .union()
+                                .select(id)
+                                .from(person)
+                                .build()
+                                .partitionBy(id, 2))
+                        .withMessage("A partitioned select must not be a union")
+        );
+    }
+}
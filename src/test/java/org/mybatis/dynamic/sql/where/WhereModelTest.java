@@ -16,15 +16,23 @@
 package org.mybatis.dynamic.sql.where;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mybatis.dynamic.sql.SqlBuilder.*;
 
 import java.sql.JDBCType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.where.render.WhereClauseProvider;
+import org.mybatis.dynamic.sql.where.render.WhereRenderer;
 
 class WhereModelTest {
 
@@ -39,4 +47,29 @@ class WhereModelTest {
 
         assertThat(wc.getWhereClause()).isEqualTo("where (id = #{myName.parameters.p1,jdbcType=INTEGER} or id = #{myName.parameters.p2,jdbcType=INTEGER})");
     }
+
+    @Test
+    void testDeprecatedWhereRendererBuilder() {
+        SqlTable table = SqlTable.of("foo");
+        SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+        AtomicInteger sequence = new AtomicInteger(3);
+        Map<SqlTable, String> tableAliases = new HashMap<>();
+        tableAliases.put(table, "a");
+
+        Optional<WhereClauseProvider> wc = WhereRenderer.withWhereModel(where(id, isEqualTo(3)).build())
+                .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withSequence(sequence)
+                .withTableAliasCalculator(TableAliasCalculator.of(tableAliases))
+                .withParameterName("myName")
+                .build()
+                .render();
+
+        assertAll(
+                () -> assertThat(wc).hasValueSatisfying(w -> {
+                    assertThat(w.getWhereClause()).isEqualTo("where a.id = #{myName.parameters.p3,jdbcType=INTEGER}");
+                    assertThat(w.getParameters()).containsExactly(entry("p3", 3));
+                }),
+                () -> assertThat(sequence).hasValue(4)
+        );
+    }
 }
@@ -0,0 +1,172 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.cache.StatementCache;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class LazyListValueConditionTest {
+    private static final SqlTable table = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = table.column("id", JDBCType.INTEGER);
+
+    @Test
+    void testTransformerIsNotAppliedUntilRendering() {
+        AtomicInteger transformations = new AtomicInteger();
+
+        IsIn<Integer> condition = isIn(Arrays.asList(1, 2, 3))
+                .then(s -> s.peek(v -> transformations.incrementAndGet()))
+                .withListEmptyCallback(() -> { });
+
+        assertThat(transformations).hasValue(0);
+
+        select(id).from(table).where(id, condition).build().render(RenderingStrategies.MYBATIS3);
+
+        assertThat(transformations).hasValue(3);
+    }
+
+    @Test
+    void testTransformerIsAppliedOnce() {
+        AtomicInteger transformations = new AtomicInteger();
+
+        IsIn<Integer> condition = isIn(Arrays.asList(1, 2, 3))
+                .then(s -> s.peek(v -> transformations.incrementAndGet()))
+                .withListValueStrategy(ListValueStrategy.array());
+
+        select(id).from(table).where(id, condition).build().render(RenderingStrategies.MYBATIS3);
+        select(id).from(table).where(id, condition).build().render(RenderingStrategies.JDBC_POSITIONAL);
+        StatementCache cache = StatementCache.of(10);
+        cache.render(select(id).from(table).where(id, condition).build(), RenderingStrategies.MYBATIS3);
+        cache.render(select(id).from(table).where(id, condition).build(), RenderingStrategies.MYBATIS3);
+
+        assertThat(transformations).hasValue(3);
+    }
+
+    @Test
+    void testSubclassesSeeTransformedValues() {
+        ValuesIn<Integer> condition = new ValuesIn<>(Arrays.asList(1, 2, 3), s -> s.map(v -> v * 10));
+
+        assertThat(condition.values()).containsExactly(10, 20, 30);
+    }
+
+    @Test
+    void testTransformersAreComposedInOrder() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isIn(1, 2, 3)
+                        .then(s -> s.map(v -> v * 10))
+                        .then(s -> s.filter(v -> v > 10))
+                        .withListEmptyCallback(() -> { }))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(
+                        "select id from foo where id in (#{parameters.p1,jdbcType=INTEGER},"
+                        + "#{parameters.p2,jdbcType=INTEGER})"),
+                () -> assertThat(selectStatement.getParameterValues()).containsExactly(20, 30)
+        );
+    }
+
+    @Test
+    void testTransformerIsAppliedOnceAfterCopyingCondition() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isIn(1, 2)
+                        .then(s -> s.map(v -> v + 1))
+                        .withListEmptyCallback(() -> { }))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getParameterValues()).containsExactly(2, 3);
+    }
+
+    @Test
+    void testEmptyCallbackSeesTransformedValues() {
+        AtomicInteger calls = new AtomicInteger();
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isInWhenPresent((Integer) null, null)
+                        .withListEmptyCallback(calls::incrementAndGet))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo"),
+                () -> assertThat(calls).hasPositiveValue()
+        );
+    }
+
+    @Test
+    void testValuesAreNotCopied() {
+        List<Integer> values = new ArrayList<>(Arrays.asList(1, 2));
+        IsIn<Integer> condition = isIn(values);
+        values.add(3);
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, condition)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getParameterValues()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testValuesAreNotCopiedWithCopiedCondition() {
+        List<Integer> values = new ArrayList<>(Arrays.asList(1, 2));
+        IsIn<Integer> condition = isIn(values)
+                .withListEmptyCallback(() -> { })
+                .withListValueStrategy(ListValueStrategy.individual());
+        values.add(3);
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, condition)
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        assertThat(selectStatement.getParameterValues()).containsExactly(1, 2, 3);
+    }
+
+    private static class ValuesIn<T> extends IsIn<T> {
+        private ValuesIn(Collection<T> values, UnaryOperator<Stream<T>> valueStreamTransformer) {
+            super(values, valueStreamTransformer);
+        }
+
+        private Collection<T> values() {
+            return values;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ *    Copyright 2016-2020 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.ListValueStrategy;
+import org.mybatis.dynamic.sql.render.RenderingStrategies;
+import org.mybatis.dynamic.sql.render.RenderingStrategy;
+import org.mybatis.dynamic.sql.render.chunked.ChunkedStatements;
+import org.mybatis.dynamic.sql.select.render.SelectStatementProvider;
+
+class PrimitiveInConditionTest {
+    private static final SqlTable table = SqlTable.of("foo");
+    private static final SqlColumn<Long> id = table.column("id", JDBCType.BIGINT);
+    private static final SqlColumn<Integer> age = table.column("age", JDBCType.INTEGER);
+
+    private static final RenderingStrategy ARRAY_STRATEGY =
+            RenderingStrategies.JDBC_POSITIONAL.withListValueStrategy(ListValueStrategy.array());
+
+    @Test
+    void testIndividualPlaceholders() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isIn(new long[] {1, 2, 3}))
+                .and(age, isIn(IntStream.of(4, 5)))
+                .build()
+                .render(RenderingStrategies.MYBATIS3);
+
+        String expected = "select id from foo where id in (#{parameters.p1,jdbcType=BIGINT},"
+                + "#{parameters.p2,jdbcType=BIGINT},#{parameters.p3,jdbcType=BIGINT})"
+                + " and age in (#{parameters.p4,jdbcType=INTEGER},#{parameters.p5,jdbcType=INTEGER})";
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement()).isEqualTo(expected),
+                () -> assertThat(selectStatement.getParameterValues()).containsExactly(1L, 2L, 3L, 4, 5)
+        );
+    }
+
+    @Test
+    void testArrayIsBoundWithoutBoxing() {
+        long[] ids = {1, 2, 3};
+        int[] ages = {4, 5};
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isIn(ids))
+                .and(age, isIn(ages))
+                .build()
+                .render(ARRAY_STRATEGY);
+
+        assertAll(
+                () -> assertThat(selectStatement.getSelectStatement())
+                        .isEqualTo("select id from foo where id = any(?) and age = any(?)"),
+                () -> assertThat(selectStatement.getParameterValues()[0]).isSameAs(ids),
+                () -> assertThat(selectStatement.getParameterValues()[1]).isSameAs(ages)
+        );
+    }
+
+    @Test
+    void testArrayWithConverterIsBoxed() {
+        SqlColumn<Long> code = table.column("code", JDBCType.VARCHAR)
+                .withParameterTypeConverter((Long l) -> l == null ? null : "C" + l);
+
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(code, isIn(LongStream.of(1, 2)))
+                .build()
+                .render(ARRAY_STRATEGY);
+
+        assertThat(selectStatement.getParameterValues()).containsExactly((Object) new String[] {"C1", "C2"});
+    }
+
+    @Test
+    void testEmptyArrayDoesNotRender() {
+        SelectStatementProvider selectStatement = select(id)
+                .from(table)
+                .where(id, isIn(new long[0]))
+                .and(age, isEqualTo(3))
+                .build()
+                .render(RenderingStrategies.JDBC_POSITIONAL);
+
+        assertThat(selectStatement.getSelectStatement()).isEqualTo("select id from foo where age = ?");
+    }
+
+    @Test
+    void testChunked() {
+        List<SelectStatementProvider> selectStatements = ChunkedStatements.render(select(id)
+                .from(table)
+                .where(id, isIn(new long[] {1, 2, 3}).withListValueStrategy(ListValueStrategy.chunked(2)))
+                .build(), RenderingStrategies.JDBC_POSITIONAL);
+
+        assertThat(selectStatements).hasSize(2);
+        assertThat(selectStatements.get(1).getSelectStatement()).isEqualTo("select id from foo where id in (?)");
+        assertThat(selectStatements.get(1).getParameterValues()).containsExactly(3L);
+    }
+}
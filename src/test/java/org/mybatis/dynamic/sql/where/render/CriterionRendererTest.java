@@ -17,6 +17,7 @@ package org.mybatis.dynamic.sql.where.render;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.sql.JDBCType;
 import java.util.HashMap;
@@ -27,6 +28,8 @@ import org.junit.jupiter.api.Test;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.render.ParameterAccumulator;
+import org.mybatis.dynamic.sql.render.RenderingContext;
 import org.mybatis.dynamic.sql.render.RenderingStrategies;
 import org.mybatis.dynamic.sql.render.TableAliasCalculator;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
@@ -82,4 +85,52 @@ class CriterionRendererTest {
         assertThat(fp.fragment()).isEqualTo("a.id = #{parameters.p1,jdbcType=INTEGER}");
         assertThat(fp.parameters()).containsExactly(entry("p1", 3));
     }
+
+    @Test
+    void testRenderingContext() {
+        SqlTable table = SqlTable.of("foo");
+        SqlColumn<Integer> column = table.column("id", JDBCType.INTEGER);
+        SqlCriterion<Integer> criterion = SqlCriterion.withColumn(column)
+                .withCondition(IsEqualTo.of(() -> 3))
+                .build();
+        RenderingContext renderingContext = RenderingContext.withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .build();
+
+        FragmentAndParameters fp = new CriterionRenderer(renderingContext)
+                .render(criterion)
+                .get()
+                .fragmentAndParametersWithConnector();
+
+        assertThat(fp.fragment()).isEqualTo("id = #{parameters.p1,jdbcType=INTEGER}");
+        assertThat(fp.parameters()).isEmpty();
+        assertThat(renderingContext.parameters().asMap()).containsExactly(entry("p1", 3));
+    }
+
+    @Test
+    void testSequenceAndParameterAccumulator() {
+        SqlTable table = SqlTable.of("foo");
+        SqlColumn<Integer> column = table.column("id", JDBCType.INTEGER);
+        SqlCriterion<Integer> criterion = SqlCriterion.withColumn(column)
+                .withCondition(IsEqualTo.of(() -> 3))
+                .build();
+        AtomicInteger sequence = new AtomicInteger(4);
+        ParameterAccumulator parameters = new ParameterAccumulator();
+
+        FragmentAndParameters fp = CriterionRenderer.withCriterion(criterion)
+                .withSequence(sequence)
+                .withRenderingStrategy(RenderingStrategies.MYBATIS3)
+                .withParameterAccumulator(parameters)
+                .withParameterName("myName")
+                .build()
+                .render()
+                .get()
+                .fragmentAndParametersWithConnector();
+
+        assertAll(
+                () -> assertThat(fp.fragment()).isEqualTo("id = #{myName.parameters.p4,jdbcType=INTEGER}"),
+                () -> assertThat(fp.parameters()).isEmpty(),
+                () -> assertThat(parameters.asMap()).containsExactly(entry("p4", 3)),
+                () -> assertThat(sequence).hasValue(5)
+        );
+    }
 }